@@ -13,7 +13,6 @@ import com.luckyframework.aop.aspectj.ExpressionGlobalPointcutManagement;
 import com.luckyframework.aop.exception.AopParamsConfigurationException;
 import com.luckyframework.aop.exception.PositionExpressionConfigException;
 import com.luckyframework.bean.aware.ApplicationContextAware;
-import com.luckyframework.common.ContainerUtils;
 import com.luckyframework.context.ApplicationContext;
 import com.luckyframework.exception.LuckyIOException;
 import com.luckyframework.order.OrderRelated;
@@ -131,7 +130,6 @@ public class AspectJAdvisorBatchProductionPlant implements ApplicationContextAwa
         if(parameters.length == 1 && !parameters[0].getType().equals(JOIN_POINT_TYPE)){
             throw new AopParamsConfigurationException("The after-advice parameter configuration is incorrect. The method can have no parameters or one parameter, and the type of the parameter must be 'org.aspectj.lang.JoinPoint'. Error location:'"+beforeMethod+"'");
         }
-        final Object[] aspectMethodRunningArgs = new Object[parameters.length];
         Before before = beforeMethod.getAnnotation(Before.class);
         Object aspectBean = applicationContext.getBean(aspectBeanName);
         String standbyExpression = before.value();
@@ -140,9 +138,7 @@ public class AspectJAdvisorBatchProductionPlant implements ApplicationContextAwa
         BuiltInSortingBeforeAdvice beforeAdvice = new BuiltInSortingBeforeAdvice() {
             @Override
             public void before(JoinPoint joinPoint) {
-                if(!ContainerUtils.isEmptyArray(aspectMethodRunningArgs)){
-                    aspectMethodRunningArgs[0] = joinPoint;
-                }
+                Object[] aspectMethodRunningArgs = joinPointArgs(parameters, joinPoint);
                 MethodUtils.invoke(aspectBean,beforeMethod,aspectMethodRunningArgs);
             }
 
@@ -164,7 +160,6 @@ public class AspectJAdvisorBatchProductionPlant implements ApplicationContextAwa
         if(parameters.length ==1 && !parameters[0].getType().equals(JOIN_POINT_TYPE)){
             throw new AopParamsConfigurationException("The after-advice parameter configuration is incorrect. The method can have no parameters or one parameter, and the type of the parameter must be 'org.aspectj.lang.JoinPoint'. Error location:'"+afterMethod+"'");
         }
-        final Object[] aspectMethodRunningArgs = new Object[parameters.length];
         After after = afterMethod.getAnnotation(After.class);
         Object aspectBean = applicationContext.getBean(aspectBeanName);
         String standbyExpression = after.value();
@@ -181,9 +176,7 @@ public class AspectJAdvisorBatchProductionPlant implements ApplicationContextAwa
 
             @Override
             public void after(JoinPoint joinPoint) {
-                if(!ContainerUtils.isEmptyArray(aspectMethodRunningArgs)){
-                    aspectMethodRunningArgs[0] = joinPoint;
-                }
+                Object[] aspectMethodRunningArgs = joinPointArgs(parameters, joinPoint);
                 MethodUtils.invoke(aspectBean,afterMethod,aspectMethodRunningArgs);
             }
         };
@@ -197,7 +190,6 @@ public class AspectJAdvisorBatchProductionPlant implements ApplicationContextAwa
         returningAndThrowingParamCheck("AfterReturning",resultName,afterReturningMethod);
         List<String> paramNames = ASMUtil.getClassOrInterfaceMethodParamNames(afterReturningMethod);
         Parameter[] parameters = afterReturningMethod.getParameters();
-        final Object[] aspectMethodRunningArgs = new Object[parameters.length];
         Object aspectBean = applicationContext.getBean(aspectBeanName);
         String standbyExpression = getNotEmptyString(afterReturning.pointcut(),afterReturning.value());
         if(standbyExpression == null) throw new PositionExpressionConfigException("afterReturning",afterReturningMethod);
@@ -215,6 +207,7 @@ public class AspectJAdvisorBatchProductionPlant implements ApplicationContextAwa
 
             @Override
             public void afterReturning(JoinPoint joinPoint, Object returning) {
+                Object[] aspectMethodRunningArgs = new Object[parameters.length];
                 for (int i = 0,j =parameters.length ; i < j; i++) {
                     if(JOIN_POINT_TYPE.equals(parameters[i].getType())){
                         aspectMethodRunningArgs[i] = joinPoint;
@@ -239,7 +232,6 @@ public class AspectJAdvisorBatchProductionPlant implements ApplicationContextAwa
         returningAndThrowingParamCheck("AfterThrowing",resultName,afterThrowingMethod);
         List<String> paramNames = ASMUtil.getClassOrInterfaceMethodParamNames(afterThrowingMethod);
         Parameter[] parameters = afterThrowingMethod.getParameters();
-        final Object[] aspectMethodRunningArgs = new Object[parameters.length];
         Object aspectBean = applicationContext.getBean(aspectBeanName);
         String standbyExpression = getNotEmptyString(afterThrowing.pointcut(),afterThrowing.value());
         if(standbyExpression == null) throw new PositionExpressionConfigException("afterReturning",afterThrowingMethod);
@@ -257,6 +249,7 @@ public class AspectJAdvisorBatchProductionPlant implements ApplicationContextAwa
 
             @Override
             public void afterThrowing(JoinPoint joinPoint, Throwable e) {
+                Object[] aspectMethodRunningArgs = new Object[parameters.length];
                 for (int i = 0,j =parameters.length ; i < j; i++) {
                     if(JOIN_POINT_TYPE.equals(parameters[i].getType())){
                         aspectMethodRunningArgs[i] = joinPoint;
@@ -283,7 +276,6 @@ public class AspectJAdvisorBatchProductionPlant implements ApplicationContextAwa
         if(aroundMethod.getReturnType() == void.class){
             throw new AopParamsConfigurationException("The around-advice return value was misconfigured. The method must have a return value. Error location:'"+aroundMethod+"'");
         }
-        final Object[] aspectMethodRunningArgs = new Object[parameters.length];
         Around before = aroundMethod.getAnnotation(Around.class);
         Object aspectBean = applicationContext.getBean(aspectBeanName);
         String standbyExpression = before.value();
@@ -301,15 +293,20 @@ public class AspectJAdvisorBatchProductionPlant implements ApplicationContextAwa
 
             @Override
             public Object invoke(ProceedingJoinPoint joinPoint) throws Throwable {
-                if(!ContainerUtils.isEmptyArray(aspectMethodRunningArgs)){
-                    aspectMethodRunningArgs[0] = joinPoint;
-                }
+                Object[] aspectMethodRunningArgs = joinPointArgs(parameters, joinPoint);
                 return MethodUtils.invoke(aspectBean,aroundMethod,aspectMethodRunningArgs);
             }
         };
         registryAdvisor(new DefaultAdvisor(aroundAdvice,pointcut));
     }
 
+    /*
+        每次调用都创建新的参数数组，避免并发执行同一个增强方法时互相覆盖参数
+    */
+    private static Object[] joinPointArgs(Parameter[] parameters, JoinPoint joinPoint){
+        return parameters.length == 0 ? new Object[0] : new Object[]{joinPoint};
+    }
+
     /*
         返回获选字符串中非空的字符
         1.str1非空时优先返回str1
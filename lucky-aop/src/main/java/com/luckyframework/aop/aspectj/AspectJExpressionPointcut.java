@@ -36,4 +36,12 @@ public class AspectJExpressionPointcut extends AbstractExpressionPointcut {
         ShadowMatch sm = pointcutExpression.matchesMethodExecution(method);
         return sm.alwaysMatches();
     }
+
+    /**
+     * 只根据方法签名进行静态匹配，不依赖运行时的参数
+     */
+    @Override
+    public boolean isRuntime() {
+        return false;
+    }
 }
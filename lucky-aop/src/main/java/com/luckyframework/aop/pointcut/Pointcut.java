@@ -13,4 +13,17 @@ public interface Pointcut {
 
     boolean matchMethod(Class<?> targetClass, Method method,Object...args);
 
+    /**
+     * 是否需要根据运行时的参数进行匹配
+     * <pre>
+     *     返回false时，代理对象只会在第一次调用某个方法时执行一次{@link #matchMethod}，之后直接使用缓存的结果
+     *     返回true时，每次调用都会使用当前的参数重新执行{@link #matchMethod}
+     * </pre>
+     * 默认返回true，不依赖参数的切点应当覆盖该方法并返回false
+     * @return 是否需要根据运行时的参数进行匹配
+     */
+    default boolean isRuntime() {
+        return true;
+    }
+
 }
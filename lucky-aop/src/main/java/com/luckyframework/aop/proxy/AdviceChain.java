@@ -0,0 +1,128 @@
+package com.luckyframework.aop.proxy;
+
+import com.luckyframework.aop.advice.Advice;
+import com.luckyframework.aop.advisor.Advisor;
+import com.luckyframework.aop.pointcut.Pointcut;
+import com.luckyframework.common.ContainerUtils;
+import com.luckyframework.order.OrderRelated;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 某个方法预先计算好的增强链
+ * <pre>
+ *     1.创建时对切面排序并完成所有静态切点的匹配，之后的每次调用都不会再排序或者匹配静态切点
+ *     2.只有需要运行时参数的切点({@link Pointcut#isRuntime()})才会在每次调用时根据参数重新匹配
+ *     3.实例创建之后不可变，可以被多个线程同时使用
+ * </pre>
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 16:10
+ */
+public final class AdviceChain {
+
+    private static final Advisor[] NO_ADVISORS = new Advisor[0];
+    private static final boolean[] NO_RUNTIME_MATCH = new boolean[0];
+
+    /** 目标类型*/
+    private final Class<?> targetClass;
+    /** 真正需要执行的方法*/
+    private final Method method;
+    /** 不存在运行时切点时使用的固定增强链*/
+    private final List<Advice> staticAdvices;
+    /** 按顺序排列的候选切面，仅在存在运行时切点时使用*/
+    private final Advisor[] candidates;
+    /** 候选切面是否需要在运行时进行匹配*/
+    private final boolean[] runtimeMatch;
+
+    private AdviceChain(Class<?> targetClass, Method method, List<Advice> staticAdvices, Advisor[] candidates, boolean[] runtimeMatch) {
+        this.targetClass = targetClass;
+        this.method = method;
+        this.staticAdvices = staticAdvices;
+        this.candidates = candidates;
+        this.runtimeMatch = runtimeMatch;
+    }
+
+    /**
+     * 为某个方法构建增强链
+     * @param targetClass    真实对象的类型
+     * @param method         真正需要执行的方法
+     * @param sortedAdvisors 已经排好序的、能匹配当前真实对象的所有切面
+     * @return 方法的增强链
+     */
+    public static AdviceChain create(Class<?> targetClass, Method method, List<Advisor> sortedAdvisors) {
+        if (ContainerUtils.isEmptyCollection(sortedAdvisors)) {
+            return new AdviceChain(targetClass, method, Collections.emptyList(), NO_ADVISORS, NO_RUNTIME_MATCH);
+        }
+        List<Advisor> candidateList = new ArrayList<>(sortedAdvisors.size());
+        List<Boolean> runtimeList = new ArrayList<>(sortedAdvisors.size());
+        boolean hasRuntime = false;
+        for (Advisor advisor : sortedAdvisors) {
+            Pointcut pointcut = advisor.getPointcut();
+            if (pointcut.isRuntime()) {
+                candidateList.add(advisor);
+                runtimeList.add(true);
+                hasRuntime = true;
+            } else if (pointcut.matchMethod(targetClass, method)) {
+                candidateList.add(advisor);
+                runtimeList.add(false);
+            }
+        }
+
+        if (!hasRuntime) {
+            List<Advice> advices = candidateList.stream().map(Advisor::getAdvice).collect(Collectors.toList());
+            return new AdviceChain(targetClass, method, Collections.unmodifiableList(advices), NO_ADVISORS, NO_RUNTIME_MATCH);
+        }
+        boolean[] runtimeMatch = new boolean[runtimeList.size()];
+        for (int i = 0; i < runtimeMatch.length; i++) {
+            runtimeMatch[i] = runtimeList.get(i);
+        }
+        return new AdviceChain(targetClass, method, null, candidateList.toArray(new Advisor[0]), runtimeMatch);
+    }
+
+    /**
+     * 按照{@link OrderRelated#getOrder}对切面进行排序，排序是稳定的
+     * @param advisors 切面集合
+     * @return 排好序的切面集合
+     */
+    public static List<Advisor> sortAdvisors(List<Advisor> advisors) {
+        if (ContainerUtils.isEmptyCollection(advisors)) {
+            return Collections.emptyList();
+        }
+        return advisors.stream()
+                .sorted(Comparator.comparing((adv) -> OrderRelated.getOrder(adv.getAdvice())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 获取真正需要执行的方法
+     * @return 真正需要执行的方法
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * 获取本次调用需要执行的增强链
+     * @param args 当前执行的方法的参数列表
+     * @return 需要执行的增强链，调用方不应修改返回的集合
+     */
+    public List<Advice> getAdvices(Object[] args) {
+        if (staticAdvices != null) {
+            return staticAdvices;
+        }
+        List<Advice> advices = new ArrayList<>(candidates.length);
+        for (int i = 0; i < candidates.length; i++) {
+            Advisor advisor = candidates[i];
+            if (!runtimeMatch[i] || advisor.getPointcut().matchMethod(targetClass, method, args)) {
+                advices.add(advisor.getAdvice());
+            }
+        }
+        return advices;
+    }
+}
@@ -2,10 +2,7 @@ package com.luckyframework.aop.proxy;
 
 import com.luckyframework.aop.advice.Advice;
 import com.luckyframework.aop.advisor.Advisor;
-import com.luckyframework.aop.pointcut.Pointcut;
-import com.luckyframework.common.ContainerUtils;
 import com.luckyframework.context.ApplicationContext;
-import com.luckyframework.order.OrderRelated;
 import com.luckyframework.reflect.ClassUtils;
 import com.luckyframework.reflect.FieldUtils;
 import com.luckyframework.reflect.MethodUtils;
@@ -15,10 +12,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Aop代理工具类
@@ -39,10 +33,27 @@ public class AopProxyUtils {
      * @return              代理方法执行后返回的结果
      * @throws Throwable
      */
-    public synchronized static Object applyAdvices(Object proxy,String beanName, Object target, Method method,Object[] args,
+    public static Object applyAdvices(Object proxy,String beanName, Object target, Method method,Object[] args,
                                       List<Advisor> matchAdvisor) throws Throwable{
-        List<Advice> advices = getShouldApplyAdvices(target.getClass(), method, args, matchAdvisor);
-        if(ContainerUtils.isEmptyCollection(advices)){
+        AdviceChain adviceChain = AdviceChain.create(target.getClass(), method, AdviceChain.sortAdvisors(matchAdvisor));
+        return applyAdvices(proxy, beanName, target, args, adviceChain);
+    }
+
+    /**
+     * 使用预先计算好的增强链，以不支持嵌套代理的方式执行方法
+     * @param proxy         代理对象
+     * @param beanName      真实对象的Bean的名称
+     * @param target        真实对象
+     * @param args          当前要执行的方法的参数列表
+     * @param adviceChain   当前方法的增强链
+     * @return              代理方法执行后返回的结果
+     * @throws Throwable
+     */
+    public static Object applyAdvices(Object proxy, String beanName, Object target, Object[] args,
+                                      AdviceChain adviceChain) throws Throwable {
+        Method method = adviceChain.getMethod();
+        List<Advice> advices = adviceChain.getAdvices(args);
+        if(advices.isEmpty()){
             return MethodUtils.invoke(target, method, args);
         }else{
             AopAdviceChainInvocation chain = new AopAdviceChainInvocation(proxy, beanName, target, method, args, advices);
@@ -63,41 +74,32 @@ public class AopProxyUtils {
      * @return              代理方法执行后返回的结果
      * @throws Throwable
      */
-    public synchronized static Object applySupportNestingAdvices(Object proxy,String beanName, Object target, Method method,
+    public static Object applySupportNestingAdvices(Object proxy,String beanName, Object target, Method method,
                                                     MethodProxy methodProxy, Object[] args, List<Advisor> matchAdvisor) throws Throwable {
-        List<Advice> advices = getShouldApplyAdvices(target.getClass(),method,args,matchAdvisor);
-        if(ContainerUtils.isEmptyCollection(advices)){
-            return methodProxy.invokeSuper(proxy,args);
-        }else{
-            AopAdviceChainInvocation chain = new AopAdviceChainInvocation(proxy,beanName,target,method,methodProxy,args,advices);
-            return chain.invoke();
-        }
+        AdviceChain adviceChain = AdviceChain.create(target.getClass(), method, AdviceChain.sortAdvisors(matchAdvisor));
+        return applySupportNestingAdvices(proxy, beanName, target, methodProxy, args, adviceChain);
     }
 
     /**
-     * 筛选并返回所有能匹配当前方法的切面集合
-     * @param targetClass   真实对象的类型
-     * @param method        当前执行的方法
-     * @param args          当前执行的方法的参数列表
-     * @param matchAdvisors 能匹配当前真实对象的所有切面的集合
-     * @return
+     * 使用预先计算好的增强链，以支持嵌套代理的方式执行代理方法
+     * @param proxy         代理对象
+     * @param beanName      真实对象的Bean的名称
+     * @param target        真实对象
+     * @param methodProxy   当前要执行的方法代理[CGLIB]
+     * @param args          当前要执行的方法的参数列表
+     * @param adviceChain   当前方法的增强链
+     * @return              代理方法执行后返回的结果
+     * @throws Throwable
      */
-    private static List<Advice> getShouldApplyAdvices(Class<?> targetClass, Method method,Object[] args,
-                                                     List<Advisor> matchAdvisors){
-        if (ContainerUtils.isEmptyCollection(matchAdvisors)) {
-            return null;
-        }
-        List<Advice> advices = new ArrayList<>();
-        matchAdvisors = matchAdvisors.stream()
-                .sorted(Comparator.comparing((adv)-> OrderRelated.getOrder(adv.getAdvice())))
-                .collect(Collectors.toList());
-        for (Advisor advisor : matchAdvisors) {
-            Pointcut pointcut = advisor.getPointcut();
-            if(pointcut.matchMethod(targetClass,method,args)){
-                advices.add(advisor.getAdvice());
-            }
+    public static Object applySupportNestingAdvices(Object proxy, String beanName, Object target, MethodProxy methodProxy,
+                                                    Object[] args, AdviceChain adviceChain) throws Throwable {
+        List<Advice> advices = adviceChain.getAdvices(args);
+        if(advices.isEmpty()){
+            return methodProxy.invokeSuper(proxy,args);
+        }else{
+            AopAdviceChainInvocation chain = new AopAdviceChainInvocation(proxy,beanName,target,adviceChain.getMethod(),methodProxy,args,advices);
+            return chain.invoke();
         }
-        return advices;
     }
 
     /**
@@ -11,6 +11,8 @@ import org.springframework.cglib.proxy.MethodProxy;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 基于CGLIB的动态代理
@@ -27,6 +29,8 @@ public class CglibDynamicAopProxy implements AopProxy, MethodInterceptor {
     private final List<Advisor> matchAdvisors;
     private final ApplicationContext applicationContext;
     private final boolean isSupportNestedProxy;
+    /** 每个方法预先计算好的增强链*/
+    private final Map<Method, AdviceChain> adviceChainCache = new ConcurrentHashMap<>();
 
     public CglibDynamicAopProxy(ApplicationContext applicationContext,
                                 String beanName,
@@ -37,7 +41,7 @@ public class CglibDynamicAopProxy implements AopProxy, MethodInterceptor {
         this.applicationContext = applicationContext;
         this.beanName = beanName;
         this.target = target;
-        this.matchAdvisors = matchAdvisors;
+        this.matchAdvisors = AdviceChain.sortAdvisors(matchAdvisors);
         this.isSupportNestedProxy = isSupportNestedProxy;
     }
 
@@ -47,9 +51,18 @@ public class CglibDynamicAopProxy implements AopProxy, MethodInterceptor {
 
     @Override
     public Object intercept(Object proxy, Method method, Object[] args, MethodProxy methodProxy) throws Throwable {
+        AdviceChain adviceChain = getAdviceChain(method);
         return isSupportNestedProxy
-               ? AopProxyUtils.applySupportNestingAdvices(proxy, beanName,target, method,methodProxy, args,matchAdvisors)
-               : AopProxyUtils.applyAdvices(proxy,beanName, target, method, args,matchAdvisors);
+               ? AopProxyUtils.applySupportNestingAdvices(proxy, beanName, target, methodProxy, args, adviceChain)
+               : AopProxyUtils.applyAdvices(proxy, beanName, target, args, adviceChain);
+    }
+
+    private AdviceChain getAdviceChain(Method method) {
+        AdviceChain adviceChain = adviceChainCache.get(method);
+        if (adviceChain == null) {
+            adviceChain = adviceChainCache.computeIfAbsent(method, m -> AdviceChain.create(target.getClass(), m, matchAdvisors));
+        }
+        return adviceChain;
     }
 
     @Override
@@ -9,6 +9,8 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 基于JDK的动态代理
@@ -23,17 +25,29 @@ public class JdkDynamicAopProxy implements InvocationHandler, AopProxy {
     private final String beanName;
     private final Object target;
     private final List<Advisor> matchAdvisors;
+    /** 接口方法与实现方法增强链的映射*/
+    private final Map<Method, AdviceChain> adviceChainCache = new ConcurrentHashMap<>();
 
     public JdkDynamicAopProxy(String beanName, Object target, List<Advisor> matchAdvisors) {
         this.beanName = beanName;
         this.target = target;
-        this.matchAdvisors = matchAdvisors;
+        this.matchAdvisors = AdviceChain.sortAdvisors(matchAdvisors);
     }
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-        Method implMethod = MethodUtils.getMethod(target.getClass(),method.getName(),method.getParameterTypes());
-        return AopProxyUtils.applyAdvices(proxy,beanName,target,implMethod,args,matchAdvisors);
+        return AopProxyUtils.applyAdvices(proxy, beanName, target, args, getAdviceChain(method));
+    }
+
+    private AdviceChain getAdviceChain(Method method) {
+        AdviceChain adviceChain = adviceChainCache.get(method);
+        if (adviceChain == null) {
+            adviceChain = adviceChainCache.computeIfAbsent(method, m -> {
+                Method implMethod = MethodUtils.getMethod(target.getClass(), m.getName(), m.getParameterTypes());
+                return AdviceChain.create(target.getClass(), implMethod, matchAdvisors);
+            });
+        }
+        return adviceChain;
     }
 
     public String getBeanName() {
@@ -0,0 +1,81 @@
+package com.luckyframework.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 基准测试使用的进程内HTTP桩服务，所有请求都返回同一个固定的JSON响应，
+ * 用于在不受网络和远程服务影响的情况下测量客户端自身的开销
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 13:40
+ */
+public final class HttpStubServer implements AutoCloseable {
+
+    /**
+     * 固定的响应体
+     */
+    public static final String RESPONSE_BODY = "{\"id\":1,\"name\":\"lucky\",\"tags\":[\"http\",\"client\",\"benchmark\"],\"enabled\":true}";
+
+    private static final byte[] RESPONSE_BYTES = RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private HttpStubServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * 在本机的随机端口上启动一个桩服务
+     *
+     * @return 桩服务
+     * @throws IOException 端口绑定失败时抛出该异常
+     */
+    public static HttpStubServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 512);
+        server.createContext("/", exchange -> {
+            try (InputStream in = exchange.getRequestBody()) {
+                byte[] discard = new byte[1024];
+                while (in.read(discard) != -1) {
+                    // 读完请求体，保证连接可以被复用
+                }
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, RESPONSE_BYTES.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(RESPONSE_BYTES);
+            }
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        server.setExecutor(executor);
+        server.start();
+        return new HttpStubServer(server, executor);
+    }
+
+    /**
+     * 获取桩服务的基本URL
+     *
+     * @return 基本URL，例如：http://127.0.0.1:8080
+     */
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
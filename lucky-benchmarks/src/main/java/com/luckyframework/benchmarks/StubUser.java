@@ -0,0 +1,66 @@
+package com.luckyframework.benchmarks;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 与{@link HttpStubServer#RESPONSE_BODY}结构对应的实体类
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 13:45
+ */
+public class StubUser implements Serializable {
+
+    private Long id;
+    private String name;
+    private List<String> tags;
+    private Boolean enabled;
+
+    /**
+     * 创建一个与{@link HttpStubServer#RESPONSE_BODY}内容一致的实例
+     *
+     * @return 实体实例
+     */
+    public static StubUser sample() {
+        StubUser user = new StubUser();
+        user.setId(1L);
+        user.setName("lucky");
+        user.setTags(Arrays.asList("http", "client", "benchmark"));
+        user.setEnabled(true);
+        return user;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+}
@@ -0,0 +1,143 @@
+package com.luckyframework.benchmarks.cache;
+
+import com.luckyframework.cache.Cache;
+import com.luckyframework.cache.impl.ConcurrentLRUCache;
+import com.luckyframework.cache.impl.ConcurrentMapCache;
+import com.luckyframework.cache.impl.FIFOCache;
+import com.luckyframework.cache.impl.LFUCache;
+import com.luckyframework.cache.impl.LRUCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * lucky-core中{@code cache.impl}各个缓存实现的读写吞吐量
+ * <pre>
+ *     1.read：键空间是容量的两倍，约一半的读取会未命中
+ *     2.readWrite：90%读、10%写的混合负载
+ *     {@link LFUCache}不是线程安全的，只在单线程的{@link SingleThread}中测试
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 14:25
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheBenchmark {
+
+    private static final int CAPACITY = 1024;
+    private static final int KEY_SPACE = CAPACITY * 2;
+
+    private static final Integer[] KEYS = new Integer[KEY_SPACE];
+
+    static {
+        for (int i = 0; i < KEY_SPACE; i++) {
+            KEYS[i] = i;
+        }
+    }
+
+    /**
+     * 多个线程共享的线程安全缓存
+     */
+    @State(Scope.Benchmark)
+    public static class Shared {
+
+        @Param({"LRU", "FIFO", "CONCURRENT_LRU", "CONCURRENT_MAP"})
+        private String cacheType;
+
+        private Cache<Integer, Integer> cache;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            cache = createCache(cacheType);
+            fill(cache);
+        }
+    }
+
+    /**
+     * 只在单线程中使用的缓存
+     */
+    @State(Scope.Thread)
+    public static class SingleThread {
+
+        @Param({"LFU", "LRU", "CONCURRENT_LRU"})
+        private String cacheType;
+
+        private Cache<Integer, Integer> cache;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            cache = createCache(cacheType);
+            fill(cache);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer sharedRead(Shared state) {
+        return state.cache.get(nextKey());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer sharedReadWrite(Shared state) {
+        return readWrite(state.cache);
+    }
+
+    @Benchmark
+    public Integer singleThreadReadWrite(SingleThread state) {
+        return readWrite(state.cache);
+    }
+
+    private static Integer readWrite(Cache<Integer, Integer> cache) {
+        Integer key = nextKey();
+        if (ThreadLocalRandom.current().nextInt(10) == 0) {
+            return cache.put(key, key);
+        }
+        return cache.get(key);
+    }
+
+    private static Integer nextKey() {
+        return KEYS[ThreadLocalRandom.current().nextInt(KEY_SPACE)];
+    }
+
+    private static void fill(Cache<Integer, Integer> cache) {
+        for (int i = 0; i < CAPACITY; i++) {
+            cache.put(KEYS[i], KEYS[i]);
+        }
+    }
+
+    private static Cache<Integer, Integer> createCache(String cacheType) {
+        switch (cacheType) {
+            case "LRU":
+                return new LRUCache<>(CAPACITY);
+            case "FIFO":
+                return new FIFOCache<>(CAPACITY);
+            case "LFU":
+                return new LFUCache<>(CAPACITY);
+            case "CONCURRENT_LRU":
+                return new ConcurrentLRUCache<>(CAPACITY);
+            case "CONCURRENT_MAP":
+                return new ConcurrentMapCache<>(CAPACITY);
+            default:
+                throw new IllegalArgumentException("Unknown cache type: " + cacheType);
+        }
+    }
+}
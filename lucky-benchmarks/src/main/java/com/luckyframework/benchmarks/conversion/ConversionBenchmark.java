@@ -0,0 +1,82 @@
+package com.luckyframework.benchmarks.conversion;
+
+import com.luckyframework.benchmarks.StubUser;
+import com.luckyframework.conversion.ConversionUtils;
+import com.luckyframework.serializable.SerializationTypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ConversionUtils}常见转换场景的吞吐量
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 14:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionBenchmark {
+
+    private static final SerializationTypeToken<List<Integer>> INT_LIST_TYPE = new SerializationTypeToken<List<Integer>>() {
+    };
+
+    private Map<String, Object> userMap;
+    private StubUser user;
+    private List<String> numberStrings;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        userMap = new LinkedHashMap<>();
+        userMap.put("id", "1");
+        userMap.put("name", "lucky");
+        userMap.put("tags", Arrays.asList("http", "client", "benchmark"));
+        userMap.put("enabled", "true");
+
+        user = StubUser.sample();
+
+        numberStrings = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            numberStrings.add(String.valueOf(i));
+        }
+    }
+
+    @Benchmark
+    public Integer stringToInteger() {
+        return ConversionUtils.conversion("12345", Integer.class);
+    }
+
+    @Benchmark
+    public StubUser mapToEntity() {
+        return ConversionUtils.conversion(userMap, StubUser.class);
+    }
+
+    @Benchmark
+    public Map<?, ?> entityToMap() {
+        return ConversionUtils.conversion(user, Map.class);
+    }
+
+    @Benchmark
+    public List<Integer> stringListToIntegerList() {
+        return ConversionUtils.conversion(numberStrings, INT_LIST_TYPE);
+    }
+}
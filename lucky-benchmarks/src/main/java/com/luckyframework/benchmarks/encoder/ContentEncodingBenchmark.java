@@ -0,0 +1,121 @@
+package com.luckyframework.benchmarks.encoder;
+
+import com.github.luben.zstd.Zstd;
+import com.luckyframework.benchmarks.HttpStubServer;
+import com.luckyframework.httpclient.core.encoder.ContentEncodingConvertor;
+import com.luckyframework.httpclient.core.encoder.GzipContentEncodingConvertor;
+import com.luckyframework.httpclient.core.encoder.InflaterContentEncodingConvertor;
+import com.luckyframework.httpclient.core.encoder.ZstdContentEncodingConvertor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link ContentEncodingConvertor}解压响应体的吞吐量。
+ * 运行环境中没有Brotli的编码器，无法生成测试数据，所以不包含br编码
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 14:15
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentEncodingBenchmark {
+
+    @Param({"gzip", "deflate", "zstd"})
+    private String encoding;
+
+    /**
+     * 解压前的数据大小（KB）
+     */
+    @Param({"1", "64", "1024"})
+    private int sizeKb;
+
+    private ContentEncodingConvertor convertor;
+    private byte[] compressed;
+    private final byte[] readBuffer = new byte[8192];
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        byte[] raw = createPayload(sizeKb * 1024);
+        switch (encoding) {
+            case "gzip":
+                convertor = new GzipContentEncodingConvertor();
+                compressed = gzip(raw);
+                break;
+            case "deflate":
+                convertor = new InflaterContentEncodingConvertor();
+                compressed = deflate(raw);
+                break;
+            case "zstd":
+                convertor = new ZstdContentEncodingConvertor();
+                compressed = Zstd.compress(raw);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown content encoding: " + encoding);
+        }
+    }
+
+    @Benchmark
+    public long decode() throws IOException {
+        long total = 0;
+        try (InputStream in = convertor.inputStreamConvert(new ByteArrayInputStream(compressed))) {
+            int len;
+            while ((len = in.read(readBuffer)) != -1) {
+                total += len;
+            }
+        }
+        return total;
+    }
+
+    private static byte[] createPayload(int size) {
+        byte[] unit = HttpStubServer.RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+        byte[] payload = new byte[size];
+        for (int i = 0; i < size; i++) {
+            payload[i] = unit[i % unit.length];
+        }
+        return payload;
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * {@link InflaterContentEncodingConvertor}按照不带zlib头的原始deflate格式解压
+     */
+    private static byte[] deflate(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, new Deflater(Deflater.DEFAULT_COMPRESSION, true))) {
+            deflate.write(raw);
+        }
+        return out.toByteArray();
+    }
+}
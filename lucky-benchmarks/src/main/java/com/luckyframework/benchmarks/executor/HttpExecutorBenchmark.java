@@ -0,0 +1,94 @@
+package com.luckyframework.benchmarks.executor;
+
+import com.luckyframework.benchmarks.HttpStubServer;
+import com.luckyframework.benchmarks.StubUser;
+import com.luckyframework.httpclient.core.executor.HttpClient5Executor;
+import com.luckyframework.httpclient.core.executor.HttpClientExecutor;
+import com.luckyframework.httpclient.core.executor.HttpExecutor;
+import com.luckyframework.httpclient.core.executor.JavaHttpClientExecutor;
+import com.luckyframework.httpclient.core.executor.JdkHttpExecutor;
+import com.luckyframework.httpclient.core.executor.OkHttpExecutor;
+import com.luckyframework.httpclient.core.meta.Request;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 各个{@link HttpExecutor}实现在并发场景下的吞吐量，所有请求都发往进程内的桩服务。
+ * {@link JavaHttpClientExecutor}需要JDK 11及以上的运行环境
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 14:05
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(16)
+@Fork(1)
+public class HttpExecutorBenchmark {
+
+    @Param({"JDK", "HTTP_CLIENT", "HTTP_CLIENT5", "OK_HTTP", "JAVA_HTTP_CLIENT"})
+    private String executorType;
+
+    private HttpStubServer server;
+    private HttpExecutor executor;
+    private String url;
+    private StubUser body;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = HttpStubServer.start();
+        url = server.getBaseUrl() + "/user";
+        executor = createExecutor(executorType);
+        body = StubUser.sample();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public String getString() {
+        return executor.getString(Request.get(url));
+    }
+
+    @Benchmark
+    public String postJson() {
+        return executor.getString(Request.post(url).setJsonBody(body));
+    }
+
+    private static HttpExecutor createExecutor(String executorType) {
+        switch (executorType) {
+            case "JDK":
+                return new JdkHttpExecutor();
+            case "HTTP_CLIENT":
+                return new HttpClientExecutor();
+            case "HTTP_CLIENT5":
+                return new HttpClient5Executor();
+            case "OK_HTTP":
+                return new OkHttpExecutor();
+            case "JAVA_HTTP_CLIENT":
+                return new JavaHttpClientExecutor();
+            default:
+                throw new IllegalArgumentException("Unknown executor type: " + executorType);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.luckyframework.benchmarks.proxy;
+
+import com.luckyframework.benchmarks.HttpStubServer;
+import com.luckyframework.benchmarks.StubUser;
+import com.luckyframework.httpclient.core.executor.HttpExecutor;
+import com.luckyframework.httpclient.core.executor.JdkHttpExecutor;
+import com.luckyframework.httpclient.core.meta.Request;
+import com.luckyframework.httpclient.proxy.HttpClientProxyObjectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 声明式HTTP代理的调用开销
+ * <pre>
+ *     1.directExecutor：直接使用{@link HttpExecutor}发送同样的请求，作为基线
+ *     2.jdkProxy*：JDK动态代理对象的调用
+ *     3.cglibProxy*：CGLIB动态代理对象的调用
+ *     代理调用与基线之间的差值即为代理层（注解解析、表达式计算、参数绑定、结果转换）的开销
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 13:55
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProxyInvocationBenchmark {
+
+    private HttpStubServer server;
+    private HttpExecutor executor;
+    private String userUrl;
+    private StubApi jdkProxy;
+    private StubApi cglibProxy;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = HttpStubServer.start();
+        userUrl = server.getBaseUrl() + "/user";
+        executor = new JdkHttpExecutor();
+
+        HttpClientProxyObjectFactory factory = new HttpClientProxyObjectFactory(executor);
+        factory.addSpringElRootVariable("stubBaseUrl", server.getBaseUrl());
+        jdkProxy = factory.getJdkProxyObject(StubApi.class);
+        cglibProxy = factory.getCglibProxyObject(StubApi.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public String directExecutor() {
+        return executor.getString(Request.get(userUrl));
+    }
+
+    @Benchmark
+    public String jdkProxyString() {
+        return jdkProxy.getString();
+    }
+
+    @Benchmark
+    public StubUser jdkProxyEntity() {
+        return jdkProxy.getUser(1L);
+    }
+
+    @Benchmark
+    public String cglibProxyString() {
+        return cglibProxy.getString();
+    }
+
+    @Benchmark
+    public StubUser cglibProxyEntity() {
+        return cglibProxy.getUser(1L);
+    }
+}
@@ -0,0 +1,33 @@
+package com.luckyframework.benchmarks.proxy;
+
+import com.luckyframework.benchmarks.StubUser;
+import com.luckyframework.httpclient.proxy.annotations.Get;
+import com.luckyframework.httpclient.proxy.annotations.ServerAddress;
+
+/**
+ * 访问{@link com.luckyframework.benchmarks.HttpStubServer}的声明式HTTP接口
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 13:50
+ */
+@ServerAddress("#{stubBaseUrl}")
+public interface StubApi {
+
+    /**
+     * 固定路径，响应体以字符串的形式返回
+     *
+     * @return 响应体
+     */
+    @Get("/user")
+    String getString();
+
+    /**
+     * 路径中包含表达式，响应体反序列化为实体类
+     *
+     * @param id 用户ID
+     * @return 用户实体
+     */
+    @Get("/user/#{id}")
+    StubUser getUser(Long id);
+}
@@ -0,0 +1,91 @@
+package com.luckyframework.benchmarks.serialization;
+
+import com.luckyframework.benchmarks.HttpStubServer;
+import com.luckyframework.benchmarks.StubUser;
+import com.luckyframework.httpclient.core.serialization.BodySerialization;
+import com.luckyframework.httpclient.core.serialization.JavaObjectBodySerialization;
+import com.luckyframework.httpclient.core.serialization.JsonBodySerialization;
+import com.luckyframework.httpclient.core.serialization.XmlBodySerialization;
+import com.luckyframework.serializable.SerializationSchemeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求体序列化{@link BodySerialization}与响应体反序列化的吞吐量，
+ * 响应体反序列化分别测试先转为字符串再解析与直接从输入流中解析两种方式
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 14:10
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+    private static final byte[] JSON_BYTES = HttpStubServer.RESPONSE_BODY.getBytes(CHARSET);
+
+    /**
+     * 请求体的序列化方式
+     */
+    @State(Scope.Benchmark)
+    public static class Format {
+
+        @Param({"JSON", "XML", "JAVA"})
+        private String format;
+
+        private BodySerialization serialization;
+        private StubUser user;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            user = StubUser.sample();
+            switch (format) {
+                case "JSON":
+                    serialization = new JsonBodySerialization();
+                    break;
+                case "XML":
+                    serialization = new XmlBodySerialization();
+                    break;
+                case "JAVA":
+                    serialization = new JavaObjectBodySerialization();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown format: " + format);
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize(Format state) throws Exception {
+        return state.serialization.serialization(state.user, CHARSET);
+    }
+
+    @Benchmark
+    public Object jsonFromString() throws Exception {
+        return SerializationSchemeFactory.getJsonScheme().deserialization(new String(JSON_BYTES, CHARSET), StubUser.class);
+    }
+
+    @Benchmark
+    public Object jsonFromStream() throws Exception {
+        return SerializationSchemeFactory.getJsonScheme().deserialization(new ByteArrayInputStream(JSON_BYTES), CHARSET, StubUser.class);
+    }
+}
@@ -0,0 +1,83 @@
+package com.luckyframework.benchmarks.spel;
+
+import com.luckyframework.benchmarks.proxy.StubApi;
+import com.luckyframework.httpclient.proxy.HttpClientProxyObjectFactory;
+import com.luckyframework.httpclient.proxy.context.ClassContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link com.luckyframework.httpclient.proxy.context.Context#parseExpression(String, Class)}的解析开销
+ * <pre>
+ *     1.constant：不包含表达式的字符串
+ *     2.warm：表达式已经在表达式缓存中
+ *     3.cold：每次都是新的表达式，需要重新编译并写入表达式缓存
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 14:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ExpressionBenchmark {
+
+    private static final String CONSTANT = "http://localhost:8080/user/list";
+    private static final String WARM = "#{stubBaseUrl}/user/#{1 + 2}";
+
+    private ClassContext context;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HttpClientProxyObjectFactory factory = new HttpClientProxyObjectFactory();
+        factory.addSpringElRootVariable("stubBaseUrl", "http://localhost:8080");
+        context = new ClassContext(StubApi.class);
+        context.setHttpProxyFactory(factory);
+        context.initContext();
+    }
+
+    /**
+     * 线程私有的计数器，用于生成不会命中缓存的表达式
+     */
+    @State(Scope.Thread)
+    public static class Counter {
+        private final long base = System.nanoTime();
+        private long value;
+
+        String nextExpression() {
+            return "#{stubBaseUrl}/user/#{" + base + "L + " + (value++) + "}";
+        }
+    }
+
+    @Benchmark
+    public String constant() {
+        return context.parseExpression(CONSTANT, String.class);
+    }
+
+    @Benchmark
+    public String warm() {
+        return context.parseExpression(WARM, String.class);
+    }
+
+    @Benchmark
+    public String cold(Counter counter) {
+        return context.parseExpression(counter.nextExpression(), String.class);
+    }
+}
@@ -0,0 +1,197 @@
+package com.luckyframework.indexer;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 组件索引注解处理器，在编译期收集所有扫描元素并生成组件索引文件{@value #COMPONENTS_RESOURCE_LOCATION}
+ * <pre>
+ *     1.类上的某个注解为ScannerElement或者被ScannerElement直接或间接标注时，该类会被记录到索引中
+ *     2.索引文件的格式为 [类的全限定名]=[类上所有扫描元素注解的全限定名(逗号分隔)]
+ *     3.增量编译时会合并上一次生成的索引，已经不存在的类会被移除
+ *     4.运行时由lucky-context中的ComponentIndex读取索引文件，存在索引文件时组件扫描不再遍历类路径
+ * </pre>
+ * 使用方式：将lucky-context-indexer作为optional依赖或者annotationProcessorPaths加入到项目中即可
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 18:20
+ */
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+    /**
+     * 索引文件的位置
+     */
+    public static final String COMPONENTS_RESOURCE_LOCATION = "META-INF/lucky.components";
+
+    /**
+     * 扫描元素注解的全限定名
+     */
+    public static final String SCANNER_ELEMENT_ANNOTATION_NAME = "com.luckyframework.annotations.ScannerElement";
+
+    /**
+     * 类名与其扫描元素注解的映射，按类名排序保证输出稳定
+     */
+    private final Map<String, Set<String>> components = new TreeMap<>();
+
+    /**
+     * 注解类型是否为扫描元素注解的判断结果
+     */
+    private final Map<String, Boolean> stereotypeCache = new HashMap<>();
+
+    private Elements elementUtils;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elementUtils = processingEnv.getElementUtils();
+        readExistingIndex();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            processElement(element);
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void processElement(Element element) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+        TypeElement typeElement = (TypeElement) element;
+        String className = elementUtils.getBinaryName(typeElement).toString();
+        Set<String> stereotypes = new LinkedHashSet<>();
+        for (AnnotationMirror annotation : typeElement.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (isStereotype(annotationType, new HashSet<>())) {
+                stereotypes.add(annotationType.getQualifiedName().toString());
+            }
+        }
+        if (stereotypes.isEmpty()) {
+            components.remove(className);
+        } else {
+            components.put(className, stereotypes);
+        }
+        for (Element enclosed : typeElement.getEnclosedElements()) {
+            ElementKind kind = enclosed.getKind();
+            if (kind.isClass() || kind.isInterface()) {
+                processElement(enclosed);
+            }
+        }
+    }
+
+    /**
+     * 判断某个注解是否为ScannerElement或者被ScannerElement直接或间接标注
+     */
+    private boolean isStereotype(TypeElement annotationType, Set<String> visited) {
+        String annotationName = annotationType.getQualifiedName().toString();
+        if (SCANNER_ELEMENT_ANNOTATION_NAME.equals(annotationName)) {
+            return true;
+        }
+        Boolean cached = stereotypeCache.get(annotationName);
+        if (cached != null) {
+            return cached;
+        }
+        // 跳过JDK元注解以及注解之间的循环标注
+        if (annotationName.startsWith("java.lang.annotation.") || !visited.add(annotationName)) {
+            return false;
+        }
+        boolean result = false;
+        for (AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+            if (isStereotype((TypeElement) metaAnnotation.getAnnotationType().asElement(), visited)) {
+                result = true;
+                break;
+            }
+        }
+        stereotypeCache.put(annotationName, result);
+        return result;
+    }
+
+    /**
+     * 读取上一次编译生成的索引，只保留仍然存在的类
+     */
+    private void readExistingIndex() {
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", COMPONENTS_RESOURCE_LOCATION);
+            Properties properties = new Properties();
+            try (InputStream in = resource.openInputStream()) {
+                properties.load(in);
+            }
+            for (String className : properties.stringPropertyNames()) {
+                if (elementUtils.getTypeElement(className.replace('$', '.')) != null) {
+                    Set<String> stereotypes = new LinkedHashSet<>();
+                    for (String stereotype : properties.getProperty(className).split(",")) {
+                        if (!stereotype.trim().isEmpty()) {
+                            stereotypes.add(stereotype.trim());
+                        }
+                    }
+                    components.put(className, stereotypes);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // 上一次的索引不存在或者无法读取时忽略即可
+        }
+    }
+
+    private void writeIndex() {
+        if (components.isEmpty()) {
+            return;
+        }
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", COMPONENTS_RESOURCE_LOCATION);
+            try (OutputStream out = resource.openOutputStream();
+                 Writer writer = new OutputStreamWriter(out, StandardCharsets.ISO_8859_1)) {
+                for (Map.Entry<String, Set<String>> entry : components.entrySet()) {
+                    writer.write(entry.getKey());
+                    writer.write('=');
+                    writer.write(String.join(",", entry.getValue()));
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write component index [" + COMPONENTS_RESOURCE_LOCATION + "]: " + e);
+        }
+    }
+}
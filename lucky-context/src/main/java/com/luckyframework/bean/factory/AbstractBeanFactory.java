@@ -2,6 +2,7 @@ package com.luckyframework.bean.factory;
 
 import com.luckyframework.definition.AbstractBeanDefinitionRegistry;
 import com.luckyframework.definition.BeanDefinition;
+import com.luckyframework.exception.BeanDefinitionRegisterException;
 import com.luckyframework.exception.BeansException;
 import com.luckyframework.exception.NoSuchBeanDefinitionException;
 import com.luckyframework.exception.NoUniqueBeanDefinitionException;
@@ -23,8 +24,39 @@ import java.util.stream.Stream;
 @SuppressWarnings("unchecked")
 public abstract class AbstractBeanFactory extends AbstractBeanDefinitionRegistry implements BeanFactory {
 
-    /** bean类型与名称的映射*/
+    /** bean类型与注解的索引*/
+    protected final BeanTypeIndex beanTypeIndex = new BeanTypeIndex(name -> getBeanDefinition(name).getResolvableType(), this::isTypeMatch);
+    /** bean类型与名称的映射(只包含可以被自动注入的bean)*/
     protected final Map<ResolvableType,String[]> forTypeNamesMap = new ConcurrentHashMap<>(30);
+    /** bean类型与按类型获取bean时唯一确定的bean名称的映射*/
+    private final Map<ResolvableType,String> uniqueTypeNameMap = new ConcurrentHashMap<>(30);
+
+
+    //-----------------------------------------------------------
+    //              BeanDefinitionRegistry methods
+    //-----------------------------------------------------------
+
+    @Override
+    public void registerBeanDefinition(String beanName, BeanDefinition beanDefinition) throws BeanDefinitionRegisterException {
+        super.registerBeanDefinition(beanName, beanDefinition);
+        beanTypeIndex.register(beanName);
+        clearTypeCaches();
+    }
+
+    @Override
+    public void removeBeanDefinition(String beanName) {
+        super.removeBeanDefinition(beanName);
+        beanTypeIndex.remove(beanName);
+        clearTypeCaches();
+    }
+
+    /**
+     * 清理所有按类型查找的结果缓存
+     */
+    protected void clearTypeCaches(){
+        forTypeNamesMap.clear();
+        uniqueTypeNameMap.clear();
+    }
 
 
     //-----------------------------------------------------------
@@ -38,7 +70,9 @@ public abstract class AbstractBeanFactory extends AbstractBeanDefinitionRegistry
 
     @Override
     public ResolvableType getResolvableType(String beanName) {
-        return getBeanDefinition(beanName).getResolvableType();
+        // 优先使用索引中已经解析过的类型，避免重复调用FactoryBean#getResolvableType()
+        ResolvableType resolvedType = beanTypeIndex.getResolvedType(beanName);
+        return resolvedType != null ? resolvedType : getBeanDefinition(beanName).getResolvableType();
     }
 
     @Override
@@ -95,6 +129,10 @@ public abstract class AbstractBeanFactory extends AbstractBeanDefinitionRegistry
 
     @Override
     public <T> T getBean(ResolvableType requiredType) throws BeansException {
+        String uniqueName = uniqueTypeNameMap.get(requiredType);
+        if(uniqueName != null){
+            return (T)getBean(uniqueName);
+        }
         List<String> beanNamesByType = Stream.of(getBeanNamesByType(requiredType))
                 .filter(name -> !BeanFactoryPostProcessor.isTempTargetBeanName(this, name))
                 .collect(Collectors.toList());
@@ -102,6 +140,7 @@ public abstract class AbstractBeanFactory extends AbstractBeanDefinitionRegistry
             return null;
         }
         if(beanNamesByType.size() == 1){
+            uniqueTypeNameMap.put(requiredType, beanNamesByType.get(0));
             return (T)getBean(beanNamesByType.get(0));
         }
 
@@ -113,6 +152,7 @@ public abstract class AbstractBeanFactory extends AbstractBeanDefinitionRegistry
             }
         }
         if(primaryBeanNames.size() == 1){
+            uniqueTypeNameMap.put(requiredType, primaryBeanNames.get(0));
             return (T)getBean(primaryBeanNames.get(0));
         }
 
@@ -123,12 +163,9 @@ public abstract class AbstractBeanFactory extends AbstractBeanDefinitionRegistry
         String[] forTypeNames = forTypeNamesMap.get(requiredType);
         if(forTypeNames == null){
             List<String> forTypeNameList = new ArrayList<>();
-            String[] beanDefinitionNames = getBeanDefinitionNames();
-            for (String definitionName : beanDefinitionNames) {
+            for (String definitionName : beanTypeIndex.getBeanNamesForType(requiredType)) {
                 if(getBeanDefinition(definitionName).isAutowireCandidate()){
-                    if(isTypeMatch(definitionName,requiredType)){
-                        forTypeNameList.add(definitionName);
-                    }
+                    forTypeNameList.add(definitionName);
                 }
             }
             forTypeNames = forTypeNameList.toArray(EMPTY_STRING_ARRAY);
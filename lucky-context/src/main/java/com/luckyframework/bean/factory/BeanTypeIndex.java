@@ -0,0 +1,255 @@
+package com.luckyframework.bean.factory;
+
+import com.luckyframework.reflect.AnnotationUtils;
+import org.springframework.core.ResolvableType;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Bean类型与注解的索引
+ * <pre>
+ *     1.bean定义注册时只记录名称，第一次按类型或注解查找时才解析其类型，解析后的类型会被缓存，之后的查找不会再访问bean定义
+ *     2.解析后的类型按照其自身、所有父类以及所有接口建立原始类型索引，按类型查找时只需要对索引命中的候选bean进行泛型兼容性检查
+ *     3.按类型和按注解的查找结果均会被缓存，任何bean定义的注册与移除都会使查找结果失效
+ *     4.bean类型上是否存在某个注解的判断结果与bean定义无关，会一直保留
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 17:30
+ */
+final class BeanTypeIndex {
+
+    /** 根据bean名称解析bean的类型*/
+    private final Function<String, ResolvableType> typeResolver;
+    /** 判断bean的类型(第一个参数)与需要的类型(第二个参数)是否兼容*/
+    private final BiPredicate<ResolvableType, ResolvableType> typeMatcher;
+
+    // 以下集合只能在持有当前对象锁时修改
+    /** 已注册但尚未解析类型的bean名称*/
+    private final Set<String> pendingNames = new LinkedHashSet<>();
+    /** 已经解析的bean类型*/
+    private final Map<String, ResolvableType> resolvedTypes = new ConcurrentHashMap<>(256);
+    /** 原始类型(包括所有父类与接口)与bean名称的映射*/
+    private final Map<Class<?>, Set<String>> rawTypeIndex = new HashMap<>(512);
+    /** 正在解析类型的层数，大于0时说明当前查找是在解析类型的过程中重入的，此时的查找结果可能不完整，不能缓存*/
+    private int resolvingDepth;
+
+    /** 按类型查找的结果缓存*/
+    private final Map<ResolvableType, String[]> typeNamesCache = new ConcurrentHashMap<>(64);
+    /** 按注解查找的结果缓存*/
+    private final Map<Class<? extends Annotation>, String[]> annotationNamesCache = new ConcurrentHashMap<>(16);
+    /** 类型上是否存在某个注解的判断结果*/
+    private final Map<Class<? extends Annotation>, Map<Class<?>, Boolean>> annotatedTypeCache = new ConcurrentHashMap<>(16);
+
+    BeanTypeIndex(Function<String, ResolvableType> typeResolver, BiPredicate<ResolvableType, ResolvableType> typeMatcher) {
+        this.typeResolver = typeResolver;
+        this.typeMatcher = typeMatcher;
+    }
+
+    /**
+     * 记录一个新注册的bean名称
+     *
+     * @param beanName bean名称
+     */
+    synchronized void register(String beanName) {
+        unindex(beanName);
+        pendingNames.add(beanName);
+        invalidateCaches();
+    }
+
+    /**
+     * 移除一个bean名称
+     *
+     * @param beanName bean名称
+     */
+    synchronized void remove(String beanName) {
+        unindex(beanName);
+        pendingNames.remove(beanName);
+        invalidateCaches();
+    }
+
+    /**
+     * 丢弃所有已解析的类型与查找结果，所有bean会在下一次查找时重新解析类型
+     */
+    synchronized void reset() {
+        pendingNames.addAll(resolvedTypes.keySet());
+        resolvedTypes.clear();
+        rawTypeIndex.clear();
+        invalidateCaches();
+    }
+
+    /**
+     * 获取所有类型与需要的类型兼容的bean名称
+     *
+     * @param requiredType 需要的类型
+     * @return 所有类型兼容的bean名称
+     */
+    String[] getBeanNamesForType(ResolvableType requiredType) {
+        String[] names = typeNamesCache.get(requiredType);
+        if (names != null) {
+            return names;
+        }
+        synchronized (this) {
+            names = typeNamesCache.get(requiredType);
+            if (names == null) {
+                resolvePendingTypes();
+                List<String> matchNames = new ArrayList<>();
+                for (String name : getCandidateNames(requiredType)) {
+                    if (typeMatcher.test(resolvedTypes.get(name), requiredType)) {
+                        matchNames.add(name);
+                    }
+                }
+                names = matchNames.toArray(BeanFactory.EMPTY_STRING_ARRAY);
+                if (resolvingDepth == 0) {
+                    typeNamesCache.put(requiredType, names);
+                }
+            }
+            return names;
+        }
+    }
+
+    /**
+     * 获取所有类型上存在某个注解的bean名称
+     *
+     * @param annotationType 注解类型
+     * @return 所有类型上存在该注解的bean名称
+     */
+    String[] getBeanNamesForAnnotation(Class<? extends Annotation> annotationType) {
+        String[] names = annotationNamesCache.get(annotationType);
+        if (names != null) {
+            return names;
+        }
+        synchronized (this) {
+            names = annotationNamesCache.get(annotationType);
+            if (names == null) {
+                resolvePendingTypes();
+                Map<Class<?>, Boolean> annotatedTypes = annotatedTypeCache.computeIfAbsent(annotationType, k -> new ConcurrentHashMap<>(64));
+                List<String> matchNames = new ArrayList<>();
+                for (Map.Entry<String, ResolvableType> entry : resolvedTypes.entrySet()) {
+                    Class<?> beanClass = entry.getValue().toClass();
+                    if (annotatedTypes.computeIfAbsent(beanClass, c -> AnnotationUtils.strengthenIsExist(c, annotationType))) {
+                        matchNames.add(entry.getKey());
+                    }
+                }
+                names = matchNames.toArray(BeanFactory.EMPTY_STRING_ARRAY);
+                if (resolvingDepth == 0) {
+                    annotationNamesCache.put(annotationType, names);
+                }
+            }
+            return names;
+        }
+    }
+
+    /**
+     * 获取bean已经解析过的类型，尚未解析时返回null
+     *
+     * @param beanName bean名称
+     * @return bean已经解析过的类型
+     */
+    ResolvableType getResolvedType(String beanName) {
+        return resolvedTypes.get(beanName);
+    }
+
+    /**
+     * 确定需要进行兼容性检查的候选bean
+     * <pre>
+     *     1.需要的类型为Object、数组、基本类型或者包装类型时，兼容性无法只通过原始类型的继承关系判断，此时所有bean都是候选者
+     *     2.其他情况下只有原始类型为需要的类型的子类型的bean才是候选者
+     * </pre>
+     */
+    private Collection<String> getCandidateNames(ResolvableType requiredType) {
+        Class<?> requiredClass = requiredType.toClass();
+        if (requiredClass == Object.class || requiredClass.isArray() || requiredClass.isPrimitive() || isPrimitiveWrapper(requiredClass)) {
+            return resolvedTypes.keySet();
+        }
+        Set<String> candidates = rawTypeIndex.get(requiredClass);
+        return candidates == null ? new ArrayList<>(0) : candidates;
+    }
+
+    private void resolvePendingTypes() {
+        if (pendingNames.isEmpty()) {
+            return;
+        }
+        // 解析类型的过程中可能会重入查找逻辑，因此每个名称在解析之前先从待解析集合中移除，解析失败时再放回
+        List<String> names = new ArrayList<>(pendingNames);
+        for (String name : names) {
+            if (!pendingNames.remove(name)) {
+                continue;
+            }
+            ResolvableType type;
+            resolvingDepth++;
+            try {
+                type = typeResolver.apply(name);
+            } catch (RuntimeException | Error e) {
+                pendingNames.add(name);
+                throw e;
+            } finally {
+                resolvingDepth--;
+            }
+            resolvedTypes.put(name, type);
+            index(name, type.toClass());
+        }
+    }
+
+    private void index(String beanName, Class<?> beanClass) {
+        for (Class<?> type : getTypeHierarchy(beanClass)) {
+            rawTypeIndex.computeIfAbsent(type, k -> new LinkedHashSet<>()).add(beanName);
+        }
+    }
+
+    private void unindex(String beanName) {
+        ResolvableType type = resolvedTypes.remove(beanName);
+        if (type == null) {
+            return;
+        }
+        for (Class<?> rawType : getTypeHierarchy(type.toClass())) {
+            Set<String> names = rawTypeIndex.get(rawType);
+            if (names != null) {
+                names.remove(beanName);
+                if (names.isEmpty()) {
+                    rawTypeIndex.remove(rawType);
+                }
+            }
+        }
+    }
+
+    private void invalidateCaches() {
+        typeNamesCache.clear();
+        annotationNamesCache.clear();
+    }
+
+    /**
+     * 获取某个类型自身以及其所有父类与接口
+     */
+    private static Set<Class<?>> getTypeHierarchy(Class<?> type) {
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        collectTypeHierarchy(type, hierarchy);
+        return hierarchy;
+    }
+
+    private static void collectTypeHierarchy(Class<?> type, Set<Class<?>> hierarchy) {
+        if (type == null || !hierarchy.add(type)) {
+            return;
+        }
+        collectTypeHierarchy(type.getSuperclass(), hierarchy);
+        for (Class<?> interfaceType : type.getInterfaces()) {
+            collectTypeHierarchy(interfaceType, hierarchy);
+        }
+    }
+
+    private static boolean isPrimitiveWrapper(Class<?> type) {
+        return type == Integer.class || type == Long.class || type == Double.class || type == Float.class
+                || type == Short.class || type == Byte.class || type == Character.class || type == Boolean.class;
+    }
+}
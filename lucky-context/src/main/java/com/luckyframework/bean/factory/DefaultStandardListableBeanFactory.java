@@ -5,12 +5,10 @@ import com.luckyframework.exception.BeansException;
 import com.luckyframework.exception.NoSuchBeanDefinitionException;
 import com.luckyframework.proxy.scope.Scope;
 import com.luckyframework.proxy.scope.ScopeRegistry;
-import com.luckyframework.reflect.AnnotationUtils;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.env.Environment;
 
-import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -27,8 +25,6 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class DefaultStandardListableBeanFactory extends StandardSingletonBeanFactory implements ListableBeanFactory, ScopeRegistry {
 
-    // 注解与名称的映射
-    private final Map<Class<? extends Annotation>,String[]> forAnnotationNamesMap = new ConcurrentHashMap<>(16);
     private final Map<String, Scope> scopes = new ConcurrentHashMap<>();
 
     public DefaultStandardListableBeanFactory(Environment environment) {
@@ -77,9 +73,8 @@ public class DefaultStandardListableBeanFactory extends StandardSingletonBeanFac
             return getBeanNamesByType(type);
         }
         List<String> typeNames =new ArrayList<>();
-        String[] definitionNames = getBeanDefinitionNames();
-        for (String name : definitionNames) {
-            if(getBeanDefinition(name).isSingleton()&&isTypeMatch(name,type)){
+        for (String name : beanTypeIndex.getBeanNamesForType(type)) {
+            if(getBeanDefinition(name).isSingleton()){
                 typeNames.add(name);
             }
         }
@@ -88,37 +83,14 @@ public class DefaultStandardListableBeanFactory extends StandardSingletonBeanFac
 
     @Override
     public String[] getBeanNamesForAnnotation(Class<? extends Annotation> annotationType) {
-        String[] forAnnotationNames = forAnnotationNamesMap.get(annotationType);
-        if(forAnnotationNames == null){
-            List<String> typeNames =new ArrayList<>();
-            String[] definitionNames = getBeanDefinitionNames();
-            for (String name : definitionNames) {
-                if(AnnotationUtils.strengthenIsExist(getType(name),annotationType)){
-                    typeNames.add(name);
-                }
-            }
-            forAnnotationNames = typeNames.toArray(new String[0]);
-            forAnnotationNamesMap.put(annotationType,forAnnotationNames);
-        }
-        return forAnnotationNames;
+        return beanTypeIndex.getBeanNamesForAnnotation(annotationType);
     }
 
     @Override
     public <T> Map<String, T> getBeansOfType(Class<T> type, boolean includeNonSingletons) throws BeansException {
-        if(includeNonSingletons){
-            Map<String,T> matchMap = new HashMap<>();
-            String[] definitionNames = getBeanDefinitionNames();
-            for (String name : definitionNames) {
-                if(isTypeMatch(name,type)){
-                    matchMap.put(name,getBean(name,type));
-                }
-            }
-            return matchMap;
-        }
         Map<String,T> matchMap = new HashMap<>();
-        String[] definitionNames = getBeanDefinitionNames();
-        for (String name : definitionNames) {
-            if(getBeanDefinition(name).isSingleton() && isTypeMatch(name,type)){
+        for (String name : beanTypeIndex.getBeanNamesForType(ResolvableType.forRawClass(type))) {
+            if(includeNonSingletons || getBeanDefinition(name).isSingleton()){
                 matchMap.put(name,getBean(name,type));
             }
         }
@@ -128,11 +100,8 @@ public class DefaultStandardListableBeanFactory extends StandardSingletonBeanFac
     @Override
     public Map<String, Object> getBeansWithAnnotation(Class<? extends Annotation> annotationType) throws BeansException {
         Map<String, Object> matchMap = new HashMap<>();
-        String[] definitionNames = getBeanDefinitionNames();
-        for (String name : definitionNames) {
-            if(AnnotationUtils.strengthenIsExist(getType(name),annotationType)){
-                matchMap.put(name,getBean(name));
-            }
+        for (String name : getBeanNamesForAnnotation(annotationType)) {
+            matchMap.put(name,getBean(name));
         }
         return matchMap;
     }
@@ -143,16 +112,9 @@ public class DefaultStandardListableBeanFactory extends StandardSingletonBeanFac
     }
 
     public void clear(){
-        forAnnotationNamesMap.clear();
         super.clear();
     }
 
-    @Override
-    public void close() throws IOException {
-        super.close();
-        forAnnotationNamesMap.clear();
-    }
-
     @Override
     public void registerScope(String scopeName, Scope scope) {
         this.scopes.put(scopeName, scope);
@@ -516,7 +516,8 @@ public class StandardSingletonBeanFactory extends AbstractBeanFactory implements
         earlySingletonObjects.clear();
         singletonObjects.clear();
         beanPostProcessors.clear();
-        forTypeNamesMap.clear();
+        beanTypeIndex.reset();
+        clearTypeCaches();
     }
 
     @Override
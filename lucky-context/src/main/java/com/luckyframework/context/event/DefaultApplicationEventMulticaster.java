@@ -8,6 +8,7 @@ import org.springframework.lang.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +17,13 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * 默认的事件多播器
+ * <pre>
+ *     1.根据[事件类型 + 事件源类型]缓存匹配到的监听器，缓存中的监听器已经排好序，同类事件再次发布时不会再遍历所有的监听器映射
+ *     2.任何监听器的添加与移除都会使缓存失效
+ *     3.只有@EventListener的condition条件会在每次发布事件时重新计算
+ * </pre>
+ *
  * @author fk7075
  * @version 1.0.0
  * @date 2021/8/18 下午2:41
@@ -23,7 +31,11 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DefaultApplicationEventMulticaster implements ApplicationEventMulticaster {
 
     private final BeanFactory beanFactory;
+    /** 监听器映射，只能在持有retrievalMutex锁时修改*/
     private final Set<EventTypeApplicationListenerMapping> listenerMappings = new HashSet<>();
+    /** 已解析的监听器缓存*/
+    private final Map<ListenerCacheKey, CachedListeners> retrieverCache = new ConcurrentHashMap<>(64);
+    private final Object retrievalMutex = new Object();
 
     public DefaultApplicationEventMulticaster(BeanFactory beanFactory) {
         this.beanFactory = beanFactory;
@@ -39,13 +51,16 @@ public class DefaultApplicationEventMulticaster implements ApplicationEventMulti
 
     @Override
     public void addApplicationListener(ApplicationListener<?> listener, ResolvableType eventType) {
-        for (EventTypeApplicationListenerMapping mapping : listenerMappings) {
-            if(mapping.isEquals(eventType)){
-                mapping.addApplicationListener(listener);
-                return;
+        synchronized (retrievalMutex) {
+            retrieverCache.clear();
+            for (EventTypeApplicationListenerMapping mapping : listenerMappings) {
+                if(mapping.isEquals(eventType)){
+                    mapping.addApplicationListener(listener);
+                    return;
+                }
             }
+            listenerMappings.add(new EventTypeApplicationListenerMapping(listener, eventType));
         }
-        listenerMappings.add(new EventTypeApplicationListenerMapping(listener, eventType));
     }
 
     @Override
@@ -73,17 +88,23 @@ public class DefaultApplicationEventMulticaster implements ApplicationEventMulti
     }
 
     public void removeApplicationListenerByType(String listenerId, ResolvableType eventType){
-        for (EventTypeApplicationListenerMapping mapping : listenerMappings) {
-            if(mapping.isMatches(eventType)){
-                mapping.removeApplicationListener(listenerId);
-                break;
+        synchronized (retrievalMutex) {
+            retrieverCache.clear();
+            for (EventTypeApplicationListenerMapping mapping : listenerMappings) {
+                if(mapping.isMatches(eventType)){
+                    mapping.removeApplicationListener(listenerId);
+                    break;
+                }
             }
         }
     }
 
     @Override
     public void removeAllListeners() {
-        this.listenerMappings.clear();
+        synchronized (retrievalMutex) {
+            retrieverCache.clear();
+            this.listenerMappings.clear();
+        }
     }
 
     @Override
@@ -103,33 +124,61 @@ public class DefaultApplicationEventMulticaster implements ApplicationEventMulti
             }
         }
 
+        CachedListeners cachedListeners = getCachedListeners(event, type);
+        for (ApplicationListener applicationListener : cachedListeners.listeners) {
+            // 条件过滤，跳过那些不满足条件的EventListenerMethodApplicationListener
+            if(cachedListeners.hasConditional && applicationListener instanceof EventListenerMethodApplicationListener
+                    && !((EventListenerMethodApplicationListener) applicationListener).conditionalJudgment(event)){
+                continue;
+            }
+            invokeListener(applicationListener, event);
+        }
+    }
+
+    /**
+     * 获取与事件类型匹配且已经排好序的所有监听器，结果会根据[事件类型 + 事件源类型]进行缓存
+     *
+     * @param event 事件
+     * @param type  事件类型
+     * @return 所有匹配的监听器
+     */
+    protected Collection<ApplicationListener<?>> getApplicationListeners(ApplicationEvent event, ResolvableType type) {
+        return getCachedListeners(event, type).listeners;
+    }
+
+    private CachedListeners getCachedListeners(ApplicationEvent event, ResolvableType type) {
+        Object source = event.getSource();
+        ListenerCacheKey cacheKey = new ListenerCacheKey(type, source == null ? null : source.getClass());
+        CachedListeners cachedListeners = retrieverCache.get(cacheKey);
+        if (cachedListeners != null) {
+            return cachedListeners;
+        }
+        // 在锁内解析并放入缓存，保证不会有监听器变更之前解析出的结果在变更之后被放入缓存
+        synchronized (retrievalMutex) {
+            cachedListeners = retrieverCache.get(cacheKey);
+            if (cachedListeners == null) {
+                cachedListeners = new CachedListeners(retrieveApplicationListeners(event, type));
+                retrieverCache.put(cacheKey, cachedListeners);
+            }
+            return cachedListeners;
+        }
+    }
+
+    private List<ApplicationListener<?>> retrieveApplicationListeners(ApplicationEvent event, ResolvableType type) {
         List<ApplicationListener<?>> matchingListenerList = new ArrayList<>();
+        ResolvableType payloadType = event instanceof PayloadApplicationEvent
+                ? type.as(PayloadApplicationEvent.class).getGeneric()
+                : null;
         for (EventTypeApplicationListenerMapping mapping : listenerMappings) {
             if(mapping.isMatches(type)){
                 matchingListenerList.addAll(mapping.getListeners());
             }
-            if(event instanceof PayloadApplicationEvent){
-                ResolvableType payloadType = type.as(PayloadApplicationEvent.class).getGeneric();
-                if(mapping.isMatches(payloadType)){
-                    matchingListenerList.addAll(mapping.getListeners());
-                }
+            if(payloadType != null && mapping.isMatches(payloadType)){
+                matchingListenerList.addAll(mapping.getListeners());
             }
         }
-
-        // 条件过滤，移除掉那些不满足条件的EventListenerMethodApplicationListener
-        matchingListenerList.removeIf((listener) -> {
-            if(listener instanceof EventListenerMethodApplicationListener){
-                EventListenerMethodApplicationListener methodListener = (EventListenerMethodApplicationListener) listener;
-                return ! methodListener.conditionalJudgment(event);
-            }
-            return false;
-        });
-
-
         AnnotationAwareOrderComparator.sort(matchingListenerList);
-        for (ApplicationListener applicationListener : matchingListenerList) {
-            invokeListener(applicationListener, event);
-        }
+        return matchingListenerList;
     }
 
     @SuppressWarnings("all")
@@ -177,4 +226,51 @@ public class DefaultApplicationEventMulticaster implements ApplicationEventMulti
 
 
     }
+
+    /**
+     * 监听器缓存的Key，由事件类型与事件源类型组成
+     */
+    private static final class ListenerCacheKey {
+
+        private final ResolvableType eventType;
+        @Nullable
+        private final Class<?> sourceType;
+
+        ListenerCacheKey(ResolvableType eventType, @Nullable Class<?> sourceType) {
+            this.eventType = eventType;
+            this.sourceType = sourceType;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ListenerCacheKey)) {
+                return false;
+            }
+            ListenerCacheKey otherKey = (ListenerCacheKey) other;
+            return this.eventType.equals(otherKey.eventType) && this.sourceType == otherKey.sourceType;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.eventType.hashCode() * 29 + Objects.hashCode(this.sourceType);
+        }
+    }
+
+    /**
+     * 已解析并排好序的监听器
+     */
+    private static final class CachedListeners {
+
+        private final List<ApplicationListener<?>> listeners;
+        /** 是否存在需要进行条件判断的监听器*/
+        private final boolean hasConditional;
+
+        CachedListeners(List<ApplicationListener<?>> listeners) {
+            this.listeners = Collections.unmodifiableList(listeners);
+            this.hasConditional = listeners.stream().anyMatch(l -> l instanceof EventListenerMethodApplicationListener);
+        }
+    }
 }
@@ -2,13 +2,33 @@ package com.luckyframework.context.event;
 
 import com.luckyframework.bean.factory.BeanFactory;
 import com.luckyframework.bean.factory.DisposableBean;
+import com.luckyframework.threadpool.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.ErrorHandler;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**支持线程池和异常处理的事件多播器
+ * <pre>
+ *     1.设置了{@link #setTaskExecutor(Executor)}时，每一次监听器调用都会作为一个独立的任务提交到线程池中执行
+ *     2.开启批量异步分发模式({@link #setAsyncDispatch(boolean)})后，每个监听器都拥有自己的有界事件队列，
+ *       同一时刻每个监听器最多只有一个批量消费任务在线程池中运行，因此同一个监听器收到事件的顺序与事件发布的顺序一致，
+ *       慢监听器也不会占满线程池影响其他监听器
+ *     3.监听器的事件队列已满时根据{@link BackpressurePolicy}进行背压处理
+ * </pre>
  * @author fukang
  * @version 1.0.0
  * @date 2023/1/7 19:12
@@ -16,12 +36,35 @@ import java.util.concurrent.ExecutorService;
 @SuppressWarnings("all")
 public class SimpleApplicationEventMulticaster extends DefaultApplicationEventMulticaster implements DisposableBean {
 
+    private static final Logger log = LoggerFactory.getLogger(SimpleApplicationEventMulticaster.class);
+
     @Nullable
     private Executor taskExecutor;
 
     @Nullable
     private ErrorHandler errorHandler;
 
+    /** 是否开启批量异步分发模式*/
+    private boolean asyncDispatch = false;
+
+    /** 每个监听器的事件队列容量*/
+    private int queueCapacity = 1024;
+
+    /** 每个批量消费任务一次最多处理的事件数*/
+    private int batchSize = 64;
+
+    /** 事件队列已满时的处理策略*/
+    private BackpressurePolicy backpressurePolicy = BackpressurePolicy.BLOCK;
+
+    /** 批量异步分发模式下未设置线程池时使用的默认线程池*/
+    @Nullable
+    private volatile ExecutorService defaultDispatchExecutor;
+
+    /** 监听器与其分发器的映射*/
+    private final Map<ApplicationListener, ListenerDispatcher> dispatchers = new ConcurrentHashMap<>();
+
+    private volatile boolean closed = false;
+
     @Nullable
     public Executor getTaskExecutor() {
         return taskExecutor;
@@ -40,12 +83,51 @@ public class SimpleApplicationEventMulticaster extends DefaultApplicationEventMu
         this.errorHandler = errorHandler;
     }
 
+    public boolean isAsyncDispatch() {
+        return asyncDispatch;
+    }
+
+    public void setAsyncDispatch(boolean asyncDispatch) {
+        this.asyncDispatch = asyncDispatch;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        Assert.isTrue(queueCapacity > 0, "queueCapacity must be greater than 0");
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+        this.batchSize = batchSize;
+    }
+
+    public BackpressurePolicy getBackpressurePolicy() {
+        return backpressurePolicy;
+    }
+
+    public void setBackpressurePolicy(BackpressurePolicy backpressurePolicy) {
+        Assert.notNull(backpressurePolicy, "backpressurePolicy must not be null");
+        this.backpressurePolicy = backpressurePolicy;
+    }
+
     public SimpleApplicationEventMulticaster(BeanFactory beanFactory) {
         super(beanFactory);
     }
 
     @Override
     protected void invokeListener(ApplicationListener listener, ApplicationEvent event) {
+        if (asyncDispatch && !closed) {
+            dispatchers.computeIfAbsent(listener, ListenerDispatcher::new).dispatch(event);
+            return;
+        }
         Executor executor = getTaskExecutor();
         if(executor != null){
             executor.execute(() -> doInvokeListener(listener, event));
@@ -55,6 +137,11 @@ public class SimpleApplicationEventMulticaster extends DefaultApplicationEventMu
         }
     }
 
+    @Override
+    public void removeAllListeners() {
+        super.removeAllListeners();
+        dispatchers.clear();
+    }
 
     private void doInvokeListener(ApplicationListener listener, ApplicationEvent event){
         ErrorHandler handler = getErrorHandler();
@@ -71,12 +158,147 @@ public class SimpleApplicationEventMulticaster extends DefaultApplicationEventMu
 
     }
 
+    private Executor getDispatchExecutor() {
+        Executor executor = getTaskExecutor();
+        if (executor != null) {
+            return executor;
+        }
+        ExecutorService defaultExecutor = defaultDispatchExecutor;
+        if (defaultExecutor == null) {
+            synchronized (this) {
+                defaultExecutor = defaultDispatchExecutor;
+                if (defaultExecutor == null) {
+                    defaultExecutor = Executors.newCachedThreadPool(new NamedThreadFactory("lucky-event-dispatcher-"));
+                    defaultDispatchExecutor = defaultExecutor;
+                }
+            }
+        }
+        return defaultExecutor;
+    }
+
     @Override
     public void destroy() throws Exception {
+        this.closed = true;
+        // 关闭之前在当前线程中处理完所有已经入队的事件
+        for (ListenerDispatcher dispatcher : dispatchers.values()) {
+            dispatcher.drainRemaining();
+        }
         if(this.taskExecutor != null){
             if(this.taskExecutor instanceof ExecutorService){
                 ((ExecutorService)this.taskExecutor).shutdown();
             }
         }
+        if (this.defaultDispatchExecutor != null) {
+            this.defaultDispatchExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 事件队列已满时的处理策略
+     */
+    public enum BackpressurePolicy {
+
+        /**
+         * 阻塞发布事件的线程，直到队列中有空闲位置
+         */
+        BLOCK,
+
+        /**
+         * 在发布事件的线程中直接调用监听器，此时该事件可能先于队列中的事件被处理
+         */
+        CALLER_RUNS,
+
+        /**
+         * 丢弃该事件并输出警告日志
+         */
+        DISCARD
+    }
+
+    /**
+     * 单个监听器的事件分发器，持有该监听器的有界事件队列，保证同一时刻最多只有一个消费任务在运行
+     */
+    private class ListenerDispatcher implements Runnable {
+
+        private final ApplicationListener listener;
+        private final BlockingQueue<ApplicationEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        ListenerDispatcher(ApplicationListener listener) {
+            this.listener = listener;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        void dispatch(ApplicationEvent event) {
+            if (!queue.offer(event)) {
+                switch (backpressurePolicy) {
+                    case CALLER_RUNS:
+                        doInvokeListener(listener, event);
+                        return;
+                    case DISCARD:
+                        log.warn("The event queue of listener '{}' is full, event '{}' has been discarded.", listener, event);
+                        return;
+                    default:
+                        try {
+                            queue.put(event);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            log.warn("Interrupted while waiting for the event queue of listener '{}', event '{}' has been discarded.", listener, event);
+                            return;
+                        }
+                }
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    getDispatchExecutor().execute(this);
+                } catch (RejectedExecutionException e) {
+                    // 线程池已经关闭或者已满，由当前线程处理队列中的事件
+                    scheduled.set(false);
+                    drainRemaining();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            List<ApplicationEvent> batch = new ArrayList<>(batchSize);
+            try {
+                synchronized (this) {
+                    while (queue.drainTo(batch, batchSize) > 0) {
+                        for (ApplicationEvent event : batch) {
+                            invokeQuietly(event);
+                        }
+                        batch.clear();
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            // 释放标记之后有新事件入队时需要重新调度，防止事件滞留在队列中
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        // 与消费任务互斥，保证关闭时处理剩余事件不会打乱事件的顺序
+        synchronized void drainRemaining() {
+            List<ApplicationEvent> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            for (ApplicationEvent event : remaining) {
+                invokeQuietly(event);
+            }
+        }
+
+        // 没有设置ErrorHandler时监听器的异常只能记录日志，不能影响同一批次中的其他事件
+        private void invokeQuietly(ApplicationEvent event) {
+            try {
+                doInvokeListener(listener, event);
+            } catch (Throwable e) {
+                log.error("An exception occurred while dispatching event '{}' to listener '{}'.", event, listener, e);
+            }
+        }
     }
 }
@@ -42,7 +42,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -180,14 +182,11 @@ public class CacheBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
          * @return 缓存操作对象
          */
         private CacheOperationChain getCacheOperations(Method method){
-            synchronized (operationsMap){
-                CacheOperationChain operations = operationsMap.get(method);
-                if(operations == null){
-                    operations = new CacheOperationChain(targetClass, method);
-                    operationsMap.put(method, operations);
-                }
-                return operations;
+            CacheOperationChain operations = operationsMap.get(method);
+            if(operations == null){
+                operations = operationsMap.computeIfAbsent(method, m -> new CacheOperationChain(targetClass, m));
             }
+            return operations;
         }
     }
 
@@ -288,6 +287,8 @@ public class CacheBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
         private final List<CacheEvictOperation> evictOperations = new ArrayList<>();
         private final List<CachePutOperation> putOperations = new ArrayList<>();
         private final List<CacheableOperation> cacheableOperations = new ArrayList<>();
+        /** 正在进行中的同步加载，key为本次调用的缓存Key*/
+        private final Map<Object, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
         private boolean isSynced = false;
 
         public CacheOperationChain(Class<?> targetClass, Method method){
@@ -376,8 +377,50 @@ public class CacheBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
             }
         }
 
-        public synchronized void syncCacheGet(CacheMethodExecuteContext executeContext, CacheSupplier cacheSupplier) throws Throwable{
-            doCacheGet(executeContext, cacheSupplier);
+        /**
+         * 按缓存Key合并并发加载
+         * <pre>
+         *     1.同一个Key同一时刻只有一个调用者(leader)会查询缓存并在未命中时执行真实方法
+         *     2.其他相同Key的调用者等待leader的结果，不同Key之间互不影响
+         *     3.leader在加载过程中再次以相同的Key调用时直接执行，不会等待自己
+         * </pre>
+         * @param executeContext 缓存方法执行上下文
+         * @param cacheSupplier  真实方法的执行逻辑
+         * @throws Throwable 执行过程中出现的异常，等待中的调用者会得到leader抛出的同一个异常
+         */
+        public void syncCacheGet(CacheMethodExecuteContext executeContext, CacheSupplier cacheSupplier) throws Throwable{
+            Object flightKey = getFlightKey(executeContext);
+            InFlightLoad load = new InFlightLoad();
+            InFlightLoad existing = inFlightLoads.putIfAbsent(flightKey, load);
+            if(existing != null){
+                if(existing.owner == Thread.currentThread()){
+                    doCacheGet(executeContext, cacheSupplier);
+                }else{
+                    executeContext.setResult(existing.await());
+                }
+                return;
+            }
+            try {
+                doCacheGet(executeContext, cacheSupplier);
+                load.result.complete(executeContext.getResult());
+            }catch (Throwable e){
+                load.result.completeExceptionally(e);
+                throw e;
+            }finally {
+                inFlightLoads.remove(flightKey, load);
+            }
+        }
+
+        private Object getFlightKey(CacheMethodExecuteContext executeContext){
+            if(cacheableOperations.size() == 1){
+                Object key = cacheableOperations.get(0).getCacheKey(executeContext);
+                return key == null ? NULL_FLIGHT_KEY : key;
+            }
+            List<Object> keys = new ArrayList<>(cacheableOperations.size());
+            for (CacheableOperation cacheableOperation : cacheableOperations) {
+                keys.add(cacheableOperation.getCacheKey(executeContext));
+            }
+            return keys;
         }
 
         public void cachePut(CacheMethodExecuteContext executeContext){
@@ -386,6 +429,32 @@ public class CacheBeanFactoryPostProcessor implements BeanFactoryPostProcessor {
 
     }
 
+    /** 缓存Key为null时使用的合并Key*/
+    private static final Object NULL_FLIGHT_KEY = new Object();
+
+    /**
+     * 一次正在进行中的同步加载
+     */
+    static class InFlightLoad {
+        /** 执行加载的线程*/
+        private final Thread owner = Thread.currentThread();
+        /** 加载结果*/
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        /**
+         * 等待加载完成并返回结果，加载失败时抛出加载过程中出现的异常
+         * @return 加载结果
+         * @throws Throwable 加载过程中出现的异常
+         */
+        Object await() throws Throwable {
+            try {
+                return result.get();
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
     @SuppressWarnings("all")
     class CacheOperation {
         private final LocalVariableTableParameterNameDiscoverer paramTables = new LocalVariableTableParameterNameDiscoverer();
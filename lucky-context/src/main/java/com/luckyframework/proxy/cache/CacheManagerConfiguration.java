@@ -3,6 +3,7 @@ package com.luckyframework.proxy.cache;
 import com.luckyframework.annotations.Bean;
 import com.luckyframework.annotations.Configuration;
 import com.luckyframework.bean.aware.ApplicationContextAware;
+import com.luckyframework.cache.Cache;
 import com.luckyframework.cache.CacheFactory;
 import com.luckyframework.cache.CacheManager;
 import com.luckyframework.cache.impl.ConcurrentMapCache;
@@ -11,9 +12,14 @@ import com.luckyframework.cache.impl.LFUCache;
 import com.luckyframework.cache.impl.LRUCache;
 import com.luckyframework.cache.impl.ThreadLocalCacheWrapper;
 import com.luckyframework.context.ApplicationContext;
+import com.luckyframework.exception.LuckyRuntimeException;
+import com.luckyframework.reflect.ClassUtils;
+import org.springframework.core.env.Environment;
 
+import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 缓存功能相关的配置类
@@ -34,11 +40,24 @@ public class CacheManagerConfiguration implements ApplicationContextAware {
     public static final String TL_LFU = "luckyThreadLocalLFUCache";
     public static final String TL_FIFO = "luckyThreadLocalFIFOCache";
     public static final String TL_CONCURRENT = "luckyThreadLocalConcurrentCache";
+    public static final String TINY_LFU = "luckyTinyLfuCache";
+
+    /** {@value #TINY_LFU}缓存的最大元素个数，默认为225*/
+    public static final String TINY_LFU_MAXIMUM_SIZE = "lucky.cache.tiny-lfu.maximum-size";
+    /** {@value #TINY_LFU}缓存的元素在写入后多少毫秒过期，小于等于0表示不启用，默认不启用*/
+    public static final String TINY_LFU_EXPIRE_AFTER_WRITE = "lucky.cache.tiny-lfu.expire-after-write";
+    /** {@value #TINY_LFU}缓存的元素在最后一次访问后多少毫秒过期，小于等于0表示不启用，默认不启用*/
+    public static final String TINY_LFU_EXPIRE_AFTER_ACCESS = "lucky.cache.tiny-lfu.expire-after-access";
+
+    /** 基于W-TinyLFU算法的有界并发缓存，从lucky-core 1.0.2.7开始提供*/
+    private static final String TINY_LFU_CACHE_CLASS = "com.luckyframework.cache.impl.TinyLfuCache";
 
     private static final Integer DEFAULT_SIZE = 225;
 
     private final Map<String, CacheFactory> usingCacheFactoryMap = new HashMap<>();
 
+    private Environment environment;
+
     @Bean(DEFAULT_CACHE_MANGER)
     public CacheManager defaultManager(){
 
@@ -51,6 +70,7 @@ public class CacheManagerConfiguration implements ApplicationContextAware {
         cacheManager.registerCacheFactory(TL_LFU, () -> ThreadLocalCacheWrapper.createLFUWrapper(DEFAULT_SIZE));
         cacheManager.registerCacheFactory(TL_FIFO, () -> ThreadLocalCacheWrapper.createFIFOWrapper(DEFAULT_SIZE));
         cacheManager.registerCacheFactory(TL_CONCURRENT, () -> ThreadLocalCacheWrapper.createCMAPWrapper(DEFAULT_SIZE));
+        registerTinyLfuCacheFactory(cacheManager);
 
         // 注册用户声明的缓存工厂
         for (Map.Entry<String, CacheFactory> entry : usingCacheFactoryMap.entrySet()) {
@@ -60,8 +80,44 @@ public class CacheManagerConfiguration implements ApplicationContextAware {
         return cacheManager;
     }
 
+    /**
+     * 类路径中存在{@code TinyLfuCache}时注册对应的缓存工厂，容量与过期时间通过以下配置项指定
+     * <pre>
+     *     {@value #TINY_LFU_MAXIMUM_SIZE}: 最大元素个数
+     *     {@value #TINY_LFU_EXPIRE_AFTER_WRITE}: 写入后过期时间(毫秒)
+     *     {@value #TINY_LFU_EXPIRE_AFTER_ACCESS}: 访问后过期时间(毫秒)
+     * </pre>
+     * @param cacheManager 缓存管理器
+     */
+    @SuppressWarnings("unchecked")
+    private void registerTinyLfuCacheFactory(CacheManager cacheManager) {
+        Constructor<?> constructor;
+        try {
+            Class<?> cacheClass = Class.forName(TINY_LFU_CACHE_CLASS, false, ClassUtils.getDefaultClassLoader());
+            constructor = cacheClass.getConstructor(long.class, long.class, long.class, TimeUnit.class);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            return;
+        }
+        long maximumSize = getLongProperty(TINY_LFU_MAXIMUM_SIZE, DEFAULT_SIZE.longValue());
+        if (maximumSize <= 0) {
+            throw new LuckyRuntimeException("The configuration '{}' must be greater than 0, but got {}.", TINY_LFU_MAXIMUM_SIZE, maximumSize);
+        }
+        long expireAfterWrite = getLongProperty(TINY_LFU_EXPIRE_AFTER_WRITE, 0L);
+        long expireAfterAccess = getLongProperty(TINY_LFU_EXPIRE_AFTER_ACCESS, 0L);
+        cacheManager.registerCacheFactory(TINY_LFU, () -> (Cache<Object, Object>) ClassUtils.newObject(constructor, maximumSize, expireAfterWrite, expireAfterAccess, TimeUnit.MILLISECONDS));
+    }
+
+    private long getLongProperty(String key, long defaultValue) {
+        if (environment == null) {
+            return defaultValue;
+        }
+        Long value = environment.getProperty(key, Long.class);
+        return value == null ? defaultValue : value;
+    }
+
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) {
+        this.environment = applicationContext.getEnvironment();
         String[] cacheFactoryBeanNames = applicationContext.getBeanNamesForType(CacheFactory.class);
         for (String cacheFactoryBeanName : cacheFactoryBeanNames) {
             usingCacheFactoryMap.put(cacheFactoryBeanName, applicationContext.getBean(cacheFactoryBeanName, CacheFactory.class));
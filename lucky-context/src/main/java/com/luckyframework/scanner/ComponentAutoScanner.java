@@ -1,16 +1,19 @@
 package com.luckyframework.scanner;
 
 import com.luckyframework.common.ScanUtils;
+import com.luckyframework.reflect.ClassUtils;
 import org.springframework.core.io.Resource;
 import org.springframework.core.type.AnnotationMetadata;
 
 import java.util.List;
 import java.util.Set;
 
-import static com.luckyframework.scanner.Constants.SCANNER_ELEMENT_ANNOTATION_NAME;
-
 /**
  * 组件自动扫描器
+ * <pre>
+ *     1.类路径中存在组件索引({@link ComponentIndex})时直接解析索引中的候选类，不再遍历类资源
+ *     2.不存在组件索引时遍历指定包下的所有类资源，类元数据的解析在ForkJoin线程池中并行进行
+ * </pre>
  *
  * @author fk7075
  * @version 1.0.0
@@ -46,20 +49,16 @@ public class ComponentAutoScanner extends AbstractScanner {
     // 扫描所有类资源，并从中得到需要的扫描组件
     private void scanner(Set<Resource> classResources) {
         // 收集类资源中所有的的扫描元素
-        classResources.stream()
-                .map(ScanUtils::resourceToAnnotationMetadata)
-                .filter(am -> ScannerUtils.annotationIsExist(am, SCANNER_ELEMENT_ANNOTATION_NAME))
-                .forEach(this::addScannerElement);
+        ScannerUtils.resolveScannerElements(classResources).forEach(this::addScannerElement);
         scannerBySpi();
     }
 
     private void scanner(String[] basePackages) {
-        ScanUtils.resourceHandle(basePackages, r -> {
-            AnnotationMetadata annotationMetadata = ScanUtils.resourceToAnnotationMetadata(r);
-            if (ScannerUtils.annotationIsExist(annotationMetadata, SCANNER_ELEMENT_ANNOTATION_NAME)) {
-                addScannerElement(annotationMetadata);
-            }
-        });
+        ComponentIndex componentIndex = ComponentIndex.load(ClassUtils.getDefaultClassLoader());
+        List<AnnotationMetadata> scannerElements = componentIndex != null
+                ? ScannerUtils.resolveScannerElementsByClassName(componentIndex.getCandidateTypes(basePackages))
+                : ScannerUtils.resolveScannerElements(ScannerUtils.getClassResources(basePackages));
+        scannerElements.forEach(this::addScannerElement);
         scannerBySpi();
     }
 
@@ -0,0 +1,134 @@
+package com.luckyframework.scanner;
+
+import com.luckyframework.common.ContainerUtils;
+import com.luckyframework.common.ScanUtils;
+import com.luckyframework.exception.LuckyRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * 编译期生成的组件索引
+ * <pre>
+ *     1.索引文件为类路径下的{@value #COMPONENTS_RESOURCE_LOCATION}，由lucky-context-indexer模块中的注解处理器在编译期生成，
+ *       格式为 [类的全限定名]=[类上所有扫描元素注解的全限定名(逗号分隔)]
+ *     2.类路径中存在索引文件时，组件扫描直接使用索引中的候选类，不再遍历类路径下的所有类资源
+ *     3.索引只包含经过注解处理器编译的模块，如果部分Jar包中没有索引文件，这些Jar包中的组件将不会被扫描到，
+ *       此时可以通过系统属性 -D{@value #IGNORE_INDEX_PROPERTY}=true 忽略索引
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 18:00
+ */
+public class ComponentIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComponentIndex.class);
+
+    /**
+     * 索引文件的位置
+     */
+    public static final String COMPONENTS_RESOURCE_LOCATION = "META-INF/lucky.components";
+
+    /**
+     * 忽略索引的系统属性
+     */
+    public static final String IGNORE_INDEX_PROPERTY = "lucky.index.ignore";
+
+    /**
+     * 类名与其扫描元素注解的映射
+     */
+    private final Map<String, Set<String>> candidates;
+
+    private ComponentIndex(Map<String, Set<String>> candidates) {
+        this.candidates = candidates;
+    }
+
+    /**
+     * 加载类路径中所有的索引文件，不存在索引文件或者索引被忽略时返回null
+     *
+     * @param classLoader 类加载器
+     * @return 组件索引
+     */
+    public static ComponentIndex load(ClassLoader classLoader) {
+        if (Boolean.getBoolean(IGNORE_INDEX_PROPERTY)) {
+            return null;
+        }
+        try {
+            Enumeration<URL> urls = classLoader == null
+                    ? ClassLoader.getSystemResources(COMPONENTS_RESOURCE_LOCATION)
+                    : classLoader.getResources(COMPONENTS_RESOURCE_LOCATION);
+            if (!urls.hasMoreElements()) {
+                return null;
+            }
+            Map<String, Set<String>> candidates = new LinkedHashMap<>();
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                Properties properties = PropertiesLoaderUtils.loadProperties(new UrlResource(url));
+                for (String className : properties.stringPropertyNames()) {
+                    Set<String> stereotypes = candidates.computeIfAbsent(className, k -> new LinkedHashSet<>());
+                    for (String stereotype : properties.getProperty(className).split(",")) {
+                        String trimmed = stereotype.trim();
+                        if (!trimmed.isEmpty()) {
+                            stereotypes.add(trimmed);
+                        }
+                    }
+                }
+            }
+            logger.debug("Loaded {} candidate components from {}", candidates.size(), COMPONENTS_RESOURCE_LOCATION);
+            return new ComponentIndex(candidates);
+        } catch (IOException e) {
+            throw new LuckyRuntimeException(e, "Unable to load component index from location [{}]", COMPONENTS_RESOURCE_LOCATION);
+        }
+    }
+
+    /**
+     * 获取某些包下的所有候选类
+     *
+     * @param basePackages 包名，为空或者包含默认包("")时返回所有候选类
+     * @return 所有候选类的全限定名
+     */
+    public List<String> getCandidateTypes(String[] basePackages) {
+        List<String> packages = ContainerUtils.isEmptyArray(basePackages) ? Collections.emptyList() : Arrays.asList(basePackages);
+        if (packages.isEmpty() || packages.contains("")) {
+            return new ArrayList<>(candidates.keySet());
+        }
+        List<String> result = new ArrayList<>();
+        for (String className : candidates.keySet()) {
+            if (ScanUtils.isContain(packages, getPackageName(className))) {
+                result.add(className);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 获取某个候选类上所有扫描元素注解的全限定名
+     *
+     * @param className 类的全限定名
+     * @return 扫描元素注解的全限定名集合，不是候选类时返回空集合
+     */
+    public Set<String> getStereotypes(String className) {
+        Set<String> stereotypes = candidates.get(className);
+        return stereotypes == null ? Collections.emptySet() : Collections.unmodifiableSet(stereotypes);
+    }
+
+    private static String getPackageName(String className) {
+        int lastDot = className.lastIndexOf(ScanUtils.PACKAGE_SEPARATOR);
+        return lastDot == -1 ? "" : className.substring(0, lastDot);
+    }
+}
@@ -12,6 +12,7 @@ import com.luckyframework.annotations.ImportBeanDefinitionRegistrar;
 import com.luckyframework.annotations.ImportSelector;
 import com.luckyframework.annotations.ScannerElement;
 import com.luckyframework.common.ContainerUtils;
+import com.luckyframework.common.ScanUtils;
 import com.luckyframework.common.TempPair;
 import com.luckyframework.common.TempTriple;
 import com.luckyframework.exception.AnnotationMetadataReaderException;
@@ -25,6 +26,8 @@ import org.springframework.core.io.Resource;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.MethodMetadata;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
 import org.springframework.util.StringUtils;
 
 import java.beans.Introspector;
@@ -33,11 +36,17 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.luckyframework.scanner.Constants.BEAN_ANNOTATION_NAME;
 import static com.luckyframework.scanner.Constants.CONDITIONAL_ANNOTATION_NAME;
@@ -57,6 +66,16 @@ public abstract class ScannerUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(ScannerUtils.class);
 
+    /**
+     * 类资源或候选类的数量达到该值时才会进行并行解析
+     */
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    /**
+     * 扫描时每个类只会被解析一次，带缓存的MetadataReaderFactory在每次读取时都需要获取全局锁，并行解析时使用无缓存且线程安全的实现
+     */
+    private static final MetadataReaderFactory CONCURRENT_METADATA_READER_FACTORY = new SimpleMetadataReaderFactory();
+
     /**
      * 判断某个注解元是否被某个注解标注
      *
@@ -384,4 +403,57 @@ public abstract class ScannerUtils {
         }
     }
 
+    /**
+     * 获取某些包下的所有类资源，多个包中重复的类资源只会保留一个
+     *
+     * @param basePackages 需要扫描的包
+     * @return 所有类资源
+     */
+    public static List<Resource> getClassResources(String[] basePackages) {
+        Set<Resource> resources = new LinkedHashSet<>();
+        ScanUtils.resourceHandle(basePackages, resources::add);
+        return new ArrayList<>(resources);
+    }
+
+    /**
+     * 并行解析类资源并返回其中所有的扫描元素，结果的顺序与类资源的顺序一致
+     *
+     * @param classResources 类资源集合
+     * @return 所有扫描元素
+     */
+    public static List<AnnotationMetadata> resolveScannerElements(Collection<Resource> classResources) {
+        return parallelResolveScannerElements(classResources, resource -> {
+            try {
+                return CONCURRENT_METADATA_READER_FACTORY.getMetadataReader(resource).getAnnotationMetadata();
+            } catch (IOException e) {
+                throw new AnnotationMetadataReaderException(e).printException(logger);
+            }
+        });
+    }
+
+    /**
+     * 并行解析类并返回其中所有的扫描元素，结果的顺序与类名的顺序一致
+     *
+     * @param classNames 类名集合
+     * @return 所有扫描元素
+     */
+    public static List<AnnotationMetadata> resolveScannerElementsByClassName(Collection<String> classNames) {
+        return parallelResolveScannerElements(classNames, className -> {
+            try {
+                return CONCURRENT_METADATA_READER_FACTORY.getMetadataReader(className).getAnnotationMetadata();
+            } catch (IOException e) {
+                throw new AnnotationMetadataReaderException(e).printException(logger);
+            }
+        });
+    }
+
+    private static <T> List<AnnotationMetadata> parallelResolveScannerElements(Collection<T> sources, Function<T, AnnotationMetadata> resolver) {
+        Stream<T> sourceStream = sources.size() < PARALLEL_THRESHOLD ? sources.stream() : sources.parallelStream();
+        return sourceStream
+                .map(resolver)
+                .filter(Objects::nonNull)
+                .filter(am -> annotationIsExist(am, SCANNER_ELEMENT_ANNOTATION_NAME))
+                .collect(Collectors.toList());
+    }
+
 }
@@ -0,0 +1,273 @@
+package com.luckyframework.cache.impl;
+
+import com.luckyframework.cache.Cache;
+import com.luckyframework.cache.CacheStats;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 基于CLOCK(二次机会)算法实现的并发近似LRU缓存
+ * <pre>
+ *     1.读操作完全无锁，只会在节点上设置一个访问标记
+ *     2.写操作基于{@link ConcurrentHashMap}，超出容量时由一个线程负责淘汰，其他线程不会等待
+ *     3.淘汰时顺时针扫描节点，被访问过的节点会清除标记后获得第二次机会，未被访问过的节点会被淘汰
+ *     4.提供命中、未命中与淘汰次数的统计
+ * </pre>
+ * 与{@link LRUCache}相比，该缓存不会在每次读取时加锁调整链表顺序，适合读多写少的高并发场景
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 11:05
+ */
+public class ConcurrentLRUCache<K, V> implements Cache<K, V> {
+
+    private final int maxCacheSize;
+    private final ConcurrentHashMap<K, Node<K, V>> map;
+
+    /**
+     * CLOCK环，队头即为时钟指针所在的位置
+     */
+    private final Queue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * CLOCK环上已失效(被删除或替换)但尚未清理的节点数
+     */
+    private final AtomicInteger deadNodes = new AtomicInteger();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * 构造器
+     *
+     * @param cacheSize 缓存大小
+     */
+    public ConcurrentLRUCache(int cacheSize) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("cacheSize must be greater than 0: " + cacheSize);
+        }
+        this.maxCacheSize = cacheSize;
+        this.map = new ConcurrentHashMap<>((int) Math.ceil(cacheSize / 0.75f) + 1);
+    }
+
+    @Override
+    public V get(K k) {
+        Node<K, V> node = map.get(k);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        node.markVisited();
+        return node.value;
+    }
+
+    @Override
+    public V put(K k, V v) {
+        Node<K, V> node = new Node<>(k, v);
+        Node<K, V> oldNode = map.put(k, node);
+        clock.offer(node);
+        if (oldNode != null) {
+            markRemoved(oldNode);
+        }
+        evictIfNecessary();
+        return oldNode == null ? null : oldNode.value;
+    }
+
+    @Override
+    public V putIfAbsent(K k, V v) {
+        Node<K, V> node = new Node<>(k, v);
+        Node<K, V> oldNode = map.putIfAbsent(k, node);
+        if (oldNode != null) {
+            oldNode.markVisited();
+            return oldNode.value;
+        }
+        clock.offer(node);
+        evictIfNecessary();
+        return null;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        V newValue = mappingFunction.apply(key);
+        if (newValue == null) {
+            return null;
+        }
+        V existing = putIfAbsent(key, newValue);
+        return existing != null ? existing : newValue;
+    }
+
+    @Override
+    public boolean containsKey(K k) {
+        return map.containsKey(k);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public V remove(K k) {
+        Node<K, V> node = map.remove(k);
+        if (node == null) {
+            return null;
+        }
+        markRemoved(node);
+        evictIfNecessary();
+        return node.value;
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            map.clear();
+            clock.clear();
+            deadNodes.set(0);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 获取缓存的最大容量
+     *
+     * @return 最大容量
+     */
+    public int getMaxCacheSize() {
+        return maxCacheSize;
+    }
+
+    /**
+     * 获取缓存统计信息快照
+     *
+     * @return 缓存统计信息
+     */
+    public CacheStats stats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    /**
+     * 将节点标记为失效，节点会在之后的淘汰或清理过程中从CLOCK环上移除
+     *
+     * @param node 失效的节点
+     */
+    private void markRemoved(Node<K, V> node) {
+        // 节点可能已经被淘汰线程从CLOCK环上取走并标记，此时不能再计为失效节点
+        if (node.tryMarkRemoved()) {
+            deadNodes.incrementAndGet();
+        }
+    }
+
+    /**
+     * 超出容量或者失效节点过多时执行淘汰和清理，同一时刻只会有一个线程执行该逻辑，其他线程直接返回
+     */
+    private void evictIfNecessary() {
+        boolean needPurge = deadNodes.get() > maxCacheSize;
+        if ((!needPurge && map.size() <= maxCacheSize) || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            if (needPurge) {
+                // 只扣除本次真正清理掉的节点数，清理期间其他线程新增的失效节点仍然会被计入
+                int[] purged = {0};
+                clock.removeIf(n -> {
+                    if (n.isRemoved()) {
+                        purged[0]++;
+                        return true;
+                    }
+                    return false;
+                });
+                deadNodes.addAndGet(-purged[0]);
+            }
+            while (map.size() > maxCacheSize) {
+                Node<K, V> node = clock.poll();
+                if (node == null) {
+                    return;
+                }
+                // 已被删除或替换的节点直接丢弃
+                if (node.isRemoved()) {
+                    deadNodes.decrementAndGet();
+                    continue;
+                }
+                // 被访问过的节点获得第二次机会
+                if (node.visited) {
+                    node.visited = false;
+                    clock.offer(node);
+                    continue;
+                }
+                // 标记失败说明节点在取出之后被其他线程删除或替换，并且已经被计为失效节点
+                if (!node.tryMarkRemoved()) {
+                    deadNodes.decrementAndGet();
+                    continue;
+                }
+                if (map.remove(node.key, node)) {
+                    evictionCount.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentLRUCache{size=" + map.size() + ", maxCacheSize=" + maxCacheSize + ", " + stats() + "}";
+    }
+
+    /**
+     * CLOCK环上的节点
+     */
+    private static final class Node<K, V> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Node> REMOVED_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Node.class, "removed");
+
+        private final K key;
+        private final V value;
+        private volatile boolean visited;
+        /** 节点是否已经失效，0表示有效，1表示失效，只能通过{@link #tryMarkRemoved()}修改*/
+        private volatile int removed;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        /**
+         * 将节点标记为失效，只有第一次标记会成功
+         *
+         * @return 本次是否标记成功
+         */
+        boolean tryMarkRemoved() {
+            return removed == 0 && REMOVED_UPDATER.compareAndSet(this, 0, 1);
+        }
+
+        boolean isRemoved() {
+            return removed != 0;
+        }
+
+        /**
+         * 设置访问标记，已经被标记时不再重复写入，避免无谓的缓存行失效
+         */
+        void markVisited() {
+            if (!visited) {
+                visited = true;
+            }
+        }
+    }
+}
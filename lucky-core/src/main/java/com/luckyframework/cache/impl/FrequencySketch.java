@@ -0,0 +1,132 @@
+package com.luckyframework.cache.impl;
+
+/**
+ * 基于Count-Min Sketch的访问频率估算器，为{@link TinyLfuCache}的准入策略提供依据
+ * <pre>
+ *     1.每个元素使用4个4bit计数器，计数器上限为15，一个long可以容纳16个计数器
+ *     2.累计增加次数达到采样上限后所有计数器减半，使历史频率随时间衰减
+ *     3.计数表的大小由元素个数而不是缓存的权重上限决定，元素个数超过计数表容量时通过{@link #ensureCapacity(long)}扩容，
+ *       扩容会丢弃已经统计的频率
+ *     4.该类不是线程安全的，只能在淘汰锁的保护下访问
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 16:40
+ */
+final class FrequencySketch {
+
+    private static final long[] SEED = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAXIMUM_TABLE_SIZE = 1 << 30;
+
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+
+    /**
+     * 构造器
+     *
+     * @param initialCapacity 初始的预期元素个数
+     */
+    FrequencySketch(long initialCapacity) {
+        ensureCapacity(initialCapacity);
+    }
+
+    /**
+     * 保证计数表可以容纳指定数量的元素，容量不足时重新分配计数表
+     *
+     * @param expectedSize 预期的元素个数
+     */
+    void ensureCapacity(long expectedSize) {
+        int maximum = (int) Math.min(Math.max(expectedSize, 16), MAXIMUM_TABLE_SIZE);
+        if (table != null && table.length >= maximum) {
+            return;
+        }
+        int tableSize = Integer.highestOneBit(maximum - 1) << 1;
+        this.table = new long[tableSize];
+        this.tableMask = tableSize - 1;
+        this.sampleSize = maximum > Integer.MAX_VALUE / 10 ? Integer.MAX_VALUE : maximum * 10;
+        this.size = 0;
+    }
+
+    /**
+     * 获取计数表当前可以容纳的元素个数
+     *
+     * @return 计数表容量
+     */
+    int capacity() {
+        return table.length;
+    }
+
+    /**
+     * 获取元素的估算频率，最大为15
+     *
+     * @param e 元素
+     * @return 估算频率
+     */
+    int frequency(Object e) {
+        int hash = spread(e.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * 增加元素的频率，所有计数器都已达到上限时不会增加
+     *
+     * @param e 元素
+     */
+    void increment(Object e) {
+        int hash = spread(e.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int i, int j) {
+        int offset = j << 2;
+        long mask = 0xfL << offset;
+        if ((table[i] & mask) != mask) {
+            table[i] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 所有计数器减半
+     */
+    private void reset() {
+        int count = 0;
+        for (int i = 0; i < table.length; i++) {
+            count += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size >>> 1) - (count >>> 2);
+    }
+
+    private int indexOf(int item, int i) {
+        long hash = (item + SEED[i]) * SEED[i];
+        hash += hash >>> 32;
+        return ((int) hash) & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
@@ -0,0 +1,231 @@
+package com.luckyframework.cache.impl;
+
+import com.luckyframework.threadpool.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 哈希时间轮，用于到期任务的调度
+ * <pre>
+ *     1.所有任务由一个守护线程按照固定的刻度推进执行，不会为每个缓存或每个元素单独创建调度线程
+ *     2.提交任务与取消任务都是无锁的，新任务先进入待处理队列，由工作线程在每个刻度开始时放入对应的槽位
+ *     3.任务的执行精度为一个刻度，到期任务在工作线程中执行，任务本身应当足够轻量
+ *     4.被取消的任务会在下一次经过其所在槽位时被清理
+ * </pre>
+ * 一般情况下使用{@link #shared()}获取进程内共享的时间轮即可
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 16:50
+ */
+public final class TimerWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(TimerWheel.class);
+
+    private static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static volatile TimerWheel shared;
+
+    private final long tickNanos;
+    private final List<Timeout>[] wheel;
+    private final int mask;
+    private final String threadNamePrefix;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private volatile boolean started;
+    private long startTime;
+    private volatile boolean shutdown;
+    private volatile Thread workerThread;
+    /** 当前刻度，只有工作线程会访问*/
+    private long tick;
+
+    /**
+     * 构造器
+     *
+     * @param tickDuration     刻度时长
+     * @param unit             刻度时长的单位
+     * @param wheelSize        槽位数量，会被调整为2的幂
+     * @param threadNamePrefix 工作线程名称前缀
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickDuration, TimeUnit unit, int wheelSize, String threadNamePrefix) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0: " + tickDuration);
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("wheelSize must be in (0, 2^30]: " + wheelSize);
+        }
+        int normalizedSize = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new List[normalizedSize];
+        for (int i = 0; i < normalizedSize; i++) {
+            this.wheel[i] = new ArrayList<>();
+        }
+        this.mask = normalizedSize - 1;
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    /**
+     * 获取进程内共享的时间轮，刻度为100毫秒，工作线程在第一次提交任务时启动
+     *
+     * @return 共享的时间轮
+     */
+    public static TimerWheel shared() {
+        TimerWheel timerWheel = shared;
+        if (timerWheel == null) {
+            synchronized (TimerWheel.class) {
+                timerWheel = shared;
+                if (timerWheel == null) {
+                    timerWheel = new TimerWheel(DEFAULT_TICK_NANOS, TimeUnit.NANOSECONDS, DEFAULT_WHEEL_SIZE, "lucky-cache-timer-wheel-");
+                    shared = timerWheel;
+                }
+            }
+        }
+        return timerWheel;
+    }
+
+    /**
+     * 提交一个延时任务
+     *
+     * @param task  到期后需要执行的任务
+     * @param delay 延时时长
+     * @param unit  延时时长的单位
+     * @return 可以用于取消任务的句柄
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (shutdown) {
+            throw new IllegalStateException("TimerWheel has been shut down");
+        }
+        start();
+        long deadline = System.nanoTime() - startTime + Math.max(unit.toNanos(delay), 0);
+        // 防止溢出
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+        Timeout timeout = new Timeout(task, deadline);
+        pendingTimeouts.offer(timeout);
+        return timeout;
+    }
+
+    /**
+     * 停止工作线程，未到期的任务将不会再被执行
+     */
+    public void shutdown() {
+        shutdown = true;
+        Thread thread = workerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void start() {
+        if (started) {
+            return;
+        }
+        synchronized (this) {
+            if (!started) {
+                startTime = System.nanoTime();
+                NamedThreadFactory threadFactory = new NamedThreadFactory(threadNamePrefix);
+                threadFactory.setDaemon(true);
+                workerThread = threadFactory.newThread(this::run);
+                workerThread.start();
+                started = true;
+            }
+        }
+    }
+
+    private void run() {
+        while (!shutdown) {
+            long deadline = tickNanos * (tick + 1);
+            long sleepNanos;
+            while (!shutdown && (sleepNanos = deadline - (System.nanoTime() - startTime)) > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+            }
+            if (shutdown) {
+                return;
+            }
+            transferPendingTimeouts();
+            expireTimeouts(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    /**
+     * 将待处理队列中的任务放入对应的槽位，已经过期的任务会被放入当前槽位
+     */
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = Math.max(calculated - tick, 0) / wheel.length;
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void expireTimeouts(List<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else {
+                iterator.remove();
+                timeout.expire();
+            }
+        }
+    }
+
+    /**
+     * 延时任务的句柄
+     */
+    public static final class Timeout {
+        private final Runnable task;
+        private final long deadline;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+        private volatile boolean expired;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 取消任务，任务已经执行时取消无效
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public boolean isExpired() {
+            return expired;
+        }
+
+        private void expire() {
+            expired = true;
+            try {
+                task.run();
+            } catch (Throwable e) {
+                log.warn("An exception occurred while executing the timer wheel task.", e);
+            }
+        }
+    }
+}
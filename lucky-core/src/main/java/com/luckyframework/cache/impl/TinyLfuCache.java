@@ -0,0 +1,696 @@
+package com.luckyframework.cache.impl;
+
+import com.luckyframework.cache.Cache;
+import com.luckyframework.cache.CacheStats;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 基于W-TinyLFU算法实现的有界并发缓存，支持按数量或按权重限制容量，支持写入后过期与访问后过期
+ * <pre>
+ *     1.数据存放在{@link ConcurrentHashMap}中，读操作无锁，访问记录先写入一个有损的环形缓冲区，之后由获得淘汰锁的线程批量处理
+ *     2.淘汰策略由窗口区(LRU，约占容量的1%)与主区(分段LRU，由试用区与保护区组成，保护区约占主区的80%)组成，
+ *       新元素先进入窗口区，被挤出窗口区后进入试用区，在试用区中再次被访问的元素会晋升到保护区
+ *     3.需要淘汰时，由{@link FrequencySketch}估算的访问频率决定试用区的队尾元素(候选者)与队头元素(受害者)谁被淘汰，
+ *       从而避免偶发的一次性访问冲刷掉热点数据
+ *     4.过期元素在读取时会被识别为未命中，同时由进程内共享的{@link TimerWheel}在到期后主动清理，不会为每个缓存单独创建清理线程
+ *     5.提供命中、未命中与淘汰(包含过期清理)次数的统计
+ * </pre>
+ * 需要注意：{@link #size()}返回的数量可能包含已过期但尚未被清理的元素；存在未到期元素时，时间轮会持有缓存的引用直到元素到期
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 17:00
+ */
+public class TinyLfuCache<K, V> implements Cache<K, V> {
+
+    private static final int WINDOW = 1;
+    private static final int PROBATION = 2;
+    private static final int PROTECTED = 3;
+    private static final int UNLINKED = 0;
+
+    /** Map与频率计数表的最大初始容量*/
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private static final double WINDOW_PERCENTAGE = 0.01d;
+    private static final double PROTECTED_PERCENTAGE = 0.80d;
+
+    /** 候选者的频率低于该值时永远不会在频率相同时被随机准入*/
+    private static final int ADMIT_HASHDOS_THRESHOLD = 6;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final Weigher<? super K, ? super V> weigher;
+    private final long maximum;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final TimerWheel timerWheel;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer<K, V> readBuffer = new ReadBuffer<>();
+    private final FrequencySketch sketch;
+    private final AccessOrderDeque<K, V> windowDeque = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probationDeque = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedDeque = new AccessOrderDeque<>();
+
+    // 以下字段只能在淘汰锁的保护下修改
+    private volatile long weightedSize;
+    private long windowWeightedSize;
+    private long protectedWeightedSize;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * 构造器，按元素数量限制容量且元素不会过期
+     *
+     * @param maximumSize 最大元素个数
+     */
+    public TinyLfuCache(long maximumSize) {
+        this(maximumSize, 0, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 构造器，按元素数量限制容量
+     *
+     * @param maximumSize       最大元素个数
+     * @param expireAfterWrite  写入后多久过期，小于等于0表示不启用
+     * @param expireAfterAccess 最后一次访问后多久过期，小于等于0表示不启用
+     * @param unit              过期时间的单位
+     */
+    public TinyLfuCache(long maximumSize, long expireAfterWrite, long expireAfterAccess, TimeUnit unit) {
+        this(maximumSize, (k, v) -> 1, expireAfterWrite, expireAfterAccess, unit);
+    }
+
+    /**
+     * 构造器，按元素权重限制容量
+     *
+     * @param maximumWeight     最大权重
+     * @param weigher           元素权重计算器
+     * @param expireAfterWrite  写入后多久过期，小于等于0表示不启用
+     * @param expireAfterAccess 最后一次访问后多久过期，小于等于0表示不启用
+     * @param unit              过期时间的单位
+     */
+    public TinyLfuCache(long maximumWeight, Weigher<? super K, ? super V> weigher, long expireAfterWrite, long expireAfterAccess, TimeUnit unit) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("maximumWeight must be greater than 0: " + maximumWeight);
+        }
+        if (weigher == null) {
+            throw new IllegalArgumentException("weigher must not be null");
+        }
+        this.maximum = maximumWeight;
+        this.weigher = weigher;
+        this.windowMaximum = Math.max(1, (long) (maximumWeight * WINDOW_PERCENTAGE));
+        this.protectedMaximum = (long) ((maximumWeight - windowMaximum) * PROTECTED_PERCENTAGE);
+        this.expireAfterWriteNanos = expireAfterWrite > 0 ? unit.toNanos(expireAfterWrite) : 0;
+        this.expireAfterAccessNanos = expireAfterAccess > 0 ? unit.toNanos(expireAfterAccess) : 0;
+        this.timerWheel = isExpiring() ? TimerWheel.shared() : null;
+        // 按权重限制容量时权重上限与元素个数无关，因此计数表与Map一样按有上限的初始容量创建，之后随元素个数增长
+        this.sketch = new FrequencySketch(Math.min(maximumWeight, INITIAL_CAPACITY));
+        this.data = new ConcurrentHashMap<>((int) Math.min(Math.ceil(maximumWeight / 0.75f) + 1, INITIAL_CAPACITY));
+    }
+
+    @Override
+    public V get(K k) {
+        Node<K, V> node = data.get(k);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        long now = System.nanoTime();
+        if (isExpired(node, now)) {
+            missCount.increment();
+            expire(node);
+            return null;
+        }
+        hitCount.increment();
+        afterRead(node, now);
+        return node.value;
+    }
+
+    @Override
+    public V put(K k, V v) {
+        Node<K, V> node = newNode(k, v, System.nanoTime());
+        Node<K, V> oldNode = data.put(k, node);
+        if (oldNode != null) {
+            oldNode.retire();
+        }
+        evictionLock.lock();
+        try {
+            if (oldNode != null) {
+                onRemove(oldNode);
+            }
+            onAdd(node);
+            maintenance();
+        } finally {
+            evictionLock.unlock();
+        }
+        return oldNode == null || isExpired(oldNode, node.writeTime) ? null : oldNode.value;
+    }
+
+    @Override
+    public V putIfAbsent(K k, V v) {
+        Node<K, V> node = null;
+        while (true) {
+            long now = System.nanoTime();
+            Node<K, V> existing = data.get(k);
+            if (existing != null && !isExpired(existing, now)) {
+                afterRead(existing, now);
+                return existing.value;
+            }
+            if (node == null) {
+                node = newNode(k, v, now);
+            }
+            if (existing == null ? data.putIfAbsent(k, node) == null : data.replace(k, existing, node)) {
+                if (existing != null) {
+                    existing.retire();
+                    evictionCount.increment();
+                }
+                evictionLock.lock();
+                try {
+                    if (existing != null) {
+                        onRemove(existing);
+                    }
+                    onAdd(node);
+                    maintenance();
+                } finally {
+                    evictionLock.unlock();
+                }
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        V newValue = mappingFunction.apply(key);
+        if (newValue == null) {
+            return null;
+        }
+        V existing = putIfAbsent(key, newValue);
+        return existing != null ? existing : newValue;
+    }
+
+    @Override
+    public boolean containsKey(K k) {
+        Node<K, V> node = data.get(k);
+        return node != null && !isExpired(node, System.nanoTime());
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public V remove(K k) {
+        Node<K, V> node = data.remove(k);
+        if (node == null) {
+            return null;
+        }
+        node.retire();
+        evictionLock.lock();
+        try {
+            onRemove(node);
+        } finally {
+            evictionLock.unlock();
+        }
+        return isExpired(node, System.nanoTime()) ? null : node.value;
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            for (Node<K, V> node : data.values()) {
+                if (data.remove(node.key, node)) {
+                    node.retire();
+                }
+            }
+            readBuffer.drain(this, false);
+            windowDeque.clear();
+            probationDeque.clear();
+            protectedDeque.clear();
+            weightedSize = 0;
+            windowWeightedSize = 0;
+            protectedWeightedSize = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 获取缓存的最大容量(按数量限制时为最大元素个数，按权重限制时为最大权重)
+     *
+     * @return 最大容量
+     */
+    public long getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * 获取当前所有元素的权重之和
+     *
+     * @return 当前所有元素的权重之和
+     */
+    public long getWeightedSize() {
+        return weightedSize;
+    }
+
+    /**
+     * 获取缓存统计信息快照，过期清理也计入淘汰次数
+     *
+     * @return 缓存统计信息
+     */
+    public CacheStats stats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    //------------------------------------------------------------------
+    //                     Read / Write Support
+    //------------------------------------------------------------------
+
+    private Node<K, V> newNode(K k, V v, long now) {
+        int weight = weigher.weigh(k, v);
+        if (weight < 0) {
+            throw new IllegalArgumentException("weight must not be negative: " + weight);
+        }
+        return new Node<>(k, v, weight, now);
+    }
+
+    /**
+     * 记录一次访问，环形缓冲区写满或积压到一定数量时尝试获取淘汰锁进行处理，获取失败时直接返回
+     */
+    private void afterRead(Node<K, V> node, long now) {
+        if (expireAfterAccessNanos > 0) {
+            node.accessTime = now;
+        }
+        boolean accepted = readBuffer.offer(node);
+        if ((!accepted || readBuffer.shouldDrain()) && evictionLock.tryLock()) {
+            try {
+                maintenance();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private boolean isExpiring() {
+        return expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0;
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return (expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos);
+    }
+
+    /**
+     * 计算元素的到期时间
+     */
+    private long expirationTime(Node<K, V> node) {
+        long writeDeadline = expireAfterWriteNanos > 0 ? node.writeTime + expireAfterWriteNanos : Long.MAX_VALUE;
+        long accessDeadline = expireAfterAccessNanos > 0 ? node.accessTime + expireAfterAccessNanos : Long.MAX_VALUE;
+        return Math.min(writeDeadline, accessDeadline);
+    }
+
+    private void scheduleExpiration(Node<K, V> node) {
+        if (timerWheel != null && !node.retired) {
+            long delay = expirationTime(node) - System.nanoTime();
+            node.timeout = timerWheel.schedule(() -> onTimeout(node), delay, TimeUnit.NANOSECONDS);
+            // 在设置定时任务期间元素被删除时需要取消刚刚设置的定时任务
+            if (node.retired) {
+                node.timeout.cancel();
+            }
+        }
+    }
+
+    /**
+     * 时间轮回调，访问后过期的元素可能在定时期间被再次访问，此时重新设置定时任务而不是删除
+     */
+    private void onTimeout(Node<K, V> node) {
+        if (node.retired) {
+            return;
+        }
+        if (isExpired(node, System.nanoTime())) {
+            expire(node);
+        } else {
+            scheduleExpiration(node);
+        }
+    }
+
+    /**
+     * 删除一个已过期的元素，元素已被其他线程删除或替换时不做任何处理
+     */
+    private void expire(Node<K, V> node) {
+        if (data.remove(node.key, node)) {
+            node.retire();
+            evictionCount.increment();
+            evictionLock.lock();
+            try {
+                onRemove(node);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    //------------------------------------------------------------------
+    //                   Eviction Policy (under lock)
+    //------------------------------------------------------------------
+
+    private void maintenance() {
+        readBuffer.drain(this, true);
+        evictEntries();
+    }
+
+    private void onAdd(Node<K, V> node) {
+        if (node.retired) {
+            return;
+        }
+        int entryCount = data.size();
+        if (entryCount > sketch.capacity()) {
+            sketch.ensureCapacity(entryCount);
+        }
+        sketch.increment(node.key);
+        node.queueType = WINDOW;
+        windowDeque.addLast(node);
+        windowWeightedSize += node.weight;
+        weightedSize += node.weight;
+        if (node.weight > maximum) {
+            evictNode(node);
+            return;
+        }
+        scheduleExpiration(node);
+    }
+
+    private void onRemove(Node<K, V> node) {
+        switch (node.queueType) {
+            case WINDOW:
+                windowDeque.remove(node);
+                windowWeightedSize -= node.weight;
+                break;
+            case PROBATION:
+                probationDeque.remove(node);
+                break;
+            case PROTECTED:
+                protectedDeque.remove(node);
+                protectedWeightedSize -= node.weight;
+                break;
+            default:
+                return;
+        }
+        node.queueType = UNLINKED;
+        weightedSize -= node.weight;
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.retired) {
+            return;
+        }
+        sketch.increment(node.key);
+        switch (node.queueType) {
+            case WINDOW:
+                windowDeque.moveToBack(node);
+                break;
+            case PROBATION:
+                // 试用区中再次被访问的元素晋升到保护区
+                probationDeque.remove(node);
+                node.queueType = PROTECTED;
+                protectedDeque.addLast(node);
+                protectedWeightedSize += node.weight;
+                demoteFromProtected();
+                break;
+            case PROTECTED:
+                protectedDeque.moveToBack(node);
+                break;
+            default:
+        }
+    }
+
+    /**
+     * 保护区超出容量时将最久未被访问的元素降级到试用区
+     */
+    private void demoteFromProtected() {
+        while (protectedWeightedSize > protectedMaximum) {
+            Node<K, V> demoted = protectedDeque.pollFirst();
+            if (demoted == null) {
+                return;
+            }
+            protectedWeightedSize -= demoted.weight;
+            demoted.queueType = PROBATION;
+            probationDeque.addLast(demoted);
+        }
+    }
+
+    private void evictEntries() {
+        // 被挤出窗口区的元素进入试用区的队尾，成为候选者
+        while (windowWeightedSize > windowMaximum) {
+            Node<K, V> node = windowDeque.pollFirst();
+            if (node == null) {
+                break;
+            }
+            windowWeightedSize -= node.weight;
+            node.queueType = PROBATION;
+            probationDeque.addLast(node);
+        }
+
+        while (weightedSize > maximum) {
+            Node<K, V> victim = probationDeque.peekFirst();
+            Node<K, V> candidate = probationDeque.peekLast();
+            if (victim == null) {
+                victim = protectedDeque.peekFirst();
+                if (victim == null) {
+                    victim = windowDeque.peekFirst();
+                }
+                if (victim == null) {
+                    return;
+                }
+                evictNode(victim);
+            } else if (victim == candidate) {
+                evictNode(victim);
+            } else {
+                evictNode(admit(candidate.key, victim.key) ? victim : candidate);
+            }
+        }
+    }
+
+    /**
+     * 判断候选者是否可以替换受害者进入主区
+     * <pre>
+     *     1.候选者频率更高时准入
+     *     2.频率相同或更低时一般拒绝，但频率较高时以很小的概率准入，避免攻击者利用哈希碰撞使热点元素无法进入主区
+     * </pre>
+     */
+    private boolean admit(K candidateKey, K victimKey) {
+        int candidateFreq = sketch.frequency(candidateKey);
+        int victimFreq = sketch.frequency(victimKey);
+        if (candidateFreq > victimFreq) {
+            return true;
+        }
+        if (candidateFreq < ADMIT_HASHDOS_THRESHOLD) {
+            return false;
+        }
+        return (ThreadLocalRandom.current().nextInt() & 127) == 0;
+    }
+
+    /**
+     * 淘汰一个元素，即使元素已被其他线程删除或替换也会将其从访问队列中移除，以保证淘汰过程可以继续推进
+     */
+    private void evictNode(Node<K, V> node) {
+        if (data.remove(node.key, node)) {
+            node.retire();
+            evictionCount.increment();
+        }
+        onRemove(node);
+    }
+
+    /**
+     * 元素权重计算器
+     */
+    @FunctionalInterface
+    public interface Weigher<K, V> {
+
+        /**
+         * 计算元素的权重，权重不能为负数
+         *
+         * @param key   键
+         * @param value 值
+         * @return 元素的权重
+         */
+        int weigh(K key, V value);
+    }
+
+    /**
+     * 缓存节点，节点不可变，替换值时会创建新的节点
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final int weight;
+        private final long writeTime;
+        private volatile long accessTime;
+        /** 节点已经从Map中移除*/
+        private volatile boolean retired;
+        private volatile TimerWheel.Timeout timeout;
+
+        // 以下字段只能在淘汰锁的保护下访问
+        private int queueType = UNLINKED;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        Node(K key, V value, int weight, long now) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+
+        void retire() {
+            retired = true;
+            TimerWheel.Timeout t = timeout;
+            if (t != null) {
+                t.cancel();
+            }
+        }
+    }
+
+    /**
+     * 按访问顺序排列的侵入式双向链表，队头为最久未被访问的元素
+     */
+    private static final class AccessOrderDeque<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+
+        Node<K, V> peekFirst() {
+            return first;
+        }
+
+        Node<K, V> peekLast() {
+            return last;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.prev = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> node = first;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void remove(Node<K, V> node) {
+            Node<K, V> prev = node.prev;
+            Node<K, V> next = node.next;
+            if (prev == null) {
+                first = next;
+            } else {
+                prev.next = next;
+            }
+            if (next == null) {
+                last = prev;
+            } else {
+                next.prev = prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            Node<K, V> node = first;
+            while (node != null) {
+                Node<K, V> next = node.next;
+                node.prev = null;
+                node.next = null;
+                node.queueType = UNLINKED;
+                node = next;
+            }
+            first = null;
+            last = null;
+        }
+    }
+
+    /**
+     * 有损的有界环形缓冲区，多线程写入，持有淘汰锁的线程读取，缓冲区写满或写入发生竞争时直接丢弃本次访问记录
+     */
+    private static final class ReadBuffer<K, V> {
+        private static final int BUFFER_SIZE = 128;
+        private static final int MASK = BUFFER_SIZE - 1;
+        private static final int DRAIN_THRESHOLD = BUFFER_SIZE / 4;
+
+        private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+        private final AtomicLong writeIndex = new AtomicLong();
+        /** 只有持有淘汰锁的线程会修改*/
+        private volatile long readIndex;
+
+        boolean offer(Node<K, V> node) {
+            long w = writeIndex.get();
+            if (w - readIndex >= BUFFER_SIZE) {
+                return false;
+            }
+            if (writeIndex.compareAndSet(w, w + 1)) {
+                buffer.lazySet((int) (w & MASK), node);
+                return true;
+            }
+            return false;
+        }
+
+        boolean shouldDrain() {
+            return writeIndex.get() - readIndex >= DRAIN_THRESHOLD;
+        }
+
+        /**
+         * 处理缓冲区中的访问记录
+         *
+         * @param cache   缓存实例
+         * @param process 是否需要将访问记录应用到淘汰策略上，为false时直接丢弃
+         */
+        void drain(TinyLfuCache<K, V> cache, boolean process) {
+            long r = readIndex;
+            long w = writeIndex.get();
+            for (; r < w; r++) {
+                int index = (int) (r & MASK);
+                Node<K, V> node = buffer.get(index);
+                // 写入者已经占用了位置但尚未写入元素，留到下一次处理
+                if (node == null) {
+                    break;
+                }
+                buffer.lazySet(index, null);
+                if (process) {
+                    cache.onAccess(node);
+                }
+            }
+            readIndex = r;
+        }
+    }
+}
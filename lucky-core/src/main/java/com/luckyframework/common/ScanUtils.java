@@ -4,7 +4,8 @@ import com.luckyframework.exception.LuckyRuntimeException;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.type.AnnotationMetadata;
-import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
@@ -13,11 +14,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -49,8 +52,17 @@ public abstract class ScanUtils {
      */
     private final static String[] DEFAULT_PACKAGE = {""};
 
+    /**
+     * 类资源数量达到该值时才会进行并行解析
+     */
+    private final static int PARALLEL_THRESHOLD = 64;
+
     private final static PathMatchingResourcePatternResolver PM = new PathMatchingResourcePatternResolver();
-    private final static CachingMetadataReaderFactory METADATA_READER_FACTORY = new CachingMetadataReaderFactory();
+
+    /**
+     * 扫描时每个类资源只会被解析一次，带缓存的MetadataReaderFactory在每次读取时都需要获取全局锁，这里使用无缓存且线程安全的实现
+     */
+    private final static MetadataReaderFactory METADATA_READER_FACTORY = new SimpleMetadataReaderFactory();
 
     public static String[] exclude(String[] packages1, String[] packages2) {
         List<String> excludeList = new ArrayList<>();
@@ -186,6 +198,49 @@ public abstract class ScanUtils {
         return resultSet;
     }
 
+    /**
+     * 并行版本的{@link #resourceConvert(String[], Function)}，所有类资源会在{@link java.util.concurrent.ForkJoinPool#commonPool()}中并行转换，
+     * 因此转换函数必须是线程安全的
+     *
+     * @param packages 需要扫描的包
+     * @param convert  类资源转换函数，返回null表示忽略该资源
+     * @param <T>      转换结果的类型
+     * @return 所有不为null的转换结果
+     */
+    public static <T> Set<T> parallelResourceConvert(String[] packages, Function<Resource, T> convert) {
+        List<Resource> resources = getClassResources(packages);
+        Stream<Resource> resourceStream = resources.size() < PARALLEL_THRESHOLD ? resources.stream() : resources.parallelStream();
+        return resourceStream.map(convert).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    /**
+     * 并行版本的{@link #resourceHandle(String[], Consumer)}，所有类资源会在{@link java.util.concurrent.ForkJoinPool#commonPool()}中并行处理，
+     * 因此处理函数必须是线程安全的
+     *
+     * @param packages 需要扫描的包
+     * @param consumer 类资源处理函数
+     */
+    public static void parallelResourceHandle(String[] packages, Consumer<Resource> consumer) {
+        List<Resource> resources = getClassResources(packages);
+        if (resources.size() < PARALLEL_THRESHOLD) {
+            resources.forEach(consumer);
+        } else {
+            resources.parallelStream().forEach(consumer);
+        }
+    }
+
+    /**
+     * 获取某些包下的所有类资源，多个包中重复的类资源只会保留一个
+     *
+     * @param packages 需要扫描的包
+     * @return 所有类资源
+     */
+    public static List<Resource> getClassResources(String[] packages) {
+        Set<Resource> resources = new LinkedHashSet<>();
+        resourceHandle(packages, resources::add);
+        return new ArrayList<>(resources);
+    }
+
     public static AnnotationMetadata resourceToAnnotationMetadata(Resource resource) {
         try {
             return METADATA_READER_FACTORY.getMetadataReader(resource).getAnnotationMetadata();
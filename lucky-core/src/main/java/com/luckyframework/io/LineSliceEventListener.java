@@ -0,0 +1,22 @@
+package com.luckyframework.io;
+
+/**
+ * 以字节切片的形式接收行数据的监听器，与{@link LineEventListener}不同，该监听器不会为每一行创建新的字节数组和字符串
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 12:40
+ */
+@FunctionalInterface
+public interface LineSliceEventListener {
+
+    /**
+     * 读取到一个完整的行时触发（不包含换行符），切片中的数据只在回调期间有效，回调返回后底层数组会被复用
+     *
+     * @param buffer     行数据所在的字节数组
+     * @param offset     行数据的起始位置
+     * @param length     行数据的长度
+     * @param lineNumber 行号，从1开始
+     */
+    void onNewline(byte[] buffer, int offset, int length, int lineNumber);
+}
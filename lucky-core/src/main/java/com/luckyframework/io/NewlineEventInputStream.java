@@ -1,47 +1,96 @@
 package com.luckyframework.io;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 
 /**
  * 遇到换行符（\n）时执行特殊处理的输入流
+ * <pre>
+ *     1.按块从原始流中读取数据，并在块中批量查找换行符，不会逐字节调用原始流
+ *     2.每次批量读取最多返回到下一个换行符为止，保证监听器按行依次触发
+ *     3.跨块的行会暂存在可复用的行缓冲区中，完整位于块内的行直接以切片的形式交给{@link LineSliceEventListener}
+ * </pre>
  */
 public class NewlineEventInputStream extends InputStream {
 
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
     private final InputStream in;
     private final Charset charset;
     private final LineEventListener listener;
-    private final ByteArrayOutputStream currentLineBuffer = new ByteArrayOutputStream();
+    private final LineSliceEventListener sliceListener;
+
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+
+    private byte[] lineBuffer = new byte[128];
+    private int lineLength;
     private int currentLineNumber = 1;
 
-    public NewlineEventInputStream(InputStream in, Charset charset, LineEventListener listener) {
+    private NewlineEventInputStream(InputStream in, Charset charset, LineEventListener listener, LineSliceEventListener sliceListener, int bufferSize) {
         this.in = in;
         this.charset = charset;
         this.listener = listener;
+        this.sliceListener = sliceListener;
+        this.buffer = new byte[bufferSize];
+    }
+
+    public NewlineEventInputStream(InputStream in, Charset charset, LineEventListener listener) {
+        this(in, charset, listener, null, DEFAULT_BUFFER_SIZE);
     }
 
     public NewlineEventInputStream(InputStream in, LineEventListener listener) {
         this(in, Charset.defaultCharset(), listener);
     }
 
+    public NewlineEventInputStream(InputStream in, LineSliceEventListener sliceListener) {
+        this(in, null, null, sliceListener, DEFAULT_BUFFER_SIZE);
+    }
+
+    public NewlineEventInputStream(InputStream in, LineSliceEventListener sliceListener, int bufferSize) {
+        this(in, null, null, sliceListener, bufferSize);
+    }
+
     @Override
     public int read() throws IOException {
-        int byteRead = in.read();
-        if (byteRead == -1) {
+        if (position >= limit && !fill()) {
             return -1;
         }
+        int byteRead = buffer[position] & 0xFF;
+        consume(position, position + 1, byteRead == '\n' ? position : -1);
+        position++;
+        return byteRead;
+    }
 
-        if (byteRead == '\n') {
-            String lineContent = new String(currentLineBuffer.toByteArray(), charset);
-            listener.onNewline(lineContent, currentLineNumber++);
-            currentLineBuffer.reset();
-        } else {
-            currentLineBuffer.write(byteRead);
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
         }
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+        int end = Math.min(limit, position + len);
+        int newline = indexOfNewline(position, end);
+        if (newline != -1) {
+            end = newline + 1;
+        }
+        int count = end - position;
+        System.arraycopy(buffer, position, b, off, count);
+        consume(position, end, newline);
+        position = end;
+        return count;
+    }
 
-        return byteRead;
+    @Override
+    public int available() throws IOException {
+        return (limit - position) + in.available();
     }
 
     @Override
@@ -49,4 +98,76 @@ public class NewlineEventInputStream extends InputStream {
         in.close();
     }
 
+    /**
+     * 从原始流中读取下一块数据
+     *
+     * @return 是否读取到了数据
+     * @throws IOException 读取数据时可能出现的异常
+     */
+    private boolean fill() throws IOException {
+        int n;
+        do {
+            n = in.read(buffer, 0, buffer.length);
+        } while (n == 0);
+        if (n == -1) {
+            return false;
+        }
+        position = 0;
+        limit = n;
+        return true;
+    }
+
+    private int indexOfNewline(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 处理已经交给调用方的数据
+     *
+     * @param from    起始位置
+     * @param to      结束位置
+     * @param newline 换行符所在的位置，不存在时为-1
+     */
+    private void consume(int from, int to, int newline) {
+        if (newline == -1) {
+            appendToLine(from, to - from);
+            return;
+        }
+        // 整行都在当前块中时直接使用块中的数据，否则先拼接到行缓冲区中
+        if (lineLength == 0) {
+            fireNewline(buffer, from, newline - from);
+        } else {
+            appendToLine(from, newline - from);
+            fireNewline(lineBuffer, 0, lineLength);
+            lineLength = 0;
+        }
+    }
+
+    private void appendToLine(int from, int length) {
+        if (length == 0) {
+            return;
+        }
+        int required = lineLength + length;
+        if (required > lineBuffer.length) {
+            lineBuffer = Arrays.copyOf(lineBuffer, Math.max(required, lineBuffer.length << 1));
+        }
+        System.arraycopy(buffer, from, lineBuffer, lineLength, length);
+        lineLength = required;
+    }
+
+    private void fireNewline(byte[] bytes, int offset, int length) {
+        int lineNumber = currentLineNumber++;
+        if (sliceListener != null) {
+            sliceListener.onNewline(bytes, offset, length, lineNumber);
+        }
+        if (listener != null) {
+            listener.onNewline(new String(bytes, offset, length, charset), lineNumber);
+        }
+    }
+
 }
@@ -5,6 +5,7 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 
+import java.io.Reader;
 import java.lang.reflect.Type;
 
 /**
@@ -28,6 +29,11 @@ public class GsonSerializationScheme implements JsonSerializationScheme {
         return gson.fromJson(objectStr, objectType);
     }
 
+    @Override
+    public Object deserialization(Reader reader, Type objectType) throws Exception {
+        return gson.fromJson(reader, objectType);
+    }
+
     /**
      * Json字符串格式化
      * @param jsonString json字符串
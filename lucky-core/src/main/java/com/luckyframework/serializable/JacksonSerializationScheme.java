@@ -5,7 +5,12 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Jackson序列化方案
@@ -30,12 +35,38 @@ public class JacksonSerializationScheme implements JsonSerializationScheme {
 
     @Override
     public Object deserialization(String objectStr, Type objectType) throws Exception {
-        return objectMapper.readValue(objectStr, new TypeReference<Object>() {
+        return objectMapper.readValue(objectStr, typeReference(objectType));
+    }
+
+    @Override
+    public Object deserialization(Reader reader, Type objectType) throws Exception {
+        return objectMapper.readValue(reader, typeReference(objectType));
+    }
+
+    /**
+     * 使用Jackson的流式解析器直接从输入流中反序列化，UTF-8编码时直接解析字节流，不会产生中间的字符数据
+     *
+     * @param in         待反序列化的输入流
+     * @param charset    输入流的编码，为null时使用UTF-8
+     * @param objectType 序列化后Java对象的类型
+     * @return 序列化之后的Java对象
+     * @throws Exception 序列化出现问题时会触发该异常
+     */
+    @Override
+    public Object deserialization(InputStream in, Charset charset, Type objectType) throws Exception {
+        if (charset == null || StandardCharsets.UTF_8.equals(charset)) {
+            return objectMapper.readValue(in, typeReference(objectType));
+        }
+        return objectMapper.readValue(new InputStreamReader(in, charset), typeReference(objectType));
+    }
+
+    private static TypeReference<Object> typeReference(Type objectType) {
+        return new TypeReference<Object>() {
             @Override
             public Type getType() {
                 return objectType;
             }
-        });
+        };
     }
 
     /**
@@ -6,7 +6,11 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 
 public class JacksonXmlSerializationScheme implements XmlSerializationScheme {
 
@@ -25,11 +29,37 @@ public class JacksonXmlSerializationScheme implements XmlSerializationScheme {
 
     @Override
     public Object deserialization(String objectStr, Type objectType) throws Exception {
-        return xmlMapper.readValue(objectStr, new  TypeReference<Object>() {
+        return xmlMapper.readValue(objectStr, typeReference(objectType));
+    }
+
+    @Override
+    public Object deserialization(Reader reader, Type objectType) throws Exception {
+        return xmlMapper.readValue(reader, typeReference(objectType));
+    }
+
+    /**
+     * 使用Jackson的流式解析器直接从输入流中反序列化，未指定编码时由XML声明决定编码
+     *
+     * @param in         待反序列化的输入流
+     * @param charset    输入流的编码，为null时使用XML声明中的编码
+     * @param objectType 序列化后Java对象的类型
+     * @return 序列化之后的Java对象
+     * @throws Exception 序列化出现问题时会触发该异常
+     */
+    @Override
+    public Object deserialization(InputStream in, Charset charset, Type objectType) throws Exception {
+        if (charset == null) {
+            return xmlMapper.readValue(in, typeReference(objectType));
+        }
+        return xmlMapper.readValue(new InputStreamReader(in, charset), typeReference(objectType));
+    }
+
+    private static TypeReference<Object> typeReference(Type objectType) {
+        return new TypeReference<Object>() {
             @Override
             public Type getType() {
                 return objectType;
             }
-        });
+        };
     }
 }
@@ -2,9 +2,13 @@ package com.luckyframework.serializable;
 
 import org.springframework.util.FileCopyUtils;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * 序列化方案
@@ -72,4 +76,34 @@ public interface SerializationScheme {
         FileCopyUtils.copy(reader, writer);
         return deserialization(writer.toString(), objectType);
     }
+
+    /**
+     * 反序列化，直接从输入流中读取数据并反序列化为一个Java对象
+     *
+     * @param in        待反序列化的输入流
+     * @param charset   输入流的编码，为null时使用UTF-8
+     * @param typeToken 序列化后Java对象的类型的Token信息
+     * @return 序列化之后的Java对象
+     * @throws Exception 序列化出现问题时会触发该异常
+     */
+    default <T> T deserialization(InputStream in, Charset charset, SerializationTypeToken<T> typeToken) throws Exception {
+        return (T) deserialization(in, charset, typeToken.getType());
+    }
+
+    /**
+     * 反序列化，直接从输入流中读取数据并反序列化为一个Java对象
+     * <pre>
+     *     默认实现会将输入流包装为{@link Reader}后交给{@link #deserialization(Reader, Type)}处理，
+     *     支持流式解析的序列化方案应该重写该方法，以避免将完整的数据读取为byte[]和String
+     * </pre>
+     *
+     * @param in         待反序列化的输入流
+     * @param charset    输入流的编码，为null时使用UTF-8
+     * @param objectType 序列化后Java对象的类型
+     * @return 序列化之后的Java对象
+     * @throws Exception 序列化出现问题时会触发该异常
+     */
+    default Object deserialization(InputStream in, Charset charset, Type objectType) throws Exception {
+        return deserialization(new InputStreamReader(in, charset == null ? StandardCharsets.UTF_8 : charset), objectType);
+    }
 }
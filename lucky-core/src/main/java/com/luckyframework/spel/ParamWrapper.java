@@ -1,7 +1,7 @@
 package com.luckyframework.spel;
 
-import com.luckyframework.cache.Cache;
-import com.luckyframework.cache.impl.LRUCache;
+import com.luckyframework.cache.CacheStats;
+import com.luckyframework.cache.impl.ConcurrentLRUCache;
 import com.luckyframework.common.ContainerUtils;
 import com.luckyframework.conversion.ConversionUtils;
 import com.luckyframework.reflect.AnnotationUtils;
@@ -38,9 +38,14 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ParamWrapper {
 
     /**
-     * 表达式缓存，采用LRU缓存进行存储
+     * 表达式缓存的默认容量
      */
-    private static final Cache<String, Expression> exCacheMap = new LRUCache<>(225);
+    public static final int DEFAULT_EXPRESSION_CACHE_SIZE = 4096;
+
+    /**
+     * 表达式缓存，采用无锁的近似LRU缓存进行存储
+     */
+    private static volatile ConcurrentLRUCache<ExpressionKey, Expression> exCacheMap = new ConcurrentLRUCache<>(DEFAULT_EXPRESSION_CACHE_SIZE);
 
     /**
      * 类型定位器
@@ -126,14 +131,43 @@ public class ParamWrapper {
      * @return SpEL表达式对象
      */
     public Expression createExpression(String expression, ParserContext parserContext) {
-        Expression expr = exCacheMap.get(expression);
+        ConcurrentLRUCache<ExpressionKey, Expression> cache = exCacheMap;
+        ExpressionKey key = new ExpressionKey(expression, parserContext);
+        Expression expr = cache.get(key);
         if (expr == null) {
             expr = this.parser.parseExpression(expression, parserContext);
-            exCacheMap.put(expression, expr);
+            cache.put(key, expr);
         }
         return expr;
     }
 
+    /**
+     * 重新设置表达式缓存的容量，原有的缓存内容会被丢弃
+     *
+     * @param cacheSize 缓存容量
+     */
+    public static void setExpressionCacheSize(int cacheSize) {
+        exCacheMap = new ConcurrentLRUCache<>(cacheSize);
+    }
+
+    /**
+     * 获取表达式缓存的容量
+     *
+     * @return 表达式缓存的容量
+     */
+    public static int getExpressionCacheSize() {
+        return exCacheMap.getMaxCacheSize();
+    }
+
+    /**
+     * 获取表达式缓存的统计信息
+     *
+     * @return 表达式缓存的统计信息
+     */
+    public static CacheStats getExpressionCacheStats() {
+        return exCacheMap.stats();
+    }
+
     /**
      * 设置SpEL表达式
      *
@@ -596,4 +630,45 @@ public class ParamWrapper {
         return expectedResultType == null ? (T) result : (T) ConversionUtils.conversion(result, expectedResultType);
     }
 
+
+    /**
+     * 表达式缓存的Key，由表达式和{@link ParserContext}的解析规则共同决定
+     */
+    private static final class ExpressionKey {
+        private final String expression;
+        private final boolean template;
+        private final String prefix;
+        private final String suffix;
+        private final int hash;
+
+        ExpressionKey(String expression, @Nullable ParserContext parserContext) {
+            this.expression = expression;
+            if (parserContext != null && parserContext.isTemplate()) {
+                this.template = true;
+                this.prefix = parserContext.getExpressionPrefix();
+                this.suffix = parserContext.getExpressionSuffix();
+            } else {
+                this.template = false;
+                this.prefix = null;
+                this.suffix = null;
+            }
+            this.hash = Objects.hash(expression, template, prefix, suffix);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ExpressionKey)) return false;
+            ExpressionKey that = (ExpressionKey) o;
+            return template == that.template
+                    && Objects.equals(expression, that.expression)
+                    && Objects.equals(prefix, that.prefix)
+                    && Objects.equals(suffix, that.suffix);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -0,0 +1,151 @@
+package com.luckyframework.window;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 基于环形缓冲区实现的无锁定长窗口
+ * <pre>
+ *     1.窗口使用固定大小的数组保存元素，写入位置由一个原子游标决定，添加元素的时间复杂度为O(1)且不会产生额外的对象
+ *     2.窗口装满之后新元素会直接覆盖最早的元素，被覆盖或者被移除的元素会回调{@link #onElementEvicted(Object)}
+ *     3.子类可以通过{@link #onElementAdded(Object)}和{@link #onElementEvicted(Object)}无锁地维护统计数据
+ *     4.多线程并发读写时{@link #getElements()}返回的是一个近似的快照
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:10
+ */
+public class RingBufferWindow<T> implements Window<T> {
+
+    private final AtomicReferenceArray<T> buffer;
+    private final int capacity;
+
+    /**
+     * 下一个元素的写入位置
+     */
+    private final AtomicLong cursor = new AtomicLong();
+
+    /**
+     * 窗口中元素的个数
+     */
+    private final AtomicInteger count = new AtomicInteger();
+
+    public RingBufferWindow(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the window must be greater than 0.");
+        }
+        this.capacity = capacity;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public void addElement(T element) {
+        Objects.requireNonNull(element, "The element of the window cannot be null.");
+        int index = (int) (cursor.getAndIncrement() % capacity);
+        T evicted = buffer.getAndSet(index, element);
+        onElementAdded(element);
+        if (evicted == null) {
+            count.incrementAndGet();
+        } else {
+            onElementEvicted(evicted);
+        }
+    }
+
+    /**
+     * 移除窗口中最早的unit个元素
+     *
+     * @param unit 滑动单位
+     */
+    @Override
+    public void slideForward(long unit) {
+        if (unit <= 0) {
+            return;
+        }
+        long start = cursor.get();
+        long removed = 0;
+        for (int i = 0; i < capacity && removed < unit; i++) {
+            if (evict((int) ((start + i) % capacity))) {
+                removed++;
+            }
+        }
+    }
+
+    @Override
+    public boolean isFull() {
+        return count.get() >= capacity;
+    }
+
+    @Override
+    public int size() {
+        // 并发清空时计数可能短暂小于0
+        return Math.max(count.get(), 0);
+    }
+
+    /**
+     * 按照从旧到新的顺序返回窗口中所有元素的快照
+     *
+     * @return 窗口中的所有元素
+     */
+    @Override
+    public Collection<T> getElements() {
+        long start = cursor.get();
+        List<T> elements = new ArrayList<>(count.get());
+        for (int i = 0; i < capacity; i++) {
+            T element = buffer.get((int) ((start + i) % capacity));
+            if (element != null) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < capacity; i++) {
+            evict(i);
+        }
+    }
+
+    /**
+     * 获取窗口容量
+     *
+     * @return 窗口容量
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 元素被添加到窗口之后的回调
+     *
+     * @param element 被添加的元素
+     */
+    protected void onElementAdded(T element) {
+
+    }
+
+    /**
+     * 元素被覆盖或者被移出窗口之后的回调
+     *
+     * @param element 被移出的元素
+     */
+    protected void onElementEvicted(T element) {
+
+    }
+
+    private boolean evict(int index) {
+        T evicted = buffer.getAndSet(index, null);
+        if (evicted == null) {
+            return false;
+        }
+        count.decrementAndGet();
+        onElementEvicted(evicted);
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+package com.luckyframework.httpclient.core.executor;
+
+import com.luckyframework.httpclient.core.meta.DefaultRequest;
+import com.luckyframework.httpclient.core.meta.Request;
+import com.luckyframework.httpclient.core.meta.Response;
+import com.luckyframework.httpclient.core.meta.ResponseMetaData;
+import com.luckyframework.httpclient.core.metrics.MeteredResponseProcessor;
+import com.luckyframework.httpclient.core.processor.ResponseProcessor;
+import com.luckyframework.httpclient.core.processor.SaveResponseInstanceProcessor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 支持原生非阻塞异步执行的Http请求执行器
+ * <pre>
+ *     与通过线程池包装同步调用的方式不同，该类执行器在等待响应期间不会占用任何调用线程，
+ *     响应到达后由底层客户端的回调线程完成{@link CompletableFuture}
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 10:12
+ */
+public interface AsyncHttpExecutor extends HttpExecutor {
+
+    /**
+     * 异步执行http请求
+     *
+     * @param request 请求实例
+     * @return 响应元数据的CompletableFuture包装
+     */
+    CompletableFuture<ResponseMetaData> doExecuteAsync(Request request);
+
+    /**
+     * 异步执行http请求得到响应
+     *
+     * @param request 请求实例
+     * @return 响应的CompletableFuture包装
+     */
+    default CompletableFuture<Response> executeAsync(Request request) {
+        if (request instanceof DefaultRequest) {
+            ((DefaultRequest) request).init();
+        }
+        SaveResponseInstanceProcessor processor = new SaveResponseInstanceProcessor();
+        // 开启了指标记录时，与同步执行一样使用可以记录交换指标的响应处理器
+        MeteredResponseProcessor meteredProcessor = MeteredResponseProcessor.wrapIfEnabled(request, processor);
+        ResponseProcessor actualProcessor = meteredProcessor == null ? processor : meteredProcessor;
+        CompletableFuture<ResponseMetaData> future;
+        try {
+            request.trySetProxyAuthenticator();
+            future = doExecuteAsync(request);
+        } catch (Throwable e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        return future.handle((metaData, ex) -> {
+            request.tryResetAuthenticator();
+            try {
+                if (ex != null) {
+                    actualProcessor.exceptionHandler(request, ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                }
+                actualProcessor.process(metaData);
+                return processor.getResult();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                if (meteredProcessor != null) {
+                    meteredProcessor.complete();
+                }
+            }
+        });
+    }
+}
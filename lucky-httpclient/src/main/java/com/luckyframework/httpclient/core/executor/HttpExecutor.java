@@ -8,6 +8,7 @@ import com.luckyframework.httpclient.core.meta.HeaderMataData;
 import com.luckyframework.httpclient.core.meta.HttpFile;
 import com.luckyframework.httpclient.core.meta.Request;
 import com.luckyframework.httpclient.core.meta.Response;
+import com.luckyframework.httpclient.core.metrics.MeteredResponseProcessor;
 import com.luckyframework.httpclient.core.processor.AbstractSaveResultResponseProcessor;
 import com.luckyframework.httpclient.core.processor.ResponseProcessor;
 import com.luckyframework.httpclient.core.processor.SaveHeaderMataDataProcessor;
@@ -78,13 +79,19 @@ public interface HttpExecutor {
         if (request instanceof DefaultRequest) {
             ((DefaultRequest) request).init();
         }
+        // 开启了指标记录时，使用可以记录交换指标的响应处理器
+        MeteredResponseProcessor meteredProcessor = MeteredResponseProcessor.wrapIfEnabled(request, processor);
+        ResponseProcessor actualProcessor = meteredProcessor == null ? processor : meteredProcessor;
         try {
             request.trySetProxyAuthenticator();
-            doExecute(request, processor);
+            doExecute(request, actualProcessor);
         } catch (Throwable e) {
-            processor.exceptionHandler(request, e);
+            actualProcessor.exceptionHandler(request, e);
         } finally {
             request.tryResetAuthenticator();
+            if (meteredProcessor != null) {
+                meteredProcessor.complete();
+            }
         }
     }
 
@@ -0,0 +1,803 @@
+package com.luckyframework.httpclient.core.executor;
+
+import com.luckyframework.cache.Cache;
+import com.luckyframework.cache.impl.ConcurrentLRUCache;
+import com.luckyframework.common.ContainerUtils;
+import com.luckyframework.common.NanoIdUtils;
+import com.luckyframework.httpclient.core.exception.HttpExecutorException;
+import com.luckyframework.httpclient.core.meta.BodyObject;
+import com.luckyframework.httpclient.core.meta.DefaultHttpHeaderManager;
+import com.luckyframework.httpclient.core.meta.DefaultRequestParameter;
+import com.luckyframework.httpclient.core.meta.Header;
+import com.luckyframework.httpclient.core.meta.HttpFile;
+import com.luckyframework.httpclient.core.meta.HttpHeaderManager;
+import com.luckyframework.httpclient.core.meta.HttpHeaders;
+import com.luckyframework.httpclient.core.meta.Request;
+import com.luckyframework.httpclient.core.meta.RequestParameter;
+import com.luckyframework.httpclient.core.meta.ResponseInputStream;
+import com.luckyframework.httpclient.core.meta.ResponseMetaData;
+import com.luckyframework.httpclient.core.meta.Version;
+import com.luckyframework.httpclient.core.processor.ResponseProcessor;
+import com.luckyframework.httpclient.core.proxy.ProxyInfo;
+import com.luckyframework.httpclient.core.ssl.SSLSocketFactoryWrap;
+import com.luckyframework.web.ContentTypeUtils;
+import org.springframework.lang.Nullable;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static com.luckyframework.httpclient.core.executor.Constant.DEFAULT_CONNECTION_TIMEOUT;
+import static com.luckyframework.httpclient.core.executor.Constant.DEFAULT_READ_TIMEOUT;
+import static com.luckyframework.httpclient.core.ssl.SSLUtils.TRUST_ALL_TRUST_MANAGERS;
+
+/**
+ * 基于JDK11+内置的{@code java.net.http.HttpClient}实现的Http执行器
+ * <pre>
+ *     1.同一源站的并发请求会复用同一个HttpClient，在HTTP/2下多路复用同一条连接
+ *     2.实现了{@link AsyncHttpExecutor}，异步执行时不会阻塞任何调用线程
+ *     3.项目基线为Java 8，因此对java.net.http的所有访问均通过{@link MethodHandle}完成，
+ *       在低于JDK11的环境中创建该执行器会抛出{@link HttpExecutorException}
+ *     4.java.net.http不支持自定义{@link javax.net.ssl.HostnameVerifier}，请求中的该配置会被忽略
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 10:12
+ */
+public class JavaHttpClientExecutor implements AsyncHttpExecutor {
+
+    /**
+     * 缓存的HttpClient实例的最大数量，超过该数量后会淘汰最近最少使用的客户端，被淘汰的客户端在不再被引用后由GC回收
+     */
+    private static final int MAX_CACHED_CLIENTS = 64;
+
+    /**
+     * java.net.http不允许用户设置的请求头
+     */
+    private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(Arrays.asList(
+            "connection", "content-length", "date", "expect", "from", "host", "upgrade", "via", "warning"
+    ));
+
+    private final String end = "\r\n";
+    private final String twoHyphens = "--";
+    private final String boundary = NanoIdUtils.randomNanoId();
+
+    /**
+     * 按照【代理 + SSL + 连接超时】缓存的HttpClient
+     */
+    private final Cache<ClientKey, Object> clientCache = new ConcurrentLRUCache<>(MAX_CACHED_CLIENTS);
+    private final int commonConnectTimeout;
+    private final int commonReadTimeout;
+    private final Version defaultVersion;
+    private final Executor executor;
+
+    public JavaHttpClientExecutor(int connectTimeout, int readTimeout, Version defaultVersion, @Nullable Executor executor) {
+        if (!isAvailable()) {
+            throw new HttpExecutorException("JavaHttpClientExecutor requires JDK 11 or higher, current java version is '{}'", System.getProperty("java.version"));
+        }
+        this.commonConnectTimeout = connectTimeout;
+        this.commonReadTimeout = readTimeout;
+        this.defaultVersion = defaultVersion;
+        this.executor = executor;
+    }
+
+    public JavaHttpClientExecutor(int connectTimeout, int readTimeout, Version defaultVersion) {
+        this(connectTimeout, readTimeout, defaultVersion, null);
+    }
+
+    public JavaHttpClientExecutor(Version defaultVersion) {
+        this(DEFAULT_CONNECTION_TIMEOUT, DEFAULT_READ_TIMEOUT, defaultVersion);
+    }
+
+    public JavaHttpClientExecutor() {
+        this(Version.NON);
+    }
+
+    /**
+     * 当前运行环境是否支持java.net.http
+     *
+     * @return 是否支持java.net.http
+     */
+    public static boolean isAvailable() {
+        return Api.AVAILABLE;
+    }
+
+    @Override
+    public void doExecute(Request request, ResponseProcessor processor) throws Exception {
+        Object response = Api.send(getHttpClient(request), toJavaRequest(request), Api.INPUT_STREAM_HANDLER);
+        InputStream body = (InputStream) Api.body(response);
+        processor.process(new ResponseMetaData(
+                request,
+                Api.statusCode(response),
+                toHeaderManager(response),
+                () -> new ResponseInputStream(body)
+        ));
+    }
+
+    /**
+     * 异步执行请求，响应体会在回调线程中被完整读入内存，保证后续的结果转换不会阻塞在网络IO上
+     *
+     * @param request 请求实例
+     * @return 响应元数据的CompletableFuture包装
+     */
+    @Override
+    public CompletableFuture<ResponseMetaData> doExecuteAsync(Request request) {
+        try {
+            CompletableFuture<?> future = Api.sendAsync(getHttpClient(request), toJavaRequest(request), Api.BYTE_ARRAY_HANDLER);
+            return future.thenApply(response -> {
+                byte[] body = (byte[]) Api.body(response);
+                return new ResponseMetaData(
+                        request,
+                        Api.statusCode(response),
+                        toHeaderManager(response),
+                        () -> new ByteArrayInputStream(body == null ? new byte[0] : body)
+                );
+            });
+        } catch (Exception e) {
+            CompletableFuture<ResponseMetaData> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    @Override
+    public String getHttpVersionString(Request request) {
+        Version version = getUseVersion(request);
+        return version == Version.HTTP_1_0 || version == Version.HTTP_1_1 ? Version.HTTP_1_1.getVersionStr() : Version.HTTP_2.getVersionStr();
+    }
+
+    //----------------------------------------------------------------
+    //                        Client
+    //----------------------------------------------------------------
+
+    /**
+     * 获取当前请求对应的HttpClient，相同配置的请求会共享同一个客户端以便复用连接
+     *
+     * @param request 请求实例
+     * @return java.net.http.HttpClient实例
+     */
+    private Object getHttpClient(Request request) throws Exception {
+        Integer connectTimeout = request.getConnectTimeout();
+        ProxyInfo proxyInfo = request.getProxyInfo();
+        ClientKey key = new ClientKey(
+                proxyInfo == null ? null : proxyInfo.getProxy(),
+                request.getSSLSocketFactory(),
+                connectTimeout != null && connectTimeout > 0 ? connectTimeout : commonConnectTimeout
+        );
+        Object client = clientCache.get(key);
+        if (client != null) {
+            return client;
+        }
+        client = createHttpClient(key);
+        Object existing = clientCache.putIfAbsent(key, client);
+        return existing != null ? existing : client;
+    }
+
+    /**
+     * 创建HttpClient
+     *
+     * @param key 客户端配置
+     * @return java.net.http.HttpClient实例
+     */
+    private Object createHttpClient(ClientKey key) throws Exception {
+        Object builder = Api.newClientBuilder();
+        builder = Api.clientConnectTimeout(builder, Duration.ofMillis(key.connectTimeout));
+        builder = Api.clientVersion(builder, Api.VERSION_HTTP_2);
+        builder = Api.clientFollowRedirects(builder, Api.REDIRECT_NEVER);
+        if (key.proxy != null && key.proxy.type() != Proxy.Type.DIRECT) {
+            builder = Api.clientProxy(builder, new FixedProxySelector(key.proxy));
+        }
+        if (key.sslSocketFactory != null) {
+            builder = Api.clientSslContext(builder, toSSLContext(key.sslSocketFactory));
+        }
+        if (executor != null) {
+            builder = Api.clientExecutor(builder, executor);
+        }
+        return Api.buildClient(builder);
+    }
+
+    /**
+     * java.net.http只接受{@link SSLContext}，这里使用{@link SSLSocketFactoryWrap}中保存的密钥管理器重新构建，
+     * 无法获取时与OkHttp执行器保持一致，使用信任所有证书的管理器
+     *
+     * @param socketFactory SSLSocketFactory
+     * @return SSLContext
+     */
+    private SSLContext toSSLContext(SSLSocketFactory socketFactory) throws Exception {
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        if (socketFactory instanceof SSLSocketFactoryWrap) {
+            SSLSocketFactoryWrap wrap = (SSLSocketFactoryWrap) socketFactory;
+            sslContext.init(wrap.getKeyManagers(), wrap.getTrustManagers(), null);
+        } else {
+            sslContext.init(null, TRUST_ALL_TRUST_MANAGERS, null);
+        }
+        return sslContext;
+    }
+
+    //----------------------------------------------------------------
+    //                        Request
+    //----------------------------------------------------------------
+
+    /**
+     * 将Lucky规范中的Request转化为java.net.http.HttpRequest
+     *
+     * @param request 请求信息
+     * @return java.net.http.HttpRequest
+     */
+    private Object toJavaRequest(Request request) throws Exception {
+        Object builder = Api.newRequestBuilder(URI.create(request.getURI().toASCIIString()));
+
+        Integer readTimeout = request.getReadTimeout();
+        int timeout = readTimeout != null && readTimeout > 0 ? readTimeout : commonReadTimeout;
+        if (timeout > 0) {
+            builder = Api.requestTimeout(builder, Duration.ofMillis(timeout));
+        }
+
+        Version version = getUseVersion(request);
+        if (version == Version.HTTP_1_0 || version == Version.HTTP_1_1) {
+            builder = Api.requestVersion(builder, Api.VERSION_HTTP_1_1);
+        } else if (version == Version.HTTP_2) {
+            builder = Api.requestVersion(builder, Api.VERSION_HTTP_2);
+        }
+
+        builder = headerSetting(request, builder);
+        builder = bodySetting(request, builder);
+        return Api.buildRequest(builder);
+    }
+
+    /**
+     * 设置请求头
+     *
+     * @param request 请求信息
+     * @param builder HttpRequest构建器
+     * @return HttpRequest构建器
+     */
+    private Object headerSetting(Request request, Object builder) {
+        for (Map.Entry<String, List<Header>> entry : request.getHeaderMap().entrySet()) {
+            String headerName = entry.getKey();
+            List<Header> headerList = entry.getValue();
+            if (ContainerUtils.isEmptyCollection(headerList) || RESTRICTED_HEADERS.contains(headerName.toLowerCase())) {
+                continue;
+            }
+            for (Header header : headerList) {
+                Object headerValue = header.getValue();
+                if (headerValue != null) {
+                    switch (header.getHeaderType()) {
+                        case ADD:
+                            builder = Api.requestHeader(builder, headerName, headerValue.toString());
+                            break;
+                        case SET:
+                            builder = Api.requestSetHeader(builder, headerName, headerValue.toString());
+                            break;
+                    }
+                }
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * 设置请求方法和请求体
+     * <pre>
+     *     1. 如果Lucky请求中存在{@link BodyObject}对象，则优先使用该对象作为请求体，已在内存中的body会携带Content-Length发送
+     *     2. 如果Lucky请求中存在multipart/form-data的表单参数，则使用该表单作为请求体
+     *     3. 如果Lucky请求中存在application/x-www-form-urlencoded的表单参数，则使用该表单作为请求体
+     * </pre>
+     *
+     * @param request 请求信息
+     * @param builder HttpRequest构建器
+     * @return HttpRequest构建器
+     */
+    private Object bodySetting(Request request, Object builder) throws IOException {
+        String method = request.getRequestMethod().toString();
+        RequestParameter requestParameter = request.getRequestParameter();
+
+        //如果设置了Body参数，则优先使用Body参数
+        BodyObject body = requestParameter.getBody();
+        if (body != null) {
+            builder = Api.requestSetHeader(builder, HttpHeaders.CONTENT_TYPE, body.getContentType().toString());
+            // 内存中的body使用字节数组发送以携带Content-Length，只有尚未读取的流式body才使用分块传输
+            Object publisher = body.getKnownLength() >= 0
+                    ? Api.ofByteArray(body.getBody())
+                    : Api.ofInputStream(body::getBodyStream);
+            return Api.requestMethod(builder, method, publisher);
+        }
+
+        // multipart/form-data表单参数优先级其次
+        Map<String, Object> multipartFromParameters = requestParameter.getMultipartFormParameters();
+        if (ContainerUtils.isNotEmptyMap(multipartFromParameters)) {
+            builder = Api.requestSetHeader(builder, HttpHeaders.CONTENT_TYPE, "multipart/form-data;charset=utf-8;boundary=" + boundary);
+            return Api.requestMethod(builder, method, Api.ofInputStream(() -> getMultipartFormStream(multipartFromParameters)));
+        }
+
+        // application/x-www-form-urlencoded表单优先级最低
+        Map<String, Object> fromParameters = requestParameter.getFormParameters();
+        if (ContainerUtils.isNotEmptyMap(fromParameters)) {
+            builder = Api.requestSetHeader(builder, HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded;charset=utf-8;");
+            byte[] formBytes = ((DefaultRequestParameter) requestParameter).getUrlencodedParameterString().getBytes(StandardCharsets.UTF_8);
+            return Api.requestMethod(builder, method, Api.ofByteArray(formBytes));
+        }
+
+        return Api.requestMethod(builder, method, Api.NO_BODY);
+    }
+
+    /**
+     * 将multipart/form-data表单参数拼接为一个按需读取的输入流，文件内容不会被提前读入内存
+     *
+     * @param multipartFromDataMap 表单参数
+     * @return 表单输入流
+     */
+    private InputStream getMultipartFormStream(Map<String, Object> multipartFromDataMap) {
+        List<InputStream> parts = new ArrayList<>();
+        for (Map.Entry<String, Object> paramEntry : multipartFromDataMap.entrySet()) {
+            String paramName = paramEntry.getKey();
+            Object paramValue = paramEntry.getValue();
+
+            // 资源类型参数
+            if (HttpExecutor.isResourceParam(paramValue)) {
+                for (HttpFile httpFile : HttpExecutor.toHttpFiles(paramValue)) {
+                    String fileName = httpFile.getFileName();
+                    parts.add(toStream(twoHyphens + boundary + end
+                            + "Content-Disposition: form-data; name=\"" + paramName + "\"; filename=\"" + fileName + "\"" + end
+                            + "Content-Type: " + ContentTypeUtils.getMimeTypeOrDefault(fileName, "text/plain") + end + end));
+                    parts.add(new LazyInputStream(httpFile));
+                    parts.add(toStream(end));
+                }
+            }
+            //其他类型将会被当做String类型的参数
+            else {
+                parts.add(toStream(twoHyphens + boundary + end
+                        + "Content-Disposition: form-data; name=\"" + paramName + "\"" + end + end
+                        + paramValue + end));
+            }
+        }
+        parts.add(toStream(twoHyphens + boundary + twoHyphens + end));
+        return new SequenceInputStream(Collections.enumeration(parts));
+    }
+
+    private InputStream toStream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    //----------------------------------------------------------------
+    //                        Response
+    //----------------------------------------------------------------
+
+    /**
+     * 将java.net.http的响应头转化为lucky-httpclient的响应头
+     *
+     * @param response java.net.http.HttpResponse
+     * @return 响应头管理器
+     */
+    @SuppressWarnings("unchecked")
+    private HttpHeaderManager toHeaderManager(Object response) {
+        HttpHeaderManager httpHeaderManager = new DefaultHttpHeaderManager();
+        Map<String, List<String>> headers = (Map<String, List<String>>) Api.headerMap(response);
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            String name = entry.getKey();
+            // 忽略HTTP/2的伪头
+            if (name.startsWith(":")) {
+                continue;
+            }
+            for (String value : entry.getValue()) {
+                httpHeaderManager.putHeader(name, value);
+            }
+        }
+        return httpHeaderManager;
+    }
+
+    private Version getUseVersion(Request request) {
+        Version version = request.getHttpVersion();
+        return version == null || version == Version.NON ? defaultVersion : version;
+    }
+
+    //----------------------------------------------------------------
+    //                        Inner Class
+    //----------------------------------------------------------------
+
+    /**
+     * HttpClient缓存的Key
+     */
+    private static class ClientKey {
+        private final Proxy proxy;
+        private final SSLSocketFactory sslSocketFactory;
+        private final int connectTimeout;
+
+        ClientKey(Proxy proxy, SSLSocketFactory sslSocketFactory, int connectTimeout) {
+            this.proxy = proxy;
+            this.sslSocketFactory = sslSocketFactory;
+            this.connectTimeout = connectTimeout;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ClientKey clientKey = (ClientKey) o;
+            return connectTimeout == clientKey.connectTimeout
+                    && Objects.equals(proxy, clientKey.proxy)
+                    && Objects.equals(sslSocketFactory, clientKey.sslSocketFactory);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(proxy, sslSocketFactory, connectTimeout);
+        }
+    }
+
+    /**
+     * 固定返回某个代理的代理选择器
+     */
+    private static class FixedProxySelector extends ProxySelector {
+        private final List<Proxy> proxies;
+
+        FixedProxySelector(Proxy proxy) {
+            this.proxies = Collections.singletonList(proxy);
+        }
+
+        @Override
+        public List<Proxy> select(URI uri) {
+            return proxies;
+        }
+
+        @Override
+        public void connectFailed(URI uri, SocketAddress sa, IOException ioe) {
+
+        }
+    }
+
+    /**
+     * 第一次读取时才打开文件流的输入流，避免multipart请求在发送前就打开所有文件
+     */
+    private static class LazyInputStream extends InputStream {
+        private final HttpFile httpFile;
+        private InputStream in;
+
+        LazyInputStream(HttpFile httpFile) {
+            this.httpFile = httpFile;
+        }
+
+        private InputStream in() throws IOException {
+            if (in == null) {
+                in = httpFile.getInputStream();
+            }
+            return in;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return in().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return in().read(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (in != null) {
+                in.close();
+            }
+        }
+    }
+
+    /**
+     * java.net.http的反射调用入口，所有的{@link MethodHandle}都被适配为通用的Object签名以便使用invokeExact调用
+     */
+    private static final class Api {
+
+        private static final boolean AVAILABLE;
+
+        private static Object VERSION_HTTP_1_1;
+        private static Object VERSION_HTTP_2;
+        private static Object REDIRECT_NEVER;
+        private static Object NO_BODY;
+        private static Object INPUT_STREAM_HANDLER;
+        private static Object BYTE_ARRAY_HANDLER;
+
+        private static MethodHandle CLIENT_NEW_BUILDER;
+        private static MethodHandle CLIENT_CONNECT_TIMEOUT;
+        private static MethodHandle CLIENT_VERSION;
+        private static MethodHandle CLIENT_FOLLOW_REDIRECTS;
+        private static MethodHandle CLIENT_PROXY;
+        private static MethodHandle CLIENT_SSL_CONTEXT;
+        private static MethodHandle CLIENT_EXECUTOR;
+        private static MethodHandle CLIENT_BUILD;
+        private static MethodHandle CLIENT_SEND;
+        private static MethodHandle CLIENT_SEND_ASYNC;
+
+        private static MethodHandle REQUEST_NEW_BUILDER;
+        private static MethodHandle REQUEST_HEADER;
+        private static MethodHandle REQUEST_SET_HEADER;
+        private static MethodHandle REQUEST_TIMEOUT;
+        private static MethodHandle REQUEST_VERSION;
+        private static MethodHandle REQUEST_METHOD;
+        private static MethodHandle REQUEST_BUILD;
+        private static MethodHandle PUBLISHER_OF_INPUT_STREAM;
+        private static MethodHandle PUBLISHER_OF_BYTE_ARRAY;
+
+        private static MethodHandle RESPONSE_STATUS_CODE;
+        private static MethodHandle RESPONSE_HEADERS;
+        private static MethodHandle RESPONSE_BODY;
+        private static MethodHandle HEADERS_MAP;
+
+        static {
+            boolean available;
+            try {
+                init();
+                available = true;
+            } catch (Throwable e) {
+                available = false;
+            }
+            AVAILABLE = available;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static void init() throws Throwable {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> clientClass = Class.forName("java.net.http.HttpClient");
+            Class<?> clientBuilderClass = Class.forName("java.net.http.HttpClient$Builder");
+            Class<?> versionClass = Class.forName("java.net.http.HttpClient$Version");
+            Class<?> redirectClass = Class.forName("java.net.http.HttpClient$Redirect");
+            Class<?> requestClass = Class.forName("java.net.http.HttpRequest");
+            Class<?> requestBuilderClass = Class.forName("java.net.http.HttpRequest$Builder");
+            Class<?> publisherClass = Class.forName("java.net.http.HttpRequest$BodyPublisher");
+            Class<?> publishersClass = Class.forName("java.net.http.HttpRequest$BodyPublishers");
+            Class<?> responseClass = Class.forName("java.net.http.HttpResponse");
+            Class<?> handlerClass = Class.forName("java.net.http.HttpResponse$BodyHandler");
+            Class<?> handlersClass = Class.forName("java.net.http.HttpResponse$BodyHandlers");
+            Class<?> headersClass = Class.forName("java.net.http.HttpHeaders");
+
+            VERSION_HTTP_1_1 = Enum.valueOf((Class) versionClass, "HTTP_1_1");
+            VERSION_HTTP_2 = Enum.valueOf((Class) versionClass, "HTTP_2");
+            REDIRECT_NEVER = Enum.valueOf((Class) redirectClass, "NEVER");
+
+            CLIENT_NEW_BUILDER = generic(lookup.findStatic(clientClass, "newBuilder", MethodType.methodType(clientBuilderClass)));
+            CLIENT_CONNECT_TIMEOUT = generic(lookup.findVirtual(clientBuilderClass, "connectTimeout", MethodType.methodType(clientBuilderClass, Duration.class)));
+            CLIENT_VERSION = generic(lookup.findVirtual(clientBuilderClass, "version", MethodType.methodType(clientBuilderClass, versionClass)));
+            CLIENT_FOLLOW_REDIRECTS = generic(lookup.findVirtual(clientBuilderClass, "followRedirects", MethodType.methodType(clientBuilderClass, redirectClass)));
+            CLIENT_PROXY = generic(lookup.findVirtual(clientBuilderClass, "proxy", MethodType.methodType(clientBuilderClass, ProxySelector.class)));
+            CLIENT_SSL_CONTEXT = generic(lookup.findVirtual(clientBuilderClass, "sslContext", MethodType.methodType(clientBuilderClass, SSLContext.class)));
+            CLIENT_EXECUTOR = generic(lookup.findVirtual(clientBuilderClass, "executor", MethodType.methodType(clientBuilderClass, Executor.class)));
+            CLIENT_BUILD = generic(lookup.findVirtual(clientBuilderClass, "build", MethodType.methodType(clientClass)));
+            CLIENT_SEND = generic(lookup.findVirtual(clientClass, "send", MethodType.methodType(responseClass, requestClass, handlerClass)));
+            CLIENT_SEND_ASYNC = generic(lookup.findVirtual(clientClass, "sendAsync", MethodType.methodType(CompletableFuture.class, requestClass, handlerClass)));
+
+            REQUEST_NEW_BUILDER = generic(lookup.findStatic(requestClass, "newBuilder", MethodType.methodType(requestBuilderClass, URI.class)));
+            REQUEST_HEADER = generic(lookup.findVirtual(requestBuilderClass, "header", MethodType.methodType(requestBuilderClass, String.class, String.class)));
+            REQUEST_SET_HEADER = generic(lookup.findVirtual(requestBuilderClass, "setHeader", MethodType.methodType(requestBuilderClass, String.class, String.class)));
+            REQUEST_TIMEOUT = generic(lookup.findVirtual(requestBuilderClass, "timeout", MethodType.methodType(requestBuilderClass, Duration.class)));
+            REQUEST_VERSION = generic(lookup.findVirtual(requestBuilderClass, "version", MethodType.methodType(requestBuilderClass, versionClass)));
+            REQUEST_METHOD = generic(lookup.findVirtual(requestBuilderClass, "method", MethodType.methodType(requestBuilderClass, String.class, publisherClass)));
+            REQUEST_BUILD = generic(lookup.findVirtual(requestBuilderClass, "build", MethodType.methodType(requestClass)));
+            PUBLISHER_OF_INPUT_STREAM = generic(lookup.findStatic(publishersClass, "ofInputStream", MethodType.methodType(publisherClass, Supplier.class)));
+            PUBLISHER_OF_BYTE_ARRAY = generic(lookup.findStatic(publishersClass, "ofByteArray", MethodType.methodType(publisherClass, byte[].class)));
+            NO_BODY = lookup.findStatic(publishersClass, "noBody", MethodType.methodType(publisherClass)).invoke();
+
+            INPUT_STREAM_HANDLER = lookup.findStatic(handlersClass, "ofInputStream", MethodType.methodType(handlerClass)).invoke();
+            BYTE_ARRAY_HANDLER = lookup.findStatic(handlersClass, "ofByteArray", MethodType.methodType(handlerClass)).invoke();
+            RESPONSE_STATUS_CODE = lookup.findVirtual(responseClass, "statusCode", MethodType.methodType(int.class)).asType(MethodType.methodType(int.class, Object.class));
+            RESPONSE_HEADERS = generic(lookup.findVirtual(responseClass, "headers", MethodType.methodType(headersClass)));
+            RESPONSE_BODY = generic(lookup.findVirtual(responseClass, "body", MethodType.methodType(Object.class)));
+            HEADERS_MAP = generic(lookup.findVirtual(headersClass, "map", MethodType.methodType(Map.class)));
+        }
+
+        private static MethodHandle generic(MethodHandle handle) {
+            return handle.asType(handle.type().generic());
+        }
+
+        private static RuntimeException rethrow(Throwable e) {
+            if (e instanceof RuntimeException) {
+                return (RuntimeException) e;
+            }
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            return new HttpExecutorException(e);
+        }
+
+        static Object newClientBuilder() {
+            try {
+                return (Object) CLIENT_NEW_BUILDER.invokeExact();
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object clientConnectTimeout(Object builder, Duration duration) {
+            try {
+                return (Object) CLIENT_CONNECT_TIMEOUT.invokeExact(builder, (Object) duration);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object clientVersion(Object builder, Object version) {
+            try {
+                return (Object) CLIENT_VERSION.invokeExact(builder, version);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object clientFollowRedirects(Object builder, Object redirect) {
+            try {
+                return (Object) CLIENT_FOLLOW_REDIRECTS.invokeExact(builder, redirect);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object clientProxy(Object builder, ProxySelector proxySelector) {
+            try {
+                return (Object) CLIENT_PROXY.invokeExact(builder, (Object) proxySelector);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object clientSslContext(Object builder, SSLContext sslContext) {
+            try {
+                return (Object) CLIENT_SSL_CONTEXT.invokeExact(builder, (Object) sslContext);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object clientExecutor(Object builder, Executor executor) {
+            try {
+                return (Object) CLIENT_EXECUTOR.invokeExact(builder, (Object) executor);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object buildClient(Object builder) {
+            try {
+                return (Object) CLIENT_BUILD.invokeExact(builder);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object send(Object client, Object request, Object handler) throws Exception {
+            try {
+                return (Object) CLIENT_SEND.invokeExact(client, request, handler);
+            } catch (Exception e) {
+                throw e;
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static CompletableFuture<?> sendAsync(Object client, Object request, Object handler) {
+            try {
+                return (CompletableFuture<?>) (Object) CLIENT_SEND_ASYNC.invokeExact(client, request, handler);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object newRequestBuilder(URI uri) {
+            try {
+                return (Object) REQUEST_NEW_BUILDER.invokeExact((Object) uri);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object requestHeader(Object builder, String name, String value) {
+            try {
+                return (Object) REQUEST_HEADER.invokeExact(builder, (Object) name, (Object) value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object requestSetHeader(Object builder, String name, String value) {
+            try {
+                return (Object) REQUEST_SET_HEADER.invokeExact(builder, (Object) name, (Object) value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object requestTimeout(Object builder, Duration duration) {
+            try {
+                return (Object) REQUEST_TIMEOUT.invokeExact(builder, (Object) duration);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object requestVersion(Object builder, Object version) {
+            try {
+                return (Object) REQUEST_VERSION.invokeExact(builder, version);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object requestMethod(Object builder, String method, Object publisher) {
+            try {
+                return (Object) REQUEST_METHOD.invokeExact(builder, (Object) method, publisher);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object buildRequest(Object builder) {
+            try {
+                return (Object) REQUEST_BUILD.invokeExact(builder);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object ofInputStream(Supplier<? extends InputStream> supplier) {
+            try {
+                return (Object) PUBLISHER_OF_INPUT_STREAM.invokeExact((Object) supplier);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object ofByteArray(byte[] bytes) {
+            try {
+                return (Object) PUBLISHER_OF_BYTE_ARRAY.invokeExact((Object) bytes);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static int statusCode(Object response) {
+            try {
+                return (int) RESPONSE_STATUS_CODE.invokeExact(response);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object headerMap(Object response) {
+            try {
+                Object headers = (Object) RESPONSE_HEADERS.invokeExact(response);
+                return (Object) HEADERS_MAP.invokeExact(headers);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        static Object body(Object response) {
+            try {
+                return (Object) RESPONSE_BODY.invokeExact(response);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+}
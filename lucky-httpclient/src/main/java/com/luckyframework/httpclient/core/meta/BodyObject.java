@@ -649,6 +649,15 @@ public class BodyObject {
         return new ByteArrayInputStream(bodyBytes);
     }
 
+    /**
+     * 获取已知的body字节数，body以流的形式存在并且尚未被读取时无法预知大小，此时返回-1
+     *
+     * @return 已知的body字节数
+     */
+    public synchronized long getKnownLength() {
+        return bodyBytes == null ? -1 : bodyBytes.length;
+    }
+
     /**
      * 获取String形式的body内容
      *
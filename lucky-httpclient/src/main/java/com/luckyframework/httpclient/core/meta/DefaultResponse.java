@@ -4,6 +4,8 @@ import com.luckyframework.serializable.SerializationException;
 import org.springframework.util.FileCopyUtils;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -16,16 +18,64 @@ import java.io.InputStream;
  */
 public class DefaultResponse implements Response {
 
+    /**
+     * 流式反序列化时默认最多保留的响应体字节数
+     */
+    public static final int DEFAULT_STREAMING_RETAIN_LIMIT = 64 * 1024;
+
     private final ResponseMetaData responseMetaData;
     private byte[] result;
 
+    /**
+     * 流式反序列化时最多保留的响应体字节数，响应体不超过该大小时流式反序列化之后依然可以通过{@link #getResult()}读取
+     */
+    private int streamingRetainLimit = DEFAULT_STREAMING_RETAIN_LIMIT;
+
+    /**
+     * 响应体是否正在被流式反序列化读取
+     */
+    private boolean streaming;
+
+    /**
+     * 响应体已经被流式反序列化消费并且没有被保留，响应体已经无法再次读取
+     */
+    private boolean streamDiscarded;
+
+    /**
+     * 流式读取过程中读取响应体失败，响应体已经无法完整读取
+     */
+    private boolean streamBroken;
+
     public DefaultResponse(ResponseMetaData metaData) {
         this.responseMetaData = metaData;
     }
 
+    /**
+     * 设置流式反序列化时最多保留的响应体字节数，小于等于0时不保留响应体。
+     * 需要在反序列化之后读取完整响应体的场景，也可以在反序列化之前调用{@link #getResult()}将响应体读取到内存中
+     *
+     * @param streamingRetainLimit 最多保留的响应体字节数
+     */
+    public synchronized void setStreamingRetainLimit(int streamingRetainLimit) {
+        this.streamingRetainLimit = streamingRetainLimit;
+    }
+
+    public synchronized int getStreamingRetainLimit() {
+        return streamingRetainLimit;
+    }
+
     @Override
     public synchronized byte[] getResult() {
         if (result == null) {
+            if (streamBroken) {
+                throw new SerializationException("Failed to read the response body during streaming deserialization, the response body cannot be read again.");
+            }
+            if (streamDiscarded) {
+                throw new SerializationException("The response body is larger than the {} bytes retained by streaming deserialization and is no longer available. Call getResult() before deserializing if the raw body is needed, or raise the limit with setStreamingRetainLimit(int).", streamingRetainLimit);
+            }
+            if (streaming) {
+                throw new SerializationException("The response body is being read by streaming deserialization and cannot be read at the same time.");
+            }
             try {
                 result = FileCopyUtils.copyToByteArray(responseMetaData.getInputStream());
             } catch (IOException e) {
@@ -43,6 +93,37 @@ public class DefaultResponse implements Response {
         return new ByteArrayInputStream(result);
     }
 
+    @Override
+    public synchronized InputStream takeStreamingInputStream() {
+        if (result != null || streaming || streamDiscarded || streamBroken) {
+            return null;
+        }
+        streaming = true;
+        return new RetainingInputStream(responseMetaData.getInputStream(), streamingRetainLimit);
+    }
+
+    @Override
+    public synchronized boolean isStreamConsumed() {
+        return streaming || streamDiscarded;
+    }
+
+    /**
+     * 流式读取结束
+     *
+     * @param body   保留下来的完整响应体，响应体超出保留上限时为null
+     * @param broken 读取响应体时是否出现了异常
+     */
+    private synchronized void finishStreaming(byte[] body, boolean broken) {
+        if (broken) {
+            streamBroken = true;
+        } else if (body == null) {
+            streamDiscarded = true;
+        } else {
+            result = body;
+        }
+        streaming = false;
+    }
+
     @Override
     public ResponseMetaData getResponseMetaData() {
         return this.responseMetaData;
@@ -58,4 +139,95 @@ public class DefaultResponse implements Response {
             // ignore
         }
     }
+
+    /**
+     * 在流式读取的同时保留不超过上限的响应体，关闭时在上限之内读取剩余的字节，
+     * 响应体没有超出上限时将完整的响应体交给{@link DefaultResponse}，超出上限时立即丢弃已经保留的字节，
+     * 因此大响应体在流式反序列化时不会产生完整的byte[]副本
+     */
+    private class RetainingInputStream extends FilterInputStream {
+
+        private final int limit;
+        private ByteArrayOutputStream buffer;
+        private boolean closed;
+
+        RetainingInputStream(InputStream in, int limit) {
+            super(in);
+            this.limit = limit;
+            this.buffer = limit > 0 ? new ByteArrayOutputStream(Math.min(limit, 8192)) : null;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1 && retain(1)) {
+                buffer.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0 && retain(n)) {
+                buffer.write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            byte[] skipBuffer = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = read(skipBuffer, 0, (int) Math.min(n - skipped, skipBuffer.length));
+                if (read < 0) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                // 只在保留上限之内读取剩余的字节，超出上限之后不再继续读取
+                byte[] rest = new byte[8192];
+                while (buffer != null && read(rest, 0, rest.length) != -1) {
+                    // 读取剩余的响应体
+                }
+                finishStreaming(buffer == null ? null : buffer.toByteArray(), false);
+            } catch (IOException e) {
+                finishStreaming(null, true);
+                throw e;
+            } finally {
+                buffer = null;
+                super.close();
+            }
+        }
+
+        /**
+         * 判断新读取的字节是否还可以保留，超出上限时丢弃已经保留的字节
+         */
+        private boolean retain(int n) {
+            if (buffer == null) {
+                return false;
+            }
+            if (buffer.size() + (long) n > limit) {
+                buffer = null;
+                return false;
+            }
+            return true;
+        }
+    }
 }
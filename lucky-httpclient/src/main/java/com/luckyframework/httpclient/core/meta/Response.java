@@ -130,6 +130,31 @@ public interface Response {
      */
     void closeResource();
 
+    /**
+     * 获取用于流式反序列化的输入流
+     * <pre>
+     *     1.响应体尚未被读取到内存中时返回响应输入流，反序列化器可以直接从中解析数据，避免生成响应体的String副本
+     *     2.响应体已经被读取到内存中或者正在被流式读取时返回null，此时需要使用{@link #getResult()}获取响应体
+     *     3.使用完毕之后必须关闭该输入流，读取时只会保留不超过上限的响应体，响应体没有超出上限时关闭之后依然可以通过{@link #getResult()}读取，
+     *       超出上限时响应体不会被保留，之后调用{@link #getResult()}会抛出异常，需要原始响应体的场景应该在反序列化之前调用{@link #getResult()}
+     * </pre>
+     *
+     * @return 用于流式反序列化的输入流，不支持时返回null
+     */
+    @Nullable
+    default InputStream takeStreamingInputStream() {
+        return null;
+    }
+
+    /**
+     * 响应体是否正在被流式反序列化读取，或者已经被流式反序列化消费并且没有被保留
+     *
+     * @return 响应体是否已经无法通过{@link #getResult()}读取
+     */
+    default boolean isStreamConsumed() {
+        return false;
+    }
+
 
     //------------------------------------------------------------------------------
     //                            default methods
@@ -505,6 +530,7 @@ public interface Response {
 
     /**
      * 将的到的响应转化为JSON字符后再将字符串转化为实体，
+     * 响应体尚未被读取时会直接从响应流中进行流式反序列化，
      * 转化失败会时抛出一个{@link SerializationException}异常
      *
      * @param type 实体的泛型
@@ -514,6 +540,12 @@ public interface Response {
     @SuppressWarnings("unchecked")
     default <T> T jsonStrToEntity(Type type) {
         try {
+            InputStream in = takeStreamingInputStream();
+            if (in != null) {
+                try (InputStream bodyStream = in) {
+                    return (T) JSON_SCHEME.deserialization(bodyStream, getContentType().getCharset(), type);
+                }
+            }
             return (T) JSON_SCHEME.deserialization(getStringResult(), type);
         } catch (Exception e) {
             throw new SerializationException(e);
@@ -590,6 +622,7 @@ public interface Response {
 
     /**
      * 将的到的响应转化为XML字符后再将字符串转化为实体，
+     * 响应体尚未被读取时会直接从响应流中进行流式反序列化，
      * 转化失败会时抛出一个{@link SerializationException}异常
      *
      * @param type 实体的泛型
@@ -599,6 +632,12 @@ public interface Response {
     @SuppressWarnings("unchecked")
     default <T> T xmlStrToEntity(Type type) {
         try {
+            InputStream in = takeStreamingInputStream();
+            if (in != null) {
+                try (InputStream bodyStream = in) {
+                    return (T) XML_SCHEME.deserialization(bodyStream, getContentType().getCharset(), type);
+                }
+            }
             return (T) XML_SCHEME.deserialization(getStringResult(), type);
         } catch (Exception e) {
             throw new SerializationException(e);
@@ -0,0 +1,160 @@
+package com.luckyframework.httpclient.core.metrics;
+
+import com.luckyframework.httpclient.core.meta.Request;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 单次HTTP交换的指标，所有耗时的单位均为纳秒
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 15:10
+ */
+public final class ExchangeMetrics {
+
+    private final Request request;
+    private final String host;
+    private final String method;
+    private final long bytesOut;
+    private final AtomicBoolean bodyReported = new AtomicBoolean();
+
+    private volatile int status = -1;
+    private volatile long responseWaitNanos = -1;
+    private volatile long totalNanos = -1;
+    private volatile long bodyReadNanos = -1;
+    private volatile long bytesIn = -1;
+    private volatile Throwable throwable;
+
+    ExchangeMetrics(Request request, String host, String method, long bytesOut) {
+        this.request = request;
+        this.host = host;
+        this.method = method;
+        this.bytesOut = bytesOut;
+    }
+
+    /**
+     * 获取请求实例
+     *
+     * @return 请求实例
+     */
+    public Request getRequest() {
+        return request;
+    }
+
+    /**
+     * 获取请求的目标主机（host:port）
+     *
+     * @return 目标主机
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * 获取请求方法
+     *
+     * @return 请求方法
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * 获取响应状态码，未得到响应时返回-1
+     *
+     * @return 响应状态码
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * 获取从开始执行到得到响应头的耗时，包含获取连接、发送请求体与等待首字节的时间，未得到响应时返回-1
+     *
+     * @return 等待响应的耗时
+     */
+    public long getResponseWaitNanos() {
+        return responseWaitNanos;
+    }
+
+    /**
+     * 获取{@link com.luckyframework.httpclient.core.executor.HttpExecutor#execute}的总耗时
+     *
+     * @return 总耗时
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * 获取读取响应体的耗时，响应体尚未被读取时返回-1
+     *
+     * @return 读取响应体的耗时
+     */
+    public long getBodyReadNanos() {
+        return bodyReadNanos;
+    }
+
+    /**
+     * 获取请求体的字节数，请求体以流的形式存在时无法预知大小，此时返回-1
+     *
+     * @return 请求体的字节数
+     */
+    public long getBytesOut() {
+        return bytesOut;
+    }
+
+    /**
+     * 获取已读取的响应体字节数，响应体尚未被读取时返回-1
+     *
+     * @return 响应体的字节数
+     */
+    public long getBytesIn() {
+        return bytesIn;
+    }
+
+    /**
+     * 获取执行过程中出现的异常，执行成功时返回null
+     *
+     * @return 执行过程中出现的异常
+     */
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    /**
+     * 是否成功得到了响应
+     *
+     * @return 是否成功得到了响应
+     */
+    public boolean isSuccess() {
+        return throwable == null && status != -1;
+    }
+
+    void responseReceived(int status, long responseWaitNanos) {
+        this.status = status;
+        this.responseWaitNanos = responseWaitNanos;
+    }
+
+    void completed(long totalNanos, Throwable throwable) {
+        this.totalNanos = totalNanos;
+        this.throwable = throwable;
+    }
+
+    /**
+     * 填充响应体相关的指标，同一次交换中响应流可能被多次获取（例如流式消费之后释放资源时），只有第一次填充有效
+     *
+     * @param bodyReadNanos 读取响应体的耗时
+     * @param bytesIn       响应体的字节数
+     * @return 本次填充是否有效
+     */
+    boolean bodyRead(long bodyReadNanos, long bytesIn) {
+        if (!bodyReported.compareAndSet(false, true)) {
+            return false;
+        }
+        this.bodyReadNanos = bodyReadNanos;
+        this.bytesIn = bytesIn;
+        return true;
+    }
+}
@@ -0,0 +1,235 @@
+package com.luckyframework.httpclient.core.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 基于{@link LatencyHistogram}的默认指标记录器，所有统计都在内存中进行
+ * <pre>
+ *     1.按方法统计：总耗时、反序列化耗时、重试次数、失败次数
+ *     2.按主机统计：交换耗时、等待响应耗时、响应体读取耗时、状态码分布、上行与下行字节数
+ * </pre>
+ * 所有耗时的单位均为纳秒
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 15:30
+ */
+public class HistogramMetricsRecorder implements HttpMetricsRecorder {
+
+    private final ConcurrentMap<String, MethodStats> methodStatsMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, HostStats> hostStatsMap = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordExchange(ExchangeMetrics metrics) {
+        HostStats stats = getOrCreateHostStats(metrics.getHost());
+        stats.latency.record(metrics.getTotalNanos());
+        if (metrics.getResponseWaitNanos() >= 0) {
+            stats.responseWait.record(metrics.getResponseWaitNanos());
+        }
+        if (metrics.getBytesOut() > 0) {
+            stats.bytesOut.add(metrics.getBytesOut());
+        }
+        stats.statusCounts.computeIfAbsent(metrics.getStatus(), k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void recordBodyRead(ExchangeMetrics metrics) {
+        HostStats stats = getOrCreateHostStats(metrics.getHost());
+        stats.bodyRead.record(metrics.getBodyReadNanos());
+        stats.bytesIn.add(metrics.getBytesIn());
+    }
+
+    @Override
+    public void recordInvocation(InvocationMetrics metrics) {
+        MethodStats stats = methodStatsMap.computeIfAbsent(metrics.getSignature(), k -> new MethodStats());
+        stats.latency.record(metrics.getTotalNanos());
+        if (metrics.getDeserializationNanos() >= 0) {
+            stats.deserialization.record(metrics.getDeserializationNanos());
+        }
+        if (metrics.getRetryCount() > 0) {
+            stats.retries.add(metrics.getRetryCount());
+        }
+        if (!metrics.isSuccess()) {
+            stats.failures.increment();
+        }
+    }
+
+    /**
+     * 获取所有方法的统计信息，key为方法签名
+     *
+     * @return 所有方法的统计信息
+     */
+    public Map<String, MethodStats> getMethodStats() {
+        return Collections.unmodifiableMap(methodStatsMap);
+    }
+
+    /**
+     * 获取某个方法的统计信息，不存在时返回null
+     *
+     * @param signature 方法签名
+     * @return 方法的统计信息
+     */
+    public MethodStats getMethodStats(String signature) {
+        return methodStatsMap.get(signature);
+    }
+
+    /**
+     * 获取所有主机的统计信息，key为host:port
+     *
+     * @return 所有主机的统计信息
+     */
+    public Map<String, HostStats> getHostStats() {
+        return Collections.unmodifiableMap(hostStatsMap);
+    }
+
+    /**
+     * 获取某个主机的统计信息，不存在时返回null
+     *
+     * @param host 主机（host:port）
+     * @return 主机的统计信息
+     */
+    public HostStats getHostStats(String host) {
+        return hostStatsMap.get(host);
+    }
+
+    /**
+     * 清空所有统计信息
+     */
+    public void reset() {
+        methodStatsMap.clear();
+        hostStatsMap.clear();
+    }
+
+    private HostStats getOrCreateHostStats(String host) {
+        return hostStatsMap.computeIfAbsent(host, k -> new HostStats());
+    }
+
+    /**
+     * 方法级别的统计信息
+     */
+    public static final class MethodStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram deserialization = new LatencyHistogram();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        /**
+         * 获取方法总耗时的直方图
+         *
+         * @return 方法总耗时的直方图
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        /**
+         * 获取反序列化耗时的直方图
+         *
+         * @return 反序列化耗时的直方图
+         */
+        public LatencyHistogram getDeserialization() {
+            return deserialization;
+        }
+
+        /**
+         * 获取累计重试次数
+         *
+         * @return 累计重试次数
+         */
+        public long getRetryCount() {
+            return retries.sum();
+        }
+
+        /**
+         * 获取累计失败次数
+         *
+         * @return 累计失败次数
+         */
+        public long getFailureCount() {
+            return failures.sum();
+        }
+
+        @Override
+        public String toString() {
+            return "latency[" + latency.snapshot() + "], deserialization[" + deserialization.snapshot() + "], retries=" + getRetryCount() + ", failures=" + getFailureCount();
+        }
+    }
+
+    /**
+     * 主机级别的统计信息
+     */
+    public static final class HostStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram responseWait = new LatencyHistogram();
+        private final LatencyHistogram bodyRead = new LatencyHistogram();
+        private final LongAdder bytesIn = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+        private final ConcurrentMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+        /**
+         * 获取HTTP交换耗时的直方图
+         *
+         * @return HTTP交换耗时的直方图
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        /**
+         * 获取等待响应耗时（获取连接、发送请求、等待首字节）的直方图
+         *
+         * @return 等待响应耗时的直方图
+         */
+        public LatencyHistogram getResponseWait() {
+            return responseWait;
+        }
+
+        /**
+         * 获取响应体读取耗时的直方图
+         *
+         * @return 响应体读取耗时的直方图
+         */
+        public LatencyHistogram getBodyRead() {
+            return bodyRead;
+        }
+
+        /**
+         * 获取累计读取的响应体字节数
+         *
+         * @return 累计读取的响应体字节数
+         */
+        public long getBytesIn() {
+            return bytesIn.sum();
+        }
+
+        /**
+         * 获取累计发送的请求体字节数
+         *
+         * @return 累计发送的请求体字节数
+         */
+        public long getBytesOut() {
+            return bytesOut.sum();
+        }
+
+        /**
+         * 获取状态码分布，未得到响应的交换使用-1表示
+         *
+         * @return 状态码分布
+         */
+        public Map<Integer, Long> getStatusCounts() {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statusCounts.forEach((status, adder) -> counts.put(status, adder.sum()));
+            return counts;
+        }
+
+        @Override
+        public String toString() {
+            return "latency[" + latency.snapshot() + "], responseWait[" + responseWait.snapshot() + "], bodyRead[" + bodyRead.snapshot() + "], status=" + getStatusCounts() + ", bytesIn=" + getBytesIn() + ", bytesOut=" + getBytesOut();
+        }
+    }
+}
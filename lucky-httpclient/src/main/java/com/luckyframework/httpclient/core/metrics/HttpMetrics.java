@@ -0,0 +1,140 @@
+package com.luckyframework.httpclient.core.metrics;
+
+import com.luckyframework.httpclient.core.meta.BodyObject;
+import com.luckyframework.httpclient.core.meta.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URL;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * 全局HTTP指标记录器的持有者
+ * <pre>
+ *     1.默认使用{@link ServiceLoader}发现的第一个{@link HttpMetricsRecorder}实现，未发现时不记录任何指标
+ *     2.可以通过{@link #setRecorder(HttpMetricsRecorder)}手动替换
+ *     3.未配置记录器时，所有埋点都只会进行一次判断，不会产生额外的开销
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 15:15
+ */
+public final class HttpMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpMetrics.class);
+
+    /**
+     * 无法解析目标主机时使用的主机名
+     */
+    public static final String UNKNOWN_HOST = "unknown";
+
+    private static volatile HttpMetricsRecorder recorder = loadRecorder();
+
+    private HttpMetrics() {
+    }
+
+    /**
+     * 获取当前的全局指标记录器
+     *
+     * @return 全局指标记录器
+     */
+    public static HttpMetricsRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * 设置全局指标记录器，传入null时表示不记录任何指标
+     *
+     * @param metricsRecorder 指标记录器
+     */
+    public static void setRecorder(HttpMetricsRecorder metricsRecorder) {
+        recorder = metricsRecorder == null ? HttpMetricsRecorder.NONE : metricsRecorder;
+    }
+
+    /**
+     * 是否开启了指标记录
+     *
+     * @return 是否开启了指标记录
+     */
+    public static boolean isEnabled() {
+        return recorder != HttpMetricsRecorder.NONE;
+    }
+
+    /**
+     * 记录一次代理方法调用的指标，记录器抛出的异常不会影响请求的执行
+     *
+     * @param metrics 代理方法调用指标
+     */
+    public static void recordInvocation(InvocationMetrics metrics) {
+        try {
+            recorder.recordInvocation(metrics);
+        } catch (Throwable e) {
+            log.warn("Failed to record invocation metrics for '{}'", metrics.getSignature(), e);
+        }
+    }
+
+    static void recordExchange(ExchangeMetrics metrics) {
+        try {
+            recorder.recordExchange(metrics);
+        } catch (Throwable e) {
+            log.warn("Failed to record exchange metrics for '{}'", metrics.getHost(), e);
+        }
+    }
+
+    static void recordBodyRead(ExchangeMetrics metrics) {
+        try {
+            recorder.recordBodyRead(metrics);
+        } catch (Throwable e) {
+            log.warn("Failed to record body read metrics for '{}'", metrics.getHost(), e);
+        }
+    }
+
+    /**
+     * 创建一个HTTP交换指标对象
+     *
+     * @param request 请求实例
+     * @return HTTP交换指标对象
+     */
+    static ExchangeMetrics newExchange(Request request) {
+        return new ExchangeMetrics(request, hostOf(request), String.valueOf(request.getRequestMethod()), bytesOutOf(request));
+    }
+
+    /**
+     * 获取请求的目标主机（host:port），无法解析时返回{@link #UNKNOWN_HOST}
+     *
+     * @param request 请求实例
+     * @return 目标主机
+     */
+    public static String hostOf(Request request) {
+        if (request == null) {
+            return UNKNOWN_HOST;
+        }
+        try {
+            URL url = request.getURL();
+            return url.getPort() == -1 ? url.getHost() : url.getHost() + ":" + url.getPort();
+        } catch (Exception e) {
+            return UNKNOWN_HOST;
+        }
+    }
+
+    private static long bytesOutOf(Request request) {
+        BodyObject body = request.getRequestParameter().getBody();
+        return body == null ? 0 : body.getKnownLength();
+    }
+
+    private static HttpMetricsRecorder loadRecorder() {
+        try {
+            Iterator<HttpMetricsRecorder> iterator = ServiceLoader.load(HttpMetricsRecorder.class).iterator();
+            if (iterator.hasNext()) {
+                HttpMetricsRecorder metricsRecorder = iterator.next();
+                log.info("Using HTTP metrics recorder: {}", metricsRecorder.getClass().getName());
+                return metricsRecorder;
+            }
+        } catch (Throwable e) {
+            log.warn("Failed to load HttpMetricsRecorder through ServiceLoader, metrics are disabled", e);
+        }
+        return HttpMetricsRecorder.NONE;
+    }
+}
@@ -0,0 +1,51 @@
+package com.luckyframework.httpclient.core.metrics;
+
+/**
+ * HTTP请求指标记录器（SPI）
+ * <pre>
+ *     1.{@link #recordExchange(ExchangeMetrics)}：在{@link com.luckyframework.httpclient.core.executor.HttpExecutor#execute}结束时调用，记录单次HTTP交换的耗时、状态码与请求体大小
+ *     2.{@link #recordBodyRead(ExchangeMetrics)}：响应体被读取完毕或被关闭时调用，记录响应体读取耗时与响应体大小
+ *     3.{@link #recordInvocation(InvocationMetrics)}：在代理方法执行结束时调用，记录方法级别的总耗时、反序列化耗时与重试次数
+ * </pre>
+ * 所有方法都会在请求线程中同步调用，实现类需要保证线程安全并尽量避免阻塞
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 15:10
+ * @see HttpMetrics
+ */
+public interface HttpMetricsRecorder {
+
+    /**
+     * 不记录任何指标的记录器
+     */
+    HttpMetricsRecorder NONE = new HttpMetricsRecorder() {
+    };
+
+    /**
+     * 记录一次HTTP交换的指标
+     *
+     * @param metrics HTTP交换指标
+     */
+    default void recordExchange(ExchangeMetrics metrics) {
+
+    }
+
+    /**
+     * 记录响应体读取相关的指标
+     *
+     * @param metrics HTTP交换指标，此时响应体读取耗时与响应体大小已被填充
+     */
+    default void recordBodyRead(ExchangeMetrics metrics) {
+
+    }
+
+    /**
+     * 记录一次代理方法调用的指标
+     *
+     * @param metrics 代理方法调用指标
+     */
+    default void recordInvocation(InvocationMetrics metrics) {
+
+    }
+}
@@ -0,0 +1,112 @@
+package com.luckyframework.httpclient.core.metrics;
+
+/**
+ * 单次代理方法调用的指标，所有耗时的单位均为纳秒
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 15:10
+ */
+public final class InvocationMetrics {
+
+    private final String signature;
+    private final String host;
+    private final int status;
+    private final long totalNanos;
+    private final long deserializationNanos;
+    private final int retryCount;
+    private final Throwable throwable;
+
+    /**
+     * 代理方法调用指标构造器
+     *
+     * @param signature            方法签名
+     * @param host                 请求的目标主机，无法获取时为null
+     * @param status               最终响应的状态码，未得到响应时为-1
+     * @param totalNanos           方法执行的总耗时
+     * @param deserializationNanos 将响应转换为方法返回值的耗时，未执行转换时为-1
+     * @param retryCount           重试次数
+     * @param throwable            执行过程中出现的异常，执行成功时为null
+     */
+    public InvocationMetrics(String signature, String host, int status, long totalNanos, long deserializationNanos, int retryCount, Throwable throwable) {
+        this.signature = signature;
+        this.host = host;
+        this.status = status;
+        this.totalNanos = totalNanos;
+        this.deserializationNanos = deserializationNanos;
+        this.retryCount = retryCount;
+        this.throwable = throwable;
+    }
+
+    /**
+     * 获取方法签名，格式为：类名#方法名(参数类型)
+     *
+     * @return 方法签名
+     */
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * 获取请求的目标主机（host:port），无法获取时返回null
+     *
+     * @return 目标主机
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * 获取最终响应的状态码，未得到响应时返回-1
+     *
+     * @return 最终响应的状态码
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * 获取方法执行的总耗时，包含拦截器、重试与结果转换的时间
+     *
+     * @return 方法执行的总耗时
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * 获取将响应转换为方法返回值的耗时，未执行转换时返回-1
+     *
+     * @return 反序列化耗时
+     */
+    public long getDeserializationNanos() {
+        return deserializationNanos;
+    }
+
+    /**
+     * 获取重试次数，第一次执行不计入重试次数
+     *
+     * @return 重试次数
+     */
+    public int getRetryCount() {
+        return retryCount;
+    }
+
+    /**
+     * 获取执行过程中出现的异常，执行成功时返回null
+     *
+     * @return 执行过程中出现的异常
+     */
+    public Throwable getThrowable() {
+        return throwable;
+    }
+
+    /**
+     * 方法是否执行成功
+     *
+     * @return 方法是否执行成功
+     */
+    public boolean isSuccess() {
+        return throwable == null;
+    }
+}
@@ -0,0 +1,194 @@
+package com.luckyframework.httpclient.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 无锁的对数-线性分桶直方图，分桶方式与HdrHistogram类似
+ * <pre>
+ *     1.每个2的幂区间被均分为32个子桶，任意记录值的相对误差不超过1/32（约3%）
+ *     2.记录只涉及一次{@link AtomicLongArray}的自增与{@link LongAdder}的累加，不加锁、不分配对象
+ *     3.可记录[0, Long.MAX_VALUE]范围内的任意值，负值按0处理
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 15:25
+ */
+public final class LatencyHistogram {
+
+    /**
+     * 每个2的幂区间的子桶数量为2^SUB_BUCKET_BITS
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+
+    /**
+     * 最高位为62时位移量为57，因此一共需要(57 + 2) * 32个桶
+     */
+    private static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 记录一个值
+     *
+     * @param value 要记录的值
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * 获取当前直方图的快照，快照在记录的同时生成，因此各个统计值之间可能存在轻微的偏差
+     *
+     * @return 直方图快照
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        return new Snapshot(counts, total, sum.sum(), max.get());
+    }
+
+    /**
+     * 获取记录的总次数
+     *
+     * @return 记录的总次数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 清空所有记录
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & SUB_BUCKET_MASK);
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lower = (long) (SUB_BUCKET_COUNT + (index & SUB_BUCKET_MASK)) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * 直方图快照
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * 获取记录的总次数
+         *
+         * @return 记录的总次数
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * 获取所有记录值的总和
+         *
+         * @return 所有记录值的总和
+         */
+        public long getSum() {
+            return sum;
+        }
+
+        /**
+         * 获取记录的最大值
+         *
+         * @return 记录的最大值
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * 获取记录值的平均值
+         *
+         * @return 记录值的平均值
+         */
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * 获取指定百分位上的值，返回值为所在桶的上界并且不会超过最大值
+         *
+         * @param percentile 百分位，取值范围为[0, 100]
+         * @return 指定百分位上的值
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            double p = Math.min(Math.max(percentile, 0), 100);
+            long target = Math.max(1, (long) Math.ceil(p / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return Math.min(bucketUpperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count
+                    + ", mean=" + (long) getMean()
+                    + ", p50=" + getValueAtPercentile(50)
+                    + ", p90=" + getValueAtPercentile(90)
+                    + ", p99=" + getValueAtPercentile(99)
+                    + ", max=" + max;
+        }
+    }
+}
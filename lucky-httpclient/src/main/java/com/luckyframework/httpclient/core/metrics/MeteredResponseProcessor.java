@@ -0,0 +1,140 @@
+package com.luckyframework.httpclient.core.metrics;
+
+import com.luckyframework.httpclient.core.meta.Request;
+import com.luckyframework.httpclient.core.meta.ResponseMetaData;
+import com.luckyframework.httpclient.core.processor.ResponseProcessor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 记录HTTP交换指标的响应处理器包装
+ * <pre>
+ *     1.响应处理器被调用的时间即为得到响应头的时间
+ *     2.响应体输入流被包装为可计数、计时的输入流，读取完毕或被关闭时记录响应体相关的指标
+ *     3.{@link #complete()}在执行器执行结束时调用，记录本次交换的总耗时
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 15:20
+ */
+public final class MeteredResponseProcessor implements ResponseProcessor {
+
+    private final ResponseProcessor delegate;
+    private final ExchangeMetrics metrics;
+    private final long startNanos;
+    private Throwable throwable;
+
+    private MeteredResponseProcessor(Request request, ResponseProcessor delegate) {
+        this.delegate = delegate;
+        this.metrics = HttpMetrics.newExchange(request);
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 未开启指标记录时返回null，否则返回包装后的响应处理器
+     *
+     * @param request   请求实例
+     * @param processor 原始响应处理器
+     * @return 包装后的响应处理器
+     */
+    public static MeteredResponseProcessor wrapIfEnabled(Request request, ResponseProcessor processor) {
+        return HttpMetrics.isEnabled() ? new MeteredResponseProcessor(request, processor) : null;
+    }
+
+    @Override
+    public void process(ResponseMetaData responseMetaData) throws Exception {
+        metrics.responseReceived(responseMetaData.getStatus(), System.nanoTime() - startNanos);
+        delegate.process(new ResponseMetaData(
+                responseMetaData.getRequest(),
+                responseMetaData.getStatus(),
+                responseMetaData.getHeaderManager(),
+                () -> new MeteredInputStream(responseMetaData.getInputStream(), metrics)
+        ));
+    }
+
+    @Override
+    public void exceptionHandler(Request request, Throwable e) {
+        this.throwable = e;
+        delegate.exceptionHandler(request, e);
+    }
+
+    /**
+     * 执行器执行结束，记录本次交换的指标
+     */
+    public void complete() {
+        metrics.completed(System.nanoTime() - startNanos, throwable);
+        HttpMetrics.recordExchange(metrics);
+    }
+
+    /**
+     * 统计读取字节数与读取耗时的输入流
+     */
+    private static class MeteredInputStream extends FilterInputStream {
+
+        private final ExchangeMetrics metrics;
+        private long bytes;
+        private long readNanos;
+        private boolean reported;
+
+        MeteredInputStream(InputStream in, ExchangeMetrics metrics) {
+            super(in);
+            this.metrics = metrics;
+        }
+
+        @Override
+        public int read() throws IOException {
+            long start = System.nanoTime();
+            int b = super.read();
+            readNanos += System.nanoTime() - start;
+            if (b == -1) {
+                report();
+            } else {
+                bytes++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            int n = super.read(b, off, len);
+            readNanos += System.nanoTime() - start;
+            if (n == -1) {
+                report();
+            } else {
+                bytes += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long start = System.nanoTime();
+            long skipped = super.skip(n);
+            readNanos += System.nanoTime() - start;
+            bytes += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                report();
+            }
+        }
+
+        private void report() {
+            if (!reported) {
+                reported = true;
+                if (metrics.bodyRead(readNanos, bytes)) {
+                    HttpMetrics.recordBodyRead(metrics);
+                }
+            }
+        }
+    }
+}
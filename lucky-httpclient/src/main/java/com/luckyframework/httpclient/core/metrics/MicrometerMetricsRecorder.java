@@ -0,0 +1,182 @@
+package com.luckyframework.httpclient.core.metrics;
+
+import com.luckyframework.exception.LuckyRuntimeException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 将指标写入Micrometer MeterRegistry的记录器
+ * <pre>
+ *     1.项目本身不依赖Micrometer，对MeterRegistry的所有访问均通过{@link MethodHandle}完成，使用时只需要在运行时引入micrometer-core
+ *     2.创建过的Meter会按照名称与标签缓存下来，记录时不会重复构建Meter ID
+ *     3.记录的指标如下：
+ *       lucky.http.client.exchange        [Timer]   host, method, status, outcome
+ *       lucky.http.client.response.wait   [Timer]   host
+ *       lucky.http.client.body.read       [Timer]   host
+ *       lucky.http.client.bytes.out       [Summary] host
+ *       lucky.http.client.bytes.in        [Summary] host
+ *       lucky.http.proxy.invocation       [Timer]   method, status, outcome
+ *       lucky.http.proxy.deserialization  [Timer]   method
+ *       lucky.http.proxy.retries          [Counter] method
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 15:40
+ */
+public class MicrometerMetricsRecorder implements HttpMetricsRecorder {
+
+    private static final String METER_REGISTRY_CLASS = "io.micrometer.core.instrument.MeterRegistry";
+    private static final String TIMER_CLASS = "io.micrometer.core.instrument.Timer";
+    private static final String COUNTER_CLASS = "io.micrometer.core.instrument.Counter";
+    private static final String SUMMARY_CLASS = "io.micrometer.core.instrument.DistributionSummary";
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String ERROR = "ERROR";
+
+    private final Object meterRegistry;
+    private final MethodHandle timerHandle;
+    private final MethodHandle counterHandle;
+    private final MethodHandle summaryHandle;
+    private final MethodHandle timerRecordHandle;
+    private final MethodHandle counterIncrementHandle;
+    private final MethodHandle summaryRecordHandle;
+
+    private final ConcurrentMap<String, Object> meterCache = new ConcurrentHashMap<>();
+
+    /**
+     * 使用一个MeterRegistry实例创建记录器
+     *
+     * @param meterRegistry io.micrometer.core.instrument.MeterRegistry实例
+     */
+    public MicrometerMetricsRecorder(Object meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        try {
+            ClassLoader loader = meterRegistry.getClass().getClassLoader();
+            Class<?> registryClass = Class.forName(METER_REGISTRY_CLASS, false, loader);
+            if (!registryClass.isInstance(meterRegistry)) {
+                throw new IllegalArgumentException(meterRegistry.getClass().getName() + " is not a " + METER_REGISTRY_CLASS);
+            }
+            Class<?> timerClass = Class.forName(TIMER_CLASS, false, loader);
+            Class<?> counterClass = Class.forName(COUNTER_CLASS, false, loader);
+            Class<?> summaryClass = Class.forName(SUMMARY_CLASS, false, loader);
+
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            this.timerHandle = meterFactory(lookup, registryClass, "timer", timerClass);
+            this.counterHandle = meterFactory(lookup, registryClass, "counter", counterClass);
+            this.summaryHandle = meterFactory(lookup, registryClass, "summary", summaryClass);
+            this.timerRecordHandle = lookup.findVirtual(timerClass, "record", MethodType.methodType(void.class, long.class, TimeUnit.class))
+                    .asType(MethodType.methodType(void.class, Object.class, long.class, TimeUnit.class));
+            this.counterIncrementHandle = lookup.findVirtual(counterClass, "increment", MethodType.methodType(void.class, double.class))
+                    .asType(MethodType.methodType(void.class, Object.class, double.class));
+            this.summaryRecordHandle = lookup.findVirtual(summaryClass, "record", MethodType.methodType(void.class, double.class))
+                    .asType(MethodType.methodType(void.class, Object.class, double.class));
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            throw new LuckyRuntimeException(e, "Micrometer is not available, please add 'io.micrometer:micrometer-core' to the classpath");
+        }
+    }
+
+    @Override
+    public void recordExchange(ExchangeMetrics metrics) {
+        String host = metrics.getHost();
+        recordTimer(metrics.getTotalNanos(), "lucky.http.client.exchange",
+                "host", host,
+                "method", metrics.getMethod(),
+                "status", String.valueOf(metrics.getStatus()),
+                "outcome", metrics.isSuccess() ? SUCCESS : ERROR);
+        if (metrics.getResponseWaitNanos() >= 0) {
+            recordTimer(metrics.getResponseWaitNanos(), "lucky.http.client.response.wait", "host", host);
+        }
+        if (metrics.getBytesOut() >= 0) {
+            recordSummary(metrics.getBytesOut(), "lucky.http.client.bytes.out", "host", host);
+        }
+    }
+
+    @Override
+    public void recordBodyRead(ExchangeMetrics metrics) {
+        String host = metrics.getHost();
+        recordTimer(metrics.getBodyReadNanos(), "lucky.http.client.body.read", "host", host);
+        recordSummary(metrics.getBytesIn(), "lucky.http.client.bytes.in", "host", host);
+    }
+
+    @Override
+    public void recordInvocation(InvocationMetrics metrics) {
+        String signature = metrics.getSignature();
+        recordTimer(metrics.getTotalNanos(), "lucky.http.proxy.invocation",
+                "method", signature,
+                "status", String.valueOf(metrics.getStatus()),
+                "outcome", metrics.isSuccess() ? SUCCESS : ERROR);
+        if (metrics.getDeserializationNanos() >= 0) {
+            recordTimer(metrics.getDeserializationNanos(), "lucky.http.proxy.deserialization", "method", signature);
+        }
+        if (metrics.getRetryCount() > 0) {
+            incrementCounter(metrics.getRetryCount(), "lucky.http.proxy.retries", "method", signature);
+        }
+    }
+
+    private void recordTimer(long nanos, String name, String... tags) {
+        try {
+            timerRecordHandle.invokeExact(getMeter(timerHandle, name, tags), nanos, TimeUnit.NANOSECONDS);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private void recordSummary(double amount, String name, String... tags) {
+        try {
+            summaryRecordHandle.invokeExact(getMeter(summaryHandle, name, tags), amount);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private void incrementCounter(double amount, String name, String... tags) {
+        try {
+            counterIncrementHandle.invokeExact(getMeter(counterHandle, name, tags), amount);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    private Object getMeter(MethodHandle factory, String name, String[] tags) {
+        return meterCache.computeIfAbsent(meterKey(name, tags), k -> {
+            try {
+                return (Object) factory.invokeExact(meterRegistry, name, tags);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        });
+    }
+
+    private static String meterKey(String name, String[] tags) {
+        StringBuilder key = new StringBuilder(name);
+        for (String tag : tags) {
+            key.append('\u0000').append(tag);
+        }
+        return key.toString();
+    }
+
+    /**
+     * 获取MeterRegistry中形如 xxx(String name, String... tags) 的Meter工厂方法
+     */
+    private static MethodHandle meterFactory(MethodHandles.Lookup lookup, Class<?> registryClass, String methodName, Class<?> meterClass) throws NoSuchMethodException, IllegalAccessException {
+        return lookup.findVirtual(registryClass, methodName, MethodType.methodType(meterClass, String.class, String[].class))
+                .asFixedArity()
+                .asType(MethodType.methodType(Object.class, Object.class, String.class, String[].class));
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new LuckyRuntimeException(e);
+    }
+}
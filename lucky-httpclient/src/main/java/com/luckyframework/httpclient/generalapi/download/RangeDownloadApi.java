@@ -16,14 +16,13 @@ import com.luckyframework.io.FileUtils;
 import com.luckyframework.reflect.Param;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.util.FileCopyUtils;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.RandomAccessFile;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -113,7 +112,7 @@ public abstract class RangeDownloadApi implements FileApi {
     //---------------------------------------------------------------------------------------------------------
 
     /**
-     * 将分片文件数据写入目标文件的指定位置
+     * 将分片文件数据写入目标文件的指定位置，数据会以流的方式直接写入目标文件，不会将整个分片读取到内存中
      * <pre>
      *  {@link #asyncDownloadRangeFile(HttpExecutor, Request, File, Range.Index)}
      *  {@link #downloadRangeFile(HttpExecutor, Request, File, Range.Index)}
@@ -124,10 +123,12 @@ public abstract class RangeDownloadApi implements FileApi {
      * @param index      分片位置信息
      */
     public Range.WriterResult writeDataToFile(File targetFile, InputStream dataStream, Range.Index index) {
-        try (RandomAccessFile randomAccessFile = new RandomAccessFile(targetFile, "rw");) {
-            randomAccessFile.seek(index.getBegin());
-            randomAccessFile.write(FileCopyUtils.copyToByteArray(dataStream));
-            deleteFile(getIndexFileDir(targetFile), index);
+        try (RangeFileWriter writer = RangeFileWriter.open(targetFile)) {
+            writer.write(dataStream, index.getBegin());
+            RangeJournal journal = RangeJournal.current(targetFile);
+            if (journal != null) {
+                journal.markCompleted(index);
+            }
             log.debug("[✅] Sharding file (Range: bytes={}-{})  has been downloaded successfully and has been written into the {} file", index.getBegin(), index.getEnd(), targetFile.getAbsolutePath());
             return SUCCESS;
         } catch (Exception e) {
@@ -664,21 +665,19 @@ public abstract class RangeDownloadApi implements FileApi {
      */
     public File downloadRetryIfFail(HttpExecutor httpExecutor, Request request, String saveDir, Range range, String filename, long rangeSize, int maxRetryCount) {
         File targetFile = getTargetFile(saveDir, range.getFilename(), filename);
-        File indexFileDir = getIndexFileDir(targetFile);
-        indexFileDir.mkdirs();
         int i = 0;
-        while (indexFileDir.exists()) {
+        do {
             if (i != 0) {
                 if (maxRetryCount > 0 && i >= maxRetryCount) {
                     throw new RangeDownloadException("Failed to download fragmented files: The number of retries exceeds the upper limit {}!", maxRetryCount).error(log);
                 }
-                log.debug("There are unprocessed index files in the index directory [{}], and the {} retry will be initiated", indexFileDir.getAbsolutePath(), i);
+                log.debug("There are unfinished ranges recorded in the journal file [{}], and the {} retry will be initiated", RangeJournal.getJournalFile(targetFile).getAbsolutePath(), i);
             }
 
             // 执行分片异步下载
             rangeFileDownload(httpExecutor, request, range, targetFile, rangeSize);
             i++;
-        }
+        } while (RangeJournal.exists(targetFile));
         return targetFile;
     }
 
@@ -704,6 +703,7 @@ public abstract class RangeDownloadApi implements FileApi {
      * @param rangeSize    分片大小
      */
     public void rangeFileDownload(HttpExecutor httpExecutor, Request request, Range range, File targetFile, long rangeSize) {
+        preallocate(targetFile, range.getLength());
         doRangeFileDownload(httpExecutor, request, targetFile, getIndexes(targetFile, range, rangeSize));
     }
 
@@ -727,28 +727,30 @@ public abstract class RangeDownloadApi implements FileApi {
      * @param indexes      索引信息
      */
     public void doRangeFileDownload(HttpExecutor httpExecutor, Request request, File targetFile, List<Range.Index> indexes) {
-        // 提交异步任务
-        List<Future<Range.WriterResult>> futureList = new ArrayList<>(indexes.size());
-        for (Range.Index index : indexes) {
-            futureList.add(asyncDownloadRangeFile(httpExecutor, request.copy(), targetFile, index));
-        }
-
-        // 分析异步任务的执行结果，写入成功后删除对应的索引文件
         boolean allSuccess = true;
-        File indexFileDir = getIndexFileDir(targetFile);
-        for (int i = 0; i < indexes.size(); i++) {
-            Range.WriterResult finalWriterResult = getFinalWriterResult(futureList.get(i), indexes.get(i));
-            // 校验结果，是否存在失败
-            if (finalWriterResult.fail()) {
-                allSuccess = false;
+
+        // 所有分片共享同一个文件通道和日志文件
+        try (RangeJournal ignored = RangeJournal.open(targetFile)) {
+            // 提交异步任务
+            List<Future<Range.WriterResult>> futureList = new ArrayList<>(indexes.size());
+            for (Range.Index index : indexes) {
+                futureList.add(asyncDownloadRangeFile(httpExecutor, request.copy(), targetFile, index));
+            }
+
+            // 分析异步任务的执行结果
+            for (int i = 0; i < indexes.size(); i++) {
+                Range.WriterResult finalWriterResult = getFinalWriterResult(futureList.get(i), indexes.get(i));
+                // 校验结果，是否存在失败
+                if (finalWriterResult.fail()) {
+                    allSuccess = false;
+                }
             }
         }
 
 
-        // 如果全部成功，则删除索引文件夹
+        // 如果全部成功，则删除日志文件
         if (allSuccess) {
-            deleteFile(new File(indexFileDir, COMPLETED_FILE_NAME));
-            deleteFile(indexFileDir);
+            RangeJournal.delete(targetFile);
         }
     }
 
@@ -1334,21 +1336,19 @@ public abstract class RangeDownloadApi implements FileApi {
     public File downloadRetryIfFail(Executor executor, HttpExecutor httpExecutor, Request request, Range range, String saveDir, String filename, long rangeSize, int maxRetryCount) {
 
         File targetFile = getTargetFile(saveDir, range.getFilename(), filename);
-        File indexFileDir = getIndexFileDir(targetFile);
-        indexFileDir.mkdirs();
         int i = 0;
-        while (indexFileDir.exists()) {
+        do {
             if (i != 0) {
                 if (maxRetryCount > 0 && i >= maxRetryCount) {
                     throw new RangeDownloadException("Failed to download fragmented files: The number of retries exceeds the upper limit {}!", maxRetryCount).error(log);
                 }
-                log.debug("There are unprocessed index files in the index directory [{}], and the {} retry will be initiated", indexFileDir.getAbsolutePath(), i);
+                log.debug("There are unfinished ranges recorded in the journal file [{}], and the {} retry will be initiated", RangeJournal.getJournalFile(targetFile).getAbsolutePath(), i);
             }
 
             // 执行分片异步下载
             rangeFileDownload(executor, httpExecutor, request, range, targetFile, rangeSize);
             i++;
-        }
+        } while (RangeJournal.exists(targetFile));
         return targetFile;
 
     }
@@ -1380,6 +1380,7 @@ public abstract class RangeDownloadApi implements FileApi {
      * @param rangeSize    分片大小
      */
     public void rangeFileDownload(Executor executor, HttpExecutor httpExecutor, Request request, Range range, File targetFile, long rangeSize) {
+        preallocate(targetFile, range.getLength());
         doRangeFileDownload(executor, httpExecutor, request, targetFile, getIndexes(targetFile, range, rangeSize));
     }
 
@@ -1408,28 +1409,30 @@ public abstract class RangeDownloadApi implements FileApi {
      */
     public void doRangeFileDownload(Executor executor, HttpExecutor httpExecutor, Request request, File targetFile, List<Range.Index> indexes) {
 
-        // 提交异步任务
-        List<Future<Range.WriterResult>> futureList = new ArrayList<>(indexes.size());
-        for (Range.Index index : indexes) {
-            futureList.add(CompletableFuture.supplyAsync(() -> downloadRangeFile(httpExecutor, request.copy(), targetFile, index), executor));
-        }
-
-        // 分析异步任务的执行结果，写入成功后删除对应的索引文件
         boolean allSuccess = true;
-        File indexFileDir = getIndexFileDir(targetFile);
-        for (int i = 0; i < indexes.size(); i++) {
-            Range.WriterResult finalWriterResult = getFinalWriterResult(futureList.get(i), indexes.get(i));
-            // 校验结果，是否存在失败
-            if (finalWriterResult.fail()) {
-                allSuccess = false;
+
+        // 所有分片共享同一个文件通道和日志文件
+        try (RangeJournal ignored = RangeJournal.open(targetFile)) {
+            // 提交异步任务
+            List<Future<Range.WriterResult>> futureList = new ArrayList<>(indexes.size());
+            for (Range.Index index : indexes) {
+                futureList.add(CompletableFuture.supplyAsync(() -> downloadRangeFile(httpExecutor, request.copy(), targetFile, index), executor));
+            }
+
+            // 分析异步任务的执行结果
+            for (int i = 0; i < indexes.size(); i++) {
+                Range.WriterResult finalWriterResult = getFinalWriterResult(futureList.get(i), indexes.get(i));
+                // 校验结果，是否存在失败
+                if (finalWriterResult.fail()) {
+                    allSuccess = false;
+                }
             }
         }
 
 
-        // 如果全部成功，则删除索引文件夹
+        // 如果全部成功，则删除日志文件
         if (allSuccess) {
-            deleteFile(new File(indexFileDir, COMPLETED_FILE_NAME));
-            deleteFile(indexFileDir);
+            RangeJournal.delete(targetFile);
         }
     }
 
@@ -2006,21 +2009,19 @@ public abstract class RangeDownloadApi implements FileApi {
      */
     public File downloadRetryIfFail(AsyncTaskExecutor executor, HttpExecutor httpExecutor, Request request, Range range, String saveDir, String filename, long rangeSize, int maxRetryCount) {
         File targetFile = getTargetFile(saveDir, range.getFilename(), filename);
-        File indexFileDir = getIndexFileDir(targetFile);
-        indexFileDir.mkdirs();
         int i = 0;
-        while (indexFileDir.exists()) {
+        do {
             if (i != 0) {
                 if (maxRetryCount > 0 && i >= maxRetryCount) {
                     throw new RangeDownloadException("Failed to download fragmented files: The number of retries exceeds the upper limit {}!", maxRetryCount).error(log);
                 }
-                log.debug("There are unprocessed index files in the index directory [{}], and the {} retry will be initiated", indexFileDir.getAbsolutePath(), i);
+                log.debug("There are unfinished ranges recorded in the journal file [{}], and the {} retry will be initiated", RangeJournal.getJournalFile(targetFile).getAbsolutePath(), i);
             }
 
             // 执行分片异步下载
             rangeFileDownload(executor, httpExecutor, request, range, targetFile, rangeSize);
             i++;
-        }
+        } while (RangeJournal.exists(targetFile));
         return targetFile;
 
     }
@@ -2051,6 +2052,7 @@ public abstract class RangeDownloadApi implements FileApi {
      * @param rangeSize    分片大小
      */
     public void rangeFileDownload(AsyncTaskExecutor executor, HttpExecutor httpExecutor, Request request, Range range, File targetFile, long rangeSize) {
+        preallocate(targetFile, range.getLength());
         doRangeFileDownload(executor, httpExecutor, request, targetFile, getIndexes(targetFile, range, rangeSize));
     }
 
@@ -2066,27 +2068,29 @@ public abstract class RangeDownloadApi implements FileApi {
      */
     public void doRangeFileDownload(AsyncTaskExecutor executor, HttpExecutor httpExecutor, Request request, File targetFile, List<Range.Index> indexes) {
 
-        // 提交异步任务
-        List<Future<Range.WriterResult>> futureList = new ArrayList<>(indexes.size());
-        for (Range.Index index : indexes) {
-            futureList.add(executor.supplyAsync(() -> downloadRangeFile(httpExecutor, request.copy(), targetFile, index)));
-        }
-
-        // 分析异步任务的执行结果，写入成功后删除对应的索引文件
         boolean allSuccess = true;
-        File indexFileDir = getIndexFileDir(targetFile);
-        for (int i = 0; i < indexes.size(); i++) {
-            Range.WriterResult finalWriterResult = getFinalWriterResult(futureList.get(i), indexes.get(i));
-            // 校验结果，是否存在失败
-            if (finalWriterResult.fail()) {
-                allSuccess = false;
+
+        // 所有分片共享同一个文件通道和日志文件
+        try (RangeJournal ignored = RangeJournal.open(targetFile)) {
+            // 提交异步任务
+            List<Future<Range.WriterResult>> futureList = new ArrayList<>(indexes.size());
+            for (Range.Index index : indexes) {
+                futureList.add(executor.supplyAsync(() -> downloadRangeFile(httpExecutor, request.copy(), targetFile, index)));
+            }
+
+            // 分析异步任务的执行结果
+            for (int i = 0; i < indexes.size(); i++) {
+                Range.WriterResult finalWriterResult = getFinalWriterResult(futureList.get(i), indexes.get(i));
+                // 校验结果，是否存在失败
+                if (finalWriterResult.fail()) {
+                    allSuccess = false;
+                }
             }
         }
 
-        // 如果全部成功，则删除索引文件夹
+        // 如果全部成功，则删除日志文件
         if (allSuccess) {
-            deleteFile(new File(indexFileDir, COMPLETED_FILE_NAME));
-            deleteFile(indexFileDir);
+            RangeJournal.delete(targetFile);
         }
     }
 
@@ -2107,6 +2111,18 @@ public abstract class RangeDownloadApi implements FileApi {
         return new File(saveDir, FileUtils.getFileName(configName, sourceName));
     }
 
+    /**
+     * 按照文件的最终大小预分配目标文件
+     *
+     * @param targetFile 保存下载数据的目标文件
+     * @param length     文件的最终大小
+     */
+    private void preallocate(File targetFile, long length) {
+        try (RangeFileWriter writer = RangeFileWriter.open(targetFile)) {
+            writer.preallocate(length);
+        }
+    }
+
     /**
      * 获取失败文件名称
      *
@@ -2119,7 +2135,7 @@ public abstract class RangeDownloadApi implements FileApi {
     }
 
     /**
-     * 获取索引文件存放目录
+     * 获取旧版本的索引文件存放目录，仅用于迁移到{@link RangeJournal}
      *
      * @param targetFile 保存下载数据的目标文件
      * @return 存放索引文件存放目录
@@ -2129,23 +2145,15 @@ public abstract class RangeDownloadApi implements FileApi {
         return new File(targetFile.getParent(), indexDir);
     }
 
-    /**
-     * 删除索引文件
-     *
-     * @param indexFileDir 索引文件所在的文件夹
-     * @param index        索引数据
-     */
-    private void deleteFile(File indexFileDir, Range.Index index) {
-        deleteFile(getIndexFile(indexFileDir, index));
-    }
-
     /**
      * 获取分片文件
      *
      * @param indexFileDir 分片文件所在目录
      * @param index        索引信息
      * @return 分片文件
+     * @deprecated 下载进度已改为使用{@link RangeJournal}记录，索引目录仅用于兼容旧版本
      */
+    @Deprecated
     public File getIndexFile(File indexFileDir, Range.Index index) {
         String indexFileName = String.format("%s_%s.%s", index.getBegin(), index.getEnd(), INDEX_FILE_SUFFIX);
         return new File(indexFileDir, indexFileName);
@@ -2162,26 +2170,40 @@ public abstract class RangeDownloadApi implements FileApi {
         return completedFile.exists() && completedFile.isFile();
     }
 
+    /**
+     * 获取待下载的分片索引
+     * <pre>
+     *     1.存在有效的日志文件时，从日志文件中计算出尚未下载完成的分片
+     *     2.存在旧版本的索引目录时，读取其中的索引数据并迁移到日志文件中，之后删除索引目录
+     *     3.否则按照分片大小重新计算所有分片，并创建一个新的日志文件
+     * </pre>
+     *
+     * @param targetFile 保存下载数据的目标文件
+     * @param range      分片信息
+     * @param rangeSize  分片大小
+     * @return 待下载的分片索引
+     */
     private List<Range.Index> getIndexes(File targetFile, Range range, long rangeSize) {
-        // 索引文件写入完成则直接读取索引文件中的索引数据
-        File indexFileDir = getIndexFileDir(targetFile);
-        if (indexFileWriteCompleted(indexFileDir)) {
-            return getIndexListFromIndexFiles(indexFileDir);
+        List<Range.Index> pendingIndexes = RangeJournal.loadPendingIndexes(targetFile, range.getLength(), rangeSize);
+        if (pendingIndexes != null) {
+            return pendingIndexes;
         }
 
-        // 不存在索引文件时需要先计算索引信息，在将其写入索引文件
-        // 写入文件
-        List<Range.Index> indices = readRangeIndex(range, rangeSize);
-        for (Range.Index index : indices) {
-            createFile(getIndexFile(indexFileDir, index));
+        // 兼容旧版本以索引目录记录下载进度的方式
+        File indexFileDir = getIndexFileDir(targetFile);
+        if (indexFileWriteCompleted(indexFileDir)) {
+            pendingIndexes = getIndexListFromIndexFiles(indexFileDir);
+            RangeJournal.create(targetFile, range.getLength(), RangeJournal.complement(pendingIndexes, range.getLength()));
+            deleteIndexFileDir(indexFileDir);
+            log.debug("The index directory [{}] has been migrated to the journal file [{}]", indexFileDir.getAbsolutePath(), RangeJournal.getJournalFile(targetFile).getAbsolutePath());
+            return pendingIndexes;
         }
+        deleteIndexFileDir(indexFileDir);
 
-        // 索引文件全部写完之后再写入
-        createFile(new File(indexFileDir, COMPLETED_FILE_NAME));
-        return indices;
+        RangeJournal.create(targetFile, range.getLength(), Collections.emptyList());
+        return readRangeIndex(range, rangeSize);
     }
 
-
     /**
      * 从索引文件中获取索引数据
      *
@@ -2255,32 +2277,33 @@ public abstract class RangeDownloadApi implements FileApi {
 
 
     /**
-     * 删除索引文件
+     * 删除旧版本的索引目录以及其中的所有文件
      *
-     * @param indexFile 索引文件
+     * @param indexFileDir 索引目录
      */
-    private void deleteFile(File indexFile) {
-        try {
-            Files.deleteIfExists(indexFile.toPath());
-        } catch (IOException e) {
-            throw new RangeDownloadException(e, "Failed to delete file '{}'", indexFile).error(log);
+    private void deleteIndexFileDir(File indexFileDir) {
+        File[] files = indexFileDir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                deleteFile(file);
+            }
         }
+        deleteFile(indexFileDir);
     }
 
     /**
-     * 创建文件
+     * 删除索引文件
      *
-     * @param file 文件对象
+     * @param indexFile 索引文件
      */
-    private void createFile(File file) {
+    private void deleteFile(File indexFile) {
         try {
-            Files.createFile(file.toPath());
+            Files.deleteIfExists(indexFile.toPath());
         } catch (IOException e) {
-            throw new RangeDownloadException(e, "Failed to create file '{}'", file).error(log);
+            throw new RangeDownloadException(e, "Failed to delete file '{}'", indexFile).error(log);
         }
     }
 
-
     private String getTempDir() {
         return FileUtils.getLuckyTempDir("RangeDownloadApi");
     }
@@ -0,0 +1,134 @@
+package com.luckyframework.httpclient.generalapi.download;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 分片文件写入器
+ * <pre>
+ *     1.同一个目标文件同一时刻只会打开一个共享的{@link FileChannel}，各个分片通过定位写的方式并发写入各自的位置
+ *     2.分片数据使用线程私有的小缓冲区边读边写，内存占用与分片大小和并发数无关
+ *     3.通过引用计数管理通道的生命周期，最后一个使用者关闭后才会真正关闭通道
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 11:40
+ */
+public final class RangeFileWriter implements Closeable {
+
+    /**
+     * 复制分片数据时使用的缓冲区大小
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 当前处于打开状态的写入器，Key为目标文件的绝对路径
+     */
+    private static final Map<String, RangeFileWriter> OPENED_WRITERS = new HashMap<>();
+
+    private static final ThreadLocal<ByteBuffer> BUFFER_HOLDER = ThreadLocal.withInitial(() -> ByteBuffer.allocate(BUFFER_SIZE));
+
+    private final String key;
+    private final FileChannel channel;
+    private int refCount;
+
+    private RangeFileWriter(String key, FileChannel channel) {
+        this.key = key;
+        this.channel = channel;
+    }
+
+    /**
+     * 获取目标文件对应的写入器，目标文件已经被打开时会复用已有的通道，使用完毕后需要调用{@link #close()}释放
+     *
+     * @param targetFile 目标文件
+     * @return 目标文件对应的写入器
+     */
+    public static RangeFileWriter open(File targetFile) {
+        String key = targetFile.getAbsolutePath();
+        synchronized (OPENED_WRITERS) {
+            RangeFileWriter writer = OPENED_WRITERS.get(key);
+            if (writer == null) {
+                try {
+                    writer = new RangeFileWriter(key, FileChannel.open(targetFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE));
+                } catch (IOException e) {
+                    throw new RangeDownloadException(e, "Failed to open file channel for '{}'", targetFile);
+                }
+                OPENED_WRITERS.put(key, writer);
+            }
+            writer.refCount++;
+            return writer;
+        }
+    }
+
+    /**
+     * 按照文件的最终大小预分配磁盘空间，文件已经达到该大小时不做任何处理
+     *
+     * @param length 文件的最终大小
+     */
+    public void preallocate(long length) {
+        try {
+            if (length > 0 && channel.size() < length) {
+                channel.write(ByteBuffer.allocate(1), length - 1);
+            }
+        } catch (IOException e) {
+            throw new RangeDownloadException(e, "Failed to preallocate {} bytes for '{}'", length, key);
+        }
+    }
+
+    /**
+     * 将输入流中的数据写入到文件的指定位置
+     *
+     * @param dataStream 要写入的数据流
+     * @param position   写入的起始位置
+     * @return 写入的字节数
+     * @throws IOException 读取或写入数据时可能出现的异常
+     */
+    public long write(InputStream dataStream, long position) throws IOException {
+        ByteBuffer buffer = BUFFER_HOLDER.get();
+        byte[] array = buffer.array();
+        long written = 0;
+        int len;
+        while ((len = dataStream.read(array)) != -1) {
+            buffer.clear().limit(len);
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer, position + written);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 将已经写入的数据强制刷新到磁盘
+     *
+     * @throws IOException 刷盘时可能出现的异常
+     */
+    public void force() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * 释放写入器，引用计数归零时关闭底层的文件通道
+     */
+    @Override
+    public void close() {
+        synchronized (OPENED_WRITERS) {
+            if (--refCount > 0) {
+                return;
+            }
+            OPENED_WRITERS.remove(key);
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new RangeDownloadException(e, "Failed to close file channel for '{}'", key);
+            }
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.luckyframework.httpclient.generalapi.download;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 分片下载日志文件，用于记录已经下载完成的分片，实现断点续传
+ * <pre>
+ *     文件格式：
+ *     1.文件头：魔数(int) + 版本号(int) + 文件总大小(long)
+ *     2.记录：每个下载完成的分片追加一条 begin(long) + end(long) 记录
+ *
+ *     1.每个下载任务只对应一个日志文件，不会为每个分片创建和删除文件
+ *     2.记录先在内存中攒批，刷盘时先将目标文件的数据刷盘，再写入并刷新日志，保证日志中的记录都是真实落盘的数据
+ *     3.恢复下载时只需读取一个文件，未被记录覆盖的区间即为待下载的分片
+ *     4.进程崩溃时末尾可能存在写了一半的记录，读取时会被忽略，对应的分片会被重新下载
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 12:10
+ */
+public final class RangeJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(RangeJournal.class);
+
+    private static final int MAGIC = 0x4C52444A;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = 16;
+
+    /**
+     * 攒批刷盘的记录条数
+     */
+    private static final int SYNC_BATCH_SIZE = 64;
+
+    /**
+     * 当前处于打开状态的日志，Key为目标文件的绝对路径
+     */
+    private static final Map<String, RangeJournal> OPENED_JOURNALS = new HashMap<>();
+
+    private final String key;
+    private final FileChannel channel;
+    private final RangeFileWriter dataWriter;
+    private final ByteBuffer pendingRecords = ByteBuffer.allocate(SYNC_BATCH_SIZE * RECORD_SIZE);
+    private int refCount;
+
+    private RangeJournal(String key, FileChannel channel, RangeFileWriter dataWriter) {
+        this.key = key;
+        this.channel = channel;
+        this.dataWriter = dataWriter;
+    }
+
+    /**
+     * 获取目标文件对应的日志文件
+     *
+     * @param targetFile 保存下载数据的目标文件
+     * @return 日志文件
+     */
+    public static File getJournalFile(File targetFile) {
+        return new File(targetFile.getParentFile(), String.format("._$%s$.journal", targetFile.getName()));
+    }
+
+    /**
+     * 目标文件是否存在未完成的下载任务
+     *
+     * @param targetFile 保存下载数据的目标文件
+     * @return 是否存在未完成的下载任务
+     */
+    public static boolean exists(File targetFile) {
+        return getJournalFile(targetFile).isFile();
+    }
+
+    /**
+     * 创建一个新的日志文件，已存在的日志文件会被覆盖
+     *
+     * @param targetFile      保存下载数据的目标文件
+     * @param length          文件的总大小
+     * @param completedRanges 已经下载完成的分片
+     */
+    public static void create(File targetFile, long length, Collection<Range.Index> completedRanges) {
+        File journalFile = getJournalFile(targetFile);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + completedRanges.size() * RECORD_SIZE);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(length);
+        for (Range.Index index : completedRanges) {
+            buffer.putLong(index.getBegin()).putLong(index.getEnd());
+        }
+        buffer.flip();
+        try (FileChannel fc = FileChannel.open(journalFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                fc.write(buffer);
+            }
+            fc.force(false);
+        } catch (IOException e) {
+            throw new RangeDownloadException(e, "Failed to create journal file '{}'", journalFile).error(log);
+        }
+    }
+
+    /**
+     * 从日志文件中计算出待下载的分片
+     *
+     * @param targetFile 保存下载数据的目标文件
+     * @param length     文件的总大小，与日志中记录的大小不一致时日志会被视为失效
+     * @param rangeSize  分片大小
+     * @return 待下载的分片，日志文件不存在或已经失效时返回null
+     */
+    public static List<Range.Index> loadPendingIndexes(File targetFile, long length, long rangeSize) {
+        File journalFile = getJournalFile(targetFile);
+        if (!journalFile.isFile()) {
+            return null;
+        }
+        ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.wrap(Files.readAllBytes(journalFile.toPath()));
+        } catch (IOException e) {
+            throw new RangeDownloadException(e, "Failed to read journal file '{}'", journalFile).error(log);
+        }
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != length) {
+            log.warn("The journal file '{}' is invalid or does not match the remote resource, the download will start over.", journalFile.getAbsolutePath());
+            return null;
+        }
+
+        // 读取所有完整的记录，末尾写了一半的记录直接忽略
+        List<Range.Index> completed = new ArrayList<>(buffer.remaining() / RECORD_SIZE);
+        while (buffer.remaining() >= RECORD_SIZE) {
+            completed.add(new Range.Index(buffer.getLong(), buffer.getLong()));
+        }
+        completed.sort(Comparator.comparingLong(Range.Index::getBegin));
+
+        // 未被记录覆盖的区间按照分片大小重新切分
+        List<Range.Index> pending = new ArrayList<>();
+        long cursor = 0;
+        for (Range.Index index : completed) {
+            if (index.getBegin() > cursor) {
+                split(pending, cursor, index.getBegin() - 1, rangeSize);
+            }
+            cursor = Math.max(cursor, index.getEnd() + 1);
+        }
+        if (cursor <= length) {
+            split(pending, cursor, length, rangeSize);
+        }
+        return pending;
+    }
+
+    /**
+     * 根据待下载的分片计算出已经下载完成的分片，用于从旧版本的索引目录迁移
+     *
+     * @param pendingRanges 待下载的分片
+     * @param length        文件的总大小
+     * @return 已经下载完成的分片
+     */
+    public static List<Range.Index> complement(List<Range.Index> pendingRanges, long length) {
+        List<Range.Index> pending = new ArrayList<>(pendingRanges);
+        pending.sort(Comparator.comparingLong(Range.Index::getBegin));
+        List<Range.Index> completed = new ArrayList<>();
+        long cursor = 0;
+        for (Range.Index index : pending) {
+            if (index.getBegin() > cursor) {
+                completed.add(new Range.Index(cursor, index.getBegin() - 1));
+            }
+            cursor = Math.max(cursor, index.getEnd() + 1);
+        }
+        if (cursor <= length) {
+            completed.add(new Range.Index(cursor, length));
+        }
+        return completed;
+    }
+
+    /**
+     * 打开目标文件对应的日志，日志已经被打开时会复用已有的实例，使用完毕后需要调用{@link #close()}释放。
+     * 日志文件不存在时返回的实例不会记录任何数据
+     *
+     * @param targetFile 保存下载数据的目标文件
+     * @return 目标文件对应的日志
+     */
+    public static RangeJournal open(File targetFile) {
+        String key = targetFile.getAbsolutePath();
+        synchronized (OPENED_JOURNALS) {
+            RangeJournal journal = OPENED_JOURNALS.get(key);
+            if (journal == null) {
+                File journalFile = getJournalFile(targetFile);
+                FileChannel fc = null;
+                if (journalFile.isFile()) {
+                    try {
+                        fc = FileChannel.open(journalFile.toPath(), StandardOpenOption.WRITE);
+                        // 截掉末尾写了一半的记录，保证后续追加的记录是对齐的
+                        long size = fc.size();
+                        long alignedSize = size < HEADER_SIZE ? size : HEADER_SIZE + (size - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE;
+                        fc.truncate(alignedSize);
+                        fc.position(alignedSize);
+                    } catch (IOException e) {
+                        throw new RangeDownloadException(e, "Failed to open journal file '{}'", journalFile).error(log);
+                    }
+                }
+                journal = new RangeJournal(key, fc, RangeFileWriter.open(targetFile));
+                OPENED_JOURNALS.put(key, journal);
+            }
+            journal.refCount++;
+            return journal;
+        }
+    }
+
+    /**
+     * 获取目标文件当前处于打开状态的日志
+     *
+     * @param targetFile 保存下载数据的目标文件
+     * @return 当前处于打开状态的日志，不存在时返回null
+     */
+    public static RangeJournal current(File targetFile) {
+        synchronized (OPENED_JOURNALS) {
+            return OPENED_JOURNALS.get(targetFile.getAbsolutePath());
+        }
+    }
+
+    /**
+     * 删除目标文件对应的日志文件
+     *
+     * @param targetFile 保存下载数据的目标文件
+     */
+    public static void delete(File targetFile) {
+        File journalFile = getJournalFile(targetFile);
+        try {
+            Files.deleteIfExists(journalFile.toPath());
+        } catch (IOException e) {
+            throw new RangeDownloadException(e, "Failed to delete journal file '{}'", journalFile).error(log);
+        }
+    }
+
+    /**
+     * 记录一个下载完成的分片，记录达到批次大小时刷盘
+     *
+     * @param index 下载完成的分片
+     * @throws IOException 刷盘时可能出现的异常
+     */
+    public synchronized void markCompleted(Range.Index index) throws IOException {
+        if (channel == null) {
+            return;
+        }
+        pendingRecords.putLong(index.getBegin()).putLong(index.getEnd());
+        if (!pendingRecords.hasRemaining()) {
+            sync();
+        }
+    }
+
+    /**
+     * 先将目标文件的数据刷盘，再将内存中的记录写入日志文件并刷盘
+     *
+     * @throws IOException 刷盘时可能出现的异常
+     */
+    public synchronized void sync() throws IOException {
+        if (channel == null || pendingRecords.position() == 0) {
+            return;
+        }
+        dataWriter.force();
+        pendingRecords.flip();
+        while (pendingRecords.hasRemaining()) {
+            channel.write(pendingRecords);
+        }
+        pendingRecords.clear();
+        channel.force(false);
+    }
+
+    /**
+     * 释放日志，引用计数归零时刷盘并关闭日志文件
+     */
+    @Override
+    public void close() {
+        synchronized (OPENED_JOURNALS) {
+            if (--refCount > 0) {
+                return;
+            }
+            OPENED_JOURNALS.remove(key);
+            try {
+                sync();
+                if (channel != null) {
+                    channel.close();
+                }
+            } catch (IOException e) {
+                throw new RangeDownloadException(e, "Failed to close journal file for '{}'", key).error(log);
+            } finally {
+                dataWriter.close();
+            }
+        }
+    }
+
+    private static void split(List<Range.Index> indexes, long begin, long end, long rangeSize) {
+        while (begin <= end) {
+            long rangeEnd = Math.min(begin + rangeSize, end);
+            indexes.add(new Range.Index(begin, rangeEnd));
+            begin = rangeEnd + 1;
+        }
+    }
+}
@@ -9,10 +9,13 @@ import org.springframework.util.FileCopyUtils;
 
 import java.io.File;
 import java.io.InputStreamReader;
-import java.io.Writer;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 import static com.luckyframework.httpclient.core.serialization.SerializationConstant.JSON_SCHEME;
 
@@ -21,6 +24,7 @@ import static com.luckyframework.httpclient.core.serialization.SerializationCons
  * <pre>
  *     在每一次获取到新的Token时都会将Token保存到指定的JSON文件中，
  *     在JSON文件中的Token未过期之前将会一直使用该Token
+ *     Token会先写入临时文件再替换原文件，读取时不会读到写了一半的文件；Token的内容没有变化时不会重写文件
  * </pre>
  *
  * @author fukang
@@ -31,13 +35,29 @@ public abstract class JsonFileTokenManager<T> extends TokenManager<T> {
 
     private static final Logger log = LoggerFactory.getLogger(JsonFileTokenManager.class);
 
+    /**
+     * 最后一次写入文件的内容
+     */
+    private volatile String lastSavedJson;
+
     @Override
     protected final void saveToken(T token) {
         try {
+            String json = JSON_SCHEME.serialization(token);
             File file = getJsonFile();
+            if (json.equals(lastSavedJson) && file.exists()) {
+                return;
+            }
             FileUtils.createSaveFolder(file.getParentFile());
-            Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
-            FileCopyUtils.copy(JSON_SCHEME.serialization(token), writer);
+            Path target = file.toPath();
+            Path temp = target.resolveSibling(file.getName() + ".tmp");
+            FileCopyUtils.copy(json, Files.newBufferedWriter(temp, StandardCharsets.UTF_8));
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            lastSavedJson = json;
         } catch (Exception e) {
             throw new LuckyRuntimeException("Failed to save token", e).error(log);
         }
@@ -49,7 +69,9 @@ public abstract class JsonFileTokenManager<T> extends TokenManager<T> {
         try {
             File file = getJsonFile();
             if (file.exists()) {
-                return (T) JSON_SCHEME.deserialization(new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8), getTokenType());
+                try (Reader reader = new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8)) {
+                    return (T) JSON_SCHEME.deserialization(reader, getTokenType());
+                }
             }
             return null;
         } catch (Exception e) {
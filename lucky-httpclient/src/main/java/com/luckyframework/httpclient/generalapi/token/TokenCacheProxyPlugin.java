@@ -31,6 +31,23 @@ public final class TokenCacheProxyPlugin implements ProxyPlugin {
 
     @Override
     public Object decorate(ProxyDecorator decorator) {
+        Method method = decorator.getMeta().getMethod();
+        return tokenManagerCache.computeIfAbsent(method, m -> createTokenManager(decorator)).getToken();
+    }
+
+    /**
+     * 创建 Token 管理器，每个方法只会创建一次，返回值类型检查与注解配置的解析也只会进行一次
+     * <pre>
+     *     1.配置了cacheFilePath，则构建{@link LocalFileTokenManager}
+     *     2.未配置cacheFilePath，则构建{@link TMemoryTokenManager}
+     *     3.刷新Token可能发生在后台线程中，此时首次调用早已结束，因此只在创建时保存一个未执行过的装饰器副本作为模板，
+     *       之后每次刷新都从模板复制出新的调用，Token有效时的调用不会再有任何额外开销
+     * </pre>
+     *
+     * @param decorator 代理装饰器
+     * @return Token 管理器
+     */
+    private TokenManager<?> createTokenManager(ProxyDecorator decorator) {
         MethodMetaContext mc = decorator.getMeta().getMethodMetaContext();
         ResolvableType returnResolvableType = mc.getMethodConvertReturnResolvableType();
 
@@ -45,36 +62,13 @@ public final class TokenCacheProxyPlugin implements ProxyPlugin {
         String cacheFilePath = mc.parseExpression(tokenCacheAnn.value(), String.class);
 
         // 根据是否配置了缓存文件路径来使用对应的缓存管理器
-        return createTokenManager(decorator, returnResolvableType, cacheFilePath).getToken();
-    }
-
-    /**
-     * 创建 Token 管理器
-     * <pre>
-     *     1.如果缓存中存在则使用缓存中的
-     *     2.缓存中不存在
-     *        a.配置了cacheFilePath，则构建{@link LocalFileTokenManager}
-     *        b.未配置cacheFilePath，则构建{@link TMemoryTokenManager}
-     *        c.将构建完成的完成的缓存管理器存入缓存
-     * </pre>
-     *
-     * @param decorator            代理装饰器
-     * @param returnResolvableType 方法返回类型
-     * @param cacheFilePath        缓存文件路径
-     * @return Token 管理器
-     */
-    private TokenManager<?> createTokenManager(ProxyDecorator decorator, ResolvableType returnResolvableType, String cacheFilePath) {
-        Method method = decorator.getMeta().getMethod();
-        TokenManager<?> tokenManager = tokenManagerCache.get(method);
-        if (tokenManager == null) {
-            tokenManager = StringUtils.hasText(cacheFilePath)
-                    ? new LocalFileTokenManager(returnResolvableType.getType(), cacheFilePath)
-                    : new TMemoryTokenManager();
-            tokenManagerCache.put(method, tokenManager);
-        }
-
+        TokenManager<?> tokenManager = StringUtils.hasText(cacheFilePath)
+                ? new LocalFileTokenManager(returnResolvableType.getType(), cacheFilePath)
+                : new TMemoryTokenManager();
+        tokenManager.setRefreshAheadMillis(tokenCacheAnn.refreshAheadMillis());
+        tokenManager.setStaleGraceMillis(tokenCacheAnn.staleGraceMillis());
         if (tokenManager instanceof ProxyDecoratorAware) {
-            ((ProxyDecoratorAware) tokenManager).setDecorator(decorator);
+            ((ProxyDecoratorAware) tokenManager).setDecorator(decorator.fork());
         }
         return tokenManager;
     }
@@ -84,6 +78,12 @@ public final class TokenCacheProxyPlugin implements ProxyPlugin {
      * ProxyDecoratorAware
      */
     interface ProxyDecoratorAware {
+
+        /**
+         * 设置用于刷新Token的装饰器模板，刷新时需要通过{@link ProxyDecorator#fork()}复制出新的调用，不能直接执行模板本身
+         *
+         * @param decorator 装饰器模板
+         */
         void setDecorator(ProxyDecorator decorator);
     }
 
@@ -92,7 +92,7 @@ public final class TokenCacheProxyPlugin implements ProxyPlugin {
      */
     static class TMemoryTokenManager extends MemoryTokenManager<TokenResult> implements ProxyDecoratorAware {
 
-        protected ProxyDecorator decorator;
+        protected volatile ProxyDecorator decorator;
 
         public void setDecorator(ProxyDecorator decorator) {
             this.decorator = decorator;
@@ -101,7 +101,7 @@ public final class TokenCacheProxyPlugin implements ProxyPlugin {
         @Override
         protected TokenResult refreshToken(@Nullable TokenResult oldToken) {
             try {
-                TokenResult tokenResult = (TokenResult) decorator.proceed();
+                TokenResult tokenResult = (TokenResult) decorator.fork().proceed();
                 tokenResult.postProcess();
                 return tokenResult;
             } catch (Throwable e) {
@@ -113,6 +113,11 @@ public final class TokenCacheProxyPlugin implements ProxyPlugin {
         protected boolean isExpires(TokenResult token) {
             return token.expires();
         }
+
+        @Override
+        protected long getExpiresAt(TokenResult token) {
+            return token.expiresAt();
+        }
     }
 
     /**
@@ -124,7 +129,7 @@ public final class TokenCacheProxyPlugin implements ProxyPlugin {
         private final Type tokenType;
         private final String cacheFilePath;
 
-        private ProxyDecorator decorator;
+        private volatile ProxyDecorator decorator;
 
         public LocalFileTokenManager(Type tokenType, String cacheFilePath) {
             this.tokenType = tokenType;
@@ -143,7 +148,7 @@ public final class TokenCacheProxyPlugin implements ProxyPlugin {
         @Override
         protected TokenResult refreshToken(@Nullable TokenResult oldToken) {
             try {
-                TokenResult tokenResult = (TokenResult) decorator.proceed();
+                TokenResult tokenResult = (TokenResult) decorator.fork().proceed();
                 tokenResult.postProcess();
                 return tokenResult;
             } catch (Throwable e) {
@@ -156,6 +161,11 @@ public final class TokenCacheProxyPlugin implements ProxyPlugin {
             return token.expires();
         }
 
+        @Override
+        protected long getExpiresAt(TokenResult token) {
+            return token.expiresAt();
+        }
+
         @Override
         protected Type getTokenType() {
             return tokenType;
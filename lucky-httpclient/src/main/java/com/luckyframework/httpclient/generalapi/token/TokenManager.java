@@ -1,9 +1,28 @@
 package com.luckyframework.httpclient.generalapi.token;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.lang.Nullable;
 
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * Token管理器
+ * <pre>
+ *     1.Token有效时{@link #getToken()}只有一次volatile读取和一次{@link #isExpires(Object)}检查，不会加锁
+ *     2.Token需要同步刷新时只有一个线程会执行刷新，其他线程等待刷新完成之后直接使用新的Token(single-flight)
+ *     3.提前刷新：{@link #getExpiresAt(Object)}能够给出Token的过期时间时，会在过期前{@link #setRefreshAheadMillis(long)}毫秒
+ *       由后台线程刷新Token，刷新期间以及刷新失败时仍然使用当前Token
+ *     4.宽限期：Token已经过期但还在过期时间之后的{@link #setStaleGraceMillis(long)}毫秒之内时，继续使用旧的Token并在后台刷新
+ *     5.开启异步保存({@link #setAsyncPersistence(boolean)})时，Token的保存由后台线程完成，短时间内的多次保存只会写入最新的Token
+ * </pre>
  *
  * @author fukang
  * @version 1.0.0
@@ -11,31 +30,271 @@ import org.springframework.lang.Nullable;
  */
 public abstract class TokenManager<T> {
 
-    protected T token;
+    private static final Logger log = LoggerFactory.getLogger(TokenManager.class);
+
+    /** 后台刷新失败之后再次尝试刷新的间隔时间(毫秒)*/
+    private static final long ASYNC_REFRESH_RETRY_MILLIS = 5000L;
+
+    /** 所有Token管理器共享的后台线程池，用于提前刷新以及异步保存Token*/
+    private static volatile ScheduledThreadPoolExecutor sharedScheduler;
+
+    protected volatile T token;
+
+    /** 当前Token的过期时间，未知时为-1*/
+    private volatile long expiresAt = -1L;
+
+    /** 当前Token需要提前刷新的时间，不需要提前刷新时为-1*/
+    private volatile long refreshAt = -1L;
+
+    /** 是否已经尝试过从缓存中加载Token*/
+    private volatile boolean cacheLoaded = false;
+
+    /** 保证同一时刻只有一个线程在刷新Token*/
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /** 是否已经提交了后台刷新任务*/
+    private final AtomicBoolean asyncRefreshing = new AtomicBoolean(false);
+
+    /** 等待异步保存的Token*/
+    private final AtomicReference<T> pendingSaveToken = new AtomicReference<>();
+
+    /** 保证同一时刻只有一个线程在保存Token*/
+    private final Object persistLock = new Object();
+
+    private volatile ScheduledFuture<?> scheduledRefresh;
+
+    private long refreshAheadMillis = 60 * 1000L;
+
+    private long staleGraceMillis = 0L;
+
+    private boolean asyncPersistence = false;
+
+    public long getRefreshAheadMillis() {
+        return refreshAheadMillis;
+    }
+
+    /**
+     * 设置在Token过期之前多久进行提前刷新，小于等于0时表示不进行提前刷新
+     *
+     * @param refreshAheadMillis 提前刷新的时间(毫秒)
+     */
+    public void setRefreshAheadMillis(long refreshAheadMillis) {
+        this.refreshAheadMillis = refreshAheadMillis;
+    }
+
+    public long getStaleGraceMillis() {
+        return staleGraceMillis;
+    }
+
+    /**
+     * 设置Token过期之后仍然可以继续使用的宽限时间，小于等于0时表示不允许使用过期的Token
+     *
+     * @param staleGraceMillis 宽限时间(毫秒)
+     */
+    public void setStaleGraceMillis(long staleGraceMillis) {
+        this.staleGraceMillis = staleGraceMillis;
+    }
+
+    public boolean isAsyncPersistence() {
+        return asyncPersistence;
+    }
+
+    /**
+     * 设置是否在后台线程中保存Token，默认关闭，即在刷新Token的线程中同步保存
+     *
+     * @param asyncPersistence 是否在后台线程中保存Token
+     */
+    public void setAsyncPersistence(boolean asyncPersistence) {
+        this.asyncPersistence = asyncPersistence;
+    }
 
     /**
      * 获取最新的Token数据
      *
      * @return 最新的Token数据
      */
-    public synchronized T getToken() {
-        if (token == null) {
-            token = getCachedToken();
-            if (token == null || isExpires(token)) {
-                refreshSaveToken();
+    public T getToken() {
+        T current = token;
+        if (current != null) {
+            if (!isExpires(current)) {
+                long refreshTime = refreshAt;
+                if (refreshTime > 0 && System.currentTimeMillis() >= refreshTime) {
+                    refreshAsync(current);
+                }
+                return current;
+            }
+            if (isInGracePeriod()) {
+                if (System.currentTimeMillis() >= refreshAt) {
+                    refreshAsync(current);
+                }
+                return current;
+            }
+        }
+        return refreshSync();
+    }
+
+    /**
+     * 同步刷新Token，同一时刻只有一个线程会执行刷新逻辑
+     */
+    private T refreshSync() {
+        refreshLock.lock();
+        try {
+            T current = token;
+            if (current == null && !cacheLoaded) {
+                cacheLoaded = true;
+                current = getCachedToken();
+                if (current != null && !isExpires(current)) {
+                    installToken(current, false);
+                    return current;
+                }
+            }
+            // 等待锁的过程中其他线程已经完成了刷新
+            if (current != null && !isExpires(current)) {
+                return current;
             }
-        } else if (isExpires(token)) {
-            refreshSaveToken();
+            T newToken = refreshToken(current);
+            installToken(newToken, true);
+            return newToken;
+        } finally {
+            refreshLock.unlock();
         }
-        return token;
     }
 
     /**
-     * 刷新并保存Token数据
+     * 在后台线程中刷新Token，刷新失败时继续使用当前Token
+     */
+    private void refreshAsync(T observed) {
+        if (!asyncRefreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            getScheduler().execute(() -> {
+                refreshLock.lock();
+                try {
+                    if (token == observed) {
+                        installToken(refreshToken(observed), true);
+                    }
+                } catch (Exception e) {
+                    refreshAt = System.currentTimeMillis() + ASYNC_REFRESH_RETRY_MILLIS;
+                    log.warn("Failed to refresh the token in the background, the current token will continue to be used.", e);
+                } finally {
+                    refreshLock.unlock();
+                    asyncRefreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            asyncRefreshing.set(false);
+        }
+    }
+
+    /**
+     * 使用新的Token，计算提前刷新的时间并在需要时保存Token
+     */
+    private void installToken(T newToken, boolean persist) {
+        long newExpiresAt = newToken == null ? -1L : getExpiresAt(newToken);
+        this.expiresAt = newExpiresAt;
+        this.refreshAt = computeRefreshAt(newExpiresAt);
+        this.token = newToken;
+        scheduleRefresh(newToken);
+        if (persist) {
+            persistToken(newToken);
+        }
+    }
+
+    private long computeRefreshAt(long tokenExpiresAt) {
+        if (tokenExpiresAt <= 0) {
+            return -1L;
+        }
+        long now = System.currentTimeMillis();
+        long remaining = tokenExpiresAt - now;
+        if (refreshAheadMillis <= 0) {
+            // 不进行提前刷新，只在宽限期内刷新
+            return tokenExpiresAt;
+        }
+        if (remaining <= 0) {
+            return now;
+        }
+        // Token的有效期小于提前刷新的时间时，在有效期过半时刷新，避免不断的刷新
+        return now + Math.max(remaining - refreshAheadMillis, remaining / 2);
+    }
+
+    private void scheduleRefresh(T newToken) {
+        ScheduledFuture<?> previous = scheduledRefresh;
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        scheduledRefresh = null;
+        if (newToken == null || refreshAheadMillis <= 0 || refreshAt <= 0) {
+            return;
+        }
+        long delay = refreshAt - System.currentTimeMillis();
+        try {
+            scheduledRefresh = getScheduler().schedule(() -> refreshAsync(newToken), Math.max(delay, 0L), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 无法提前刷新时由getToken()在需要时刷新
+        }
+    }
+
+    private boolean isInGracePeriod() {
+        long tokenExpiresAt = expiresAt;
+        return staleGraceMillis > 0 && tokenExpiresAt > 0 && System.currentTimeMillis() < tokenExpiresAt + staleGraceMillis;
+    }
+
+    private void persistToken(T newToken) {
+        if (!asyncPersistence) {
+            saveToken(newToken);
+            return;
+        }
+        pendingSaveToken.set(newToken);
+        try {
+            getScheduler().execute(this::flushPendingToken);
+        } catch (RejectedExecutionException e) {
+            flushPendingToken();
+        }
+    }
+
+    private void flushPendingToken() {
+        synchronized (persistLock) {
+            T pending = pendingSaveToken.getAndSet(null);
+            if (pending == null) {
+                return;
+            }
+            try {
+                saveToken(pending);
+            } catch (Exception e) {
+                log.warn("Failed to save the token in the background.", e);
+            }
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor getScheduler() {
+        ScheduledThreadPoolExecutor scheduler = sharedScheduler;
+        if (scheduler == null) {
+            synchronized (TokenManager.class) {
+                scheduler = sharedScheduler;
+                if (scheduler == null) {
+                    AtomicInteger threadIndex = new AtomicInteger();
+                    scheduler = new ScheduledThreadPoolExecutor(2, r -> {
+                        Thread thread = new Thread(r, "lucky-token-refresher-" + threadIndex.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    scheduler.setRemoveOnCancelPolicy(true);
+                    sharedScheduler = scheduler;
+                }
+            }
+        }
+        return scheduler;
+    }
+
+    /**
+     * 获取Token的过期时间，用于提前刷新Token以及计算宽限期，默认返回-1表示未知
+     *
+     * @param token Token数据
+     * @return Token的过期时间戳(毫秒)，未知时返回-1
      */
-    private void refreshSaveToken() {
-        token = refreshToken(token);
-        saveToken(token);
+    protected long getExpiresAt(T token) {
+        return -1L;
     }
 
     /**
@@ -13,6 +13,15 @@ public interface TokenResult {
      */
     boolean expires();
 
+    /**
+     * Token的过期时间戳(毫秒)，返回该值之后Token管理器会在Token过期之前提前在后台刷新Token
+     *
+     * @return Token的过期时间戳，未知时返回-1
+     */
+    default long expiresAt() {
+        return -1L;
+    }
+
     /**
      * 后置处理逻辑，从接口获取Token之后如果需要进行后续处理，则可以通过此方法来进行
      */
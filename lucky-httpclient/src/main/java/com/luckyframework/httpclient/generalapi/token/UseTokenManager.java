@@ -39,4 +39,16 @@ public @interface UseTokenManager {
     @AliasFor("value")
     String path() default "";
 
+    /**
+     * 在Token过期之前多久(毫秒)在后台提前刷新Token，需要Token实现{@link TokenResult#expiresAt()}方法，
+     * 小于等于0时表示不进行提前刷新
+     */
+    long refreshAheadMillis() default 60 * 1000L;
+
+    /**
+     * Token过期之后仍然可以继续使用的宽限时间(毫秒)，宽限期内会继续使用旧的Token并在后台刷新，
+     * 需要Token实现{@link TokenResult#expiresAt()}方法
+     */
+    long staleGraceMillis() default 0L;
+
 }
@@ -5,6 +5,7 @@ import com.luckyframework.common.FontUtil;
 import com.luckyframework.common.StringUtils;
 import com.luckyframework.common.TempPair;
 import com.luckyframework.exception.LuckyRuntimeException;
+import com.luckyframework.httpclient.core.executor.AsyncHttpExecutor;
 import com.luckyframework.httpclient.core.executor.HttpExecutor;
 import com.luckyframework.httpclient.core.executor.JdkHttpExecutor;
 import com.luckyframework.httpclient.core.meta.DefaultRequest;
@@ -12,8 +13,11 @@ import com.luckyframework.httpclient.core.meta.Request;
 import com.luckyframework.httpclient.core.meta.RequestMethod;
 import com.luckyframework.httpclient.core.meta.Response;
 import com.luckyframework.httpclient.core.meta.Version;
+import com.luckyframework.httpclient.core.metrics.HttpMetrics;
+import com.luckyframework.httpclient.core.metrics.InvocationMetrics;
 import com.luckyframework.httpclient.core.proxy.ProxyInfo;
 import com.luckyframework.httpclient.core.ssl.KeyStoreInfo;
+import com.luckyframework.httpclient.proxy.annotations.AsyncExecutor;
 import com.luckyframework.httpclient.proxy.annotations.ConvertProhibition;
 import com.luckyframework.httpclient.proxy.annotations.DynamicParam;
 import com.luckyframework.httpclient.proxy.annotations.ExceptionHandleMeta;
@@ -24,11 +28,15 @@ import com.luckyframework.httpclient.proxy.annotations.SSLMeta;
 import com.luckyframework.httpclient.proxy.annotations.ServerAddressMeta;
 import com.luckyframework.httpclient.proxy.annotations.StaticParam;
 import com.luckyframework.httpclient.proxy.annotations.UseAutoUrlDerivationInsurance;
+import com.luckyframework.httpclient.proxy.async.AsyncTaskExecutor;
 import com.luckyframework.httpclient.proxy.async.Model;
+import com.luckyframework.httpclient.proxy.breaker.CallGuard;
+import com.luckyframework.httpclient.proxy.breaker.CallPermit;
 import com.luckyframework.httpclient.proxy.context.ClassContext;
 import com.luckyframework.httpclient.proxy.context.Context;
 import com.luckyframework.httpclient.proxy.context.MethodContext;
 import com.luckyframework.httpclient.proxy.context.MethodMetaContext;
+import com.luckyframework.httpclient.proxy.context.RequestPlan;
 import com.luckyframework.httpclient.proxy.convert.ActivelyThrownException;
 import com.luckyframework.httpclient.proxy.convert.ConvertContext;
 import com.luckyframework.httpclient.proxy.convert.ResponseConvert;
@@ -78,6 +86,7 @@ import com.luckyframework.httpclient.proxy.ssl.HostnameVerifierBuilder;
 import com.luckyframework.httpclient.proxy.ssl.SSLAnnotationContext;
 import com.luckyframework.httpclient.proxy.ssl.SSLSocketFactoryBuilder;
 import com.luckyframework.httpclient.proxy.typeparser.AsyncMethodPackTypeParser;
+import com.luckyframework.httpclient.proxy.typeparser.AsyncPackTypeParser;
 import com.luckyframework.httpclient.proxy.typeparser.FlatBeanMethodPackTypeParser;
 import com.luckyframework.httpclient.proxy.typeparser.FutureMethodPackTypeParser;
 import com.luckyframework.httpclient.proxy.typeparser.OptionalMethodPackTypeParser;
@@ -128,10 +137,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -1811,9 +1823,9 @@ public class HttpClientProxyObjectFactory {
      * @return 响应对象Response
      * @throws Exception 执行过程中可能出现Exception异常
      */
-    private Response retryExecute(MethodContext context, Callable<Response> task) throws Throwable {
+    private Response retryExecute(MethodContext context, Request request, Callable<Response> task) throws Throwable {
         // 获取重试执行器，并尝试以重试的方式运行任务
-        return context.getRetryActuator().retryExecute(task, context);
+        return context.getRetryActuator().retryExecute(task, context, request);
     }
 
 
@@ -2137,6 +2149,13 @@ public class HttpClientProxyObjectFactory {
             // 除去上述特殊方法，其他方法均会被代理
             MethodContext methodContext = proxyObjectMetaWrap.createMethodContext(method, args);
 
+            // 支持非阻塞执行时直接包装异步执行的结果，等待响应以及重试之前的等待都不会占用异步线程池中的线程
+            AsyncPackTypeParser asyncPackTypeParser = getAsyncPackTypeParser(methodContext);
+            Function<Request, CompletableFuture<Response>> asyncSender = asyncPackTypeParser == null ? null : getAsyncRequestSender(methodContext);
+            if (asyncSender != null) {
+                return asyncPackTypeParser.wrapFuture(methodContext, () -> invokeNativeAsyncMethod(methodContext, asyncSender));
+            }
+
             try {
                 return wrapResult(methodContext, () -> this.invokeProxyMethod(methodContext));
             } finally {
@@ -2169,6 +2188,73 @@ public class HttpClientProxyObjectFactory {
         }
 
 
+        /**
+         * 获取可以用于非阻塞执行当前方法的包装类型解析器，不满足条件时返回null
+         * <pre>
+         *     1.方法没有被{@link TypeWrapProhibition}禁止包装
+         *     2.方法不是Wrapper方法
+         *     3.用于处理方法返回值的包装类型解析器实现了{@link AsyncPackTypeParser}
+         * </pre>
+         *
+         * @param mc 方法上下文
+         * @return 支持非阻塞执行的包装类型解析器
+         */
+        private AsyncPackTypeParser getAsyncPackTypeParser(MethodContext mc) {
+            if (mc.isAnnotatedCheckParent(TypeWrapProhibition.class)
+                    || mc.isImmediateExecutionWrapperMethod()
+                    || mc.isReqCreatCompleteExecutionWrapperMethod()) {
+                return null;
+            }
+            for (PackTypeParser packTypeParser : packTypeParsers) {
+                if (packTypeParser.canHandle(mc)) {
+                    return packTypeParser instanceof AsyncPackTypeParser ? (AsyncPackTypeParser) packTypeParser : null;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 获取用于异步发送请求的逻辑，不满足条件时返回null
+         * <pre>
+         *     1.方法使用的HTTP执行器实现了{@link AsyncHttpExecutor}时，使用执行器的原生异步能力，
+         *       请求同样受{@link AsyncExecutor @AsyncExecutor}等配置的并发数限制，等待许可时不会占用线程
+         *     2.方法开启了重试机制时，在异步线程池中执行每一次请求，重试之前的等待由定时器完成而不会占用线程
+         * </pre>
+         *
+         * @param mc 方法上下文
+         * @return 异步发送请求的逻辑
+         */
+        private Function<Request, CompletableFuture<Response>> getAsyncRequestSender(MethodContext mc) {
+            HttpExecutor httpExecutor = mc.getHttpExecutor();
+            if (httpExecutor instanceof AsyncHttpExecutor) {
+                AsyncHttpExecutor asyncHttpExecutor = (AsyncHttpExecutor) httpExecutor;
+                return request -> mc.getAsyncTaskExecutor().composeAsync(() -> asyncHttpExecutor.executeAsync(request));
+            }
+            if (mc.getRetryActuator().isNeedRetry()) {
+                AsyncTaskExecutor asyncTaskExecutor = mc.getAsyncTaskExecutor();
+                return request -> asyncTaskExecutor.supplyAsync(() -> httpExecutor.execute(request));
+            }
+            return null;
+        }
+
+        /**
+         * 使用非阻塞的方式执行代理方法，方法上下文会在Future完成之后销毁
+         *
+         * @param mc          方法上下文
+         * @param asyncSender 异步发送请求的逻辑
+         * @return 方法执行结果的CompletableFuture包装
+         */
+        private CompletableFuture<Object> invokeNativeAsyncMethod(MethodContext mc, Function<Request, CompletableFuture<Response>> asyncSender) {
+            CompletableFuture<Object> future;
+            try {
+                future = invokeHttpProxyMethodAsync(mc, asyncSender);
+            } catch (Throwable e) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+            }
+            return future.whenComplete((r, e) -> mc.destroy());
+        }
+
         /**
          * 执行代理方法
          *
@@ -2198,12 +2284,67 @@ public class HttpClientProxyObjectFactory {
          * @return 方法执行结果，即Http请求的结果
          */
         private Object invokeHttpProxyMethod(MethodContext methodContext) throws Throwable {
-            Request request;
+            Request request = createRequest(methodContext);
             HttpExceptionHandle exceptionHandle;
             InterceptorPerformerChain interceptorChain;
+            try {
+                // 获取异常处理器
+                exceptionHandle = getHttpExceptionHandle(methodContext);
+                // 获取拦截器链
+                interceptorChain = methodContext.getInterceptorChain();
+            } catch (RequestConstructionException e) {
+                throw e.error(log);
+            } catch (Exception e) {
+                throw new RequestConstructionException(ActivelyThrownException.getRootCause(e), "Failed to create a request instance for the proxy method ['{}']", FontUtil.getRedUnderline(MethodUtils.getLocation(methodContext.getCurrentAnnotatedElement()))).error(log);
+            }
+
+            // 执行请求
+            return executeRequest(request, methodContext, interceptorChain, exceptionHandle);
+        }
+
+        /**
+         * 构建HTTP请求并使用原生异步的方式执行，流程与{@link #invokeHttpProxyMethod(MethodContext)}一致
+         *
+         * @param methodContext 方法上下文
+         * @param asyncSender   异步发送请求的逻辑
+         * @return 方法执行结果的CompletableFuture包装
+         */
+        private CompletableFuture<Object> invokeHttpProxyMethodAsync(MethodContext methodContext, Function<Request, CompletableFuture<Response>> asyncSender) throws Throwable {
+            Request request = createRequest(methodContext);
+            HttpExceptionHandle exceptionHandle;
+            InterceptorPerformerChain interceptorChain;
+            try {
+                // 获取异常处理器
+                exceptionHandle = getHttpExceptionHandle(methodContext);
+                // 获取拦截器链
+                interceptorChain = methodContext.getInterceptorChain();
+            } catch (RequestConstructionException e) {
+                throw e.error(log);
+            } catch (Exception e) {
+                throw new RequestConstructionException(ActivelyThrownException.getRootCause(e), "Failed to create a request instance for the proxy method ['{}']", FontUtil.getRedUnderline(MethodUtils.getLocation(methodContext.getCurrentAnnotatedElement()))).error(log);
+            }
+
+            // 异步执行请求
+            return executeRequestAsync(request, methodContext, interceptorChain, exceptionHandle, asyncSender);
+        }
+
+        /**
+         * 构建HTTP请求实例
+         * <pre>
+         *     1.构建HTTP请求实例{@link Request}
+         *     2.设置公共的请求参数
+         *     3.解析{@link StaticParam @StaticParam}系列注解获取配置的静态请求参数
+         *     4.解析{@link DynamicParam @DynamicParam}系列注解获取配置的动态请求参数
+         *     5.设置SSL相关的请求参数
+         * </pre>
+         *
+         * @param methodContext 方法上下文
+         * @return 请求实例
+         */
+        private Request createRequest(MethodContext methodContext) {
             try {
                 // 获取基本请求体
-                request = createBaseRequest(methodContext);
+                Request request = createBaseRequest(methodContext);
                 // 将请求信息添加到SpEL上下文中
                 methodContext.setRequestVar(request);
                 // 公共参数设置
@@ -2214,18 +2355,12 @@ public class HttpClientProxyObjectFactory {
                 methodContext.loadDynamicParams(request);
                 // SSL相关参数的配置
                 sslSetting(request, methodContext);
-                // 获取异常处理器
-                exceptionHandle = getHttpExceptionHandle(methodContext);
-                // 获取拦截器链
-                interceptorChain = methodContext.getInterceptorChain();
+                return request;
             } catch (RequestConstructionException e) {
                 throw e.error(log);
             } catch (Exception e) {
                 throw new RequestConstructionException(ActivelyThrownException.getRootCause(e), "Failed to create a request instance for the proxy method ['{}']", FontUtil.getRedUnderline(MethodUtils.getLocation(methodContext.getCurrentAnnotatedElement()))).error(log);
             }
-
-            // 执行请求
-            return executeRequest(request, methodContext, interceptorChain, exceptionHandle);
         }
 
 
@@ -2249,10 +2384,11 @@ public class HttpClientProxyObjectFactory {
 
             // 参数列表中没有提供Request对象时，基于注解来构造
             if (request == null) {
+                RequestPlan plan = methodContext.getRequestPlan();
                 // 获取接口Class中配置的域名
-                String domainName = getBaseUrl(methodContext);
+                String domainName = getBaseUrl(methodContext, plan);
                 // 获取方法中配置的Url信息
-                TempPair<String, RequestMethod> httpRequestInfo = getHttpRequestInfo(methodContext);
+                TempPair<String, RequestMethod> httpRequestInfo = getHttpRequestInfo(methodContext, plan);
                 // 构建Request对象
                 request = new DefaultRequest(domainName, httpRequestInfo.getOne(), httpRequestInfo.getTwo());
             }
@@ -2268,11 +2404,16 @@ public class HttpClientProxyObjectFactory {
          * 获取通过{@link ServerAddressMeta}注解配置在接口上的基本Url
          *
          * @param context 方法上下文
+         * @param plan    当前方法的请求计划
          * @return 配置在接口上的域名
          */
-        private String getBaseUrl(MethodContext context) throws Exception {
+        private String getBaseUrl(MethodContext context, RequestPlan plan) throws Exception {
+            // 不包含表达式的URL直接使用常量
+            if (plan.getConstantBaseUrl() != null) {
+                return plan.getConstantBaseUrl();
+            }
             // 构建域名注解上下文
-            ServerAddressMeta domainMetaAnn = context.getMergedAnnotationCheckParent(ServerAddressMeta.class);
+            ServerAddressMeta domainMetaAnn = plan.getServerAddressMeta();
             if (domainMetaAnn == null) {
                 return ServerAddressMeta.EMPTY;
             }
@@ -2289,17 +2430,22 @@ public class HttpClientProxyObjectFactory {
          * 获取通过{@link HttpRequest}注解配置在方法上的URL和HTTP请求方法
          *
          * @param context 方法上下文
+         * @param plan    当前方法的请求计划
          * @return 配置在方法上的URL和HTTP请求方法
          */
-        private TempPair<String, RequestMethod> getHttpRequestInfo(MethodContext context) throws Exception {
-            HttpRequest httpReqAnn = context.getMergedAnnotationCheckParent(HttpRequest.class);
-            boolean enableAutoUrlDerivation = isEnableAutoUrlDerivation(context);
+        private TempPair<String, RequestMethod> getHttpRequestInfo(MethodContext context, RequestPlan plan) throws Exception {
+            HttpRequest httpReqAnn = plan.getHttpRequest();
+            boolean enableAutoUrlDerivation = isEnableAutoUrlDerivation(plan);
             if (httpReqAnn == null) {
                 if (enableAutoUrlDerivation) {
-                    return urlAutoDerivation(context);
+                    return urlAutoDerivation(context, plan);
                 }
                 throw new RequestConstructionException("The current method is not an HTTP proxy method: {}", FontUtil.getRedUnderline(MethodUtils.getLocation(context.getCurrentAnnotatedElement())));
             }
+            // 不包含表达式的路径直接使用常量
+            if (plan.getConstantPath() != null) {
+                return TempPair.of(plan.getConstantPath(), httpReqAnn.method());
+            }
             HttpRequestContext httpRequestContext = new HttpRequestContext(context, httpReqAnn);
             PathGetter pathGetter = context.generateObject(httpReqAnn.urlGetter());
             String resourcePath = pathGetter.getUrl(httpRequestContext, enableAutoUrlDerivation);
@@ -2315,11 +2461,11 @@ public class HttpClientProxyObjectFactory {
          *     2.其次使用全局配置
          * </pre>
          *
-         * @param context 方法上下文
+         * @param plan 当前方法的请求计划
          * @return 是否开启了URL自动推导
          */
-        private boolean isEnableAutoUrlDerivation(MethodContext context) {
-            UseAutoUrlDerivationInsurance useAutoUrlDerivationInsuranceAnn = context.getMergedAnnotationCheckParent(UseAutoUrlDerivationInsurance.class);
+        private boolean isEnableAutoUrlDerivation(RequestPlan plan) {
+            UseAutoUrlDerivationInsurance useAutoUrlDerivationInsuranceAnn = plan.getAutoUrlDerivationInsurance();
             if (useAutoUrlDerivationInsuranceAnn != null) {
                 return useAutoUrlDerivationInsuranceAnn.value();
             }
@@ -2344,12 +2490,13 @@ public class HttpClientProxyObjectFactory {
          * </pre>
          *
          * @param context 方法上下文
+         * @param plan    当前方法的请求计划
          * @return URL信息
          */
-        private TempPair<String, RequestMethod> urlAutoDerivation(MethodContext context) {
+        private TempPair<String, RequestMethod> urlAutoDerivation(MethodContext context, RequestPlan plan) {
             TempPair<String, RequestMethod> urlInfo = PathGetter.methodNameToUrl(context.getCurrentAnnotatedElement().getName());
             if (urlInfo.getTwo() == null) {
-                UseAutoUrlDerivationInsurance useAutoUrlDerivationInsuranceAnn = context.getMergedAnnotationCheckParent(UseAutoUrlDerivationInsurance.class);
+                UseAutoUrlDerivationInsurance useAutoUrlDerivationInsuranceAnn = plan.getAutoUrlDerivationInsurance();
                 if (useAutoUrlDerivationInsuranceAnn == null || useAutoUrlDerivationInsuranceAnn.defaultMethod() == RequestMethod.NON) {
                     urlInfo.setTwo(autoDerivationDefMethod);
                 } else {
@@ -2498,7 +2645,7 @@ public class HttpClientProxyObjectFactory {
          * @param methodContext 当前方法执行环境上下文
          */
         private void sslSetting(Request request, MethodContext methodContext) {
-            SSLMeta sslMetaAnn = methodContext.getSameAnnotationCombined(SSLMeta.class);
+            SSLMeta sslMetaAnn = methodContext.getRequestPlan().getSslMeta();
             if (sslMetaAnn != null) {
                 // 存在开关配置时，先检查开关
                 String enable = sslMetaAnn.enable();
@@ -2542,6 +2689,10 @@ public class HttpClientProxyObjectFactory {
          * @return 请求转换结果
          */
         private Object executeRequest(Request request, MethodContext methodContext, InterceptorPerformerChain interceptorChain, HttpExceptionHandle handle) throws Throwable {
+            long startNanos = System.nanoTime();
+            long deserializationNanos = -1;
+            int[] attempts = {0};
+            Throwable failure = null;
             Response response = null;
             try {
                 // 执行REQUEST Hook
@@ -2562,7 +2713,10 @@ public class HttpClientProxyObjectFactory {
                 logger.recordRequestLog(methodContext, request);
 
                 // 使用重试机制执行HTTP请求
-                response = retryExecute(methodContext, () -> doExecuteRequest(request, methodContext, logger));
+                response = retryExecute(methodContext, request, () -> {
+                    attempts[0]++;
+                    return doExecuteRequest(request, methodContext, logger);
+                });
 
                 // 执行拦截器的后置处理逻辑
                 response = interceptorChain.afterExecute(response, methodContext);
@@ -2573,20 +2727,13 @@ public class HttpClientProxyObjectFactory {
                 // 记录最终响应日志
                 logger.recordFinalResponseLog(methodContext, response);
 
-                // 是否配置了禁用转换器
-                if (methodContext.isConvertProhibition()) {
-                    // 默认结果处理方法
-                    return methodContext.handleResultAndReturn(response.getEntity(methodContext.getResultType()));
-                }
-
-                // 如果存在ResponseConvert优先使用该转换器转换结果
-                ResultConvertMeta resultConvertMetaAnn = methodContext.getSameAnnotationCombined(ResultConvertMeta.class);
-                ResponseConvert convert = resultConvertMetaAnn == null ? getResponseConvert(methodContext) : methodContext.generateObject(resultConvertMetaAnn.convert());
-                if (convert != null) {
-                    return methodContext.handleResultAndReturn(convert.convert(response, new ConvertContext(methodContext, resultConvertMetaAnn)));
-                }
-                return methodContext.handleResultAndReturn(response.getEntity(methodContext.getResultType()));
+                // 将响应结果转化为方法的返回值类型
+                long convertStartNanos = System.nanoTime();
+                Object result = convertResponse(response, methodContext);
+                deserializationNanos = System.nanoTime() - convertStartNanos;
+                return result;
             } catch (Throwable throwable) {
+                failure = throwable;
                 methodContext.setThrowableVar(throwable);
                 return handle.exceptionHandler(methodContext, request, throwable);
             } finally {
@@ -2595,44 +2742,270 @@ public class HttpClientProxyObjectFactory {
                         response.closeResource();
                     }
                 }
+                recordInvocationMetrics(methodContext, request, response, startNanos, deserializationNanos, attempts[0] - 1, failure);
+            }
+        }
+
+        /**
+         * 使用非阻塞的方式执行HTTP请求，处理流程与{@link #executeRequest}完全一致
+         * <pre>
+         *     1.请求发出之前的逻辑在调用线程中执行
+         *     2.等待响应期间不占用任何线程
+         *     3.需要重试时由重试执行器的定时器在等待时间之后发起下一次请求
+         *     4.响应到达之后的逻辑在执行器的回调线程中执行
+         * </pre>
+         *
+         * @param request       请求实例
+         * @param methodContext 方法上下文
+         * @param handle        异常处理器
+         * @param asyncSender   异步发送请求的逻辑
+         * @return 请求转换结果的CompletableFuture包装
+         */
+        private CompletableFuture<Object> executeRequestAsync(Request request, MethodContext methodContext, InterceptorPerformerChain interceptorChain, HttpExceptionHandle handle, Function<Request, CompletableFuture<Response>> asyncSender) {
+            long startNanos = System.nanoTime();
+            int[] attempts = {0};
+            CompletableFuture<Response> responseFuture;
+            try {
+                // 执行REQUEST Hook
+                methodContext.useHook(Lifecycle.REQUEST);
+
+                // 执行拦截器的前置处理逻辑
+                interceptorChain.beforeExecute(request, methodContext);
+
+                // 获取日志处理器
+                LoggerHandler logger = getLoggerHandler(methodContext);
+
+                // 记录请求日志
+                logger.recordRequestLog(methodContext, request);
+
+                // 使用重试机制异步执行HTTP请求
+                responseFuture = methodContext.getRetryActuator().retryExecuteAsync(() -> {
+                    attempts[0]++;
+                    return doExecuteRequestAsync(request, methodContext, logger, asyncSender);
+                }, methodContext, request);
+            } catch (Throwable throwable) {
+                responseFuture = new CompletableFuture<>();
+                responseFuture.completeExceptionally(throwable);
+            }
+
+            return responseFuture.handle((sourceResponse, ex) -> {
+                Response response = sourceResponse;
+                long deserializationNanos = -1;
+                Throwable failure = null;
+                try {
+                    if (ex != null) {
+                        throw ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    }
+                    response = interceptorChain.afterExecute(response, methodContext);
+                    methodContext.setResponseVar(response);
+                    getLoggerHandler(methodContext).recordFinalResponseLog(methodContext, response);
+                    long convertStartNanos = System.nanoTime();
+                    Object result = convertResponse(response, methodContext);
+                    deserializationNanos = System.nanoTime() - convertStartNanos;
+                    return result;
+                } catch (Throwable throwable) {
+                    failure = throwable;
+                    methodContext.setThrowableVar(throwable);
+                    try {
+                        return handle.exceptionHandler(methodContext, request, throwable);
+                    } catch (Throwable e) {
+                        throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+                    }
+                } finally {
+                    if (methodContext.needAutoCloseResource() && response != null) {
+                        response.closeResource();
+                    }
+                    recordInvocationMetrics(methodContext, request, response, startNanos, deserializationNanos, attempts[0] - 1, failure);
+                }
+            });
+        }
+
+        /**
+         * 记录本次方法调用的指标，未开启指标记录时直接返回
+         *
+         * @param methodContext        方法上下文
+         * @param request              请求实例
+         * @param response             最终响应，未得到响应时为null
+         * @param startNanos           方法开始执行的时间
+         * @param deserializationNanos 响应转换耗时，未执行转换时为-1
+         * @param retryCount           重试次数
+         * @param failure              执行过程中出现的异常
+         */
+        private void recordInvocationMetrics(MethodContext methodContext, Request request, Response response, long startNanos, long deserializationNanos, int retryCount, Throwable failure) {
+            if (!HttpMetrics.isEnabled()) {
+                return;
+            }
+            HttpMetrics.recordInvocation(new InvocationMetrics(
+                    methodContext.getSimpleSignature(),
+                    HttpMetrics.hostOf(request),
+                    response == null ? -1 : response.getStatus(),
+                    System.nanoTime() - startNanos,
+                    deserializationNanos,
+                    Math.max(retryCount, 0),
+                    failure
+            ));
+        }
+
+        /**
+         * 将响应结果转化为方法的返回值类型
+         * <pre>
+         *     1.如果方法被{@link ConvertProhibition @ConvertProhibition}注解标注，则表示禁止使用转换器，直接调用{@link Response#getEntity(Type)}方法得到并返回结果
+         *     2.查找方法、类、父类标注的{@link ResultConvertMeta @ResultConvert}注解，从中注解中获取相应的转化器{@link ResponseConvert}实例对响应结果进行转换
+         *     3.如果方法、类、父类上不存在{@link ResultConvertMeta @ResultConvert}注解，则直接调用{@link Response#getEntity(Type)}方法得到并返回结果
+         * </pre>
+         *
+         * @param response      响应实例
+         * @param methodContext 方法上下文
+         * @return 转换后的结果
+         */
+        private Object convertResponse(Response response, MethodContext methodContext) throws Throwable {
+            // 是否配置了禁用转换器
+            if (methodContext.isConvertProhibition()) {
+                // 默认结果处理方法
+                return methodContext.handleResultAndReturn(response.getEntity(methodContext.getResultType()));
+            }
+
+            // 如果存在ResponseConvert优先使用该转换器转换结果
+            ResultConvertMeta resultConvertMetaAnn = methodContext.getSameAnnotationCombined(ResultConvertMeta.class);
+            ResponseConvert convert = resultConvertMetaAnn == null ? getResponseConvert(methodContext) : methodContext.generateObject(resultConvertMetaAnn.convert());
+            if (convert != null) {
+                return methodContext.handleResultAndReturn(convert.convert(response, new ConvertContext(methodContext, resultConvertMetaAnn)));
             }
+            return methodContext.handleResultAndReturn(response.getEntity(methodContext.getResultType()));
         }
 
 
         /**
          * 执行HTTP请求返回响应结果，这里可以扩展Mock相关的功能
+         * <pre>
+         *     真正发送请求之前需要获取熔断器和舱壁的许可，获取失败时抛出的异常会和普通的请求异常一样交给异常处理器处理
+         * </pre>
          *
          * @param request       请求实例
          * @param methodContext 方法上下文
          * @return 响应结果
          */
         private Response doExecuteRequest(Request request, MethodContext methodContext, LoggerHandler logger) {
-            // 检查是否有Mock相关的配置，如果有，优先使用Mock的执行逻辑
-            // 首先尝试从环境变量中获取
-            Response response;
+            // 请求开始执行时间
+            long startTime = System.currentTimeMillis();
 
+            // 检查是否有Mock相关的配置，如果有，优先使用Mock的执行逻辑，没有Mock配置时执行真正的请求
+            Response response = getMockResponse(request, methodContext);
+            if (response == null) {
+                CallPermit permit = methodContext.getCallGuard().acquirePermission(methodContext, request, true);
+                try {
+                    response = methodContext.getHttpExecutor().execute(request);
+                } catch (Throwable e) {
+                    permit.onComplete(null, e);
+                    throw e;
+                }
+                permit.onComplete(response, null);
+            }
+
+            afterSourceResponse(response, methodContext, logger, startTime);
+            return response;
+        }
+
+        /**
+         * 异步执行HTTP请求返回响应结果的CompletableFuture包装，与{@link #doExecuteRequest}一样优先使用Mock响应
+         *
+         * @param request       请求实例
+         * @param methodContext 方法上下文
+         * @param logger        日志处理器
+         * @param asyncSender   异步发送请求的逻辑
+         * @return 响应结果的CompletableFuture包装
+         */
+        private CompletableFuture<Response> doExecuteRequestAsync(Request request, MethodContext methodContext, LoggerHandler logger, Function<Request, CompletableFuture<Response>> asyncSender) {
             // 请求开始执行时间
             long startTime = System.currentTimeMillis();
 
+            Response mockResponse = getMockResponse(request, methodContext);
+            CompletableFuture<Response> responseFuture = mockResponse != null
+                    ? CompletableFuture.completedFuture(mockResponse)
+                    : guardedSendAsync(request, methodContext, asyncSender);
+            return responseFuture.thenApply(response -> {
+                afterSourceResponse(response, methodContext, logger, startTime);
+                return response;
+            });
+        }
+
+        /**
+         * 获取熔断器和舱壁的许可之后异步发送请求，请求完成时记录结果并归还许可，获取许可失败时返回一个异常结束的CompletableFuture
+         *
+         * @param request       请求实例
+         * @param methodContext 方法上下文
+         * @param asyncSender   异步发送请求的逻辑
+         * @return 响应结果的CompletableFuture包装
+         */
+        private CompletableFuture<Response> guardedSendAsync(Request request, MethodContext methodContext, Function<Request, CompletableFuture<Response>> asyncSender) {
+            CallGuard callGuard = methodContext.getCallGuard();
+            if (!callGuard.isEnabled()) {
+                return asyncSender.apply(request);
+            }
+            CallPermit permit;
+            CompletableFuture<Response> responseFuture;
+            try {
+                permit = callGuard.acquirePermission(methodContext, request, false);
+            } catch (Throwable e) {
+                responseFuture = new CompletableFuture<>();
+                responseFuture.completeExceptionally(e);
+                return responseFuture;
+            }
+            try {
+                responseFuture = asyncSender.apply(request);
+            } catch (Throwable e) {
+                permit.onComplete(null, e);
+                throw e;
+            }
+            return responseFuture.whenComplete((response, e) -> permit.onComplete(response, e));
+        }
+
+        /**
+         * 获取Mock响应，没有Mock相关的配置时返回null
+         * <pre>
+         *     1.首先尝试从环境变量中获取{@link MockResponseFactory}
+         *     2.其次尝试从{@link MockMeta}注解中获取
+         * </pre>
+         *
+         * @param request       请求实例
+         * @param methodContext 方法上下文
+         * @return Mock响应
+         */
+        private Response getMockResponse(Request request, MethodContext methodContext) {
+            // 首先尝试从环境变量中获取
             MockResponseFactory mockRespFactory = methodContext.getVar(__$MOCK_RESPONSE_FACTORY$__, MockResponseFactory.class);
             if (mockRespFactory != null) {
-                response = mockRespFactory.createMockResponse(request, new MockContext(methodContext, null));
-            } else {
-                // 其次尝试从注解中获取
-                MockMeta mockAnn = methodContext.getSameAnnotationCombined(MockMeta.class);
-                if (mockAnn != null && (!StringUtils.hasText(mockAnn.enable()) || methodContext.parseExpression(mockAnn.enable(), boolean.class))) {
-                    SpELVariate contextVar = methodContext.getContextVar();
-                    if (!contextVar.hasVariable(__$IS_MOCK$__)) {
-                        contextVar.addVariable(__$IS_MOCK$__, true);
-                    }
-                    MockResponseFactory mockResponseFactory = methodContext.generateObject(mockAnn.mock(), mockAnn.mockClass(), MockResponseFactory.class);
-                    response = mockResponseFactory.createMockResponse(request, new MockContext(methodContext, mockAnn));
-                } else {
-                    // 没有Mock配置时执行真正的请求
-                    response = methodContext.getHttpExecutor().execute(request);
+                return mockRespFactory.createMockResponse(request, new MockContext(methodContext, null));
+            }
+
+            // 其次尝试从注解中获取
+            MockMeta mockAnn = methodContext.getSameAnnotationCombined(MockMeta.class);
+            if (mockAnn != null && (!StringUtils.hasText(mockAnn.enable()) || methodContext.parseExpression(mockAnn.enable(), boolean.class))) {
+                SpELVariate contextVar = methodContext.getContextVar();
+                if (!contextVar.hasVariable(__$IS_MOCK$__)) {
+                    contextVar.addVariable(__$IS_MOCK$__, true);
                 }
+                MockResponseFactory mockResponseFactory = methodContext.generateObject(mockAnn.mock(), mockAnn.mockClass(), MockResponseFactory.class);
+                return mockResponseFactory.createMockResponse(request, new MockContext(methodContext, mockAnn));
             }
+            return null;
+        }
 
+        /**
+         * 得到原始响应之后的处理逻辑
+         * <pre>
+         *     1.记录响应耗时
+         *     2.慢响应处理
+         *     3.设置原始响应变量
+         *     4.记录元响应日志
+         * </pre>
+         *
+         * @param response      原始响应
+         * @param methodContext 方法上下文
+         * @param logger        日志处理器
+         * @param startTime     请求开始执行时间
+         */
+        private void afterSourceResponse(Response response, MethodContext methodContext, LoggerHandler logger, long startTime) {
             // 请求执行结束时间和执行耗时
             ResponseTimeSpent timeSpent = new ResponseTimeSpent(startTime, System.currentTimeMillis());
             methodContext.getContextVar().addRootVariable(_$RESPONSE_TIME_SPENT$_, timeSpent);
@@ -2648,8 +3021,6 @@ public class HttpClientProxyObjectFactory {
 
             // 记录元响应日志
             logger.recordMetaResponseLog(methodContext, response);
-
-            return response;
         }
     }
 }
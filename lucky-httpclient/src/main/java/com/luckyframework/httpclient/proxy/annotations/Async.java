@@ -51,6 +51,7 @@ public @interface Async {
      * 最大并发数
      * <pre>
      *     Java线程模型下  ：使用{@link Semaphore}进行并发控制
+     *     虚拟线程模型下  ：使用{@link Semaphore}进行并发控制，等待许可时只会挂起虚拟线程
      *     Kotlin协程模型下：使用{@link kotlinx.coroutines.CoroutineDispatcher#limitedParallelism(int)}进行并发控制
      * </pre>
      */
@@ -0,0 +1,60 @@
+package com.luckyframework.httpclient.proxy.annotations;
+
+import com.luckyframework.httpclient.proxy.breaker.IsolationScope;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 舱壁注解，限制同一个方法或者同一个主机的最大并发请求数
+ * <pre>
+ *     并发数已满并且等待超时时请求会抛出{@link com.luckyframework.httpclient.proxy.breaker.BulkheadFullException}，
+ *     配合{@link com.luckyframework.httpclient.proxy.handle.ExceptionFallback @ExceptionFallback}可以直接降级
+ *     {@code
+ *
+ *          @Bulkhead(maxConcurrentCalls = "20", scope = IsolationScope.HOST)
+ *          @Get("/user/{id}")
+ *          User getUser(String id)
+ *
+ *      }
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/19 00:05
+ */
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface Bulkhead {
+
+    /**
+     * 是否开启舱壁，支持SpEL表达式
+     */
+    String enable() default "true";
+
+    /**
+     * 舱壁名称，名称相同的舱壁是共享的，为空时根据{@link #scope()}自动生成
+     */
+    String name() default "";
+
+    /**
+     * 舱壁的作用范围，默认每个方法使用独立的舱壁
+     */
+    IsolationScope scope() default IsolationScope.METHOD;
+
+    /**
+     * 最大并发请求数，支持SpEL表达式
+     */
+    String maxConcurrentCalls() default "25";
+
+    /**
+     * 并发数已满时获取许可的最大等待时间(毫秒)，为0时直接快速失败，非阻塞的异步调用不会等待，支持SpEL表达式
+     */
+    String maxWaitMillis() default "0";
+}
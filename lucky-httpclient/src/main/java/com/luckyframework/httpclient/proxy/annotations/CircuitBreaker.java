@@ -0,0 +1,96 @@
+package com.luckyframework.httpclient.proxy.annotations;
+
+import com.luckyframework.httpclient.proxy.breaker.IsolationScope;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 熔断器注解，请求的失败率或者慢调用率过高时打开熔断器，后续的请求会被快速失败
+ * <pre>
+ *     1.熔断器打开时请求会抛出{@link com.luckyframework.httpclient.proxy.breaker.CallNotPermittedException}，
+ *       配合{@link com.luckyframework.httpclient.proxy.handle.ExceptionFallback @ExceptionFallback}可以直接降级
+ *     2.出现异常或者响应状态码为5xx以及{@link #failureStatus()}中指定的状态码时记为一次失败调用
+ *     3.熔断器的状态变更事件可以通过{@link com.luckyframework.httpclient.proxy.breaker.HttpCircuitBreaker#addGlobalListener}进行监听
+ *     {@code
+ *
+ *          @ExceptionFallback(UserApiFallback.class)
+ *          @CircuitBreaker(failureRateThreshold = "50", waitDurationInOpenMillis = "10000")
+ *          interface UserApi {
+ *
+ *              @Get("/user/{id}")
+ *              User getUser(String id);
+ *          }
+ *
+ *      }
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/19 00:05
+ */
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface CircuitBreaker {
+
+    /**
+     * 是否开启熔断器，支持SpEL表达式
+     */
+    String enable() default "true";
+
+    /**
+     * 熔断器名称，名称相同的熔断器是共享的，为空时根据{@link #scope()}自动生成
+     */
+    String name() default "";
+
+    /**
+     * 熔断器的作用范围，默认每个方法使用独立的熔断器
+     */
+    IsolationScope scope() default IsolationScope.METHOD;
+
+    /**
+     * 失败率阈值(百分比)，失败率大于等于该值时打开熔断器，支持SpEL表达式
+     */
+    String failureRateThreshold() default "50";
+
+    /**
+     * 慢调用率阈值(百分比)，慢调用率大于等于该值时打开熔断器，支持SpEL表达式
+     */
+    String slowCallRateThreshold() default "100";
+
+    /**
+     * 慢调用的耗时阈值(毫秒)，支持SpEL表达式
+     */
+    String slowCallDurationMillis() default "60000";
+
+    /**
+     * 滑动窗口的大小，即统计最近多少次调用的结果，支持SpEL表达式
+     */
+    String slidingWindowSize() default "100";
+
+    /**
+     * 计算失败率之前至少需要记录的调用次数，支持SpEL表达式
+     */
+    String minimumNumberOfCalls() default "10";
+
+    /**
+     * 熔断器打开之后转换为半开状态之前需要等待的时间(毫秒)，支持SpEL表达式
+     */
+    String waitDurationInOpenMillis() default "60000";
+
+    /**
+     * 半开状态下允许通过的探测请求数，支持SpEL表达式
+     */
+    String permittedCallsInHalfOpen() default "10";
+
+    /**
+     * 除5xx之外需要被记为失败的响应状态码
+     */
+    int[] failureStatus() default {};
+}
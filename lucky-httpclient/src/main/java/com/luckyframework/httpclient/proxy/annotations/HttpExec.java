@@ -3,6 +3,7 @@ package com.luckyframework.httpclient.proxy.annotations;
 import com.luckyframework.httpclient.core.executor.HttpClient5Executor;
 import com.luckyframework.httpclient.core.executor.HttpClientExecutor;
 import com.luckyframework.httpclient.core.executor.HttpExecutor;
+import com.luckyframework.httpclient.core.executor.JavaHttpClientExecutor;
 import com.luckyframework.httpclient.core.executor.JdkHttpExecutor;
 import com.luckyframework.httpclient.core.executor.OkHttpExecutor;
 import com.luckyframework.httpclient.core.meta.Version;
@@ -118,5 +119,23 @@ public @interface HttpExec {
 
     }
 
+    /**
+     * 使用基于JDK11+ java.net.http.HttpClient的执行器
+     */
+    @Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Documented
+    @Inherited
+    @HttpVersion
+    @HttpExec(execGenerate = @ObjectGenerate(JavaHttpClientExecutor.class))
+    @Combination({HttpVersion.class, HttpExec.class})
+    @interface java_http_client {
+        /**
+         * 设置 HTTP 的版本
+         */
+        @AliasFor(annotation = HttpVersion.class, attribute = "value")
+        Version value() default Version.NON;
+    }
+
 
 }
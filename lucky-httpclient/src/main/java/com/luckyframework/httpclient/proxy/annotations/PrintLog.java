@@ -78,4 +78,9 @@ public @interface PrintLog {
      */
     Masker[] maskers() default {};
 
+    /**
+     * 是否使用异步日志模式，开启后日志的格式化、脱敏以及输出都会在后台线程中完成
+     */
+    boolean async() default false;
+
 }
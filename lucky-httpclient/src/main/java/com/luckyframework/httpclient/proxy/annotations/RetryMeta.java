@@ -1,5 +1,6 @@
 package com.luckyframework.httpclient.proxy.annotations;
 
+import com.luckyframework.httpclient.proxy.retry.RetryBudgetScope;
 import com.luckyframework.httpclient.proxy.retry.RetryDeciderContext;
 import com.luckyframework.httpclient.proxy.retry.RunBeforeRetryContext;
 import com.luckyframework.retry.RetryFailureException;
@@ -59,4 +60,26 @@ public @interface RetryMeta {
      */
     boolean strict() default false;
 
+    /**
+     * 重试预算比例，即重试请求数与正常请求数的最大比值，小于等于0时表示不限制重试
+     * <pre>
+     *     例如：0.2表示重试请求数最多为正常请求数的20%，超出时不再进行重试
+     * </pre>
+     */
+    String budgetRatio() default "0";
+
+    /**
+     * 重试预算每秒最少允许的重试次数，保证低流量时依然可以进行重试
+     */
+    String budgetMinRetriesPerSecond() default "10";
+
+    /**
+     * 重试预算的作用范围
+     * <pre>
+     *     HOST : 请求的目标主机共享同一个重试预算
+     *     API  : 同一个接口中的所有方法共享同一个重试预算
+     * </pre>
+     */
+    RetryBudgetScope budgetScope() default RetryBudgetScope.HOST;
+
 }
@@ -5,6 +5,7 @@ import com.luckyframework.httpclient.proxy.creator.Scope;
 import com.luckyframework.httpclient.proxy.retry.BackoffWaitingBeforeRetryContext;
 import com.luckyframework.httpclient.proxy.retry.ExceptionModel;
 import com.luckyframework.httpclient.proxy.retry.HttpExceptionRetryDeciderContext;
+import com.luckyframework.httpclient.proxy.retry.RetryBudgetScope;
 import com.luckyframework.retry.RetryFailureException;
 import org.springframework.core.annotation.AliasFor;
 import sun.net.ConnectionResetException;
@@ -132,6 +133,31 @@ public @interface Retryable {
     @AliasFor(annotation = RetryMeta.class, attribute = "strict")
     boolean strict() default false;
 
+    /**
+     * 重试预算比例，即重试请求数与正常请求数的最大比值，小于等于0时表示不限制重试
+     * <pre>
+     *     例如：0.2表示重试请求数最多为正常请求数的20%，超出时不再进行重试
+     * </pre>
+     */
+    @AliasFor(annotation = RetryMeta.class, attribute = "budgetRatio")
+    String budgetRatio() default "0";
+
+    /**
+     * 重试预算每秒最少允许的重试次数，保证低流量时依然可以进行重试
+     */
+    @AliasFor(annotation = RetryMeta.class, attribute = "budgetMinRetriesPerSecond")
+    String budgetMinRetriesPerSecond() default "10";
+
+    /**
+     * 重试预算的作用范围
+     * <pre>
+     *     HOST : 请求的目标主机共享同一个重试预算
+     *     API  : 同一个接口中的所有方法共享同一个重试预算
+     * </pre>
+     */
+    @AliasFor(annotation = RetryMeta.class, attribute = "budgetScope")
+    RetryBudgetScope budgetScope() default RetryBudgetScope.HOST;
+
     /**
      * 重试等待时长
      */
@@ -0,0 +1,142 @@
+package com.luckyframework.httpclient.proxy.async;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 异步任务执行器的并发闸门，同一个执行器中的阻塞任务与非阻塞任务共享同一组并发许可
+ * <pre>
+ *     1.阻塞任务通过{@link #acquire()}和{@link #release()}获取与归还许可，获取不到许可时阻塞当前线程
+ *     2.本身就是异步的任务(例如原生异步HTTP请求)通过{@link #submit(Supplier)}执行，许可在任务返回的CompletableFuture完成之后才会归还，
+ *       获取不到许可的任务会进入等待队列，而不是阻塞调用线程
+ *     3.每次入队和归还许可之后都会尝试排空等待队列，保证不会出现有空闲许可但任务仍在排队的情况
+ *     4.同一时刻只有一个线程在排空等待队列，排空期间再次触发的排空请求只会让该线程多执行一轮，
+ *       因此即使任务同步完成也不会产生递归调用
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/19 10:20
+ */
+public class AsyncConcurrencyGate {
+
+    private final Semaphore permits;
+    private final Queue<Runnable> waitingQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 排空请求计数，不为0时表示已经有线程在排空等待队列
+     */
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    /**
+     * 并发闸门构造器
+     *
+     * @param concurrency 最大并发数，必须大于0
+     */
+    public AsyncConcurrencyGate(int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("The concurrency of the gate must be greater than 0.");
+        }
+        this.permits = new Semaphore(concurrency);
+    }
+
+    /**
+     * 根据并发数创建并发闸门，并发数小于等于0时表示不做并发控制，此时返回null
+     *
+     * @param concurrency 最大并发数
+     * @return 并发闸门
+     */
+    public static AsyncConcurrencyGate of(int concurrency) {
+        return concurrency > 0 ? new AsyncConcurrencyGate(concurrency) : null;
+    }
+
+    /**
+     * 阻塞地获取一个并发许可，获取成功之后必须调用{@link #release()}归还
+     *
+     * @throws InterruptedException 等待许可时线程被中断
+     */
+    public void acquire() throws InterruptedException {
+        permits.acquire();
+    }
+
+    /**
+     * 归还一个并发许可，并将许可优先交给等待队列中的异步任务
+     */
+    public void release() {
+        permits.release();
+        drain();
+    }
+
+    /**
+     * 在并发许可的控制下执行一个异步任务
+     *
+     * @param asyncTask 异步任务
+     * @param <R>       任务结果类型
+     * @return 任务执行结果的CompletableFuture包装
+     */
+    public <R> CompletableFuture<R> submit(Supplier<CompletableFuture<R>> asyncTask) {
+        CompletableFuture<R> resultFuture = new CompletableFuture<>();
+        waitingQueue.offer(() -> start(asyncTask, resultFuture));
+        drain();
+        return resultFuture;
+    }
+
+    /**
+     * 获取剩余的并发许可数
+     *
+     * @return 剩余的并发许可数
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 获取正在等待并发许可的异步任务数
+     *
+     * @return 正在等待并发许可的异步任务数
+     */
+    public int getQueuedCount() {
+        return waitingQueue.size();
+    }
+
+    private <R> void start(Supplier<CompletableFuture<R>> asyncTask, CompletableFuture<R> resultFuture) {
+        CompletableFuture<R> taskFuture;
+        try {
+            taskFuture = asyncTask.get();
+        } catch (Throwable e) {
+            release();
+            resultFuture.completeExceptionally(e);
+            return;
+        }
+        taskFuture.whenComplete((r, e) -> {
+            release();
+            if (e != null) {
+                resultFuture.completeExceptionally(e);
+            } else {
+                resultFuture.complete(r);
+            }
+        });
+    }
+
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (!waitingQueue.isEmpty() && permits.tryAcquire()) {
+                Runnable task = waitingQueue.poll();
+                if (task == null) {
+                    permits.release();
+                    continue;
+                }
+                task.run();
+            }
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
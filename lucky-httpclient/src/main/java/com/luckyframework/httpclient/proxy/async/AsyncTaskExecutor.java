@@ -28,4 +28,16 @@ public interface AsyncTaskExecutor extends ExecutorHolder {
      * @return 任务执行结果的CompletableFuture包装类
      */
     <R> CompletableFuture<R> supplyAsync(Supplier<R> supplier);
+
+    /**
+     * 在执行器的并发限制下执行一个本身就是异步的任务，任务不会占用执行器中的线程，
+     * 并发许可在任务返回的CompletableFuture完成之后归还，默认实现不做并发控制
+     *
+     * @param asyncTask 异步任务
+     * @param <R>       任务结果类型
+     * @return 任务执行结果的CompletableFuture包装类
+     */
+    default <R> CompletableFuture<R> composeAsync(Supplier<CompletableFuture<R>> asyncTask) {
+        return asyncTask.get();
+    }
 }
@@ -1,6 +1,8 @@
 package com.luckyframework.httpclient.proxy.async;
 
 import com.luckyframework.httpclient.proxy.HttpClientProxyObjectFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.Executor;
 
@@ -13,8 +15,10 @@ import java.util.concurrent.Executor;
  */
 public class AsyncTaskExecutorFactory {
 
+    private static final Logger log = LoggerFactory.getLogger(AsyncTaskExecutorFactory.class);
+
     /**
-     * 根据【异步模型 + 线程池 + 并发数】来创建异步任务执行器
+     * 根据【异步模型 + 线程池 + 并发数】来创建异步任务执行器，虚拟线程模型下不会使用传入的异步执行器
      *
      * @param executor    异步执行器
      * @param concurrency 并发数
@@ -22,6 +26,9 @@ public class AsyncTaskExecutorFactory {
      * @return 异步任务执行器
      */
     public static AsyncTaskExecutor create(Executor executor, int concurrency, Model model) {
+        if (useVirtualThread(model)) {
+            return VirtualThreadAsyncTaskExecutor.create(concurrency);
+        }
         if (model == Model.KOTLIN_COROUTINE) {
             return KotlinCoroutineAsyncTaskExecutor.createByExecutor(executor, concurrency);
         }
@@ -37,6 +44,9 @@ public class AsyncTaskExecutorFactory {
      * @return 异步任务执行器
      */
     public static AsyncTaskExecutor createDefault(HttpClientProxyObjectFactory factory, int concurrency, Model model) {
+        if (useVirtualThread(model)) {
+            return VirtualThreadAsyncTaskExecutor.create(concurrency);
+        }
         if (model == Model.KOTLIN_COROUTINE) {
             return factory.isDefaultExecutor()
                     ? KotlinCoroutineAsyncTaskExecutor.createDefault(concurrency)
@@ -44,4 +54,21 @@ public class AsyncTaskExecutorFactory {
         }
         return JavaThreadAsyncTaskExecutor.createByExecutor(factory.getAsyncExecutor(), concurrency);
     }
+
+    /**
+     * 是否使用虚拟线程模型，运行环境不支持虚拟线程时退化为Java线程模型
+     *
+     * @param model 异步模型
+     * @return 是否使用虚拟线程模型
+     */
+    private static boolean useVirtualThread(Model model) {
+        if (model != Model.VIRTUAL_THREAD) {
+            return false;
+        }
+        if (VirtualThreadAsyncTaskExecutor.isSupported()) {
+            return true;
+        }
+        log.warn("Virtual threads are not supported by the current runtime (java.version={}), falling back to the Java thread model.", System.getProperty("java.version"));
+        return false;
+    }
 }
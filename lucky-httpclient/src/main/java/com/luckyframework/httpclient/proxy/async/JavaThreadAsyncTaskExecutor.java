@@ -5,7 +5,6 @@ import org.springframework.util.Assert;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Semaphore;
 import java.util.function.Supplier;
 
 /**
@@ -18,7 +17,7 @@ import java.util.function.Supplier;
 public class JavaThreadAsyncTaskExecutor implements AsyncTaskExecutor {
 
     private final Executor executor;
-    private final Semaphore concurrencySemaphore;
+    private final AsyncConcurrencyGate concurrencyGate;
 
     public static JavaThreadAsyncTaskExecutor createByExecutor(Executor executor) {
         return new JavaThreadAsyncTaskExecutor(executor, -1);
@@ -31,26 +30,22 @@ public class JavaThreadAsyncTaskExecutor implements AsyncTaskExecutor {
     private JavaThreadAsyncTaskExecutor(@NonNull Executor executor, int concurrency) {
         Assert.notNull(executor, "executor must not be null");
         this.executor = executor;
-        if (concurrency > 0) {
-            this.concurrencySemaphore = new Semaphore(concurrency);
-        } else {
-            this.concurrencySemaphore = null;
-        }
-
+        // 阻塞任务与原生异步任务共享同一个并发闸门中的许可
+        this.concurrencyGate = AsyncConcurrencyGate.of(concurrency);
     }
 
     @Override
     public void execute(Runnable command) {
-        if (concurrencySemaphore == null) {
+        if (concurrencyGate == null) {
             executor.execute(command);
         } else {
             try {
-                concurrencySemaphore.acquire();
+                concurrencyGate.acquire();
                 executor.execute(() -> {
                     try {
                         command.run();
                     } finally {
-                        concurrencySemaphore.release();
+                        concurrencyGate.release();
                     }
                 });
             } catch (InterruptedException e) {
@@ -62,24 +57,31 @@ public class JavaThreadAsyncTaskExecutor implements AsyncTaskExecutor {
 
     @Override
     public <R> CompletableFuture<R> supplyAsync(Supplier<R> supplier) {
-        if (concurrencySemaphore == null) {
+        if (concurrencyGate == null) {
             return CompletableFuture.supplyAsync(supplier, executor);
         } else {
             return CompletableFuture.supplyAsync(() -> {
                 try {
-                    concurrencySemaphore.acquire();
-                    return supplier.get();
+                    concurrencyGate.acquire();
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     throw new AsyncTaskExecutorException(e);
+                }
+                try {
+                    return supplier.get();
                 } finally {
-                    concurrencySemaphore.release();
+                    concurrencyGate.release();
                 }
             }, executor);
         }
 
     }
 
+    @Override
+    public <R> CompletableFuture<R> composeAsync(Supplier<CompletableFuture<R>> asyncTask) {
+        return concurrencyGate == null ? asyncTask.get() : concurrencyGate.submit(asyncTask);
+    }
+
     @Override
     public Executor getExecutor() {
         return this.executor;
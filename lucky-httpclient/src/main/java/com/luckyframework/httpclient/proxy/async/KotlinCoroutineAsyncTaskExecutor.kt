@@ -14,7 +14,8 @@ import java.util.function.Supplier
  */
 class KotlinCoroutineAsyncTaskExecutor private constructor(
     private val coroutineScope: CoroutineScope,
-    private val executor: Executor? = null
+    private val executor: Executor? = null,
+    private val concurrencyGate: AsyncConcurrencyGate? = null
 ) : AsyncTaskExecutor {
 
     companion object {
@@ -37,7 +38,7 @@ class KotlinCoroutineAsyncTaskExecutor private constructor(
                 dispatcher + SupervisorJob() + CoroutineName(COROUTINE_NAME)
             )
             // 存储用户传入的 Executor 引用，用于后续可能的关闭操作
-            return KotlinCoroutineAsyncTaskExecutor(scope, executor)
+            return KotlinCoroutineAsyncTaskExecutor(scope, executor, AsyncConcurrencyGate.of(concurrency))
         }
 
         /**
@@ -66,7 +67,7 @@ class KotlinCoroutineAsyncTaskExecutor private constructor(
                 dispatcher + CoroutineName(COROUTINE_NAME)
             )
             // 全局调度器无法安全关闭，返回 null
-            return KotlinCoroutineAsyncTaskExecutor(scope, null)
+            return KotlinCoroutineAsyncTaskExecutor(scope, null, AsyncConcurrencyGate.of(concurrency))
         }
 
         /**
@@ -78,11 +79,22 @@ class KotlinCoroutineAsyncTaskExecutor private constructor(
         }
     }
 
+    /**
+     * 开启并发控制时，任务需要先从并发闸门中获取许可，与原生异步任务共享同一组许可
+     */
     override fun execute(command: Runnable?) {
-        coroutineScope.launch { command?.run() }
+        if (concurrencyGate == null) {
+            coroutineScope.launch { command?.run() }
+        } else {
+            concurrencyGate.submit(Supplier { launchAsync(Supplier<Any?> { command?.run(); null }) })
+        }
     }
 
     override fun <R : Any?> supplyAsync(supplier: Supplier<R>?): CompletableFuture<R> {
+        return concurrencyGate?.submit(Supplier { launchAsync(supplier) }) ?: launchAsync(supplier)
+    }
+
+    private fun <R : Any?> launchAsync(supplier: Supplier<R>?): CompletableFuture<R> {
         val future = CompletableFuture<R>()
         coroutineScope.launch {
             try {
@@ -95,6 +107,13 @@ class KotlinCoroutineAsyncTaskExecutor private constructor(
         return future
     }
 
+    /**
+     * 原生异步任务不会占用协程，只需要从并发闸门中获取许可
+     */
+    override fun <R : Any?> composeAsync(asyncTask: Supplier<CompletableFuture<R>>): CompletableFuture<R> {
+        return concurrencyGate?.submit(asyncTask) ?: asyncTask.get()
+    }
+
     /**
      * 获取底层 Executor
      * - 如果使用 createByExecutor 创建，返回用户提供的线程池
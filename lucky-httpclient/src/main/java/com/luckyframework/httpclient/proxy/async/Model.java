@@ -19,6 +19,12 @@ public enum Model {
      */
     KOTLIN_COROUTINE,
 
+    /**
+     * 虚拟线程模型，每个任务运行在一个新的虚拟线程中，需要JDK 21及以上的运行环境，
+     * 运行环境不支持时退化为{@link #JAVA_THREAD}
+     */
+    VIRTUAL_THREAD,
+
     /**
      * 使用公用的异步模型
      */
@@ -0,0 +1,198 @@
+package com.luckyframework.httpclient.proxy.async;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 基于虚拟线程实现的异步任务执行器（需要JDK 21及以上的运行环境）
+ * <pre>
+ *     1.每个任务都运行在一个新的虚拟线程中，阻塞式的HTTP调用不会占用平台线程，无需再调整线程池大小
+ *     2.并发数大于0时使用{@link AsyncConcurrencyGate}进行并发控制，等待许可的任务只会挂起自己所在的虚拟线程，
+ *       原生异步任务与阻塞任务共享同一组许可
+ *     3.提供执行中与排队中的任务数，便于监控
+ *     4.虚拟线程相关的API通过反射获取，项目本身依然可以在Java 8下编译
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 14:40
+ */
+public class VirtualThreadAsyncTaskExecutor implements AsyncTaskExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadAsyncTaskExecutor.class);
+
+    /**
+     * 虚拟线程名称前缀
+     */
+    private static final String THREAD_NAME_PREFIX = "http-vt-";
+
+    /**
+     * 当前运行环境是否支持虚拟线程
+     */
+    private static final boolean SUPPORTED = detectSupport();
+
+    private final ExecutorService executor;
+    private final AsyncConcurrencyGate concurrencyGate;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private VirtualThreadAsyncTaskExecutor(ExecutorService executor, int concurrency) {
+        this.executor = executor;
+        this.concurrencyGate = AsyncConcurrencyGate.of(concurrency);
+    }
+
+    /**
+     * 当前运行环境是否支持虚拟线程
+     *
+     * @return 是否支持虚拟线程
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * 创建一个基于虚拟线程的异步任务执行器
+     *
+     * @param concurrency 并发数，小于等于0时不做并发控制
+     * @return 基于虚拟线程的异步任务执行器
+     * @throws AsyncTaskExecutorException 当前运行环境不支持虚拟线程时抛出该异常
+     */
+    public static VirtualThreadAsyncTaskExecutor create(int concurrency) {
+        return new VirtualThreadAsyncTaskExecutor(newVirtualThreadExecutor(), concurrency);
+    }
+
+    /**
+     * 创建一个无并发限制的基于虚拟线程的异步任务执行器
+     *
+     * @return 基于虚拟线程的异步任务执行器
+     * @throws AsyncTaskExecutorException 当前运行环境不支持虚拟线程时抛出该异常
+     */
+    public static VirtualThreadAsyncTaskExecutor create() {
+        return create(-1);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(() -> runWithPermit(() -> {
+            command.run();
+            return null;
+        }));
+    }
+
+    @Override
+    public <R> CompletableFuture<R> supplyAsync(Supplier<R> supplier) {
+        return CompletableFuture.supplyAsync(() -> runWithPermit(supplier), executor);
+    }
+
+    @Override
+    public <R> CompletableFuture<R> composeAsync(Supplier<CompletableFuture<R>> asyncTask) {
+        return concurrencyGate == null ? asyncTask.get() : concurrencyGate.submit(asyncTask);
+    }
+
+    @Override
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * 获取正在执行中的任务数
+     *
+     * @return 正在执行中的任务数
+     */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * 获取正在等待并发许可的任务数(包含等待中的原生异步任务)，未开启并发控制时始终为0
+     *
+     * @return 正在等待并发许可的任务数
+     */
+    public int getQueuedCount() {
+        return concurrencyGate == null ? queued.get() : queued.get() + concurrencyGate.getQueuedCount();
+    }
+
+    /**
+     * 获取剩余的并发许可数，未开启并发控制时返回-1
+     *
+     * @return 剩余的并发许可数
+     */
+    public int getAvailablePermits() {
+        return concurrencyGate == null ? -1 : concurrencyGate.getAvailablePermits();
+    }
+
+    /**
+     * 获取许可后执行任务，虚拟线程中的阻塞等待不会占用平台线程
+     *
+     * @param supplier 要执行的任务
+     * @param <R>      任务结果类型
+     * @return 任务执行结果
+     */
+    private <R> R runWithPermit(Supplier<R> supplier) {
+        if (concurrencyGate != null) {
+            queued.incrementAndGet();
+            try {
+                concurrencyGate.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AsyncTaskExecutorException(e);
+            } finally {
+                queued.decrementAndGet();
+            }
+        }
+        inFlight.incrementAndGet();
+        try {
+            return supplier.get();
+        } finally {
+            inFlight.decrementAndGet();
+            if (concurrencyGate != null) {
+                concurrencyGate.release();
+            }
+        }
+    }
+
+    /**
+     * 通过反射创建一个为每个任务启动一个虚拟线程的{@link ExecutorService}
+     * <pre>
+     *     Thread.ofVirtual().name(prefix, 0).factory()
+     *     Executors.newThreadPerTaskExecutor(factory)
+     * </pre>
+     *
+     * @return 虚拟线程执行器
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        if (!SUPPORTED) {
+            throw new AsyncTaskExecutorException("Virtual threads require JDK 21 or later, current runtime is {}", System.getProperty("java.version"));
+        }
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+        } catch (Exception e) {
+            throw new AsyncTaskExecutorException(e, "Failed to create virtual thread executor");
+        }
+    }
+
+    private static boolean detectSupport() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // JDK 19/20中虚拟线程为预览特性，未开启预览时调用会抛出异常
+            ofVirtual.invoke(null);
+            return true;
+        } catch (Throwable e) {
+            log.debug("Virtual threads are not available in the current runtime: {}", e.toString());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.luckyframework.httpclient.proxy.breaker;
+
+import com.luckyframework.httpclient.core.exception.HttpExecutorException;
+
+/**
+ * 舱壁的并发数已满时请求被快速失败所抛出的异常
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:30
+ */
+public class BulkheadFullException extends HttpExecutorException {
+
+    public BulkheadFullException(HttpBulkhead bulkhead) {
+        super("The bulkhead【{}】 is full (maxConcurrentCalls: {}), the call is not permitted.", bulkhead.getName(), bulkhead.getMaxConcurrentCalls());
+    }
+}
@@ -0,0 +1,151 @@
+package com.luckyframework.httpclient.proxy.breaker;
+
+import com.luckyframework.common.StringUtils;
+import com.luckyframework.httpclient.core.meta.Request;
+import com.luckyframework.httpclient.core.metrics.HttpMetrics;
+import com.luckyframework.httpclient.proxy.context.MethodContext;
+import org.springframework.lang.Nullable;
+
+/**
+ * 调用保护器，每次真正发送请求之前获取熔断器和舱壁的许可，请求结束之后记录结果并归还许可
+ * <pre>
+ *     1.熔断器不允许调用时抛出{@link CallNotPermittedException}，舱壁并发数已满时抛出{@link BulkheadFullException}，
+ *       这两个异常都是{@link com.luckyframework.httpclient.core.exception.HttpExecutorException}的子类，
+ *       会和普通的请求异常一样交给异常处理器处理，例如使用{@link com.luckyframework.httpclient.proxy.handle.ExceptionFallback @ExceptionFallback}进行降级
+ *     2.保护作用于每一次真正的请求，开启重试时每一次重试都会单独获取许可，Mock请求不受保护
+ *     3.作用范围为{@link IsolationScope#METHOD}和{@link IsolationScope#API}时熔断器和舱壁只会查找一次
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:55
+ */
+public class CallGuard {
+
+    /**
+     * 没有开启熔断器和舱壁时使用的调用保护器
+     */
+    public static final CallGuard NONE = new CallGuard(null, null, null, null, null, 0, 0L);
+
+    /** 熔断器名称，为空时根据作用范围生成*/
+    private final String breakerName;
+    private final IsolationScope breakerScope;
+    @Nullable
+    private final CircuitBreakerConfig breakerConfig;
+
+    /** 舱壁名称，为空时根据作用范围生成*/
+    private final String bulkheadName;
+    private final IsolationScope bulkheadScope;
+    private final int maxConcurrentCalls;
+    private final long maxWaitMillis;
+
+    private volatile HttpCircuitBreaker cachedBreaker;
+    private volatile HttpBulkhead cachedBulkhead;
+
+    /**
+     * 调用保护器构造器
+     *
+     * @param breakerName        熔断器名称，为空时根据作用范围生成
+     * @param breakerScope       熔断器的作用范围
+     * @param breakerConfig      熔断器配置，为null时表示不使用熔断器
+     * @param bulkheadName       舱壁名称，为空时根据作用范围生成
+     * @param bulkheadScope      舱壁的作用范围
+     * @param maxConcurrentCalls 舱壁的最大并发请求数，小于等于0时表示不使用舱壁
+     * @param maxWaitMillis      舱壁并发数已满时获取许可的最大等待时间(毫秒)
+     */
+    public CallGuard(String breakerName, IsolationScope breakerScope, @Nullable CircuitBreakerConfig breakerConfig,
+                     String bulkheadName, IsolationScope bulkheadScope, int maxConcurrentCalls, long maxWaitMillis) {
+        this.breakerName = breakerName;
+        this.breakerScope = breakerScope == null ? IsolationScope.METHOD : breakerScope;
+        this.breakerConfig = breakerConfig;
+        this.bulkheadName = bulkheadName;
+        this.bulkheadScope = bulkheadScope == null ? IsolationScope.METHOD : bulkheadScope;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * 是否开启了熔断器或者舱壁
+     */
+    public boolean isEnabled() {
+        return breakerConfig != null || maxConcurrentCalls > 0;
+    }
+
+    /**
+     * 获取一次调用的许可
+     *
+     * @param methodContext 方法上下文
+     * @param request       当前请求
+     * @param allowWait     舱壁并发数已满时是否允许等待，非阻塞的异步调用应该传入false
+     * @return 调用许可
+     * @throws CallNotPermittedException 熔断器不允许调用时抛出
+     * @throws BulkheadFullException     舱壁并发数已满时抛出
+     */
+    public CallPermit acquirePermission(MethodContext methodContext, Request request, boolean allowWait) {
+        if (!isEnabled()) {
+            return CallPermit.NONE;
+        }
+        HttpCircuitBreaker breaker = getCircuitBreaker(methodContext, request);
+        if (breaker != null && !breaker.tryAcquirePermission()) {
+            throw new CallNotPermittedException(breaker);
+        }
+        HttpBulkhead bulkhead = getBulkhead(methodContext, request);
+        if (bulkhead != null && !bulkhead.tryAcquire(allowWait)) {
+            if (breaker != null) {
+                breaker.releasePermission();
+            }
+            throw new BulkheadFullException(bulkhead);
+        }
+        return new CallPermit(breaker, bulkhead);
+    }
+
+    @Nullable
+    private HttpCircuitBreaker getCircuitBreaker(MethodContext methodContext, Request request) {
+        if (breakerConfig == null) {
+            return null;
+        }
+        HttpCircuitBreaker breaker = cachedBreaker;
+        if (breaker != null) {
+            return breaker;
+        }
+        breaker = HttpCircuitBreaker.getOrCreate(resolveName(breakerName, breakerScope, methodContext, request), breakerConfig);
+        if (isCacheable(breakerName, breakerScope)) {
+            cachedBreaker = breaker;
+        }
+        return breaker;
+    }
+
+    @Nullable
+    private HttpBulkhead getBulkhead(MethodContext methodContext, Request request) {
+        if (maxConcurrentCalls <= 0) {
+            return null;
+        }
+        HttpBulkhead bulkhead = cachedBulkhead;
+        if (bulkhead != null) {
+            return bulkhead;
+        }
+        bulkhead = HttpBulkhead.getOrCreate(resolveName(bulkheadName, bulkheadScope, methodContext, request), maxConcurrentCalls, maxWaitMillis);
+        if (isCacheable(bulkheadName, bulkheadScope)) {
+            cachedBulkhead = bulkhead;
+        }
+        return bulkhead;
+    }
+
+    private static boolean isCacheable(String name, IsolationScope scope) {
+        return StringUtils.hasText(name) || scope != IsolationScope.HOST;
+    }
+
+    private static String resolveName(String name, IsolationScope scope, MethodContext methodContext, Request request) {
+        if (StringUtils.hasText(name)) {
+            return name;
+        }
+        switch (scope) {
+            case HOST:
+                return "host:" + HttpMetrics.hostOf(request);
+            case API:
+                return "api:" + methodContext.getCurrentAnnotatedElement().getDeclaringClass().getName();
+            default:
+                return "method:" + methodContext.getSimpleSignature();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.luckyframework.httpclient.proxy.breaker;
+
+import com.luckyframework.httpclient.core.exception.HttpExecutorException;
+
+/**
+ * 熔断器处于打开状态(或者半开状态下探测请求数已满)时请求被快速失败所抛出的异常
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:30
+ */
+public class CallNotPermittedException extends HttpExecutorException {
+
+    public CallNotPermittedException(HttpCircuitBreaker circuitBreaker) {
+        super("The circuit breaker【{}】 is {}, the call is not permitted.", circuitBreaker.getName(), circuitBreaker.getState());
+    }
+}
@@ -0,0 +1,46 @@
+package com.luckyframework.httpclient.proxy.breaker;
+
+/**
+ * 一次调用的执行结果
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:18
+ */
+public enum CallOutcome {
+
+    SUCCESS(false, false),
+    SLOW_SUCCESS(false, true),
+    FAILURE(true, false),
+    SLOW_FAILURE(true, true);
+
+    private final boolean failure;
+    private final boolean slow;
+
+    CallOutcome(boolean failure, boolean slow) {
+        this.failure = failure;
+        this.slow = slow;
+    }
+
+    public boolean isFailure() {
+        return failure;
+    }
+
+    public boolean isSlow() {
+        return slow;
+    }
+
+    /**
+     * 获取对应的执行结果
+     *
+     * @param failure 是否失败
+     * @param slow    是否为慢调用
+     * @return 执行结果
+     */
+    public static CallOutcome of(boolean failure, boolean slow) {
+        if (failure) {
+            return slow ? SLOW_FAILURE : FAILURE;
+        }
+        return slow ? SLOW_SUCCESS : SUCCESS;
+    }
+}
@@ -0,0 +1,69 @@
+package com.luckyframework.httpclient.proxy.breaker;
+
+import com.luckyframework.window.RingBufferWindow;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 记录最近N次调用结果的滑动窗口，在元素进出窗口时无锁地维护失败调用数和慢调用数
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:20
+ */
+public class CallOutcomeWindow extends RingBufferWindow<CallOutcome> {
+
+    private final AtomicInteger failureCount = new AtomicInteger();
+    private final AtomicInteger slowCount = new AtomicInteger();
+
+    public CallOutcomeWindow(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    protected void onElementAdded(CallOutcome outcome) {
+        if (outcome.isFailure()) {
+            failureCount.incrementAndGet();
+        }
+        if (outcome.isSlow()) {
+            slowCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    protected void onElementEvicted(CallOutcome outcome) {
+        if (outcome.isFailure()) {
+            failureCount.decrementAndGet();
+        }
+        if (outcome.isSlow()) {
+            slowCount.decrementAndGet();
+        }
+    }
+
+    public int getFailureCount() {
+        return Math.max(failureCount.get(), 0);
+    }
+
+    public int getSlowCount() {
+        return Math.max(slowCount.get(), 0);
+    }
+
+    /**
+     * 获取失败率(百分比)，窗口为空时返回-1
+     */
+    public float getFailureRate() {
+        return rate(getFailureCount());
+    }
+
+    /**
+     * 获取慢调用率(百分比)，窗口为空时返回-1
+     */
+    public float getSlowCallRate() {
+        return rate(getSlowCount());
+    }
+
+    private float rate(int count) {
+        int size = size();
+        return size == 0 ? -1F : Math.min(count * 100F / size, 100F);
+    }
+}
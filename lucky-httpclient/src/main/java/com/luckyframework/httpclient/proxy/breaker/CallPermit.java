@@ -0,0 +1,73 @@
+package com.luckyframework.httpclient.proxy.breaker;
+
+import com.luckyframework.httpclient.core.meta.Response;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 一次调用获取到的熔断器以及舱壁许可，调用结束之后需要通过{@link #onComplete(Response, Throwable)}记录结果并归还许可
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:50
+ */
+public class CallPermit {
+
+    /**
+     * 没有开启熔断器和舱壁时使用的许可
+     */
+    public static final CallPermit NONE = new CallPermit(null, null);
+
+    @Nullable
+    private final HttpCircuitBreaker circuitBreaker;
+
+    @Nullable
+    private final HttpBulkhead bulkhead;
+
+    private final long startNanos;
+
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    CallPermit(@Nullable HttpCircuitBreaker circuitBreaker, @Nullable HttpBulkhead bulkhead) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 记录调用结果并归还许可，多次调用时只有第一次生效
+     * <pre>
+     *     出现异常或者响应状态码满足{@link CircuitBreakerConfig#isFailureStatus(int)}时记为一次失败调用
+     * </pre>
+     *
+     * @param response  响应结果
+     * @param throwable 调用过程中出现的异常
+     */
+    public void onComplete(@Nullable Response response, @Nullable Throwable throwable) {
+        if (this == NONE || !completed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (circuitBreaker != null) {
+                boolean failure = throwable != null || (response != null && circuitBreaker.getConfig().isFailureStatus(response.getStatus()));
+                circuitBreaker.onResult(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), failure);
+            }
+        } finally {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    @Nullable
+    public HttpCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    @Nullable
+    public HttpBulkhead getBulkhead() {
+        return bulkhead;
+    }
+}
@@ -0,0 +1,170 @@
+package com.luckyframework.httpclient.proxy.breaker;
+
+import java.util.Arrays;
+
+/**
+ * 熔断器配置
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:25
+ */
+public class CircuitBreakerConfig {
+
+    /**
+     * 失败率阈值(百分比)，失败率大于等于该值时打开熔断器
+     */
+    private float failureRateThreshold = 50F;
+
+    /**
+     * 慢调用率阈值(百分比)，慢调用率大于等于该值时打开熔断器
+     */
+    private float slowCallRateThreshold = 100F;
+
+    /**
+     * 慢调用的耗时阈值(毫秒)
+     */
+    private long slowCallDurationMillis = 60000L;
+
+    /**
+     * 滑动窗口的大小，即统计最近多少次调用的结果
+     */
+    private int slidingWindowSize = 100;
+
+    /**
+     * 计算失败率之前至少需要记录的调用次数
+     */
+    private int minimumNumberOfCalls = 10;
+
+    /**
+     * 熔断器从打开状态转换为半开状态之前需要等待的时间(毫秒)
+     */
+    private long waitDurationInOpenMillis = 60000L;
+
+    /**
+     * 半开状态下允许通过的探测请求数
+     */
+    private int permittedCallsInHalfOpen = 10;
+
+    /**
+     * 除5xx之外需要被记为失败的响应状态码
+     */
+    private int[] failureStatus = new int[0];
+
+    public float getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(float failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public float getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(float slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public long getSlowCallDurationMillis() {
+        return slowCallDurationMillis;
+    }
+
+    public void setSlowCallDurationMillis(long slowCallDurationMillis) {
+        this.slowCallDurationMillis = slowCallDurationMillis;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public void setSlidingWindowSize(int slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+    }
+
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+    }
+
+    public long getWaitDurationInOpenMillis() {
+        return waitDurationInOpenMillis;
+    }
+
+    public void setWaitDurationInOpenMillis(long waitDurationInOpenMillis) {
+        this.waitDurationInOpenMillis = waitDurationInOpenMillis;
+    }
+
+    public int getPermittedCallsInHalfOpen() {
+        return permittedCallsInHalfOpen;
+    }
+
+    public void setPermittedCallsInHalfOpen(int permittedCallsInHalfOpen) {
+        this.permittedCallsInHalfOpen = permittedCallsInHalfOpen;
+    }
+
+    public int[] getFailureStatus() {
+        return failureStatus;
+    }
+
+    public void setFailureStatus(int[] failureStatus) {
+        this.failureStatus = failureStatus == null ? new int[0] : failureStatus;
+    }
+
+    /**
+     * 判断某个响应状态码是否需要被记为失败
+     *
+     * @param status 响应状态码
+     * @return 是否需要被记为失败
+     */
+    public boolean isFailureStatus(int status) {
+        if (status >= 500) {
+            return true;
+        }
+        for (int failure : failureStatus) {
+            if (failure == status) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 校验配置是否合法
+     */
+    public void validate() {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("'failureRateThreshold' must be between 0 (exclusive) and 100.");
+        }
+        if (slowCallRateThreshold <= 0 || slowCallRateThreshold > 100) {
+            throw new IllegalArgumentException("'slowCallRateThreshold' must be between 0 (exclusive) and 100.");
+        }
+        if (slidingWindowSize <= 0) {
+            throw new IllegalArgumentException("'slidingWindowSize' must be greater than 0.");
+        }
+        if (permittedCallsInHalfOpen <= 0) {
+            throw new IllegalArgumentException("'permittedCallsInHalfOpen' must be greater than 0.");
+        }
+        if (waitDurationInOpenMillis < 0) {
+            throw new IllegalArgumentException("'waitDurationInOpenMillis' cannot be less than 0.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerConfig{" +
+                "failureRateThreshold=" + failureRateThreshold +
+                ", slowCallRateThreshold=" + slowCallRateThreshold +
+                ", slowCallDurationMillis=" + slowCallDurationMillis +
+                ", slidingWindowSize=" + slidingWindowSize +
+                ", minimumNumberOfCalls=" + minimumNumberOfCalls +
+                ", waitDurationInOpenMillis=" + waitDurationInOpenMillis +
+                ", permittedCallsInHalfOpen=" + permittedCallsInHalfOpen +
+                ", failureStatus=" + Arrays.toString(failureStatus) +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+package com.luckyframework.httpclient.proxy.breaker;
+
+/**
+ * 熔断器状态变更事件
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:28
+ */
+public class CircuitBreakerEvent {
+
+    private final HttpCircuitBreaker circuitBreaker;
+    private final CircuitState fromState;
+    private final CircuitState toState;
+    private final float failureRate;
+    private final float slowCallRate;
+    private final long timestamp;
+
+    public CircuitBreakerEvent(HttpCircuitBreaker circuitBreaker, CircuitState fromState, CircuitState toState, float failureRate, float slowCallRate) {
+        this.circuitBreaker = circuitBreaker;
+        this.fromState = fromState;
+        this.toState = toState;
+        this.failureRate = failureRate;
+        this.slowCallRate = slowCallRate;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    public HttpCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public String getName() {
+        return circuitBreaker.getName();
+    }
+
+    public CircuitState getFromState() {
+        return fromState;
+    }
+
+    public CircuitState getToState() {
+        return toState;
+    }
+
+    /**
+     * 状态变更时的失败率(百分比)，没有统计数据时为-1
+     */
+    public float getFailureRate() {
+        return failureRate;
+    }
+
+    /**
+     * 状态变更时的慢调用率(百分比)，没有统计数据时为-1
+     */
+    public float getSlowCallRate() {
+        return slowCallRate;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerEvent{" +
+                "name='" + getName() + '\'' +
+                ", fromState=" + fromState +
+                ", toState=" + toState +
+                ", failureRate=" + failureRate +
+                ", slowCallRate=" + slowCallRate +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
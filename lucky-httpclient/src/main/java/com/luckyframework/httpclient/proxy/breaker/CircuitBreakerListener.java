@@ -0,0 +1,19 @@
+package com.luckyframework.httpclient.proxy.breaker;
+
+/**
+ * 熔断器状态变更监听器
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:28
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+
+    /**
+     * 熔断器状态发生变更时的回调，回调在触发状态变更的线程中执行，不应该执行耗时的操作
+     *
+     * @param event 状态变更事件
+     */
+    void onStateTransition(CircuitBreakerEvent event);
+}
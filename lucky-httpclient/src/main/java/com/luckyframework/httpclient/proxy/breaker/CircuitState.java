@@ -0,0 +1,26 @@
+package com.luckyframework.httpclient.proxy.breaker;
+
+/**
+ * 熔断器的状态
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:15
+ */
+public enum CircuitState {
+
+    /**
+     * 关闭状态，所有请求正常通过并统计执行结果
+     */
+    CLOSED,
+
+    /**
+     * 打开状态，所有请求都会被快速失败
+     */
+    OPEN,
+
+    /**
+     * 半开状态，只允许有限个探测请求通过，根据探测结果决定关闭还是重新打开熔断器
+     */
+    HALF_OPEN
+}
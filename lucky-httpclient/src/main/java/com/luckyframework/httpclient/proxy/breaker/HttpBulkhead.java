@@ -0,0 +1,150 @@
+package com.luckyframework.httpclient.proxy.breaker;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 基于信号量的舱壁，用于限制同一个方法或者同一个主机的最大并发请求数
+ * <pre>
+ *     1.并发数未满时直接获取许可，并发数已满时最多等待{@code maxWaitMillis}毫秒，为0时直接快速失败
+ *     2.非阻塞的异步调用不会等待许可，并发数已满时直接快速失败
+ *     3.相同名称的舱壁是共享的，通过{@link #getOrCreate(String, int, long)}获取，配置以第一次创建时为准
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:45
+ */
+public class HttpBulkhead {
+
+    private static final Map<String, HttpBulkhead> BULKHEAD_MAP = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final long maxWaitMillis;
+    private final Semaphore semaphore;
+
+    private final LongAdder permittedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * 舱壁构造器
+     *
+     * @param name               舱壁名称
+     * @param maxConcurrentCalls 最大并发请求数
+     * @param maxWaitMillis      并发数已满时获取许可的最大等待时间(毫秒)
+     */
+    public HttpBulkhead(String name, int maxConcurrentCalls, long maxWaitMillis) {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("'maxConcurrentCalls' must be greater than 0.");
+        }
+        if (maxWaitMillis < 0) {
+            throw new IllegalArgumentException("'maxWaitMillis' cannot be less than 0.");
+        }
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMillis = maxWaitMillis;
+        this.semaphore = new Semaphore(maxConcurrentCalls);
+    }
+
+    /**
+     * 获取或者创建一个共享的舱壁，名称相同时返回同一个实例
+     *
+     * @param name               舱壁名称
+     * @param maxConcurrentCalls 最大并发请求数
+     * @param maxWaitMillis      并发数已满时获取许可的最大等待时间(毫秒)
+     * @return 舱壁
+     */
+    public static HttpBulkhead getOrCreate(String name, int maxConcurrentCalls, long maxWaitMillis) {
+        return BULKHEAD_MAP.computeIfAbsent(name, k -> new HttpBulkhead(name, maxConcurrentCalls, maxWaitMillis));
+    }
+
+    /**
+     * 获取所有共享的舱壁
+     *
+     * @return 所有共享的舱壁
+     */
+    public static Collection<HttpBulkhead> getBulkheads() {
+        return Collections.unmodifiableCollection(BULKHEAD_MAP.values());
+    }
+
+    /**
+     * 尝试获取一个并发许可，获取到许可之后必须调用{@link #release()}归还
+     *
+     * @param allowWait 并发数已满时是否允许等待
+     * @return 是否获取到许可
+     */
+    public boolean tryAcquire(boolean allowWait) {
+        boolean acquired = semaphore.tryAcquire();
+        if (!acquired && allowWait && maxWaitMillis > 0) {
+            try {
+                acquired = semaphore.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (acquired) {
+            permittedCount.increment();
+        } else {
+            rejectedCount.increment();
+        }
+        return acquired;
+    }
+
+    /**
+     * 归还一个并发许可
+     */
+    public void release() {
+        semaphore.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    /**
+     * 获取当前可用的并发许可数
+     */
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+
+    /**
+     * 获取成功获取许可的调用数
+     */
+    public long getPermittedCount() {
+        return permittedCount.sum();
+    }
+
+    /**
+     * 获取被快速失败的调用数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "HttpBulkhead{" +
+                "name='" + name + '\'' +
+                ", maxConcurrentCalls=" + maxConcurrentCalls +
+                ", maxWaitMillis=" + maxWaitMillis +
+                ", availablePermits=" + getAvailablePermits() +
+                ", permittedCount=" + getPermittedCount() +
+                ", rejectedCount=" + getRejectedCount() +
+                '}';
+    }
+}
@@ -0,0 +1,351 @@
+package com.luckyframework.httpclient.proxy.breaker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 基于滑动窗口的无锁熔断器
+ * <pre>
+ *     1.关闭状态：所有请求正常通过，执行结果被记录到大小为{@code slidingWindowSize}的环形窗口中，
+ *       记录数达到{@code minimumNumberOfCalls}并且失败率或者慢调用率超过阈值时打开熔断器
+ *     2.打开状态：所有请求都会被快速失败，等待{@code waitDurationInOpenMillis}毫秒之后的第一个请求会将熔断器转换为半开状态
+ *     3.半开状态：只允许{@code permittedCallsInHalfOpen}个探测请求通过，所有探测请求完成之后根据失败率和慢调用率决定关闭还是重新打开熔断器
+ *     4.状态保存在一个不可变的状态对象中，所有的状态变更都通过CAS完成，只有CAS成功的线程会发布状态变更事件
+ *     5.相同名称的熔断器是共享的，通过{@link #getOrCreate(String, CircuitBreakerConfig)}获取，配置以第一次创建时为准
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:35
+ */
+public class HttpCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpCircuitBreaker.class);
+
+    private static final Map<String, HttpCircuitBreaker> BREAKER_MAP = new ConcurrentHashMap<>();
+
+    /** 所有熔断器共享的状态变更监听器*/
+    private static final List<CircuitBreakerListener> GLOBAL_LISTENERS = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    private final CircuitBreakerConfig config;
+    private final AtomicReference<StateHolder> stateRef;
+    private final List<CircuitBreakerListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder notPermittedCount = new LongAdder();
+
+    /**
+     * 熔断器构造器
+     *
+     * @param name   熔断器名称
+     * @param config 熔断器配置
+     */
+    public HttpCircuitBreaker(String name, CircuitBreakerConfig config) {
+        config.validate();
+        this.name = name;
+        this.config = config;
+        this.stateRef = new AtomicReference<>(closed());
+    }
+
+    /**
+     * 获取或者创建一个共享的熔断器，名称相同时返回同一个实例
+     *
+     * @param name   熔断器名称
+     * @param config 熔断器配置
+     * @return 熔断器
+     */
+    public static HttpCircuitBreaker getOrCreate(String name, CircuitBreakerConfig config) {
+        return BREAKER_MAP.computeIfAbsent(name, k -> new HttpCircuitBreaker(name, config));
+    }
+
+    /**
+     * 获取所有共享的熔断器
+     *
+     * @return 所有共享的熔断器
+     */
+    public static Collection<HttpCircuitBreaker> getCircuitBreakers() {
+        return Collections.unmodifiableCollection(BREAKER_MAP.values());
+    }
+
+    /**
+     * 添加一个对所有熔断器生效的状态变更监听器
+     *
+     * @param listener 状态变更监听器
+     */
+    public static void addGlobalListener(CircuitBreakerListener listener) {
+        GLOBAL_LISTENERS.add(listener);
+    }
+
+    /**
+     * 移除一个对所有熔断器生效的状态变更监听器
+     *
+     * @param listener 状态变更监听器
+     */
+    public static void removeGlobalListener(CircuitBreakerListener listener) {
+        GLOBAL_LISTENERS.remove(listener);
+    }
+
+    /**
+     * 添加一个只对当前熔断器生效的状态变更监听器
+     *
+     * @param listener 状态变更监听器
+     */
+    public void addListener(CircuitBreakerListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 移除一个只对当前熔断器生效的状态变更监听器
+     *
+     * @param listener 状态变更监听器
+     */
+    public void removeListener(CircuitBreakerListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 尝试获取一次调用的许可，获取到许可之后必须调用{@link #onResult(long, boolean)}或者{@link #releasePermission()}
+     *
+     * @return 是否允许本次调用
+     */
+    public boolean tryAcquirePermission() {
+        for (;;) {
+            StateHolder holder = stateRef.get();
+            switch (holder.state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.currentTimeMillis() - holder.openedAt < config.getWaitDurationInOpenMillis()) {
+                        notPermittedCount.increment();
+                        return false;
+                    }
+                    // 等待时间已过，转换为半开状态之后重新尝试获取许可
+                    transition(holder, halfOpen());
+                    break;
+                default:
+                    if (tryDecrement(holder.permits)) {
+                        return true;
+                    }
+                    notPermittedCount.increment();
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * 归还一次已经获取但并未执行的调用许可
+     */
+    public void releasePermission() {
+        StateHolder holder = stateRef.get();
+        if (holder.state == CircuitState.HALF_OPEN) {
+            holder.permits.incrementAndGet();
+        }
+    }
+
+    /**
+     * 记录一次调用的执行结果
+     *
+     * @param durationMillis 调用耗时(毫秒)
+     * @param failure        调用是否失败
+     */
+    public void onResult(long durationMillis, boolean failure) {
+        if (failure) {
+            failureCount.increment();
+        } else {
+            successCount.increment();
+        }
+        StateHolder holder = stateRef.get();
+        if (holder.state == CircuitState.OPEN) {
+            return;
+        }
+        CallOutcomeWindow window = holder.window;
+        window.addElement(CallOutcome.of(failure, durationMillis >= config.getSlowCallDurationMillis()));
+        if (holder.state == CircuitState.CLOSED) {
+            if (window.size() >= config.getMinimumNumberOfCalls() && isThresholdExceeded(window)) {
+                transition(holder, open());
+            }
+        } else if (window.size() >= config.getPermittedCallsInHalfOpen()) {
+            transition(holder, isThresholdExceeded(window) ? open() : closed());
+        }
+    }
+
+    /**
+     * 将熔断器重置为关闭状态并清空统计数据
+     */
+    public void reset() {
+        StateHolder holder = stateRef.get();
+        transition(holder, closed());
+    }
+
+    /**
+     * 强制打开熔断器
+     */
+    public void transitionToOpen() {
+        StateHolder holder = stateRef.get();
+        if (holder.state != CircuitState.OPEN) {
+            transition(holder, open());
+        }
+    }
+
+    private static boolean tryDecrement(AtomicInteger permits) {
+        for (;;) {
+            int current = permits.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (permits.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean isThresholdExceeded(CallOutcomeWindow window) {
+        return window.getFailureRate() >= config.getFailureRateThreshold()
+                || window.getSlowCallRate() >= config.getSlowCallRateThreshold();
+    }
+
+    private void transition(StateHolder expected, StateHolder next) {
+        if (!stateRef.compareAndSet(expected, next)) {
+            return;
+        }
+        CircuitBreakerEvent event = new CircuitBreakerEvent(this, expected.state, next.state, rateOf(expected, true), rateOf(expected, false));
+        if (next.state == CircuitState.OPEN) {
+            log.warn("The circuit breaker【{}】 transitioned from {} to OPEN (failureRate: {}%, slowCallRate: {}%), calls will be rejected for {}ms.",
+                    name, expected.state, event.getFailureRate(), event.getSlowCallRate(), config.getWaitDurationInOpenMillis());
+        } else {
+            log.info("The circuit breaker【{}】 transitioned from {} to {}.", name, expected.state, next.state);
+        }
+        publish(event, GLOBAL_LISTENERS);
+        publish(event, listeners);
+    }
+
+    private void publish(CircuitBreakerEvent event, List<CircuitBreakerListener> listenerList) {
+        for (CircuitBreakerListener listener : listenerList) {
+            try {
+                listener.onStateTransition(event);
+            } catch (Exception e) {
+                log.warn("The circuit breaker listener '{}' failed to handle the event: {}", listener, event, e);
+            }
+        }
+    }
+
+    private static float rateOf(StateHolder holder, boolean failure) {
+        if (holder.window == null) {
+            return -1F;
+        }
+        return failure ? holder.window.getFailureRate() : holder.window.getSlowCallRate();
+    }
+
+    private StateHolder closed() {
+        return new StateHolder(CircuitState.CLOSED, -1L, new CallOutcomeWindow(config.getSlidingWindowSize()), null);
+    }
+
+    private StateHolder open() {
+        return new StateHolder(CircuitState.OPEN, System.currentTimeMillis(), null, null);
+    }
+
+    private StateHolder halfOpen() {
+        int permitted = config.getPermittedCallsInHalfOpen();
+        return new StateHolder(CircuitState.HALF_OPEN, -1L, new CallOutcomeWindow(permitted), new AtomicInteger(permitted));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitBreakerConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * 获取熔断器当前的状态
+     */
+    public CircuitState getState() {
+        return stateRef.get().state;
+    }
+
+    /**
+     * 获取当前窗口中的失败率(百分比)，没有统计数据时返回-1
+     */
+    public float getFailureRate() {
+        return rateOf(stateRef.get(), true);
+    }
+
+    /**
+     * 获取当前窗口中的慢调用率(百分比)，没有统计数据时返回-1
+     */
+    public float getSlowCallRate() {
+        return rateOf(stateRef.get(), false);
+    }
+
+    /**
+     * 获取记录的成功调用数
+     */
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    /**
+     * 获取记录的失败调用数
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * 获取被快速失败的调用数
+     */
+    public long getNotPermittedCount() {
+        return notPermittedCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "HttpCircuitBreaker{" +
+                "name='" + name + '\'' +
+                ", state=" + getState() +
+                ", failureRate=" + getFailureRate() +
+                ", slowCallRate=" + getSlowCallRate() +
+                ", successCount=" + getSuccessCount() +
+                ", failureCount=" + getFailureCount() +
+                ", notPermittedCount=" + getNotPermittedCount() +
+                '}';
+    }
+
+    /**
+     * 不可变的熔断器状态
+     */
+    private static final class StateHolder {
+
+        /** 当前状态*/
+        private final CircuitState state;
+
+        /** 熔断器打开的时间，只在打开状态下有效*/
+        private final long openedAt;
+
+        /** 记录调用结果的窗口，打开状态下为null*/
+        private final CallOutcomeWindow window;
+
+        /** 半开状态下剩余的探测许可数，只在半开状态下有效*/
+        private final AtomicInteger permits;
+
+        private StateHolder(CircuitState state, long openedAt, CallOutcomeWindow window, AtomicInteger permits) {
+            this.state = state;
+            this.openedAt = openedAt;
+            this.window = window;
+            this.permits = permits;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.luckyframework.httpclient.proxy.breaker;
+
+/**
+ * 熔断器以及舱壁的隔离范围
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 23:15
+ */
+public enum IsolationScope {
+
+    /**
+     * 每个方法使用独立的熔断器或舱壁
+     */
+    METHOD,
+
+    /**
+     * 同一个接口中的所有方法共享同一个熔断器或舱壁
+     */
+    API,
+
+    /**
+     * 请求的目标主机(host:port)共享同一个熔断器或舱壁
+     */
+    HOST
+}
@@ -6,6 +6,7 @@ import com.luckyframework.common.TempPair;
 import com.luckyframework.httpclient.core.executor.HttpClientExecutor;
 import com.luckyframework.httpclient.core.executor.HttpExecutor;
 import com.luckyframework.httpclient.core.executor.JdkHttpExecutor;
+import com.luckyframework.httpclient.core.executor.JavaHttpClientExecutor;
 import com.luckyframework.httpclient.core.executor.OkHttpExecutor;
 import com.luckyframework.httpclient.core.meta.RequestMethod;
 import com.luckyframework.httpclient.proxy.async.Model;
@@ -585,6 +586,9 @@ public class ConfigApi extends CommonApi {
             _retry.setExpression(getStringValue(mRetry.getExpression(), cRetry.getExpression()));
             _retry.setExCheckModel(getValue(mRetry.getExCheckModel(), cRetry.getExCheckModel()));
             _retry.setExExcludeModel(getValue(mRetry.getExExcludeModel(), cRetry.getExExcludeModel()));
+            _retry.setBudgetRatio(getValue(mRetry.getBudgetRatio(), cRetry.getBudgetRatio()));
+            _retry.setBudgetMinRetriesPerSecond(getValue(mRetry.getBudgetMinRetriesPerSecond(), cRetry.getBudgetMinRetriesPerSecond()));
+            _retry.setBudgetScope(getValue(mRetry.getBudgetScope(), cRetry.getBudgetScope()));
 
             Set<Class<? extends Throwable>> exception = new HashSet<>(cRetry.getException());
             exception.addAll(mRetry.getException());
@@ -626,8 +630,10 @@ public class ConfigApi extends CommonApi {
                 return LazyValue.of(HttpClientExecutor::new);
             case "OK_HTTP":
                 return LazyValue.of(OkHttpExecutor::new);
+            case "JAVA_HTTP_CLIENT":
+                return LazyValue.of(JavaHttpClientExecutor::new);
             default:
-                throw new ConfigurationParserException("Unsupported HttpExecutor type: '{}' Optional configuration values are: JDK/HTTP_CLIENT/OK_HTTP", name);
+                throw new ConfigurationParserException("Unsupported HttpExecutor type: '{}' Optional configuration values are: JDK/HTTP_CLIENT/OK_HTTP/JAVA_HTTP_CLIENT", name);
         }
     }
 
@@ -38,4 +38,9 @@ public class ConfigApiBackoffWaitingBeforeRetryContext extends RunBeforeRetryCon
     public void doBeforeRetry(TaskResult<Object> taskResult) {
         new BackoffWaitBeforeRetry(waitMillis, multiplier, maxWaitMillis, minWaitMillis).beforeRetry(taskResult);
     }
+
+    @Override
+    public Long getAsyncWaitMillis(TaskResult<Object> taskResult) {
+        return new BackoffWaitBeforeRetry(waitMillis, multiplier, maxWaitMillis, minWaitMillis).getWaitTimeMillis(taskResult.getRetryNum());
+    }
 }
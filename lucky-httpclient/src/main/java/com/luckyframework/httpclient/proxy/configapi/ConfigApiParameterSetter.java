@@ -20,6 +20,7 @@ import com.luckyframework.httpclient.proxy.function.SerializationFunctions;
 import com.luckyframework.httpclient.proxy.mock.DefaultMockResponseFactory;
 import com.luckyframework.httpclient.proxy.mock.MockResponseFactory;
 import com.luckyframework.httpclient.proxy.paraminfo.ParamInfo;
+import com.luckyframework.httpclient.proxy.retry.RetryBudgetPolicy;
 import com.luckyframework.httpclient.proxy.retry.RetryDeciderContext;
 import com.luckyframework.httpclient.proxy.retry.RunBeforeRetryContext;
 import com.luckyframework.httpclient.proxy.setter.HeaderParameterSetter;
@@ -57,6 +58,7 @@ import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$ASYNC_
 import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$HTTP_EXECUTOR$__;
 import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$LISTENER_VAR$__;
 import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$MOCK_RESPONSE_FACTORY$__;
+import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$RETRY_BUDGET_POLICY$__;
 import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$RETRY_COUNT$__;
 import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$RETRY_DECIDER_FUNCTION$__;
 import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$RETRY_RUN_BEFORE_RETRY_FUNCTION$__;
@@ -277,6 +279,12 @@ public class ConfigApiParameterSetter implements ParameterSetter {
 
             contextVar.addVariable(__$RETRY_RUN_BEFORE_RETRY_FUNCTION$__, beforeRetryFunction);
             contextVar.addVariable(__$RETRY_DECIDER_FUNCTION$__, deciderFunction);
+
+            Double budgetRatio = retry.getBudgetRatio();
+            if (budgetRatio != null && budgetRatio > 0) {
+                int minRetriesPerSecond = retry.getBudgetMinRetriesPerSecond() == null ? 10 : retry.getBudgetMinRetriesPerSecond();
+                contextVar.addVariable(__$RETRY_BUDGET_POLICY$__, new RetryBudgetPolicy(retry.getBudgetScope(), budgetRatio, minRetriesPerSecond));
+            }
         }
     }
 
@@ -48,7 +48,7 @@ import java.util.concurrent.Semaphore;
  *          #指定请求是否异步，仅对void方法生效
  *          async: true/false
  *          #异步模型，支持Java线程模型和Kotlin协程模型
- *          async-model: JAVA_THREAD/KOTLIN_COROUTINE
+ *          async-model: JAVA_THREAD/KOTLIN_COROUTINE/VIRTUAL_THREAD
  *          #指定执行改异步请求的线程池名称，支持Executor、ThreadPoolParam、String类型的返回结果
  *          async-executor: async-pool-name
  *          #最大并发数，配置之后lucky会控制其并发能力，此配置的优先级低于async-executor
@@ -1,6 +1,7 @@
 package com.luckyframework.httpclient.proxy.configapi;
 
 import com.luckyframework.httpclient.proxy.retry.ExceptionModel;
+import com.luckyframework.httpclient.proxy.retry.RetryBudgetScope;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -90,6 +91,21 @@ public class RetryConf {
      */
     private String funcName;
 
+    /**
+     * 重试预算比例，即重试请求数与正常请求数的最大比值，为空或者小于等于0时表示不限制重试
+     */
+    private Double budgetRatio;
+
+    /**
+     * 重试预算每秒最少允许的重试次数，为空时默认为10
+     */
+    private Integer budgetMinRetriesPerSecond;
+
+    /**
+     * 重试预算的作用范围，为空时默认为{@link RetryBudgetScope#HOST}
+     */
+    private RetryBudgetScope budgetScope;
+
 
     /**
      *
@@ -330,4 +346,52 @@ public class RetryConf {
     public void setExExcludeModel(ExceptionModel exExcludeModel) {
         this.exExcludeModel = exExcludeModel;
     }
+
+    /**
+     *
+     * @return
+     */
+    public Double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    /**
+     *
+     * @param budgetRatio
+     */
+    public void setBudgetRatio(Double budgetRatio) {
+        this.budgetRatio = budgetRatio;
+    }
+
+    /**
+     *
+     * @return
+     */
+    public Integer getBudgetMinRetriesPerSecond() {
+        return budgetMinRetriesPerSecond;
+    }
+
+    /**
+     *
+     * @param budgetMinRetriesPerSecond
+     */
+    public void setBudgetMinRetriesPerSecond(Integer budgetMinRetriesPerSecond) {
+        this.budgetMinRetriesPerSecond = budgetMinRetriesPerSecond;
+    }
+
+    /**
+     *
+     * @return
+     */
+    public RetryBudgetScope getBudgetScope() {
+        return budgetScope;
+    }
+
+    /**
+     *
+     * @param budgetScope
+     */
+    public void setBudgetScope(RetryBudgetScope budgetScope) {
+        this.budgetScope = budgetScope;
+    }
 }
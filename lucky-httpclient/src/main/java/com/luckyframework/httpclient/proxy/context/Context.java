@@ -147,20 +147,25 @@ public abstract class Context implements ContextSpELExecution {
      */
     private final AnnotatedElement currentAnnotatedElement;
 
+    /**
+     * 注解缓存中用于表示注解不存在的占位对象，{@link ConcurrentHashMap}中不能存放null值
+     */
+    private static final Object ABSENT_ANNOTATION = new Object();
+
     /**
      * 合并注解缓存
      */
-    private final Map<Class<? extends Annotation>, Annotation> mergedAnnotationMap = new ConcurrentHashMap<>(8);
+    private final Map<Class<? extends Annotation>, Object> mergedAnnotationMap = new ConcurrentHashMap<>(8);
 
     /**
      * 组合注解缓存
      */
-    private final Map<Class<? extends Annotation>, Annotation> combinedAnnotationMap = new ConcurrentHashMap<>(8);
+    private final Map<Class<? extends Annotation>, Object> combinedAnnotationMap = new ConcurrentHashMap<>(8);
 
     /**
      * 同名组合注解缓存
      */
-    private final Map<Class<? extends Annotation>, Annotation> sameSombinedAnnotationMap = new ConcurrentHashMap<>(8);
+    private final Map<Class<? extends Annotation>, Object> sameSombinedAnnotationMap = new ConcurrentHashMap<>(8);
 
     public List<Context> getContextChain() {
         List<Context> contexts = new ArrayList<>();
@@ -352,7 +357,7 @@ public abstract class Context implements ContextSpELExecution {
      * @return 注解实例
      */
     public <A extends Annotation> A getMergedAnnotation(Class<A> annotationClass) {
-        return (A) this.mergedAnnotationMap.computeIfAbsent(annotationClass, key -> AnnotationUtils.findMergedAnnotation(this.currentAnnotatedElement, annotationClass));
+        return (A) unwrapAnnotation(this.mergedAnnotationMap.computeIfAbsent(annotationClass, key -> wrapAnnotation(AnnotationUtils.findMergedAnnotation(this.currentAnnotatedElement, annotationClass))));
     }
 
     /**
@@ -377,7 +382,7 @@ public abstract class Context implements ContextSpELExecution {
      * @return 组合注解
      */
     public Annotation getCombinedAnnotation(Class<? extends Annotation> annotationClass) {
-        return this.combinedAnnotationMap.computeIfAbsent(annotationClass, key -> AnnotationUtils.getCombinationAnnotation(this.currentAnnotatedElement, annotationClass));
+        return unwrapAnnotation(this.combinedAnnotationMap.computeIfAbsent(annotationClass, key -> wrapAnnotation(AnnotationUtils.getCombinationAnnotation(this.currentAnnotatedElement, annotationClass))));
     }
 
     /**
@@ -413,13 +418,33 @@ public abstract class Context implements ContextSpELExecution {
      * @return 同名的注解组合
      */
     public <A extends Annotation> A getSameAnnotationCombined(Class<A> annotationClass) {
-        return (A) this.sameSombinedAnnotationMap.computeIfAbsent(annotationClass, key -> {
+        return (A) unwrapAnnotation(this.sameSombinedAnnotationMap.computeIfAbsent(annotationClass, key -> {
             ClassContext classContext = lookupContext(ClassContext.class);
             if (classContext != null) {
-                return AnnotationUtils.sameAnnotationCombinedConsiderInheritanceRelationship(this.currentAnnotatedElement, classContext.getCurrentAnnotatedElement(), annotationClass);
+                return wrapAnnotation(AnnotationUtils.sameAnnotationCombinedConsiderInheritanceRelationship(this.currentAnnotatedElement, classContext.getCurrentAnnotatedElement(), annotationClass));
             }
-            return AnnotationUtils.sameAnnotationCombined(this.currentAnnotatedElement, annotationClass);
-        });
+            return wrapAnnotation(AnnotationUtils.sameAnnotationCombined(this.currentAnnotatedElement, annotationClass));
+        }));
+    }
+
+    /**
+     * 将注解查找结果转化为可以放入缓存的对象，注解不存在时使用占位对象代替，避免每次都重新查找
+     *
+     * @param annotation 注解查找结果
+     * @return 可以放入缓存的对象
+     */
+    private static Object wrapAnnotation(Annotation annotation) {
+        return annotation == null ? ABSENT_ANNOTATION : annotation;
+    }
+
+    /**
+     * 将缓存中的对象还原为注解查找结果
+     *
+     * @param cacheValue 缓存中的对象
+     * @return 注解查找结果
+     */
+    private static Annotation unwrapAnnotation(Object cacheValue) {
+        return cacheValue == ABSENT_ANNOTATION ? null : (Annotation) cacheValue;
     }
 
     /**
@@ -1276,6 +1301,17 @@ public abstract class Context implements ContextSpELExecution {
         useHook(Lifecycle.RESPONSE);
     }
 
+    /**
+     * 判断某个表达式是否为IF表达式
+     * {@code @if(#{isEnable()}): X-Header: 12325}
+     *
+     * @param expression 表达式
+     * @return 是否为IF表达式
+     */
+    public static boolean isIfExpression(String expression) {
+        return expression != null && IF_PATTERN.matcher(expression).find();
+    }
+
     /**
      * IF表达式计算
      * {@code @if(#{isEnable()}): X-Header: 12325}
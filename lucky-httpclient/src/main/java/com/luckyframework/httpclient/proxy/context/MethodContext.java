@@ -9,6 +9,8 @@ import com.luckyframework.httpclient.generalapi.describe.ApiDescribe;
 import com.luckyframework.httpclient.generalapi.describe.DescribeFunction;
 import com.luckyframework.httpclient.proxy.HttpClientProxyObjectFactory;
 import com.luckyframework.httpclient.proxy.annotations.AsyncExecutor;
+import com.luckyframework.httpclient.proxy.annotations.Bulkhead;
+import com.luckyframework.httpclient.proxy.annotations.CircuitBreaker;
 import com.luckyframework.httpclient.proxy.annotations.InterceptorMeta;
 import com.luckyframework.httpclient.proxy.annotations.ResultHandlerMeta;
 import com.luckyframework.httpclient.proxy.annotations.RetryMeta;
@@ -32,7 +34,11 @@ import com.luckyframework.httpclient.proxy.handle.ResultHandler;
 import com.luckyframework.httpclient.proxy.handle.ResultHandlerHolder;
 import com.luckyframework.httpclient.proxy.interceptor.InterceptorPerformer;
 import com.luckyframework.httpclient.proxy.interceptor.InterceptorPerformerChain;
+import com.luckyframework.httpclient.proxy.breaker.CallGuard;
+import com.luckyframework.httpclient.proxy.breaker.CircuitBreakerConfig;
+import com.luckyframework.httpclient.proxy.breaker.IsolationScope;
 import com.luckyframework.httpclient.proxy.retry.RetryActuator;
+import com.luckyframework.httpclient.proxy.retry.RetryBudgetPolicy;
 import com.luckyframework.httpclient.proxy.retry.RetryDeciderContext;
 import com.luckyframework.httpclient.proxy.retry.RunBeforeRetryContext;
 import com.luckyframework.httpclient.proxy.slow.SlowResponseHandler;
@@ -51,6 +57,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.core.ResolvableType;
 import org.springframework.lang.Nullable;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
@@ -78,6 +85,7 @@ import static com.luckyframework.httpclient.proxy.spel.InternalRootVarName.$_THR
 import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$ASYNC_CONCURRENCY$__;
 import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$ASYNC_EXECUTOR$__;
 import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$ASYNC_MODEL$__;
+import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$RETRY_BUDGET_POLICY$__;
 import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$RETRY_COUNT$__;
 import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$RETRY_DECIDER_FUNCTION$__;
 import static com.luckyframework.httpclient.proxy.spel.InternalVarName.__$RETRY_RUN_BEFORE_RETRY_FUNCTION$__;
@@ -147,6 +155,34 @@ public final class MethodContext extends Context implements MethodMetaAcquireAbi
         return metaContext.getCurrentAnnotatedElement();
     }
 
+    /**
+     * 方法上的注解信息不会随调用而改变，直接使用方法元信息上下文中的注解缓存，
+     * 避免每次调用都重新解析一遍注解
+     */
+    @Override
+    public <A extends Annotation> A getMergedAnnotation(Class<A> annotationClass) {
+        return metaContext.getMergedAnnotation(annotationClass);
+    }
+
+    @Override
+    public Annotation getCombinedAnnotation(Class<? extends Annotation> annotationClass) {
+        return metaContext.getCombinedAnnotation(annotationClass);
+    }
+
+    @Override
+    public <A extends Annotation> A getSameAnnotationCombined(Class<A> annotationClass) {
+        return metaContext.getSameAnnotationCombined(annotationClass);
+    }
+
+    /**
+     * 获取当前方法的请求计划，请求计划在方法第一次被调用时创建，之后的调用会直接复用
+     *
+     * @return 当前方法的请求计划
+     */
+    public RequestPlan getRequestPlan() {
+        return this.metaContext.getOrCreateRequestPlan(() -> RequestPlan.create(this));
+    }
+
     /**
      * 获取类上下文
      *
@@ -482,7 +518,10 @@ public final class MethodContext extends Context implements MethodMetaAcquireAbi
                 Function<MethodContext, RunBeforeRetryContext> beforeRetryFunction = getVar(__$RETRY_RUN_BEFORE_RETRY_FUNCTION$__, Function.class);
                 Function<MethodContext, RetryDeciderContext> deciderFunction = getVar(__$RETRY_DECIDER_FUNCTION$__, Function.class);
 
-                return new RetryActuator(taskName, retryCount, beforeRetryFunction, deciderFunction, false, null);
+                // Budget
+                RetryBudgetPolicy budgetPolicy = getVar(__$RETRY_BUDGET_POLICY$__, RetryBudgetPolicy.class);
+
+                return new RetryActuator(taskName, retryCount, beforeRetryFunction, deciderFunction, false, null, budgetPolicy);
             }
 
             //-----------------------------------------------------------
@@ -519,8 +558,61 @@ public final class MethodContext extends Context implements MethodMetaAcquireAbi
             Function<MethodContext, RunBeforeRetryContext> beforeRetryFunction = c -> c.generateObject(retryAnn.beforeRetry());
             Function<MethodContext, RetryDeciderContext> deciderFunction = c -> c.generateObject(retryAnn.decider());
 
+            // 构建重试预算策略，比例小于等于0时不限制重试
+            double budgetRatio = parseExpression(retryAnn.budgetRatio(), double.class);
+            RetryBudgetPolicy budgetPolicy = budgetRatio > 0
+                    ? new RetryBudgetPolicy(retryAnn.budgetScope(), budgetRatio, parseExpression(retryAnn.budgetMinRetriesPerSecond(), int.class))
+                    : null;
+
             // 构建重试执行器
-            return new RetryActuator(retryAnn.name(), retryCount, beforeRetryFunction, deciderFunction, retryAnn.strict(), retryAnn);
+            return new RetryActuator(retryAnn.name(), retryCount, beforeRetryFunction, deciderFunction, retryAnn.strict(), retryAnn, budgetPolicy);
+        });
+    }
+
+    /**
+     * 获取当前方法的调用保护器，由{@link CircuitBreaker @CircuitBreaker}和{@link Bulkhead @Bulkhead}注解决定
+     *
+     * @return 调用保护器
+     */
+    public CallGuard getCallGuard() {
+        return this.metaContext.getOrCreateCallGuard(() -> {
+            // 熔断器配置
+            String breakerName = null;
+            IsolationScope breakerScope = null;
+            CircuitBreakerConfig breakerConfig = null;
+            CircuitBreaker breakerAnn = getMergedAnnotationCheckParent(CircuitBreaker.class);
+            if (breakerAnn != null && parseExpression(breakerAnn.enable(), boolean.class)) {
+                breakerName = breakerAnn.name();
+                breakerScope = breakerAnn.scope();
+                breakerConfig = new CircuitBreakerConfig();
+                breakerConfig.setFailureRateThreshold(parseExpression(breakerAnn.failureRateThreshold(), float.class));
+                breakerConfig.setSlowCallRateThreshold(parseExpression(breakerAnn.slowCallRateThreshold(), float.class));
+                breakerConfig.setSlowCallDurationMillis(parseExpression(breakerAnn.slowCallDurationMillis(), long.class));
+                breakerConfig.setSlidingWindowSize(parseExpression(breakerAnn.slidingWindowSize(), int.class));
+                breakerConfig.setMinimumNumberOfCalls(parseExpression(breakerAnn.minimumNumberOfCalls(), int.class));
+                breakerConfig.setWaitDurationInOpenMillis(parseExpression(breakerAnn.waitDurationInOpenMillis(), long.class));
+                breakerConfig.setPermittedCallsInHalfOpen(parseExpression(breakerAnn.permittedCallsInHalfOpen(), int.class));
+                breakerConfig.setFailureStatus(breakerAnn.failureStatus());
+                breakerConfig.validate();
+            }
+
+            // 舱壁配置
+            String bulkheadName = null;
+            IsolationScope bulkheadScope = null;
+            int maxConcurrentCalls = 0;
+            long maxWaitMillis = 0L;
+            Bulkhead bulkheadAnn = getMergedAnnotationCheckParent(Bulkhead.class);
+            if (bulkheadAnn != null && parseExpression(bulkheadAnn.enable(), boolean.class)) {
+                bulkheadName = bulkheadAnn.name();
+                bulkheadScope = bulkheadAnn.scope();
+                maxConcurrentCalls = parseExpression(bulkheadAnn.maxConcurrentCalls(), int.class);
+                maxWaitMillis = parseExpression(bulkheadAnn.maxWaitMillis(), long.class);
+            }
+
+            if (breakerConfig == null && maxConcurrentCalls <= 0) {
+                return CallGuard.NONE;
+            }
+            return new CallGuard(breakerName, breakerScope, breakerConfig, bulkheadName, bulkheadScope, maxConcurrentCalls, maxWaitMillis);
         });
     }
 
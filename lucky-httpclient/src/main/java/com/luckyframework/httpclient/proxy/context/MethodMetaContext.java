@@ -10,6 +10,7 @@ import com.luckyframework.httpclient.proxy.async.AsyncTaskExecutor;
 import com.luckyframework.httpclient.proxy.async.Model;
 import com.luckyframework.httpclient.proxy.dynamic.DynamicParamLoader;
 import com.luckyframework.httpclient.proxy.interceptor.InterceptorPerformerChain;
+import com.luckyframework.httpclient.proxy.breaker.CallGuard;
 import com.luckyframework.httpclient.proxy.retry.RetryActuator;
 import com.luckyframework.httpclient.proxy.spel.SpELVariate;
 import com.luckyframework.httpclient.proxy.spel.ValueSpaceConstant;
@@ -90,6 +91,11 @@ public final class MethodMetaContext extends Context implements MethodMetaAcquir
      */
     private RetryActuator retryActuator;
 
+    /**
+     * 调用保护器
+     */
+    private CallGuard callGuard;
+
     /**
      * 异步模型
      */
@@ -100,6 +106,11 @@ public final class MethodMetaContext extends Context implements MethodMetaAcquir
      */
     private AsyncTaskExecutor asyncTaskExecutor;
 
+    /**
+     * 请求计划
+     */
+    private volatile RequestPlan requestPlan;
+
 
     /**
      * 方法元数据上下文构造器
@@ -366,6 +377,19 @@ public final class MethodMetaContext extends Context implements MethodMetaAcquir
         return retryActuator;
     }
 
+    /**
+     * 获取调用保护器，如果不存在时进行创建
+     *
+     * @param callGuardSupplier 用于创建调用保护器的逻辑
+     * @return 调用保护器
+     */
+    synchronized CallGuard getOrCreateCallGuard(Supplier<CallGuard> callGuardSupplier) {
+        if (callGuard == null) {
+            callGuard = callGuardSupplier.get();
+        }
+        return callGuard;
+    }
+
     /**
      * 获取静态参数加载器，如果不存在时进行创建
      *
@@ -449,6 +473,26 @@ public final class MethodMetaContext extends Context implements MethodMetaAcquir
         return asyncModel;
     }
 
+    /**
+     * 获取请求计划，如果不存在时进行创建。每次调用代理方法时都会获取请求计划，所以创建完成之后的读取不加锁
+     *
+     * @param requestPlanSupplier 用于创建请求计划的逻辑
+     * @return 请求计划
+     */
+    RequestPlan getOrCreateRequestPlan(Supplier<RequestPlan> requestPlanSupplier) {
+        RequestPlan plan = requestPlan;
+        if (plan == null) {
+            synchronized (this) {
+                plan = requestPlan;
+                if (plan == null) {
+                    plan = requestPlanSupplier.get();
+                    requestPlan = plan;
+                }
+            }
+        }
+        return plan;
+    }
+
     /**
      * 获取方法字符串
      * <pre>
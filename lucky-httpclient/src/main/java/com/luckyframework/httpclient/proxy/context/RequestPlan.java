@@ -0,0 +1,150 @@
+package com.luckyframework.httpclient.proxy.context;
+
+import com.luckyframework.common.StringUtils;
+import com.luckyframework.httpclient.proxy.annotations.HttpRequest;
+import com.luckyframework.httpclient.proxy.annotations.ObjectGenerate;
+import com.luckyframework.httpclient.proxy.annotations.SSLMeta;
+import com.luckyframework.httpclient.proxy.annotations.ServerAddress;
+import com.luckyframework.httpclient.proxy.annotations.ServerAddressMeta;
+import com.luckyframework.httpclient.proxy.annotations.UseAutoUrlDerivationInsurance;
+import com.luckyframework.httpclient.proxy.spel.SpELConvert;
+import com.luckyframework.httpclient.proxy.url.SpELURLGetter;
+import org.springframework.lang.Nullable;
+
+/**
+ * 代理方法的请求计划
+ * <pre>
+ *     代理方法上与参数无关的信息在方法第一次被调用时解析一次，之后的每次调用只需要绑定参数和计算动态表达式：
+ *     1.{@link ServerAddressMeta}、{@link HttpRequest}、{@link UseAutoUrlDerivationInsurance}和{@link SSLMeta}注解的查找结果
+ *     2.使用默认的{@link SpELURLGetter}并且不包含任何表达式的基本URL和路径，这部分URL会被直接当做常量使用，
+ *       SpEL转换器对表达式进行了预处理时(参考{@link SpELConvert#isConstantExpression(String)})不会使用常量URL
+ *     3.不包含条件、@if表达式和SpEL表达式的静态请求头、Cookie、表单和查询参数等静态参数，这部分参数由同样按方法缓存的
+ *       {@link com.luckyframework.httpclient.proxy.statics.StaticParamLoader}在第一次调用时解析，之后直接复用解析结果
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 13:10
+ */
+public final class RequestPlan {
+
+    private final ServerAddressMeta serverAddressMeta;
+    private final HttpRequest httpRequest;
+    private final UseAutoUrlDerivationInsurance autoUrlDerivationInsurance;
+    private final SSLMeta sslMeta;
+    private final String constantBaseUrl;
+    private final String constantPath;
+
+    private RequestPlan(ServerAddressMeta serverAddressMeta,
+                        HttpRequest httpRequest,
+                        UseAutoUrlDerivationInsurance autoUrlDerivationInsurance,
+                        SSLMeta sslMeta,
+                        String constantBaseUrl,
+                        String constantPath) {
+        this.serverAddressMeta = serverAddressMeta;
+        this.httpRequest = httpRequest;
+        this.autoUrlDerivationInsurance = autoUrlDerivationInsurance;
+        this.sslMeta = sslMeta;
+        this.constantBaseUrl = constantBaseUrl;
+        this.constantPath = constantPath;
+    }
+
+    /**
+     * 解析方法上下文中与参数无关的信息，创建请求计划
+     *
+     * @param context 方法上下文
+     * @return 请求计划
+     */
+    static RequestPlan create(MethodContext context) {
+        SpELConvert spELConvert = context.getSpELConverter();
+        ServerAddressMeta serverAddressMeta = context.getMergedAnnotationCheckParent(ServerAddressMeta.class);
+        HttpRequest httpRequest = context.getMergedAnnotationCheckParent(HttpRequest.class);
+
+        String constantBaseUrl = null;
+        if (serverAddressMeta != null && isDefaultUrlGetter(serverAddressMeta.getter())) {
+            ServerAddress serverAddress = context.toAnnotation(serverAddressMeta, ServerAddress.class);
+            if (StringUtils.hasText(serverAddress.url()) && spELConvert.isConstantExpression(serverAddress.url()) && spELConvert.isConstantExpression(serverAddress.path())) {
+                constantBaseUrl = StringUtils.joinUrlPath(serverAddress.url(), serverAddress.path());
+            }
+        }
+
+        String constantPath = null;
+        if (httpRequest != null && isDefaultUrlGetter(httpRequest.urlGetter())
+                && StringUtils.hasText(httpRequest.url()) && spELConvert.isConstantExpression(httpRequest.url())) {
+            constantPath = httpRequest.url();
+        }
+
+        return new RequestPlan(
+                serverAddressMeta,
+                httpRequest,
+                context.getMergedAnnotationCheckParent(UseAutoUrlDerivationInsurance.class),
+                context.getSameAnnotationCombined(SSLMeta.class),
+                constantBaseUrl,
+                constantPath
+        );
+    }
+
+    private static boolean isDefaultUrlGetter(ObjectGenerate generate) {
+        return generate.clazz() == SpELURLGetter.class;
+    }
+
+    /**
+     * 获取{@link ServerAddressMeta}注解
+     *
+     * @return ServerAddressMeta注解，不存在时返回null
+     */
+    @Nullable
+    public ServerAddressMeta getServerAddressMeta() {
+        return serverAddressMeta;
+    }
+
+    /**
+     * 获取{@link HttpRequest}注解
+     *
+     * @return HttpRequest注解，不存在时返回null
+     */
+    @Nullable
+    public HttpRequest getHttpRequest() {
+        return httpRequest;
+    }
+
+    /**
+     * 获取{@link UseAutoUrlDerivationInsurance}注解
+     *
+     * @return UseAutoUrlDerivationInsurance注解，不存在时返回null
+     */
+    @Nullable
+    public UseAutoUrlDerivationInsurance getAutoUrlDerivationInsurance() {
+        return autoUrlDerivationInsurance;
+    }
+
+    /**
+     * 获取{@link SSLMeta}注解
+     *
+     * @return SSLMeta注解，不存在时返回null
+     */
+    @Nullable
+    public SSLMeta getSslMeta() {
+        return sslMeta;
+    }
+
+    /**
+     * 获取常量基本URL
+     *
+     * @return 常量基本URL，基本URL需要在运行时计算时返回null
+     */
+    @Nullable
+    public String getConstantBaseUrl() {
+        return constantBaseUrl;
+    }
+
+    /**
+     * 获取常量路径
+     *
+     * @return 常量路径，路径需要在运行时计算时返回null
+     */
+    @Nullable
+    public String getConstantPath() {
+        return constantPath;
+    }
+}
@@ -552,13 +552,27 @@ public class CommonFunctions {
         map.put($_RESPONSE_STREAM_BODY_$, LazyValue.rtc(response::getInputStream));
         map.put($_RESPONSE_STRING_BODY_$, LazyValue.of(response::getStringResult));
         map.put($_RESPONSE_BYTE_BODY_$, LazyValue.of(response::getResult));
-        map.put($_RESPONSE_BODY_$, LazyValue.of(() -> getResponseBody(response, metaData)));
-        map.put($_RESPONSE_JSON_BODY_$, LazyValue.of(() -> response.jsonStrToEntity(metaData.getMetaType())));
-        map.put($_RESPONSE_XML_BODY_$, LazyValue.of(() -> response.xmlStrToEntity(metaData.getMetaType())));
+        // 表达式中可能会以多种形式访问响应体，所以这里先将响应体读取到内存中，不使用一次性的流式反序列化
+        map.put($_RESPONSE_BODY_$, LazyValue.of(() -> getResponseBody(loadResult(response), metaData)));
+        map.put($_RESPONSE_JSON_BODY_$, LazyValue.of(() -> loadResult(response).jsonStrToEntity(metaData.getMetaType())));
+        map.put($_RESPONSE_XML_BODY_$, LazyValue.of(() -> loadResult(response).xmlStrToEntity(metaData.getMetaType())));
         map.put($_RESPONSE_JAVA_BODY_$, LazyValue.of(response::javaObject));
         return map;
     }
 
+    /**
+     * 将响应体读取到内存中
+     *
+     * @param response 响应对象
+     * @return 响应对象
+     */
+    private static Response loadResult(Response response) {
+        if (!response.isStreamConsumed()) {
+            response.getResult();
+        }
+        return response;
+    }
+
     /**
      * 将某个输入流转化为基于byte数组存储的可重复读输入流
      * <pre>
@@ -0,0 +1,192 @@
+package com.luckyframework.httpclient.proxy.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 异步日志分发器
+ * <pre>
+ *     1.调用线程只负责将日志任务放入有界的环形队列中，日志的格式化、脱敏以及输出都由一个后台消费线程完成
+ *     2.队列已满时直接丢弃新的日志任务并进行计数，调用线程永远不会因为日志输出而阻塞
+ *     3.日志任务按照提交的顺序被执行，消费线程是守护线程，JVM关闭时会先输出队列中剩余的日志
+ *     4.默认所有日志处理器共享同一个分发器{@link #getDefault()}
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 21:10
+ */
+public class AsyncLogDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncLogDispatcher.class);
+
+    /** 默认的队列容量*/
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /** 消费线程每次最多取出的日志任务数*/
+    private static final int BATCH_SIZE = 256;
+
+    /** 消费线程检查关闭标记的时间间隔(毫秒)*/
+    private static final long POLL_INTERVAL_MILLIS = 200L;
+
+    private static volatile AsyncLogDispatcher defaultDispatcher;
+
+    private final int capacity;
+    private final BlockingQueue<Runnable> queue;
+    private final Thread consumer;
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder processedCount = new LongAdder();
+    private final AtomicBoolean overflowWarned = new AtomicBoolean(false);
+    private volatile boolean running = true;
+
+    public AsyncLogDispatcher(int capacity) {
+        this(capacity, "lucky-http-log-writer");
+    }
+
+    public AsyncLogDispatcher(int capacity, String threadName) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        this.capacity = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.consumer = new Thread(this::consume, threadName);
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, threadName + "-shutdown"));
+    }
+
+    /**
+     * 获取默认的异步日志分发器
+     *
+     * @return 默认的异步日志分发器
+     */
+    public static AsyncLogDispatcher getDefault() {
+        AsyncLogDispatcher dispatcher = defaultDispatcher;
+        if (dispatcher == null) {
+            synchronized (AsyncLogDispatcher.class) {
+                dispatcher = defaultDispatcher;
+                if (dispatcher == null) {
+                    dispatcher = new AsyncLogDispatcher(DEFAULT_CAPACITY);
+                    defaultDispatcher = dispatcher;
+                }
+            }
+        }
+        return dispatcher;
+    }
+
+    /**
+     * 提交一个日志任务，队列已满或者分发器已经关闭时该任务会被丢弃
+     *
+     * @param logTask 日志任务
+     * @return 是否提交成功
+     */
+    public boolean dispatch(Runnable logTask) {
+        if (running && queue.offer(logTask)) {
+            return true;
+        }
+        droppedCount.increment();
+        if (overflowWarned.compareAndSet(false, true)) {
+            log.warn("The asynchronous log queue (capacity: {}) is full or closed, log entries will be discarded until there is free space. " +
+                    "The number of discarded entries can be obtained through AsyncLogDispatcher#getDroppedCount().", capacity);
+        }
+        return false;
+    }
+
+    /**
+     * 在当前线程中输出队列中所有的日志
+     */
+    public void flush() {
+        List<Runnable> batch = new ArrayList<>(BATCH_SIZE);
+        synchronized (this) {
+            while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+                runAll(batch);
+            }
+        }
+    }
+
+    /**
+     * 关闭分发器，关闭之前会输出队列中剩余的日志，之后提交的日志都会被丢弃
+     */
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            consumer.join(POLL_INTERVAL_MILLIS * 5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 获取队列中等待输出的日志数
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 获取由于队列已满或者分发器已经关闭而被丢弃的日志数
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 获取已经输出的日志数
+     */
+    public long getProcessedCount() {
+        return processedCount.sum();
+    }
+
+    private void consume() {
+        List<Runnable> batch = new ArrayList<>(BATCH_SIZE);
+        while (running) {
+            Runnable first;
+            try {
+                // 不使用中断来停止消费线程，中断可能会导致基于NIO的日志Appender被关闭
+                first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (first == null) {
+                continue;
+            }
+            synchronized (this) {
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                runAll(batch);
+            }
+            if (overflowWarned.get() && queue.isEmpty()) {
+                overflowWarned.set(false);
+            }
+        }
+    }
+
+    private void runAll(List<Runnable> batch) {
+        for (Runnable logTask : batch) {
+            try {
+                logTask.run();
+            } catch (Throwable e) {
+                log.error("An exception occurred while writing the asynchronous log.", e);
+            } finally {
+                processedCount.increment();
+            }
+        }
+        batch.clear();
+    }
+}
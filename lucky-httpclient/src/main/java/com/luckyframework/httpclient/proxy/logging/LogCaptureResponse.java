@@ -0,0 +1,106 @@
+package com.luckyframework.httpclient.proxy.logging;
+
+import com.luckyframework.httpclient.core.meta.ContentType;
+import com.luckyframework.httpclient.core.meta.HttpHeaderManager;
+import com.luckyframework.httpclient.core.meta.Request;
+import com.luckyframework.httpclient.core.meta.Response;
+import com.luckyframework.httpclient.core.meta.ResponseMetaData;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 异步日志中使用的响应快照
+ * <pre>
+ *     1.只持有原始响应体byte[]的引用以及需要输出的长度，不会在调用线程中复制响应体或者将其转换为字符串
+ *     2.日志输出时只会截取响应体的前{@code captureLength}个字节，超出部分会使用提示信息代替
+ *     3.响应的元数据(状态码、响应头、请求信息等)直接从原始响应中获取
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 21:20
+ */
+final class LogCaptureResponse implements Response {
+
+    private final Response delegate;
+    private final byte[] body;
+    private final int captureLength;
+
+    LogCaptureResponse(Response delegate, byte[] body, int captureLength) {
+        this.delegate = delegate;
+        this.body = body;
+        this.captureLength = Math.min(body.length, captureLength);
+    }
+
+    private boolean isTruncated() {
+        return captureLength < body.length;
+    }
+
+    @Override
+    public byte[] getResult() {
+        return isTruncated() ? Arrays.copyOf(body, captureLength) : body;
+    }
+
+    @Override
+    public String getStringResult(Charset charset) {
+        String result = new String(body, 0, captureLength, charset == null ? StandardCharsets.UTF_8 : charset);
+        return isTruncated()
+                ? result + "...(captured " + captureLength + " of " + body.length + " bytes)..."
+                : result;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(body, 0, captureLength);
+    }
+
+    @Override
+    public ResponseMetaData getResponseMetaData() {
+        return delegate.getResponseMetaData();
+    }
+
+    @Override
+    public void closeResource() {
+        // 资源由原始响应负责关闭
+    }
+
+    @Override
+    public boolean isStreamConsumed() {
+        return delegate.isStreamConsumed();
+    }
+
+    @Override
+    public Request getRequest() {
+        return delegate.getRequest();
+    }
+
+    @Override
+    public int getStatus() {
+        return delegate.getStatus();
+    }
+
+    @Override
+    public HttpHeaderManager getHeaderManager() {
+        return delegate.getHeaderManager();
+    }
+
+    @Override
+    public Long getContentLength() {
+        return delegate.getContentLength();
+    }
+
+    @Override
+    public ContentType getContentType() {
+        return delegate.getContentType();
+    }
+
+    @Override
+    public Map<String, Object> getSimpleHeaders() {
+        return delegate.getSimpleHeaders();
+    }
+}
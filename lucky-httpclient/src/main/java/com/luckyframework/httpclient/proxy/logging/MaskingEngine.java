@@ -0,0 +1,487 @@
+package com.luckyframework.httpclient.proxy.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 预编译的脱敏引擎，由{@link DataMasker#compile(Map)}创建
+ * <pre>
+ *     1.创建时将所有脱敏关键字编译为一张小写关键字表，正则形式的关键字会被预先编译，运行时不会再编译任何正则表达式
+ *     2.脱敏时只对内容进行一次扫描，依次识别出每一个关键字以及紧随其后的值，支持以下格式：
+ *       JSON: "key": "value" / "key": 123 / \"key\":\"value\"
+ *       表单/URL/键值对: key=value&amp;... / key: value / key='value'
+ *       XML: &lt;key&gt;value&lt;/key&gt;
+ *     3.关键字与值之间的ANSI颜色代码会被跳过并原样保留，只有值本身会被替换
+ *     4.关键字的匹配规则与之前的实现一致：忽略大小写 -&gt; 忽略'-'和'_' -&gt; 正则匹配，匹配结果会被缓存
+ *     5.可以指定内容的最大长度，超出部分会被截断，截断位置之前开始的键值对总会被完整的处理，不会输出未脱敏的值的片段
+ * </pre>
+ * 引擎是不可变的，可以被多个线程共享
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 20:30
+ */
+public final class MaskingEngine {
+
+    private static final char ESC = '\u001B';
+    private static final String ESCAPED_QUOTE = "\\\"";
+    private static final String ANSI_RESET = "\u001B[0m";
+
+    /** 关键字匹配结果缓存的最大容量，超出后不再缓存，防止被大量不同的关键字撑爆*/
+    private static final int MAX_RESOLVED_CACHE_SIZE = 1024;
+
+    /** 没有匹配到脱敏器时在缓存中使用的占位符*/
+    private static final CustomMasker NO_MASKER = value -> value;
+
+    /** 小写关键字与脱敏器的映射*/
+    private final Map<String, CustomMasker> exactMaskers;
+    /** 正则形式的关键字与脱敏器*/
+    private final List<RegexMasker> regexMaskers;
+    /** 内容中出现过的关键字与其脱敏器的映射*/
+    private final Map<String, CustomMasker> resolvedCache = new ConcurrentHashMap<>(64);
+    /** 创建引擎时全局脱敏器的版本号*/
+    private final int globalVersion;
+
+    MaskingEngine(Map<String, CustomMasker> maskers, int globalVersion) {
+        Map<String, CustomMasker> exact = new HashMap<>(maskers.size() * 2);
+        List<RegexMasker> regex = new ArrayList<>();
+        for (Map.Entry<String, CustomMasker> entry : maskers.entrySet()) {
+            String key = entry.getKey();
+            CustomMasker masker = entry.getValue();
+            if (key == null || masker == null) {
+                continue;
+            }
+            exact.put(key.toLowerCase(Locale.ENGLISH), masker);
+            if (isRegexPattern(key)) {
+                try {
+                    regex.add(new RegexMasker(Pattern.compile(key, Pattern.CASE_INSENSITIVE), masker));
+                } catch (PatternSyntaxException e) {
+                    // 正则表达式无效，只作为普通关键字使用
+                }
+            }
+        }
+        this.exactMaskers = exact;
+        this.regexMaskers = regex.isEmpty() ? Collections.emptyList() : regex;
+        this.globalVersion = globalVersion;
+    }
+
+    /**
+     * 当前引擎中是否没有任何脱敏器
+     *
+     * @return 是否没有任何脱敏器
+     */
+    public boolean isEmpty() {
+        return exactMaskers.isEmpty();
+    }
+
+    /**
+     * 创建引擎之后是否又通过{@link DataMasker#addMasker(String, CustomMasker)}添加了全局脱敏器，
+     * 此时需要重新创建引擎才能使用新的全局脱敏器
+     *
+     * @return 引擎是否已经过期
+     */
+    public boolean isOutdated() {
+        return globalVersion != DataMasker.getGlobalVersion();
+    }
+
+    /**
+     * 对内容进行脱敏
+     *
+     * @param content 原始内容
+     * @return 脱敏后的内容
+     */
+    public String mask(String content) {
+        return mask(content, -1);
+    }
+
+    /**
+     * 对内容进行脱敏，并截断超出最大长度的部分
+     *
+     * @param content   原始内容
+     * @param maxLength 内容的最大长度，小于0时表示不限制
+     * @return 脱敏后的内容
+     */
+    public String mask(String content, long maxLength) {
+        if (content == null || content.isEmpty()) {
+            return content;
+        }
+        int length = content.length();
+        int limit = (maxLength < 0 || maxLength >= length) ? length : (int) maxLength;
+        if (isEmpty() && limit == length) {
+            return content;
+        }
+
+        StringBuilder out = null;
+        ValueSpan span = new ValueSpan();
+        boolean ansi = false;
+        // content[0, copied)已经被输出或者替换
+        int copied = 0;
+        int i = 0;
+        while (i < limit) {
+            char c = content.charAt(i);
+            if (c == ESC) {
+                ansi = true;
+                i = skipAnsi(content, i);
+                continue;
+            }
+            if (!isKeyChar(c)) {
+                i++;
+                continue;
+            }
+            int keyStart = i;
+            int keyEnd = i + 1;
+            while (keyEnd < length && isKeyChar(content.charAt(keyEnd))) {
+                keyEnd++;
+            }
+            i = keyEnd;
+            if (isEmpty()) {
+                continue;
+            }
+            boolean matched = (keyStart > 0 && content.charAt(keyStart - 1) == '<')
+                    ? matchXmlValue(content, keyStart, keyEnd, span)
+                    : matchPairValue(content, keyStart, keyEnd, span);
+            if (!matched) {
+                continue;
+            }
+            CustomMasker masker = resolveMasker(content.substring(keyStart, keyEnd));
+            if (masker == null) {
+                continue;
+            }
+            String value = content.substring(span.start, span.end);
+            String maskedValue;
+            try {
+                maskedValue = masker.mask(value);
+            } catch (Exception e) {
+                // 跳过当前匹配
+                continue;
+            }
+            if (maskedValue == null || maskedValue.equals(value)) {
+                continue;
+            }
+            if (out == null) {
+                out = new StringBuilder(length + 16);
+            }
+            out.append(content, copied, span.start).append(maskedValue);
+            copied = span.end;
+            i = span.end;
+        }
+
+        int end = Math.max(limit, copied);
+        if (out == null) {
+            if (end == length) {
+                return content;
+            }
+            out = new StringBuilder(end + 32);
+        }
+        out.append(content, copied, end);
+        if (end < length) {
+            out.append("...(limit: ").append(maxLength).append(")...");
+            if (ansi) {
+                out.append(ANSI_RESET);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * 匹配 key: value、key=value、"key": "value"、\"key\":\"value\" 等格式的值
+     * <pre>
+     *     不带引号的值的结束位置：
+     *     1.带引号的键(JSON)以及URL查询参数中的值在遇到空白字符或者分隔符时结束
+     *     2.其他键值对中的值可以包含空格，一直到行尾或者[;,)]以及ANSI颜色代码处结束，'='格式的值还会在'&amp;'处结束，
+     *       例如 Authorization: Bearer xxx 中的整个 Bearer xxx 都会被脱敏
+     * </pre>
+     */
+    private static boolean matchPairValue(String content, int keyStart, int keyEnd, ValueSpan span) {
+        int length = content.length();
+        int p = keyEnd;
+        boolean quotedKey = false;
+        if (content.startsWith(ESCAPED_QUOTE, p)) {
+            p += 2;
+            quotedKey = true;
+        } else if (p < length && isQuote(content.charAt(p))) {
+            p++;
+            quotedKey = true;
+        }
+        p = skipBlankAndAnsi(content, p);
+        if (p >= length || (content.charAt(p) != ':' && content.charAt(p) != '=')) {
+            return false;
+        }
+        char separator = content.charAt(p);
+        boolean queryParam = separator == '=' && keyStart > 0 && (content.charAt(keyStart - 1) == '?' || content.charAt(keyStart - 1) == '&');
+        boolean tokenValue = quotedKey || queryParam;
+        p = skipBlankAndAnsi(content, p + 1);
+        if (p >= length) {
+            return false;
+        }
+
+        char first = content.charAt(p);
+        if (content.startsWith(ESCAPED_QUOTE, p)) {
+            int close = content.indexOf(ESCAPED_QUOTE, p + 2);
+            if (close < 0) {
+                return false;
+            }
+            span.set(p + 2, close);
+        } else if (isQuote(first)) {
+            int close = findClosingQuote(content, p + 1, first);
+            if (close < 0) {
+                return false;
+            }
+            span.set(p + 1, close);
+        } else {
+            int end = p;
+            while (end < length && !(tokenValue
+                    ? isValueTerminator(content.charAt(end))
+                    : isLineValueTerminator(content.charAt(end), separator))) {
+                end++;
+            }
+            span.set(p, end);
+        }
+        return span.trim(content);
+    }
+
+    /**
+     * 匹配 &lt;key&gt;value&lt;/key&gt; 格式的值
+     */
+    private static boolean matchXmlValue(String content, int keyStart, int keyEnd, ValueSpan span) {
+        int length = content.length();
+        if (keyEnd >= length || content.charAt(keyEnd) != '>') {
+            return false;
+        }
+        int valueStart = keyEnd + 1;
+        int lt = content.indexOf('<', valueStart);
+        int keyLength = keyEnd - keyStart;
+        int closeEnd = lt + 2 + keyLength;
+        if (lt < 0
+                || closeEnd >= length
+                || content.charAt(lt + 1) != '/'
+                || !content.regionMatches(true, lt + 2, content, keyStart, keyLength)
+                || content.charAt(closeEnd) != '>') {
+            return false;
+        }
+        span.set(valueStart, lt);
+        return span.trim(content);
+    }
+
+    /**
+     * 查找关键字对应的脱敏器：忽略大小写 -&gt; 忽略'-'和'_' -&gt; 正则匹配
+     */
+    private CustomMasker resolveMasker(String key) {
+        CustomMasker masker = resolvedCache.get(key);
+        if (masker == null) {
+            masker = doResolveMasker(key);
+            if (masker == null) {
+                masker = NO_MASKER;
+            }
+            if (resolvedCache.size() < MAX_RESOLVED_CACHE_SIZE) {
+                resolvedCache.put(key, masker);
+            }
+        }
+        return masker == NO_MASKER ? null : masker;
+    }
+
+    private CustomMasker doResolveMasker(String key) {
+        String lowerKey = key.toLowerCase(Locale.ENGLISH);
+        CustomMasker masker = exactMaskers.get(lowerKey);
+        if (masker != null) {
+            return masker;
+        }
+        String normalizedKey = removeSeparators(lowerKey);
+        if (normalizedKey != lowerKey) {
+            masker = exactMaskers.get(normalizedKey);
+            if (masker != null) {
+                return masker;
+            }
+        }
+        for (RegexMasker regexMasker : regexMaskers) {
+            if (regexMasker.pattern.matcher(key).matches() || regexMasker.pattern.matcher(normalizedKey).matches()) {
+                return regexMasker.masker;
+            }
+        }
+        return null;
+    }
+
+    private static String removeSeparators(String key) {
+        if (key.indexOf('-') < 0 && key.indexOf('_') < 0) {
+            return key;
+        }
+        StringBuilder sb = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c != '-' && c != '_') {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 查找结束引号，双引号中的转义字符会被跳过
+     */
+    private static int findClosingQuote(String content, int from, char quote) {
+        for (int i = from; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c == '\\' && quote == '"') {
+                i++;
+            } else if (c == quote) {
+                return i;
+            } else if (c == '\n' || c == '\r') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 跳过一段 ESC[...m 格式的ANSI颜色代码
+     */
+    private static int skipAnsi(String content, int escIndex) {
+        int i = escIndex + 1;
+        if (i < content.length() && content.charAt(i) == '[') {
+            i++;
+            while (i < content.length()) {
+                char c = content.charAt(i++);
+                if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                    break;
+                }
+            }
+        }
+        return i;
+    }
+
+    private static int skipBlankAndAnsi(String content, int index) {
+        int i = index;
+        while (i < content.length()) {
+            char c = content.charAt(i);
+            if (c == ' ' || c == '\t') {
+                i++;
+            } else if (c == ESC) {
+                i = skipAnsi(content, i);
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static boolean isKeyChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+    }
+
+    private static boolean isQuote(char c) {
+        return c == '"' || c == '\'';
+    }
+
+    private static boolean isValueTerminator(char c) {
+        switch (c) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\r':
+            case ',':
+            case ';':
+            case '&':
+            case ')':
+            case '}':
+            case ']':
+            case '<':
+            case '"':
+            case '\'':
+            case ESC:
+                return true;
+            default:
+                return isSpecialWhitespaceChar(c);
+        }
+    }
+
+    private static boolean isLineValueTerminator(char c, char separator) {
+        switch (c) {
+            case '\n':
+            case '\r':
+            case ';':
+            case ',':
+            case ')':
+            case ESC:
+                return true;
+            case '&':
+                return separator == '=';
+            default:
+                return isSpecialWhitespaceChar(c);
+        }
+    }
+
+    /**
+     * 判断是否为特殊空白字符
+     */
+    private static boolean isSpecialWhitespaceChar(char c) {
+        return c == '\u200B' || c == '\u200C' || c == '\u200D' || c == '\uFEFF' ||
+                c == '\u200E' || c == '\u200F' || c == '\u202A' || c == '\u202B' ||
+                c == '\u202C' || c == '\u202D' || c == '\u202E';
+    }
+
+    /**
+     * 判断字符串是否为正则表达式模式
+     */
+    private static boolean isRegexPattern(String str) {
+        if (str.length() < 2) {
+            return false;
+        }
+        String regexSpecialChars = ".*+?^${}()|[]\\";
+        for (int i = 0; i < regexSpecialChars.length(); i++) {
+            if (str.indexOf(regexSpecialChars.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 正则形式的关键字与其脱敏器
+     */
+    private static final class RegexMasker {
+
+        private final Pattern pattern;
+        private final CustomMasker masker;
+
+        RegexMasker(Pattern pattern, CustomMasker masker) {
+            this.pattern = pattern;
+            this.masker = masker;
+        }
+    }
+
+    /**
+     * 值在内容中的位置
+     */
+    private static final class ValueSpan {
+
+        private int start;
+        private int end;
+
+        void set(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * 去掉值两端的空白字符
+         *
+         * @return 去掉空白字符之后值是否不为空
+         */
+        boolean trim(String content) {
+            while (start < end && Character.isWhitespace(content.charAt(start))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(content.charAt(end - 1))) {
+                end--;
+            }
+            return end > start;
+        }
+    }
+}
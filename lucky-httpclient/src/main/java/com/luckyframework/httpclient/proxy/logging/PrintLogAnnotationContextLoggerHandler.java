@@ -17,13 +17,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.MimeType;
 
-import java.lang.reflect.Method;
+import java.lang.reflect.AnnotatedElement;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.luckyframework.common.FontUtil.COLOR_CYAN;
@@ -36,22 +37,40 @@ import static com.luckyframework.httpclient.proxy.spel.OrdinaryVarName._$RESPONS
 
 /**
  * 基于{@link PrintLog @PrintLog}注解实现的日志处理器
+ * <pre>
+ *     通过{@link #setAsyncLogging(boolean)}或者{@link PrintLog#async()}开启异步日志模式后：
+ *     1.调用线程只负责判断日志条件并记录请求/响应的引用，响应体只会保留前{@link #setAsyncBodyCaptureLength(int)}个字节用于输出
+ *     2.日志的格式化、脱敏以及输出都在{@link AsyncLogDispatcher}的后台线程中完成，队列已满时日志会被丢弃并计数
+ *     3.日志中依赖方法上下文的内容(如重试次数)以日志输出时的状态为准
+ * </pre>
  */
 public abstract class PrintLogAnnotationContextLoggerHandler implements LoggerHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(PrintLogAnnotationContextLoggerHandler.class);
 
+    private static final String REQUEST_LOG_ERROR_MESSAGE = "An exception occurred while printing the request log. However, this exception does not affect the normal response of the interface.";
+    private static final String RESPONSE_LOG_ERROR_MESSAGE = "An exception occurred while printing the response log. However, this exception does not affect the normal response of the interface.";
+
+    /**
+     * 异步日志模式下发起请求的线程名称
+     */
+    private static final ThreadLocal<String> RECORDING_THREAD_NAME = new ThreadLocal<>();
+
     private final Set<String> allowPrintLogBodyMimeTypes = new HashSet<>();
     private final Map<CustomMasker, Set<String>> commonMaskers = new HashMap<>();
-    private final Map<Method, Map<String, CustomMasker>> maskerCacheMap = new HashMap<>();
+    private final Map<AnnotatedElement, MaskingEngine> maskingEngineCacheMap = new ConcurrentHashMap<>();
     private long allowPrintLogRespBodyMaxLength = -1L;
     private long allowPrintLogReqBodyMaxLength = -1L;
+    private long maskContentMaxLength = -1L;
     private String respCondition;
     private String reqCondition;
     private String enableRequestMask;
     private String enableResponseMask;
     private String printRespHeader;
     private boolean logErrorWithDetails = false;
+    private boolean asyncLogging = false;
+    private int asyncBodyCaptureLength = 64 * 1024;
+    private AsyncLogDispatcher asyncLogDispatcher;
 
 
     {
@@ -98,6 +117,45 @@ public abstract class PrintLogAnnotationContextLoggerHandler implements LoggerHa
         this.logErrorWithDetails = logErrorWithDetails;
     }
 
+    public boolean isAsyncLogging() {
+        return asyncLogging;
+    }
+
+    /**
+     * 设置是否开启异步日志模式
+     *
+     * @param asyncLogging 是否开启异步日志模式
+     */
+    public void setAsyncLogging(boolean asyncLogging) {
+        this.asyncLogging = asyncLogging;
+    }
+
+    public int getAsyncBodyCaptureLength() {
+        return asyncBodyCaptureLength;
+    }
+
+    /**
+     * 设置异步日志模式下响应体最多输出的字节数，小于0时表示不限制
+     *
+     * @param asyncBodyCaptureLength 响应体最多输出的字节数
+     */
+    public void setAsyncBodyCaptureLength(int asyncBodyCaptureLength) {
+        this.asyncBodyCaptureLength = asyncBodyCaptureLength;
+    }
+
+    /**
+     * 获取异步日志分发器，未设置时使用{@link AsyncLogDispatcher#getDefault()}
+     *
+     * @return 异步日志分发器
+     */
+    public AsyncLogDispatcher getAsyncLogDispatcher() {
+        return asyncLogDispatcher == null ? AsyncLogDispatcher.getDefault() : asyncLogDispatcher;
+    }
+
+    public void setAsyncLogDispatcher(AsyncLogDispatcher asyncLogDispatcher) {
+        this.asyncLogDispatcher = asyncLogDispatcher;
+    }
+
     public void setPrintRespHeader(String printRespHeader) {
         this.printRespHeader = printRespHeader;
     }
@@ -110,6 +168,19 @@ public abstract class PrintLogAnnotationContextLoggerHandler implements LoggerHa
         this.allowPrintLogReqBodyMaxLength = allowPrintLogReqBodyMaxLength;
     }
 
+    /**
+     * 设置脱敏内容的最大长度，超出部分会被截断，小于0时表示不限制
+     *
+     * @param maskContentMaxLength 脱敏内容的最大长度
+     */
+    public void setMaskContentMaxLength(long maskContentMaxLength) {
+        this.maskContentMaxLength = maskContentMaxLength;
+    }
+
+    public long getMaskContentMaxLength() {
+        return maskContentMaxLength;
+    }
+
     public void setRespCondition(String respCondition) {
         this.respCondition = respCondition;
     }
@@ -140,6 +211,7 @@ public abstract class PrintLogAnnotationContextLoggerHandler implements LoggerHa
 
     public void addCommonMaskers(Map<CustomMasker, Set<String>> commonMaskers) {
         this.commonMaskers.putAll(commonMaskers);
+        this.maskingEngineCacheMap.clear();
     }
 
     public String getReqCondition(MethodContext context) {
@@ -185,6 +257,16 @@ public abstract class PrintLogAnnotationContextLoggerHandler implements LoggerHa
     }
 
 
+    public boolean isAsyncLogging(MethodContext context) {
+        if (hasPrintLogAnnotation(context)) {
+            PrintLog ann = context.getMergedAnnotationCheckParent(PrintLog.class);
+            Object defValue = AnnotationUtils.getDefaultValue(ann, "async");
+            boolean _async = ann.async();
+            return Objects.equals(defValue, _async) ? asyncLogging : _async;
+        }
+        return asyncLogging;
+    }
+
     public boolean isPrintRespHeader(MethodContext context) {
         if (hasPrintLogAnnotation(context)) {
             PrintLog ann = context.getMergedAnnotationCheckParent(PrintLog.class);
@@ -240,15 +322,14 @@ public abstract class PrintLogAnnotationContextLoggerHandler implements LoggerHa
     public void recordRequestLog(MethodContext context, Request request) {
         try {
             if (!prohibition(context) && isPrintRequestLog(context)) {
-                doRecordRequestLog(context, request);
+                if (isAsyncLogging(context)) {
+                    dispatchAsyncLog(() -> doRecordRequestLog(context, request), REQUEST_LOG_ERROR_MESSAGE);
+                } else {
+                    doRecordRequestLog(context, request);
+                }
             }
         } catch (Exception e) {
-            if (isLogErrorWithDetails()) {
-                logger.error("An exception occurred while printing the request log. However, this exception does not affect the normal response of the interface.", e);
-            } else {
-                logger.error("An exception occurred while printing the request log. However, this exception does not affect the normal response of the interface.");
-            }
-
+            logPrintError(REQUEST_LOG_ERROR_MESSAGE, e);
         }
     }
 
@@ -256,15 +337,54 @@ public abstract class PrintLogAnnotationContextLoggerHandler implements LoggerHa
     public void recordMetaResponseLog(MethodContext context, Response response) {
         try {
             if (!prohibition(context) && isPrintResponseLog(context)) {
-                doRecordMetaResponseLog(context, response);
+                if (isAsyncLogging(context)) {
+                    Response logResponse = captureResponse(context, response);
+                    dispatchAsyncLog(() -> doRecordMetaResponseLog(context, logResponse), RESPONSE_LOG_ERROR_MESSAGE);
+                } else {
+                    doRecordMetaResponseLog(context, response);
+                }
             }
         } catch (Exception e) {
-            if (isLogErrorWithDetails()) {
-                logger.error("An exception occurred while printing the response log. However, this exception does not affect the normal response of the interface.", e);
-            } else {
-                logger.error("An exception occurred while printing the response log. However, this exception does not affect the normal response of the interface.");
+            logPrintError(RESPONSE_LOG_ERROR_MESSAGE, e);
+        }
+    }
+
+    private void logPrintError(String message, Exception e) {
+        if (isLogErrorWithDetails()) {
+            logger.error(message, e);
+        } else {
+            logger.error(message);
+        }
+    }
+
+    /**
+     * 将日志任务交给异步日志分发器，日志输出时{@link #getThreadName()}返回的仍然是发起请求的线程名称
+     */
+    private void dispatchAsyncLog(LogAction logAction, String errorMessage) {
+        String threadName = Thread.currentThread().getName();
+        getAsyncLogDispatcher().dispatch(() -> {
+            RECORDING_THREAD_NAME.set(threadName);
+            try {
+                logAction.record();
+            } catch (Exception e) {
+                logPrintError(errorMessage, e);
+            } finally {
+                RECORDING_THREAD_NAME.remove();
             }
+        });
+    }
+
+    /**
+     * 在调用线程中记录响应体的引用，只有允许输出响应体的文本类型响应才会被截取，其他响应直接使用原始响应
+     */
+    private Response captureResponse(MethodContext context, Response response) {
+        if (asyncBodyCaptureLength < 0
+                || response.isJavaBody()
+                || response.isProtobufBody()
+                || !isAllowMimeType(context, response)) {
+            return response;
         }
+        return new LogCaptureResponse(response, response.getResult(), asyncBodyCaptureLength);
     }
 
 
@@ -299,7 +419,8 @@ public abstract class PrintLogAnnotationContextLoggerHandler implements LoggerHa
     }
 
     protected String getThreadName() {
-        return Thread.currentThread().getName();
+        String recordingThreadName = RECORDING_THREAD_NAME.get();
+        return recordingThreadName != null ? recordingThreadName : Thread.currentThread().getName();
     }
 
     protected String getRespColor(int status) {
@@ -368,53 +489,59 @@ public abstract class PrintLogAnnotationContextLoggerHandler implements LoggerHa
 
     protected String tryRequestDataMask(MethodContext context, String sourceData) {
         if (enableRequestMask(context)) {
-            PrintLog ann = context.getSameAnnotationCombined(PrintLog.class);
-            return DataMasker.maskSensitiveData(maskerToMap(context, ann), sourceData);
+            return DataMasker.maskSensitiveData(getMaskingEngine(context), sourceData, maskContentMaxLength);
         }
         return sourceData;
     }
 
     protected String tryResponseDataMask(MethodContext context, String sourceData) {
         if (enableResponseMask(context)) {
-            PrintLog ann = context.getSameAnnotationCombined(PrintLog.class);
-            return DataMasker.maskSensitiveData(maskerToMap(context, ann), sourceData);
+            return DataMasker.maskSensitiveData(getMaskingEngine(context), sourceData, maskContentMaxLength);
         }
         return sourceData;
     }
 
+    /**
+     * 获取当前方法的脱敏引擎，每个方法的脱敏配置只会被编译一次
+     */
+    private MaskingEngine getMaskingEngine(MethodContext context) {
+        AnnotatedElement element = context.getCurrentAnnotatedElement();
+        MaskingEngine engine = maskingEngineCacheMap.get(element);
+        if (engine == null || engine.isOutdated()) {
+            engine = DataMasker.compile(maskerToMap(context, context.getSameAnnotationCombined(PrintLog.class)));
+            maskingEngineCacheMap.put(element, engine);
+        }
+        return engine;
+    }
+
     private Map<String, CustomMasker> maskerToMap(MethodContext context, PrintLog ann) {
-        if (!maskerCacheMap.containsKey(context.getCurrentAnnotatedElement())) {
-            Map<String, CustomMasker> maskerMap = new HashMap<>();
-
-            // 添加公共的脱敏配置
-            for (Map.Entry<CustomMasker, Set<String>> entry : this.commonMaskers.entrySet()) {
-                CustomMasker key = entry.getKey();
-                Set<String> value = entry.getValue();
-                if (ContainerUtils.isNotEmptyCollection(value)) {
-                    value.forEach(v -> maskerMap.put(v, key));
-                }
+        Map<String, CustomMasker> maskerMap = new HashMap<>();
+
+        // 添加公共的脱敏配置
+        for (Map.Entry<CustomMasker, Set<String>> entry : this.commonMaskers.entrySet()) {
+            CustomMasker key = entry.getKey();
+            Set<String> value = entry.getValue();
+            if (ContainerUtils.isNotEmptyCollection(value)) {
+                value.forEach(v -> maskerMap.put(v, key));
             }
+        }
 
-            // 添加注解脱敏配置
-            if (ann != null) {
-                for (Masker masker : ann.maskers()) {
-                    Class<? extends CustomMasker> maskerClass = masker.maskerHandler();
-                    CustomMasker customMasker;
-                    if (maskerClass != CustomMasker.class) {
-                        customMasker = context.generateObject(maskerClass, Scope.SINGLETON);
-                    } else {
-                        customMasker = masker.type();
-                    }
-                    for (String key : masker.keys()) {
-                        maskerMap.put(key, customMasker);
-                    }
+        // 添加注解脱敏配置
+        if (ann != null) {
+            for (Masker masker : ann.maskers()) {
+                Class<? extends CustomMasker> maskerClass = masker.maskerHandler();
+                CustomMasker customMasker;
+                if (maskerClass != CustomMasker.class) {
+                    customMasker = context.generateObject(maskerClass, Scope.SINGLETON);
+                } else {
+                    customMasker = masker.type();
+                }
+                for (String key : masker.keys()) {
+                    maskerMap.put(key, customMasker);
                 }
             }
-
-            maskerCacheMap.put(context.getCurrentAnnotatedElement(), maskerMap);
         }
-
-        return maskerCacheMap.get(context.getCurrentAnnotatedElement());
+        return maskerMap;
     }
 
     protected abstract void doRecordRequestLog(MethodContext context, Request request) throws Exception;
@@ -422,4 +549,12 @@ public abstract class PrintLogAnnotationContextLoggerHandler implements LoggerHa
 
     protected abstract void doRecordMetaResponseLog(MethodContext context, Response response) throws Exception;
 
+    /**
+     * 日志任务
+     */
+    @FunctionalInterface
+    private interface LogAction {
+        void record() throws Exception;
+    }
+
 }
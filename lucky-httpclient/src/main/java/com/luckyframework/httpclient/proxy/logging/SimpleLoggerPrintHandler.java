@@ -8,6 +8,7 @@ import com.luckyframework.httpclient.core.convert.ProtobufAutoConvert;
 import com.luckyframework.httpclient.core.executor.HttpClient5Executor;
 import com.luckyframework.httpclient.core.executor.HttpClientExecutor;
 import com.luckyframework.httpclient.core.executor.HttpExecutor;
+import com.luckyframework.httpclient.core.executor.JavaHttpClientExecutor;
 import com.luckyframework.httpclient.core.executor.JdkHttpExecutor;
 import com.luckyframework.httpclient.core.executor.OkHttpExecutor;
 import com.luckyframework.httpclient.core.meta.BodyObject;
@@ -166,6 +167,9 @@ public class SimpleLoggerPrintHandler extends PrintLogAnnotationContextLoggerHan
         if (httpExecutor instanceof OkHttpExecutor) {
             return "OKHTTP";
         }
+        if (httpExecutor instanceof JavaHttpClientExecutor) {
+            return "JAVA_HTTP_CLIENT";
+        }
         return "?";
     }
 
@@ -171,6 +171,15 @@ public class ExecuteMeta {
         this.args = args;
     }
 
+    /**
+     * 复制一份执行元数据，参数列表会被复制，修改副本的参数不会影响当前的执行元数据
+     *
+     * @return 执行元数据副本
+     */
+    public ExecuteMeta copy() {
+        return new ExecuteMeta(methodMetaContext, targetClass, proxy, method, methodProxy, args == null ? null : args.clone(), exeFunc);
+    }
+
     /**
      * 执行当前正在运行的方法
      *
@@ -40,6 +40,19 @@ public class ProxyDecorator {
         this.plugins.forEach(plugin -> plugin.init(this.meta));
     }
 
+    /**
+     * 复制装饰器时使用的构造器，插件已经初始化过，不会再次调用{@link ProxyPlugin#init(ExecuteMeta)}
+     *
+     * @param plugins 插件集合
+     * @param meta    执行器元数据
+     * @param index   开始执行的插件索引
+     */
+    private ProxyDecorator(List<ProxyPlugin> plugins, ExecuteMeta meta, int index) {
+        this.plugins = plugins;
+        this.meta = meta;
+        this.index = index;
+    }
+
     /**
      * 获取执行器元数据
      *
@@ -64,6 +77,16 @@ public class ProxyDecorator {
     }
 
 
+    /**
+     * 从当前位置复制出一个全新的调用，复制出的装饰器会从下一个插件开始重新执行剩余的插件和方法，
+     * 适用于在当前调用结束之后(例如在后台线程中)再次执行方法的场景，参数列表会被复制，新调用与当前调用互不影响
+     *
+     * @return 新的代理装饰器
+     */
+    public ProxyDecorator fork() {
+        return new ProxyDecorator(plugins, meta.copy(), index);
+    }
+
     /**
      * 使用指定的参数来执行当前正在运行的方法
      *
@@ -15,11 +15,20 @@ public class BackoffWaitingBeforeRetryContext extends RunBeforeRetryContext<Obje
 
     @Override
     public void doBeforeRetry(TaskResult<Object> taskResult) {
+        createWaitBeforeRetry().beforeRetry(taskResult);
+    }
+
+    @Override
+    public Long getAsyncWaitMillis(TaskResult<Object> taskResult) {
+        return createWaitBeforeRetry().getWaitTimeMillis(taskResult.getRetryNum());
+    }
+
+    private BackoffWaitBeforeRetry createWaitBeforeRetry() {
         Retryable retryableAnn = toAnnotation(Retryable.class);
         long waitMillis = parseExpression(retryableAnn.waitMillis(), long.class);
         double multiplier = parseExpression(retryableAnn.multiplier(), double.class);
         long maxWaitMillis = parseExpression(retryableAnn.maxWaitMillis(), long.class);
         long minWaitMillis = parseExpression(retryableAnn.minWaitMillis(), long.class);
-        new BackoffWaitBeforeRetry(waitMillis, multiplier, maxWaitMillis, minWaitMillis).beforeRetry(taskResult);
+        return new BackoffWaitBeforeRetry(waitMillis, multiplier, maxWaitMillis, minWaitMillis);
     }
 }
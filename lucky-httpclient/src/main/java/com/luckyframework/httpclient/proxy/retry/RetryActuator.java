@@ -1,18 +1,34 @@
 package com.luckyframework.httpclient.proxy.retry;
 
+import com.luckyframework.httpclient.core.meta.Request;
 import com.luckyframework.httpclient.core.meta.Response;
 import com.luckyframework.httpclient.proxy.context.MethodContext;
 import com.luckyframework.retry.CallableRetryTaskNamedAdapter;
+import com.luckyframework.retry.RetryDecider;
 import com.luckyframework.retry.RetryFailureException;
 import com.luckyframework.retry.RetryUtils;
 import com.luckyframework.retry.TaskResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * 重试执行器
+ * <pre>
+ *     1.同步重试：使用{@link RetryUtils}在当前线程中执行任务，重试之前的等待会阻塞当前线程
+ *     2.异步重试：使用{@link #retryExecuteAsync(Supplier, MethodContext, Request)}执行任务，重试之前的等待由共享的定时器完成，不会阻塞任何线程
+ *     3.配置了重试预算{@link RetryBudgetPolicy}时，每一次重试都需要从重试预算中获取令牌，令牌不足时不再进行重试
+ * </pre>
  *
  * @author fukang
  * @version 1.0.0
@@ -21,6 +37,13 @@ import java.util.function.Function;
 @SuppressWarnings("all")
 public class RetryActuator {
 
+    private static final Logger log = LoggerFactory.getLogger(RetryActuator.class);
+
+    /**
+     * 所有异步重试共享的定时器
+     */
+    private static volatile ScheduledThreadPoolExecutor retryTimer;
+
     /**
      * 是否需要重试执行
      */
@@ -56,10 +79,15 @@ public class RetryActuator {
      */
     private final Annotation retryAnnotation;
 
+    /**
+     * 重试预算策略，为null时表示不限制重试
+     */
+    private final RetryBudgetPolicy retryBudgetPolicy;
+
     /**
      * 不需要重试的重试执行器示例
      */
-    public static final RetryActuator DONT_RETRY = new RetryActuator(false, "", 0, null, null, false, null);
+    public static final RetryActuator DONT_RETRY = new RetryActuator(false, "", 0, null, null, false, null, null);
 
     /**
      * 重试执行器构造函数
@@ -71,6 +99,7 @@ public class RetryActuator {
      * @param retryDeciderContentFunction 重试决策者生成逻辑
      * @param strictModel                 是否开启严格模式
      * @param retryAnnotation             重试注解示例
+     * @param retryBudgetPolicy           重试预算策略
      */
     private RetryActuator(boolean needRetry,
                           String taskName,
@@ -78,7 +107,8 @@ public class RetryActuator {
                           Function<MethodContext, RunBeforeRetryContext> beforeRetryContentFunction,
                           Function<MethodContext, RetryDeciderContext> retryDeciderContentFunction,
                           boolean strictModel,
-                          Annotation retryAnnotation
+                          Annotation retryAnnotation,
+                          RetryBudgetPolicy retryBudgetPolicy
     ) {
         this.needRetry = needRetry;
         this.taskName = taskName;
@@ -87,6 +117,7 @@ public class RetryActuator {
         this.retryDeciderContentFunction = retryDeciderContentFunction;
         this.strictModel = strictModel;
         this.retryAnnotation = retryAnnotation;
+        this.retryBudgetPolicy = retryBudgetPolicy;
     }
 
     /**
@@ -106,7 +137,29 @@ public class RetryActuator {
                          boolean strictModel,
                          Annotation retryAnnotation
     ) {
-        this(true, taskName, retryCount, beforeRetryContentFunction, retryDeciderContentFunction, strictModel, retryAnnotation);
+        this(taskName, retryCount, beforeRetryContentFunction, retryDeciderContentFunction, strictModel, retryAnnotation, null);
+    }
+
+    /**
+     * 重试执行器构造函数
+     *
+     * @param taskName                    任务名称
+     * @param retryCount                  最大重试次数
+     * @param beforeRetryContentFunction  重试之前需要运行的逻辑
+     * @param retryDeciderContentFunction 重试决策者生成逻辑
+     * @param strictModel                 是否开启严格模式
+     * @param retryAnnotation             重试注解示例
+     * @param retryBudgetPolicy           重试预算策略，为null时表示不限制重试
+     */
+    public RetryActuator(String taskName,
+                         int retryCount,
+                         Function<MethodContext, RunBeforeRetryContext> beforeRetryContentFunction,
+                         Function<MethodContext, RetryDeciderContext> retryDeciderContentFunction,
+                         boolean strictModel,
+                         Annotation retryAnnotation,
+                         @Nullable RetryBudgetPolicy retryBudgetPolicy
+    ) {
+        this(true, taskName, retryCount, beforeRetryContentFunction, retryDeciderContentFunction, strictModel, retryAnnotation, retryBudgetPolicy);
     }
 
     /**
@@ -171,6 +224,27 @@ public class RetryActuator {
         return taskName;
     }
 
+    /**
+     * 获取重试预算策略
+     *
+     * @return 重试预算策略，为null时表示不限制重试
+     */
+    public RetryBudgetPolicy getRetryBudgetPolicy() {
+        return retryBudgetPolicy;
+    }
+
+    /**
+     * 获取当前请求对应的重试预算
+     *
+     * @param methodContext 方法上下文
+     * @param request       当前请求
+     * @return 重试预算，未配置重试预算时返回null
+     */
+    @Nullable
+    public RetryBudget getRetryBudget(MethodContext methodContext, @Nullable Request request) {
+        return retryBudgetPolicy == null ? null : retryBudgetPolicy.getBudget(methodContext, request);
+    }
+
     /**
      * 尝试使用重试的方式执行任务
      *
@@ -180,6 +254,19 @@ public class RetryActuator {
      * @throws Exception 执行过程中可能出现的异常
      */
     public Response retryExecute(Callable<Response> task, MethodContext methodContext) throws Throwable {
+        return retryExecute(task, methodContext, null);
+    }
+
+    /**
+     * 尝试使用重试的方式执行任务
+     *
+     * @param task          任务
+     * @param methodContext 方法上下文
+     * @param request       当前请求，用于查找对应的重试预算
+     * @return 任务执行结果
+     * @throws Exception 执行过程中可能出现的异常
+     */
+    public Response retryExecute(Callable<Response> task, MethodContext methodContext, @Nullable Request request) throws Throwable {
         // 不需要重试运行时，直接执行任务
         if (!isNeedRetry()) {
             return task.call();
@@ -188,8 +275,8 @@ public class RetryActuator {
         try {
             // 尝试已重试的方式来执行任务
             RunBeforeRetryContext<?> beforeRetryContext = getBeforeRetryContext(methodContext);
-            RetryDeciderContext<Response> retryDeciderContext = getRetryDeciderContext(methodContext);
-            return RetryUtils.callReturn(createNamedCallabe(methodContext, task), this.retryCount, beforeRetryContext, retryDeciderContext);
+            RetryDecider<Response> retryDecider = budgetLimitedDecider(getRetryDeciderContext(methodContext), getRetryBudget(methodContext, request));
+            return RetryUtils.callReturn(createNamedCallabe(methodContext, task), this.retryCount, beforeRetryContext, retryDecider);
         } catch (RetryFailureException rfe) {
             // 严格模式或者执行过程中存在异常时，直接抛出异常
             TaskResult taskResult = rfe.getTaskResult();
@@ -204,6 +291,199 @@ public class RetryActuator {
         }
     }
 
+    /**
+     * 以非阻塞的方式执行异步任务，出现需要重试的情况时由共享的定时器在等待时间之后发起下一次重试，
+     * 重试决策、严格模式以及重试预算的处理逻辑与{@link #retryExecute(Callable, MethodContext, Request)}完全一致
+     *
+     * @param task          异步任务，每次调用都会发起一次新的执行
+     * @param methodContext 方法上下文
+     * @param request       当前请求，用于查找对应的重试预算
+     * @return 任务执行结果的CompletableFuture包装
+     */
+    public CompletableFuture<Response> retryExecuteAsync(Supplier<CompletableFuture<Response>> task, MethodContext methodContext, @Nullable Request request) {
+        // 不需要重试运行时，直接执行任务
+        if (!isNeedRetry()) {
+            return startAsyncTask(task);
+        }
+
+        AsyncRetryExecution execution;
+        try {
+            execution = new AsyncRetryExecution(
+                    task,
+                    methodContext,
+                    methodContext.parseExpression(this.taskName, String.class),
+                    (RunBeforeRetryContext<Object>) getBeforeRetryContext(methodContext),
+                    budgetLimitedDecider(getRetryDeciderContext(methodContext), getRetryBudget(methodContext, request))
+            );
+        } catch (Throwable e) {
+            CompletableFuture<Response> failure = new CompletableFuture<>();
+            failure.completeExceptionally(e);
+            return failure;
+        }
+        execution.attempt();
+        return execution.result;
+    }
+
+    /**
+     * 为重试决策者添加重试预算的限制，重试预算为null时直接返回原决策者
+     *
+     * @param decider 原始的重试决策者
+     * @param budget  重试预算
+     * @return 受重试预算限制的重试决策者
+     */
+    private RetryDecider<Response> budgetLimitedDecider(RetryDecider<Response> decider, @Nullable RetryBudget budget) {
+        if (budget == null) {
+            return decider;
+        }
+        budget.recordRequest();
+        return new RetryDecider<Response>() {
+            @Override
+            public boolean needRetry(TaskResult<Response> taskResult) {
+                // 只有决策者判定需要重试时才会消耗重试预算
+                return decider.needRetry(taskResult) && budget.tryAcquireRetry();
+            }
+
+            @Override
+            public String reasonForRetrying() {
+                return decider.reasonForRetrying();
+            }
+        };
+    }
+
+    private static CompletableFuture<Response> startAsyncTask(Supplier<CompletableFuture<Response>> task) {
+        try {
+            return task.get();
+        } catch (Throwable e) {
+            CompletableFuture<Response> failure = new CompletableFuture<>();
+            failure.completeExceptionally(e);
+            return failure;
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor getRetryTimer() {
+        ScheduledThreadPoolExecutor timer = retryTimer;
+        if (timer == null) {
+            synchronized (RetryActuator.class) {
+                timer = retryTimer;
+                if (timer == null) {
+                    timer = new ScheduledThreadPoolExecutor(1, r -> {
+                        Thread thread = new Thread(r, "lucky-http-retry-timer");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    timer.setRemoveOnCancelPolicy(true);
+                    retryTimer = timer;
+                }
+            }
+        }
+        return timer;
+    }
+
+    /**
+     * 一次异步重试执行过程，重试次数的计算方式与{@link RetryUtils#callReturn(Callable, int, com.luckyframework.retry.RunBeforeRetry, RetryDecider)}一致
+     */
+    private class AsyncRetryExecution {
+
+        private final CompletableFuture<Response> result = new CompletableFuture<>();
+        private final Supplier<CompletableFuture<Response>> task;
+        private final MethodContext methodContext;
+        private final String name;
+        private final RunBeforeRetryContext<Object> beforeRetryContext;
+        private final RetryDecider<Response> retryDecider;
+
+        /** 剩余的重试次数*/
+        private int surplusCount = retryCount;
+
+        /** 当前执行的次数*/
+        private int retryNum = 1;
+
+        AsyncRetryExecution(Supplier<CompletableFuture<Response>> task, MethodContext methodContext, String name, RunBeforeRetryContext<Object> beforeRetryContext, RetryDecider<Response> retryDecider) {
+            this.task = task;
+            this.methodContext = methodContext;
+            this.name = name;
+            this.beforeRetryContext = beforeRetryContext;
+            this.retryDecider = retryDecider;
+        }
+
+        void attempt() {
+            // 结果已经被取消时不再发起新的执行
+            if (result.isDone()) {
+                return;
+            }
+            startAsyncTask(task).whenComplete(this::onComplete);
+        }
+
+        private void onComplete(Response response, Throwable ex) {
+            TaskResult<Response> taskResult = ex == null
+                    ? TaskResult.notException(name, response, retryNum, surplusCount - 1)
+                    : TaskResult.hasException(name, ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex, retryNum, surplusCount - 1);
+            try {
+                if (surplusCount <= 0 || !retryDecider.needRetry(taskResult)) {
+                    finish(taskResult);
+                    return;
+                }
+                beforeRetryContext.prepareRetry((TaskResult) taskResult);
+                if (log.isWarnEnabled()) {
+                    log.warn("The task named【{}】starts the {} retry asynchronously. The remaining number of retries is {}.", name, retryNum, surplusCount - 1);
+                }
+                Long waitMillis = beforeRetryContext.getAsyncWaitMillis((TaskResult) taskResult);
+                surplusCount--;
+                retryNum++;
+                scheduleNextAttempt(taskResult, waitMillis);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void scheduleNextAttempt(TaskResult<Response> taskResult, Long waitMillis) {
+            // 无法确定等待时间时在异步线程池中执行重试之前的逻辑
+            if (waitMillis == null) {
+                methodContext.getAsyncTaskExecutor().execute(() -> {
+                    try {
+                        beforeRetryContext.doBeforeRetry((TaskResult) taskResult);
+                        attempt();
+                    } catch (Throwable e) {
+                        result.completeExceptionally(e);
+                    }
+                });
+                return;
+            }
+            if (waitMillis <= 0) {
+                attempt();
+                return;
+            }
+            try {
+                getRetryTimer().schedule(this::attempt, waitMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void finish(TaskResult<Response> taskResult) {
+            // 没有用完重试次数：重试成功、决策者判定不需要重试或者重试预算不足
+            if (surplusCount != 0) {
+                if (retryNum != 1) {
+                    log.info("The task named【{}】was retried successfully.", name);
+                }
+                if (taskResult.hasException()) {
+                    result.completeExceptionally(taskResult.getThrowable());
+                } else {
+                    result.complete(taskResult.getResult());
+                }
+                return;
+            }
+
+            // 严格模式或者执行过程中存在异常时，直接抛出异常
+            if (strictModel || taskResult.hasException()) {
+                result.completeExceptionally(new RetryFailureException(taskResult, retryDecider.reasonForRetrying()));
+                return;
+            }
+
+            // 非严格模式下，如果执行过程中不存在异常，则返回最后一次的执行结果
+            result.complete(taskResult.getResult());
+        }
+    }
+
     /**
      * CallableRetryTaskNamedAdapter
      *
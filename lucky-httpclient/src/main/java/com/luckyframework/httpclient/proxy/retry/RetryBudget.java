@@ -0,0 +1,210 @@
+package com.luckyframework.httpclient.proxy.retry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 基于令牌桶的重试预算，用于限制重试请求在所有请求中的占比，防止下游服务故障时重试放大请求量
+ * <pre>
+ *     1.每一次正常请求都会向令牌桶中存入{@code ratio}个令牌，每一次重试都需要从令牌桶中取出1个令牌
+ *     2.令牌桶每秒还会额外补充{@code minRetriesPerSecond}个令牌，保证低流量时依然可以进行重试
+ *     3.令牌桶的容量为{@code minRetriesPerSecond}的10倍(最少为10个令牌)，初始时令牌桶是满的
+ *     4.令牌不足时本次重试会被拒绝，重试流程直接结束并返回最后一次的执行结果
+ *     5.相同作用范围以及相同配置的重试预算是共享的，通过{@link #getOrCreate(String, double, int)}获取
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 22:15
+ */
+public class RetryBudget {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryBudget.class);
+
+    /** 令牌的精度，内部使用千分之一个令牌作为最小单位*/
+    private static final long TOKEN_SCALE = 1000L;
+
+    /** 令牌桶容量相对于每秒补充令牌数的倍数*/
+    private static final int CAPACITY_SECONDS = 10;
+
+    private static final Map<String, RetryBudget> BUDGET_MAP = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final double ratio;
+    private final int minRetriesPerSecond;
+    private final long depositPerRequest;
+    private final long capacity;
+    private final long refillNanosPerUnit;
+
+    private final AtomicLong balance;
+    private final AtomicLong lastRefillNanos;
+    private final AtomicBoolean exhaustedWarned = new AtomicBoolean(false);
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * 重试预算构造器
+     *
+     * @param name                重试预算名称
+     * @param ratio               重试请求数与正常请求数的最大比值
+     * @param minRetriesPerSecond 每秒最少允许的重试次数
+     */
+    public RetryBudget(String name, double ratio, int minRetriesPerSecond) {
+        if (ratio < 0) {
+            throw new IllegalArgumentException("'ratio' cannot be less than 0.");
+        }
+        if (minRetriesPerSecond < 0) {
+            throw new IllegalArgumentException("'minRetriesPerSecond' cannot be less than 0.");
+        }
+        this.name = name;
+        this.ratio = ratio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.depositPerRequest = (long) (ratio * TOKEN_SCALE);
+        this.capacity = Math.max(minRetriesPerSecond, 1) * CAPACITY_SECONDS * TOKEN_SCALE;
+        this.refillNanosPerUnit = minRetriesPerSecond == 0 ? -1L : 1_000_000L / minRetriesPerSecond;
+        this.balance = new AtomicLong(capacity);
+        this.lastRefillNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 获取或者创建一个共享的重试预算，名称和配置都相同时返回同一个实例
+     *
+     * @param name                重试预算名称
+     * @param ratio               重试请求数与正常请求数的最大比值
+     * @param minRetriesPerSecond 每秒最少允许的重试次数
+     * @return 重试预算
+     */
+    public static RetryBudget getOrCreate(String name, double ratio, int minRetriesPerSecond) {
+        String key = name + "[" + ratio + "," + minRetriesPerSecond + "]";
+        return BUDGET_MAP.computeIfAbsent(key, k -> new RetryBudget(name, ratio, minRetriesPerSecond));
+    }
+
+    /**
+     * 获取所有共享的重试预算
+     *
+     * @return 所有共享的重试预算
+     */
+    public static Collection<RetryBudget> getBudgets() {
+        return Collections.unmodifiableCollection(BUDGET_MAP.values());
+    }
+
+    /**
+     * 记录一次正常请求，并存入相应的令牌
+     */
+    public void recordRequest() {
+        requestCount.increment();
+        if (depositPerRequest > 0) {
+            deposit(depositPerRequest);
+        }
+    }
+
+    /**
+     * 尝试获取一次重试的机会
+     *
+     * @return 是否允许重试
+     */
+    public boolean tryAcquireRetry() {
+        refill();
+        for (;;) {
+            long current = balance.get();
+            if (current < TOKEN_SCALE) {
+                rejectedCount.increment();
+                if (exhaustedWarned.compareAndSet(false, true)) {
+                    log.warn("The retry budget【{}】 is exhausted (ratio: {}, minRetriesPerSecond: {}), retries will be rejected until tokens are replenished.", name, ratio, minRetriesPerSecond);
+                }
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN_SCALE)) {
+                retryCount.increment();
+                exhaustedWarned.set(false);
+                return true;
+            }
+        }
+    }
+
+    private void refill() {
+        if (refillNanosPerUnit <= 0) {
+            return;
+        }
+        long last = lastRefillNanos.get();
+        long units = (System.nanoTime() - last) / refillNanosPerUnit;
+        if (units > 0 && lastRefillNanos.compareAndSet(last, last + units * refillNanosPerUnit)) {
+            deposit(units);
+        }
+    }
+
+    private void deposit(long units) {
+        for (;;) {
+            long current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+            if (balance.compareAndSet(current, Math.min(capacity, current + units))) {
+                return;
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getRatio() {
+        return ratio;
+    }
+
+    public int getMinRetriesPerSecond() {
+        return minRetriesPerSecond;
+    }
+
+    /**
+     * 获取当前剩余的令牌数
+     */
+    public double getBalance() {
+        return (double) balance.get() / TOKEN_SCALE;
+    }
+
+    /**
+     * 获取记录的正常请求数
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * 获取允许的重试次数
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * 获取由于令牌不足而被拒绝的重试次数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "RetryBudget{" +
+                "name='" + name + '\'' +
+                ", ratio=" + ratio +
+                ", minRetriesPerSecond=" + minRetriesPerSecond +
+                ", balance=" + getBalance() +
+                ", requestCount=" + getRequestCount() +
+                ", retryCount=" + getRetryCount() +
+                ", rejectedCount=" + getRejectedCount() +
+                '}';
+    }
+}
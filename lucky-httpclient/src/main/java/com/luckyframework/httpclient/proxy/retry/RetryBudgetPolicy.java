@@ -0,0 +1,70 @@
+package com.luckyframework.httpclient.proxy.retry;
+
+import com.luckyframework.httpclient.core.meta.Request;
+import com.luckyframework.httpclient.core.metrics.HttpMetrics;
+import com.luckyframework.httpclient.proxy.context.MethodContext;
+import org.springframework.lang.Nullable;
+
+/**
+ * 重试预算策略，用于为当前请求查找对应的{@link RetryBudget}
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 22:20
+ */
+public class RetryBudgetPolicy {
+
+    /**
+     * 重试预算的作用范围
+     */
+    private final RetryBudgetScope scope;
+
+    /**
+     * 重试请求数与正常请求数的最大比值
+     */
+    private final double ratio;
+
+    /**
+     * 每秒最少允许的重试次数
+     */
+    private final int minRetriesPerSecond;
+
+    /**
+     * 重试预算策略构造器
+     *
+     * @param scope               重试预算的作用范围
+     * @param ratio               重试请求数与正常请求数的最大比值
+     * @param minRetriesPerSecond 每秒最少允许的重试次数
+     */
+    public RetryBudgetPolicy(RetryBudgetScope scope, double ratio, int minRetriesPerSecond) {
+        this.scope = scope == null ? RetryBudgetScope.HOST : scope;
+        this.ratio = ratio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+    }
+
+    public RetryBudgetScope getScope() {
+        return scope;
+    }
+
+    public double getRatio() {
+        return ratio;
+    }
+
+    public int getMinRetriesPerSecond() {
+        return minRetriesPerSecond;
+    }
+
+    /**
+     * 获取当前请求对应的重试预算，作用范围为{@link RetryBudgetScope#HOST}但是无法获取请求时使用接口级别的重试预算
+     *
+     * @param methodContext 方法上下文
+     * @param request       当前请求
+     * @return 重试预算
+     */
+    public RetryBudget getBudget(MethodContext methodContext, @Nullable Request request) {
+        String name = scope == RetryBudgetScope.HOST && request != null
+                ? "host:" + HttpMetrics.hostOf(request)
+                : "api:" + methodContext.getCurrentAnnotatedElement().getDeclaringClass().getName();
+        return RetryBudget.getOrCreate(name, ratio, minRetriesPerSecond);
+    }
+}
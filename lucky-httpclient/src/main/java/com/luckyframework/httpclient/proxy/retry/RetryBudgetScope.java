@@ -0,0 +1,21 @@
+package com.luckyframework.httpclient.proxy.retry;
+
+/**
+ * 重试预算的作用范围
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 22:10
+ */
+public enum RetryBudgetScope {
+
+    /**
+     * 请求的目标主机(host:port)共享同一个重试预算
+     */
+    HOST,
+
+    /**
+     * 同一个接口中的所有方法共享同一个重试预算
+     */
+    API
+}
@@ -3,6 +3,7 @@ package com.luckyframework.httpclient.proxy.retry;
 import com.luckyframework.httpclient.proxy.spel.hook.Lifecycle;
 import com.luckyframework.retry.RunBeforeRetry;
 import com.luckyframework.retry.TaskResult;
+import org.springframework.lang.Nullable;
 
 import static com.luckyframework.httpclient.proxy.spel.OrdinaryVarName._$RETRY_COUNT$_;
 import static com.luckyframework.httpclient.proxy.spel.OrdinaryVarName._$TASK_RESULT$_;
@@ -18,10 +19,31 @@ public abstract class RunBeforeRetryContext<T> extends RetryContext implements R
 
     @Override
     public void beforeRetry(TaskResult<T> taskResult) {
+        prepareRetry(taskResult);
+        doBeforeRetry(taskResult);
+    }
+
+    /**
+     * 设置重试相关的变量并执行{@link Lifecycle#RETRY}钩子函数
+     *
+     * @param taskResult 上一次任务的执行结果
+     */
+    public void prepareRetry(TaskResult<T> taskResult) {
         getContextVar().addRootVariable(_$TASK_RESULT$_, taskResult);
         getContextVar().addRootVariable(_$RETRY_COUNT$_, taskResult.getRetryNum());
         getContext().useHook(Lifecycle.RETRY);
-        doBeforeRetry(taskResult);
+    }
+
+    /**
+     * 获取异步重试时下一次重试之前需要等待的时间，异步重试不会阻塞线程等待，而是在等待时间之后由定时器发起下一次重试<br/>
+     * 返回null时表示无法确定等待时间，此时会在异步线程池中执行{@link #doBeforeRetry(TaskResult)}
+     *
+     * @param taskResult 上一次任务的执行结果
+     * @return 需要等待的时间(毫秒)
+     */
+    @Nullable
+    public Long getAsyncWaitMillis(TaskResult<T> taskResult) {
+        return null;
     }
 
     protected abstract void doBeforeRetry(TaskResult<T> taskResult);
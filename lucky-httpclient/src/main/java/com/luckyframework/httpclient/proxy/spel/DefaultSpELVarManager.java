@@ -105,7 +105,7 @@ public class DefaultSpELVarManager implements SpELVarManager {
 
     public static Object getResponseBody(Response response, ConvertMetaData metaData) {
         Object entity = response.getEntity(metaData.getMetaType());
-        return entity == null ? response.getStringResult() : entity;
+        return entity == null && !response.isStreamConsumed() ? response.getStringResult() : entity;
     }
 
 }
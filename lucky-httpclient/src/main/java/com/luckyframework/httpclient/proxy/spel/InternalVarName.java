@@ -20,6 +20,7 @@ public class InternalVarName {
     public static final String __$RETRY_COUNT$__ = "__$retryCount$__";
     public static final String __$RETRY_RUN_BEFORE_RETRY_FUNCTION$__ = "__$retryRunBeforeRetryContextFunction$__";
     public static final String __$RETRY_DECIDER_FUNCTION$__ = "__$retryRetryDeciderContextFunction$__";
+    public static final String __$RETRY_BUDGET_POLICY$__ = "__$retryBudgetPolicy$__";
 
     public static final String __$IS_MOCK$__ = "__$isMock$__";
     public static final String __$MOCK_RESPONSE_FACTORY$__ = "__$mockResponseFactory$__";
@@ -54,6 +54,11 @@ public class SpELConvert {
      */
     private final String nestExpressionSuffix;
 
+    /**
+     * 当前类是否重写了{@link #paramWrapperPostProcess(ParamWrapper)}方法
+     */
+    private final boolean paramWrapperPostProcessOverridden = isParamWrapperPostProcessOverridden(getClass());
+
     /**
      * SpEL转换器构造函数
      *
@@ -244,6 +249,25 @@ public class SpELConvert {
     }
 
 
+    /**
+     * 判断某个表达式是否为常量，常量表达式的解析结果就是表达式本身，与运行时环境无关
+     * <pre>
+     *     1.不是嵌套表达式
+     *     2.不包含SpEL表达式
+     * </pre>
+     * 重写了{@link #paramWrapperPostProcess(ParamWrapper)}方法的子类可能会对表达式进行预处理(例如解析${}占位符)，
+     * 此时任何表达式都不会被视为常量
+     *
+     * @param expression 表达式
+     * @return 是否为常量表达式
+     */
+    public boolean isConstantExpression(String expression) {
+        if (expression == null || paramWrapperPostProcessOverridden) {
+            return false;
+        }
+        return !getNestExpression(expression).needsNest() && !isSpELExpression(expression);
+    }
+
     /**
      * 参数包装器后置处理
      *
@@ -253,6 +277,18 @@ public class SpELConvert {
 
     }
 
+    private static boolean isParamWrapperPostProcessOverridden(Class<?> clazz) {
+        for (Class<?> c = clazz; c != null && c != SpELConvert.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("paramWrapperPostProcess", ParamWrapper.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // 继续检查父类
+            }
+        }
+        return false;
+    }
+
     /**
      * 获取一个嵌套表达式信息
      *
@@ -1,7 +1,9 @@
 package com.luckyframework.httpclient.proxy.statics;
 
 import com.luckyframework.common.StringUtils;
+import com.luckyframework.httpclient.proxy.context.Context;
 import com.luckyframework.httpclient.proxy.paraminfo.ParamInfo;
+import com.luckyframework.httpclient.proxy.spel.SpELConvert;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -36,6 +38,41 @@ public class SpELValueFieldSeparationStaticParamResolver implements StaticParamR
         return paramInfoList;
     }
 
+    /**
+     * 没有配置条件表达式，并且所有的配置都不包含@if表达式和SpEL表达式时解析结果为常量
+     *
+     * @param context 静态注解上下文信息
+     * @return 解析结果是否为常量
+     */
+    @Override
+    public boolean isConstant(StaticParamAnnContext context) {
+        if (!isConstantPostProcess()) {
+            return false;
+        }
+        String condition = context.getAnnotationAttribute(getConditionAttribute(), String.class);
+        if (StringUtils.hasText(condition)) {
+            return false;
+        }
+        SpELConvert spELConvert = context.getContext().getSpELConverter();
+        String[] annotationAttributeValues = context.getAnnotationAttribute(getConfigAttribute(), String[].class);
+        for (String keyValueStr : annotationAttributeValues) {
+            if (Context.isIfExpression(keyValueStr) || !spELConvert.isConstantExpression(keyValueStr)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@link #postProcess(StaticParamAnnContext, ParamInfo)}的处理结果是否与运行时环境无关，
+     * 子类重写了postProcess方法时默认不会被视为常量，需要同时重写该方法
+     *
+     * @return postProcess的处理结果是否与运行时环境无关
+     */
+    protected boolean isConstantPostProcess() {
+        return getClass() == SpELValueFieldSeparationStaticParamResolver.class;
+    }
+
     /**
      * 参数信息的后缀处理
      *
@@ -9,11 +9,16 @@ import com.luckyframework.httpclient.proxy.setter.ParameterSetter;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
 /**
  * 静态参数加载器
+ * <pre>
+ *     每个方法只会创建一个加载器，解析结果为常量的静态参数(参考{@link StaticParamResolver#isConstant(StaticParamAnnContext)})
+ *     只会在第一次调用时解析一次，之后的每次调用只需要将缓存的参数设置到请求中
+ * </pre>
  *
  * @author fukang
  * @version 1.0.0
@@ -62,6 +67,16 @@ public class StaticParamLoader {
         private final Function<MethodContext, StaticParamResolver> resolverFunction;
         private final Annotation staticParamAnnotation;
 
+        /**
+         * 常量解析结果，解析结果与运行时环境有关时为null
+         */
+        private volatile List<ParamInfo> constantParamInfos;
+
+        /**
+         * 是否已经判断过解析结果是否为常量
+         */
+        private volatile boolean constantChecked;
+
         StaticParamAnalyzer(Function<MethodContext, ParameterSetter> setterFunction, Function<MethodContext, StaticParamResolver> resolverFunction, Annotation staticParamAnnotation) {
             this.setterFunction = setterFunction;
             this.resolverFunction = resolverFunction;
@@ -69,7 +84,18 @@ public class StaticParamLoader {
         }
 
         void resolverAndSetter(Request request, MethodContext context) {
-            List<ParamInfo> paramInfos = resolverFunction.apply(context).parser(new StaticParamAnnContext(context, staticParamAnnotation));
+            List<ParamInfo> paramInfos = constantParamInfos;
+            if (paramInfos == null) {
+                StaticParamResolver resolver = resolverFunction.apply(context);
+                StaticParamAnnContext annContext = new StaticParamAnnContext(context, staticParamAnnotation);
+                paramInfos = resolver.parser(annContext);
+                if (!constantChecked) {
+                    if (resolver.isConstant(annContext)) {
+                        constantParamInfos = Collections.unmodifiableList(paramInfos);
+                    }
+                    constantChecked = true;
+                }
+            }
             for (ParamInfo paramInfo : paramInfos) {
                 setterFunction.apply(context).set(request, paramInfo);
             }
@@ -22,4 +22,15 @@ public interface StaticParamResolver {
      */
     List<ParamInfo> parser(StaticParamAnnContext context);
 
+    /**
+     * 判断注解的解析结果是否为常量，常量结果与运行时环境无关，
+     * {@link StaticParamLoader}只会在第一次调用时解析一次，之后的每次调用都会直接复用该结果
+     *
+     * @param context 静态注解上下文信息
+     * @return 解析结果是否为常量，默认返回false
+     */
+    default boolean isConstant(StaticParamAnnContext context) {
+        return false;
+    }
+
 }
@@ -33,4 +33,9 @@ public class URLEncodeStaticParamResolver extends SpELValueFieldSeparationStatic
         }
         return super.postProcess(context, originalParamInfo);
     }
+
+    @Override
+    protected boolean isConstantPostProcess() {
+        return getClass() == URLEncodeStaticParamResolver.class;
+    }
 }
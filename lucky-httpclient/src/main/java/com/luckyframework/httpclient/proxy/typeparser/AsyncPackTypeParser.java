@@ -0,0 +1,29 @@
+package com.luckyframework.httpclient.proxy.typeparser;
+
+import com.luckyframework.httpclient.proxy.context.MethodContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 支持非阻塞执行的包装类型解析器
+ * <pre>
+ *     方法使用的HTTP执行器支持原生异步或者方法开启了重试机制时，代理对象会通过{@link #wrapFuture(MethodContext, Supplier)}
+ *     直接包装异步执行的结果，等待响应以及重试之前的等待都不会占用异步线程池中的线程
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 22:40
+ */
+public interface AsyncPackTypeParser extends PackTypeParser {
+
+    /**
+     * 将异步执行的结果包装成指定的包装类型
+     *
+     * @param mc             方法上下文
+     * @param futureSupplier 发起异步执行并返回执行结果的CompletableFuture
+     * @return 包装类型对应的对象
+     */
+    Object wrapFuture(MethodContext mc, Supplier<CompletableFuture<Object>> futureSupplier);
+}
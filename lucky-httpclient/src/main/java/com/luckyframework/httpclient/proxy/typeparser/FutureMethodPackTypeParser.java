@@ -9,12 +9,13 @@ import org.springframework.util.concurrent.ListenableFuture;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 
 /**
  * 用于处理{@link  Future}类型的包装类型解析器
  */
-public class FutureMethodPackTypeParser extends SingleGenericPackTypeParser {
+public class FutureMethodPackTypeParser extends SingleGenericPackTypeParser implements AsyncPackTypeParser {
 
     private static final Logger log = LoggerFactory.getLogger(FutureMethodPackTypeParser.class);
 
@@ -36,4 +37,12 @@ public class FutureMethodPackTypeParser extends SingleGenericPackTypeParser {
                 ? new CompletableToListenableFutureAdapter<>(completableFuture)
                 : completableFuture;
     }
+
+    @Override
+    public Object wrapFuture(MethodContext mc, Supplier<CompletableFuture<Object>> futureSupplier) {
+        CompletableFuture<Object> completableFuture = futureSupplier.get();
+        return ListenableFuture.class.isAssignableFrom(mc.getReturnType())
+                ? new CompletableToListenableFutureAdapter<>(completableFuture)
+                : completableFuture;
+    }
 }
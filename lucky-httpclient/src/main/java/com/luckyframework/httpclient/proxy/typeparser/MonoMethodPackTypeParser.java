@@ -9,12 +9,13 @@ import reactor.core.publisher.Mono;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 
 /**
  * 用于处理{@link  Mono}类型的包装类型解析器
  */
-public class MonoMethodPackTypeParser extends SingleGenericPackTypeParser {
+public class MonoMethodPackTypeParser extends SingleGenericPackTypeParser implements AsyncPackTypeParser {
 
     private static final Logger log = LoggerFactory.getLogger(MonoMethodPackTypeParser.class);
 
@@ -80,4 +81,10 @@ public class MonoMethodPackTypeParser extends SingleGenericPackTypeParser {
             });
         });
     }
+
+    @Override
+    public Object wrapFuture(MethodContext mc, Supplier<CompletableFuture<Object>> futureSupplier) {
+        // 订阅时才会发起请求，结果为null时返回Mono.empty()
+        return Mono.fromFuture(futureSupplier);
+    }
 }
@@ -0,0 +1,58 @@
+package com.luckyframework.httpclient.proxy.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link MaskingEngine}的回归测试，覆盖之前基于正则的实现所支持的日志格式
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/19 10:20
+ */
+class MaskingEngineTest {
+
+    private static final String RED = "\u001B[31m";
+    private static final String RESET = "\u001B[0m";
+
+    private static String mask(String key, String content) {
+        return DataMasker.maskSensitiveData(Collections.singletonMap(key, MaskType.FULL), content);
+    }
+
+    private static String full(String value) {
+        return MaskType.FULL.mask(value);
+    }
+
+    @Test
+    void beautifulHeaderLayoutMasksWholeValue() {
+        String content = "    " + RED + "Authorization: " + RESET + "Bearer abc123def\n    " + RED + "Accept: " + RESET + "*/*\n";
+        String expected = "    " + RED + "Authorization: " + RESET + full("Bearer abc123def") + "\n    " + RED + "Accept: " + RESET + "*/*\n";
+        assertEquals(expected, mask("Authorization", content));
+    }
+
+    @Test
+    void bareValueRunsToLineEnd() {
+        assertEquals("password=" + full("my secret"), mask("password", "password=my secret"));
+        assertEquals("token: " + full("a b c") + "; next", mask("token", "token: a b c; next"));
+    }
+
+    @Test
+    void queryParamStopsAtAmpersand() {
+        assertEquals("GET http://x/a?token=" + full("abc") + "&page=1 HTTP/1.1", mask("token", "GET http://x/a?token=abc&page=1 HTTP/1.1"));
+    }
+
+    @Test
+    void jsonAndXmlValues() {
+        Map<String, CustomMasker> maskers = new HashMap<>();
+        maskers.put("password", MaskType.FULL);
+        maskers.put("age", MaskType.FULL);
+        assertEquals("{\"password\": \"" + full("x y") + "\", \"age\": " + full("12") + "}",
+                DataMasker.maskSensitiveData(maskers, "{\"password\": \"x y\", \"age\": 12}"));
+        assertEquals("<password>" + full("x") + "</password>", mask("password", "<password>x</password>"));
+    }
+}
@@ -2,6 +2,9 @@ package com.luckyframework.jdbc.connection;
 
 import com.luckyframework.jdbc.core.ColumnMapRowMapper;
 import com.luckyframework.jdbc.core.ResultSetExtractor;
+import com.luckyframework.jdbc.core.ResultSetSpliterator;
+import com.luckyframework.jdbc.core.RowCallbackHandler;
+import com.luckyframework.jdbc.core.RowMapper;
 import com.luckyframework.jdbc.core.RowMapperResultSetExtractor;
 import com.luckyframework.jdbc.exceptions.SQLExecutorException;
 import com.luckyframework.jdbc.utils.JdbcUtils;
@@ -13,8 +16,12 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * 默认的SQL操作器
@@ -26,13 +33,109 @@ public class DefaultSqlOperation implements SqlOperation {
 
     private final static Logger logger = LoggerFactory.getLogger(DefaultSqlOperation.class);
 
+    /**
+     * MySQL驱动只有在fetchSize为Integer.MIN_VALUE时才会逐行读取结果，否则会一次性将结果全部读入内存
+     */
+    private final static int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    /**
+     * 可以被改写为多行VALUES形式的INSERT语句，VALUES之后只能有一组参数
+     */
+    private final static Pattern SINGLE_ROW_INSERT_PATTERN = Pattern.compile("(?is)^(\\s*insert\\s.+?\\bvalues\\s*)(\\(.*\\))\\s*;?\\s*$");
+
+    /**
+     * 多行VALUES改写时单条SQL中允许的最大参数个数，大多数数据库的上限都不低于该值
+     */
+    private final static int MAX_REWRITE_PARAMETERS = 32767;
+
     private final Connection connection;
     private boolean isAutoCommit = true;
 
+    /**
+     * 流式查询时每次从数据库拉取的行数
+     */
+    private int streamingFetchSize = 1000;
+
+    /**
+     * 批量操作时每多少行执行一次，用于限制驱动中积压的参数数量
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 是否将单行INSERT的批量操作改写为多行VALUES形式的INSERT
+     */
+    private boolean rewriteBatchedInserts = false;
+
+    /**
+     * 事务中缓存的PreparedStatement的最大数量，小于等于0时不缓存
+     */
+    private int statementCacheSize = 32;
+
+    /**
+     * 事务中使用的PreparedStatement缓存
+     */
+    private PreparedStatementCache statementCache;
+
     public DefaultSqlOperation(Connection connection) {
         this.connection = connection;
     }
 
+    public int getStreamingFetchSize() {
+        return streamingFetchSize;
+    }
+
+    /**
+     * 设置流式查询时每次从数据库拉取的行数，MySQL数据库会忽略该值并始终使用逐行读取的模式。
+     * PostgreSQL等数据库只有在关闭自动提交时才会使用游标分批拉取，因此大数据量的流式查询应当在事务中执行
+     * @param streamingFetchSize 每次拉取的行数
+     */
+    public void setStreamingFetchSize(int streamingFetchSize) {
+        if(streamingFetchSize <= 0){
+            throw new SQLExecutorException("The streaming fetch size must be greater than 0.");
+        }
+        this.streamingFetchSize = streamingFetchSize;
+    }
+
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * 设置批量操作时每多少行执行一次
+     * @param batchSize 每次执行的行数
+     */
+    public void setBatchSize(int batchSize) {
+        if(batchSize <= 0){
+            throw new SQLExecutorException("The batch size must be greater than 0.");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public boolean isRewriteBatchedInserts() {
+        return rewriteBatchedInserts;
+    }
+
+    /**
+     * 设置是否将单行INSERT的批量操作改写为 INSERT ... VALUES (?,?),(?,?)... 的形式执行，
+     * 改写后无法得到每一行受影响的行数，结果数组中对应的元素为{@link Statement#SUCCESS_NO_INFO}
+     * @param rewriteBatchedInserts 是否改写
+     */
+    public void setRewriteBatchedInserts(boolean rewriteBatchedInserts) {
+        this.rewriteBatchedInserts = rewriteBatchedInserts;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * 设置事务中缓存的PreparedStatement的最大数量，小于等于0时不缓存，只能在开启事务之前设置
+     * @param statementCacheSize 最大缓存数量
+     */
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
 
     /**
      * 开启事务
@@ -41,6 +144,9 @@ public class DefaultSqlOperation implements SqlOperation {
         try {
             isAutoCommit = false;
             connection.setAutoCommit(false);
+            if(statementCacheSize > 0 && statementCache == null){
+                statementCache = new PreparedStatementCache(connection, statementCacheSize);
+            }
         }catch (SQLException e){
             throw new SQLExecutorException(e);
         }
@@ -84,45 +190,198 @@ public class DefaultSqlOperation implements SqlOperation {
 
     @Override
     public int update(String sqlTemp, Object... parameters)  {
-        try(PreparedStatement ps = connection.prepareStatement(sqlTemp)) {
-            int i = 1;
-            for (Object parameter : parameters) {
-                ps.setObject(i++,parameter);
-            }
+        PreparedStatement ps = null;
+        try {
+            ps = prepareStatement(sqlTemp);
+            setParameters(ps, parameters, 1);
             return ps.executeUpdate();
         }catch (Exception e){
             throw new SQLExecutorException(e);
+        }finally {
+            releaseStatement(ps);
         }
     }
 
     @Override
     public int[] updateBatch(String sqlTemp,List<Object[]> parameterList) {
-        try(PreparedStatement ps = connection.prepareStatement(sqlTemp)) {
+        if(parameterList.isEmpty()){
+            return new int[0];
+        }
+        if(rewriteBatchedInserts){
+            int[] rewriteResult = tryRewriteUpdateBatch(sqlTemp, parameterList);
+            if(rewriteResult != null){
+                return rewriteResult;
+            }
+        }
+        int[] result = new int[parameterList.size()];
+        PreparedStatement ps = null;
+        try {
+            ps = prepareStatement(sqlTemp);
+            int pending = 0;
+            int offset = 0;
             for (Object[] parameters : parameterList) {
-                int i = 1;
-                for (Object parameter : parameters) {
-                    ps.setObject(i++,parameter);
-                }
+                setParameters(ps, parameters, 1);
                 ps.addBatch();
+                if(++pending == batchSize){
+                    offset = copyCounts(ps.executeBatch(), result, offset);
+                    pending = 0;
+                }
+            }
+            if(pending > 0){
+                copyCounts(ps.executeBatch(), result, offset);
             }
-            return ps.executeBatch();
+            return result;
         } catch (SQLException e) {
             throw new SQLExecutorException(e);
+        }finally {
+            clearCachedBatch(ps);
+            releaseStatement(ps);
         }
     }
 
     @Override
     public int[] updateBatch(String...completeSqls) {
+        int[] result = new int[completeSqls.length];
         try(Statement st = connection.createStatement()) {
+            int pending = 0;
+            int offset = 0;
             for (String completeSql : completeSqls) {
                 st.addBatch(completeSql);
+                if(++pending == batchSize){
+                    offset = copyCounts(st.executeBatch(), result, offset);
+                    pending = 0;
+                }
+            }
+            if(pending > 0){
+                copyCounts(st.executeBatch(), result, offset);
             }
-            return st.executeBatch();
+            return result;
         } catch (SQLException e) {
             throw new SQLExecutorException(e);
         }
     }
 
+    /**
+     * 将单行INSERT改写为多行VALUES形式分块执行，SQL无法改写或者各组参数的个数不一致时返回null
+     */
+    private int[] tryRewriteUpdateBatch(String sqlTemp, List<Object[]> parameterList){
+        Matcher matcher = SINGLE_ROW_INSERT_PATTERN.matcher(sqlTemp);
+        if(!matcher.matches() || !isSingleTuple(matcher.group(2))){
+            return null;
+        }
+        int paramCount = parameterList.get(0).length;
+        if(paramCount == 0){
+            return null;
+        }
+        for (Object[] parameters : parameterList) {
+            if(parameters.length != paramCount){
+                return null;
+            }
+        }
+        String prefix = matcher.group(1);
+        String tuple = matcher.group(2);
+        int rowsPerStatement = Math.max(1, Math.min(batchSize, MAX_REWRITE_PARAMETERS / paramCount));
+        int[] result = new int[parameterList.size()];
+        Arrays.fill(result, Statement.SUCCESS_NO_INFO);
+        int fullChunkSqlRows = Math.min(rowsPerStatement, parameterList.size());
+        String fullChunkSql = buildMultiRowInsert(prefix, tuple, fullChunkSqlRows);
+        for (int start = 0; start < parameterList.size(); start += rowsPerStatement) {
+            int rows = Math.min(rowsPerStatement, parameterList.size() - start);
+            String sql = rows == fullChunkSqlRows ? fullChunkSql : buildMultiRowInsert(prefix, tuple, rows);
+            PreparedStatement ps = null;
+            try {
+                ps = prepareStatement(sql);
+                int index = 1;
+                for (int row = start; row < start + rows; row++) {
+                    index = setParameters(ps, parameterList.get(row), index);
+                }
+                ps.executeUpdate();
+            }catch (SQLException e){
+                throw new SQLExecutorException(e);
+            }finally {
+                releaseStatement(ps);
+            }
+        }
+        return result;
+    }
+
+    private static String buildMultiRowInsert(String prefix, String tuple, int rows){
+        StringBuilder sql = new StringBuilder(prefix.length() + (tuple.length() + 1) * rows);
+        sql.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if(i > 0){
+                sql.append(',');
+            }
+            sql.append(tuple);
+        }
+        return sql.toString();
+    }
+
+    // 判断VALUES之后是否只有一组由括号包裹的参数，引号中的括号不参与计算
+    private static boolean isSingleTuple(String tuple){
+        int depth = 0;
+        char quote = 0;
+        for (int i = 0; i < tuple.length(); i++) {
+            char c = tuple.charAt(i);
+            if(quote != 0){
+                if(c == quote){
+                    quote = 0;
+                }
+                continue;
+            }
+            if(c == '\'' || c == '"'){
+                quote = c;
+            }else if(c == '('){
+                depth++;
+            }else if(c == ')'){
+                depth--;
+                if(depth == 0 && i != tuple.length() - 1){
+                    return false;
+                }
+            }
+        }
+        return depth == 0 && quote == 0;
+    }
+
+    private static int copyCounts(int[] counts, int[] result, int offset){
+        System.arraycopy(counts, 0, result, offset, Math.min(counts.length, result.length - offset));
+        return offset + counts.length;
+    }
+
+    private static int setParameters(PreparedStatement ps, Object[] parameters, int startIndex) throws SQLException {
+        int i = startIndex;
+        for (Object parameter : parameters) {
+            ps.setObject(i++,parameter);
+        }
+        return i;
+    }
+
+    // 事务中从缓存中获取PreparedStatement，否则创建一个新的PreparedStatement
+    private PreparedStatement prepareStatement(String sqlTemp) throws SQLException {
+        if(statementCache != null && !isAutoCommit){
+            return statementCache.get(sqlTemp);
+        }
+        return connection.prepareStatement(sqlTemp);
+    }
+
+    // 清空缓存中的PreparedStatement的批处理队列，防止执行失败的批处理数据被下一次批处理重复执行
+    private void clearCachedBatch(PreparedStatement ps){
+        if(ps != null && statementCache != null && !isAutoCommit){
+            try {
+                ps.clearBatch();
+            }catch (SQLException e){
+                logger.warn("Failed to clear the batch of the cached PreparedStatement.", e);
+            }
+        }
+    }
+
+    // 缓存中的PreparedStatement由缓存负责关闭
+    private void releaseStatement(PreparedStatement ps){
+        if(ps != null && (statementCache == null || isAutoCommit)){
+            JdbcUtils.closePreparedStatement(ps);
+        }
+    }
+
     @Override
     public List<Map<String, Object>> query(String sqlTemp, Object... parameters) {
         return query(sqlTemp,new RowMapperResultSetExtractor<>(new ColumnMapRowMapper()),parameters);
@@ -130,19 +389,68 @@ public class DefaultSqlOperation implements SqlOperation {
 
     @Override
     public <T> T query(String sqlTemp, ResultSetExtractor<T> resultSetExtractor, Object... parameters) {
-        try(PreparedStatement ps = connection.prepareStatement(sqlTemp)) {
-            int i = 1;
-            for (Object parameter : parameters) {
-                ps.setObject(i++,parameter);
-            }
+        PreparedStatement ps = null;
+        try {
+            ps = prepareStatement(sqlTemp);
+            setParameters(ps, parameters, 1);
             try(ResultSet rs = ps.executeQuery()) {
                 return resultSetExtractor.extractData(rs);
             }
         }catch (Exception e){
             throw new SQLExecutorException(e);
+        }finally {
+            releaseStatement(ps);
         }
     }
 
+    @Override
+    public void queryForEach(String sqlTemp, RowCallbackHandler rowCallbackHandler, Object... parameters) {
+        try(PreparedStatement ps = prepareStreamingStatement(sqlTemp, parameters);
+            ResultSet rs = ps.executeQuery()) {
+            while (rs.next()){
+                rowCallbackHandler.processRow(rs);
+            }
+        }catch (SQLExecutorException e){
+            throw e;
+        }catch (Exception e){
+            throw new SQLExecutorException(e);
+        }
+    }
+
+    @Override
+    public <T> Stream<T> queryForStream(String sqlTemp, RowMapper<T> rowMapper, Object... parameters) {
+        PreparedStatement ps = null;
+        try {
+            ps = prepareStreamingStatement(sqlTemp, parameters);
+            return new ResultSetSpliterator<>(ps.executeQuery(), ps, rowMapper).stream();
+        }catch (SQLException e){
+            JdbcUtils.closePreparedStatement(ps);
+            throw new SQLExecutorException(e);
+        }
+    }
+
+    // 创建只进只读并且设置了fetchSize的PreparedStatement
+    private PreparedStatement prepareStreamingStatement(String sqlTemp, Object... parameters) throws SQLException {
+        PreparedStatement ps = connection.prepareStatement(sqlTemp, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        try {
+            ps.setFetchSize(isMySql() ? MYSQL_STREAMING_FETCH_SIZE : streamingFetchSize);
+            ps.setFetchDirection(ResultSet.FETCH_FORWARD);
+            int i = 1;
+            for (Object parameter : parameters) {
+                ps.setObject(i++,parameter);
+            }
+            return ps;
+        }catch (SQLException e){
+            JdbcUtils.closePreparedStatement(ps);
+            throw e;
+        }
+    }
+
+    private boolean isMySql() throws SQLException {
+        String productName = connection.getMetaData().getDatabaseProductName();
+        return productName != null && productName.toLowerCase().contains("mysql");
+    }
+
     public void commit() {
         if(isAutoCommit){
             throw new SQLExecutorException("Manual commit is not supported in non-transaction mode.");
@@ -164,11 +472,20 @@ public class DefaultSqlOperation implements SqlOperation {
         }catch (SQLException e){
             logger.error("An exception occurred during the rollback operation. Procedure",e);
             throw new SQLExecutorException(e);
+        }finally {
+            // 回滚之后不再复用回滚之前的PreparedStatement
+            if(statementCache != null){
+                statementCache.clear();
+            }
         }
     }
 
     @Override
     public void close(){
+        if(statementCache != null){
+            statementCache.clear();
+            statementCache = null;
+        }
         try {
             if(!connection.isClosed()){
                 JdbcUtils.closeConnect(connection);
@@ -0,0 +1,70 @@
+package com.luckyframework.jdbc.connection;
+
+import com.luckyframework.jdbc.utils.JdbcUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 单个连接上的PreparedStatement缓存，按照SQL文本进行LRU淘汰
+ * <pre>
+ *     1.同一条SQL在同一个连接上只会被预编译一次，省去重复的解析与网络往返
+ *     2.被淘汰的PreparedStatement会立即关闭，缓存关闭时关闭所有缓存的PreparedStatement
+ *     3.连接本身不是线程安全的，因此该缓存也不是线程安全的
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 19:50
+ */
+class PreparedStatementCache {
+
+    private final Connection connection;
+    private final LinkedHashMap<String, PreparedStatement> statements;
+
+    PreparedStatementCache(Connection connection, int maxSize) {
+        this.connection = connection;
+        this.statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > maxSize) {
+                    JdbcUtils.closePreparedStatement(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 获取SQL对应的PreparedStatement，缓存中不存在时进行预编译并放入缓存
+     *
+     * @param sql 预编译的SQL
+     * @return 已经清空了参数和批处理队列的PreparedStatement
+     * @throws SQLException 预编译失败时抛出
+     */
+    PreparedStatement get(String sql) throws SQLException {
+        PreparedStatement ps = statements.get(sql);
+        if (ps != null && !ps.isClosed()) {
+            ps.clearParameters();
+            ps.clearBatch();
+            return ps;
+        }
+        ps = connection.prepareStatement(sql);
+        statements.put(sql, ps);
+        return ps;
+    }
+
+    /**
+     * 关闭并移除所有缓存的PreparedStatement
+     */
+    void clear() {
+        for (PreparedStatement ps : statements.values()) {
+            JdbcUtils.closePreparedStatement(ps);
+        }
+        statements.clear();
+    }
+}
@@ -1,12 +1,18 @@
 package com.luckyframework.jdbc.connection;
 
 import com.luckyframework.conversion.ConversionUtils;
+import com.luckyframework.jdbc.core.BeanPropertyRowMapper;
+import com.luckyframework.jdbc.core.ColumnMapRowMapper;
 import com.luckyframework.jdbc.core.ResultSetExtractor;
+import com.luckyframework.jdbc.core.RowCallbackHandler;
+import com.luckyframework.jdbc.core.RowMapper;
+import com.luckyframework.jdbc.core.RowMapperResultSetExtractor;
 
 import java.io.Closeable;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * 基于JDBC的SQL操作类
@@ -69,8 +75,12 @@ public interface SqlOperation extends Closeable {
      * @return 查询结果
      */
    default <T> List<T> queryForList(String sqlTemp,Class<T> requiredType,Object...parameters){
+       // Bean类型直接从ResultSet写入对象属性，不再经过中间的Map
+       if(BeanPropertyRowMapper.isSupported(requiredType)){
+           return query(sqlTemp, new RowMapperResultSetExtractor<>(new BeanPropertyRowMapper<>(requiredType)), parameters);
+       }
        List<Map<String, Object>> queryResult = query(sqlTemp, parameters);
-       List<T> resultList = new LinkedList<>();
+       List<T> resultList = new ArrayList<>(queryResult.size());
        for (Map<String, Object> map : queryResult) {
            resultList.add(ConversionUtils.conversion(map,requiredType));
        }
@@ -82,6 +92,50 @@ public interface SqlOperation extends Closeable {
        return resultList.isEmpty() ? null : resultList.get(0);
    }
 
+    /**
+     * 流式查询，使用只进只读的游标逐行读取查询结果并通过回调处理，内存占用与结果集大小无关
+     * @param sqlTemp            预编译的SQL
+     * @param rowCallbackHandler 行回调
+     * @param parameters         SQL参数值
+     */
+    void queryForEach(String sqlTemp, RowCallbackHandler rowCallbackHandler, Object...parameters);
+
+    /**
+     * 流式查询，使用只进只读的游标逐行读取查询结果，返回的流在消费时才会从数据库中拉取数据。
+     * <b>返回的流持有数据库资源，使用完毕后必须关闭(推荐使用try-with-resources)</b>
+     * @param sqlTemp    预编译的SQL
+     * @param rowMapper  行映射器
+     * @param parameters SQL参数值
+     * @param <T>        行映射结果的类型
+     * @return 查询结果流
+     */
+    <T> Stream<T> queryForStream(String sqlTemp, RowMapper<T> rowMapper, Object...parameters);
+
+    /**
+     * 流式查询，将每一行封装为Map<String,Object>类型对象，使用完毕后必须关闭返回的流
+     * @param sqlTemp    预编译的SQL
+     * @param parameters SQL参数值
+     * @return 查询结果流
+     */
+    default Stream<Map<String, Object>> queryForStream(String sqlTemp, Object...parameters){
+        return queryForStream(sqlTemp, new ColumnMapRowMapper(), parameters);
+    }
+
+    /**
+     * 流式查询，将每一行转换为指定的类型，使用完毕后必须关闭返回的流
+     * @param sqlTemp      预编译的SQL
+     * @param requiredType 封装类型
+     * @param parameters   SQL参数值
+     * @param <T>          封装类型泛型
+     * @return 查询结果流
+     */
+    default <T> Stream<T> queryForStream(String sqlTemp, Class<T> requiredType, Object...parameters){
+        if(BeanPropertyRowMapper.isSupported(requiredType)){
+            return queryForStream(sqlTemp, new BeanPropertyRowMapper<>(requiredType), parameters);
+        }
+        return queryForStream(sqlTemp, parameters).map(map -> ConversionUtils.conversion(map, requiredType));
+    }
+
     /**
      * 插入一条数据并返回自增的主键ID
      * @param sqlTemp  预编译的SQL
@@ -0,0 +1,257 @@
+package com.luckyframework.jdbc.core;
+
+import com.luckyframework.conversion.ConversionUtils;
+import com.luckyframework.conversion.TargetField;
+import com.luckyframework.jdbc.exceptions.SQLExecutorException;
+import com.luckyframework.jdbc.utils.JdbcUtils;
+import com.luckyframework.reflect.ClassUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 将每一行数据直接写入目标对象属性的行映射器
+ * <pre>
+ *     1.列与属性的匹配规则与{@link ConversionUtils}将Map转换为对象时一致：属性的映射名为{@code @Column}(或{@link TargetField})
+ *       指定的名称，未指定时为属性名，列名的匹配不区分大小写，final属性会被忽略
+ *     2.每个类型的属性信息只会解析一次，每种[结果集列结构 + 目标类型]对应的映射计划也只会生成一次，两者都会被全局缓存
+ *     3.属性值通过类型化的ResultSet取值方法读取，再通过MethodHandle直接写入属性，只有类型不兼容时才会调用{@link ConversionUtils}
+ * </pre>
+ * 映射器实例在第一行时确定映射计划，因此每个实例只能用于一次查询
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 19:30
+ */
+public class BeanPropertyRowMapper<T> implements RowMapper<T> {
+
+    /** 目标类型与其属性信息的映射*/
+    private static final Map<Class<?>, BeanMetadata> BEAN_METADATA_CACHE = new ConcurrentHashMap<>(64);
+    /** [结果集列结构 + 目标类型]与映射计划的映射*/
+    private static final Map<MappingKey, ColumnMapping[]> MAPPING_PLAN_CACHE = new ConcurrentHashMap<>(64);
+
+    private final Class<T> mappedClass;
+    private final BeanMetadata beanMetadata;
+    private ColumnMapping[] mappingPlan;
+
+    public BeanPropertyRowMapper(Class<T> mappedClass) {
+        if (!isSupported(mappedClass)) {
+            throw new SQLExecutorException("'" + mappedClass + "' is not a bean type and cannot be mapped by BeanPropertyRowMapper.");
+        }
+        this.mappedClass = mappedClass;
+        this.beanMetadata = BEAN_METADATA_CACHE.computeIfAbsent(mappedClass, BeanMetadata::new);
+    }
+
+    /**
+     * 判断某个类型是否可以使用该映射器，简单类型、容器类型、数组、枚举、接口以及抽象类都需要使用{@link ConversionUtils}进行转换
+     *
+     * @param type 目标类型
+     * @return 是否可以使用该映射器
+     */
+    public static boolean isSupported(Class<?> type) {
+        return !BeanUtils.isSimpleValueType(type)
+                && !type.isArray()
+                && !type.isInterface()
+                && !Modifier.isAbstract(type.getModifiers())
+                && !Map.class.isAssignableFrom(type)
+                && !Collection.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+        ColumnMapping[] plan = this.mappingPlan;
+        if (plan == null) {
+            plan = resolveMappingPlan(rs.getMetaData());
+            this.mappingPlan = plan;
+        }
+        T result = beanMetadata.newInstance(mappedClass);
+        for (ColumnMapping mapping : plan) {
+            Object value = JdbcUtils.getResultSetValue(rs, mapping.columnIndex, mapping.property.valueType);
+            mapping.property.setValue(result, value);
+        }
+        return result;
+    }
+
+    private ColumnMapping[] resolveMappingPlan(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        String[] columnNames = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnNames[i] = JdbcUtils.lookupColumnName(metaData, i + 1).toLowerCase(Locale.ENGLISH);
+        }
+        return MAPPING_PLAN_CACHE.computeIfAbsent(new MappingKey(mappedClass, columnNames), key -> {
+            List<ColumnMapping> plan = new ArrayList<>();
+            // 与ColumnMapRowMapper一致，名称重复的列只取第一列
+            List<String> mappedNames = new ArrayList<>();
+            for (int i = 0; i < columnNames.length; i++) {
+                String columnName = columnNames[i];
+                List<PropertyAccessor> properties = beanMetadata.properties.get(columnName);
+                if (properties == null || mappedNames.contains(columnName)) {
+                    continue;
+                }
+                mappedNames.add(columnName);
+                for (PropertyAccessor property : properties) {
+                    plan.add(new ColumnMapping(i + 1, property));
+                }
+            }
+            return plan.toArray(new ColumnMapping[0]);
+        });
+    }
+
+    /**
+     * 目标类型的属性信息
+     */
+    private static final class BeanMetadata {
+
+        /** 小写映射名与属性的映射*/
+        private final Map<String, List<PropertyAccessor>> properties = new ConcurrentHashMap<>();
+        private final MethodHandle constructor;
+
+        BeanMetadata(Class<?> type) {
+            for (Field field : ClassUtils.getAllFields(type)) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isFinal(modifiers) || Modifier.isStatic(modifiers)) {
+                    continue;
+                }
+                properties.computeIfAbsent(getMappingName(field).toLowerCase(Locale.ENGLISH), k -> new ArrayList<>())
+                        .add(new PropertyAccessor(field));
+            }
+            this.constructor = findConstructor(type);
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T newInstance(Class<T> type) {
+            if (constructor == null) {
+                return ClassUtils.newObject(type);
+            }
+            try {
+                return (T) constructor.invokeExact();
+            } catch (Throwable e) {
+                throw new SQLExecutorException("Unable to create an instance of '" + type + "': " + e);
+            }
+        }
+
+        private static MethodHandle findConstructor(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // 没有无参构造器时交给ClassUtils处理
+                return null;
+            }
+        }
+
+        private static String getMappingName(Field field) {
+            TargetField targetField = AnnotatedElementUtils.findMergedAnnotation(field, TargetField.class);
+            return (targetField == null || !StringUtils.hasText(targetField.value()))
+                    ? field.getName()
+                    : targetField.value();
+        }
+    }
+
+    /**
+     * 通过MethodHandle写入的属性
+     */
+    private static final class PropertyAccessor {
+
+        private final Field field;
+        private final Type genericType;
+        /** 读取列值时使用的类型，基本类型会被转换为包装类型，以便区分数据库中的NULL*/
+        private final Class<?> valueType;
+        private final MethodHandle setter;
+
+        PropertyAccessor(Field field) {
+            this.field = field;
+            this.genericType = field.getGenericType();
+            this.valueType = org.springframework.util.ClassUtils.resolvePrimitiveIfNecessary(field.getType());
+            try {
+                field.setAccessible(true);
+                this.setter = MethodHandles.lookup().unreflectSetter(field)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new SQLExecutorException(e);
+            }
+        }
+
+        void setValue(Object target, Object value) {
+            if (value == null) {
+                // 基本类型的属性保持默认值
+                if (field.getType().isPrimitive()) {
+                    return;
+                }
+            } else if (!valueType.isInstance(value)) {
+                value = ConversionUtils.conversion(value, genericType);
+            }
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable e) {
+                throw new SQLExecutorException("Unable to set value '" + value + "' to field '" + field + "': " + e);
+            }
+        }
+    }
+
+    /**
+     * 列序号与属性的对应关系
+     */
+    private static final class ColumnMapping {
+
+        private final int columnIndex;
+        private final PropertyAccessor property;
+
+        ColumnMapping(int columnIndex, PropertyAccessor property) {
+            this.columnIndex = columnIndex;
+            this.property = property;
+        }
+    }
+
+    /**
+     * 映射计划缓存的Key，由目标类型与所有列名组成
+     */
+    private static final class MappingKey {
+
+        private final Class<?> type;
+        private final String[] columnNames;
+        private final int hash;
+
+        MappingKey(Class<?> type, String[] columnNames) {
+            this.type = type;
+            this.columnNames = columnNames;
+            this.hash = type.hashCode() * 31 + Arrays.hashCode(columnNames);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof MappingKey)) {
+                return false;
+            }
+            MappingKey otherKey = (MappingKey) other;
+            return type == otherKey.type && Arrays.equals(columnNames, otherKey.columnNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
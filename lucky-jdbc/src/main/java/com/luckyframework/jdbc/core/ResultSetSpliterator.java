@@ -0,0 +1,79 @@
+package com.luckyframework.jdbc.core;
+
+import com.luckyframework.jdbc.exceptions.SQLExecutorException;
+import com.luckyframework.jdbc.utils.JdbcUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 基于游标的ResultSet拆分器，每次只从ResultSet中读取并映射一行数据
+ * <pre>
+ *     1.数据的拉取节奏完全由驱动的fetchSize决定，内存中不会保存已经处理过的行
+ *     2.拆分器不支持并行拆分，通过{@link #stream()}得到的流只能顺序消费
+ *     3.读取完最后一行或者读取过程中出现异常时会自动关闭ResultSet与Statement，流被关闭时也会关闭这些资源
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 19:10
+ */
+public class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+
+    private final ResultSet resultSet;
+    private final Statement statement;
+    private final RowMapper<T> rowMapper;
+    private int rowNum = 0;
+    private boolean closed = false;
+
+    public ResultSetSpliterator(ResultSet resultSet, Statement statement, RowMapper<T> rowMapper) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.resultSet = resultSet;
+        this.statement = statement;
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (closed) {
+            return false;
+        }
+        T row;
+        try {
+            if (!resultSet.next()) {
+                close();
+                return false;
+            }
+            row = rowMapper.mapRow(resultSet, rowNum++);
+        } catch (SQLException | RuntimeException e) {
+            close();
+            throw e instanceof SQLExecutorException ? (SQLExecutorException) e : new SQLExecutorException(e);
+        }
+        action.accept(row);
+        return true;
+    }
+
+    /**
+     * 获取一个关闭时会释放数据库资源的顺序流
+     *
+     * @return 顺序流
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(this, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            JdbcUtils.closeResultSet(resultSet);
+            JdbcUtils.closeStatement(statement);
+        }
+    }
+}
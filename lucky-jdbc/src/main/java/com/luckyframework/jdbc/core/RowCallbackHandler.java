@@ -0,0 +1,18 @@
+package com.luckyframework.jdbc.core;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 逐行处理查询结果的回调接口，适用于不需要在内存中保存全部结果的大数据量查询
+ * 回调方法中不应该调用{@link ResultSet#next()}
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 19:10
+ */
+@FunctionalInterface
+public interface RowCallbackHandler {
+
+    void processRow(ResultSet rs) throws SQLException;
+}
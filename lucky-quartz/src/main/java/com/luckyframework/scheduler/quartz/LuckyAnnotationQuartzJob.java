@@ -20,11 +20,18 @@ public class LuckyAnnotationQuartzJob implements Job {
 
     @Override
     public void execute(JobExecutionContext context) throws JobExecutionException {
-        Class<QuartzJobExecuteManager> managerClass = QuartzJobExecuteManager.class;
-        QuartzJobExecuteManager jobExecuteManager = ApplicationContextUtils.getBean(managerClass.getName(), managerClass);
         JobDataMap dataMap = context.getMergedJobDataMap();
         String taskKey = dataMap.getString(LUCKY_DEFAULT_DATA_KEY);
-        LuckyTask task = jobExecuteManager.getTask(taskKey);
-        task.execute();
+        getJobExecuteManager().executeTask(taskKey);
+    }
+
+    // 优先使用已经初始化的任务执行管理器，避免每次触发都从容器中查找
+    private QuartzJobExecuteManager getJobExecuteManager(){
+        QuartzJobExecuteManager jobExecuteManager = QuartzJobExecuteManager.getCurrent();
+        if(jobExecuteManager != null){
+            return jobExecuteManager;
+        }
+        Class<QuartzJobExecuteManager> managerClass = QuartzJobExecuteManager.class;
+        return ApplicationContextUtils.getBean(managerClass.getName(), managerClass);
     }
 }
@@ -0,0 +1,137 @@
+package com.luckyframework.scheduler.quartz;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 定时任务的执行指标
+ * <pre>
+ *     1.executions、failures、totalTime和maxTime统计任务的执行次数、失败次数以及耗时
+ *     2.misfires统计Quartz判定为错过触发的次数
+ *     3.overlaps统计任务开始执行时上一次执行尚未结束的次数，禁止并发的任务(fixedDelay)不会出现重叠，
+ *       此时被推迟的触发如果超过了Quartz的misfireThreshold会被记为misfire
+ * </pre>
+ * 所有计数器都是无锁的，可以在任务执行的过程中随时读取
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 20:10
+ */
+public class LuckyTaskMetrics {
+
+    private final String taskId;
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder misfires = new LongAdder();
+    private final LongAdder overlaps = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicInteger running = new AtomicInteger();
+    private volatile long lastNanos;
+    private volatile long lastStartTime;
+
+    public LuckyTaskMetrics(String taskId) {
+        this.taskId = taskId;
+    }
+
+    /**
+     * 记录一次任务开始执行
+     *
+     * @return 开始时间(纳秒)
+     */
+    long start() {
+        if (running.getAndIncrement() > 0) {
+            overlaps.increment();
+        }
+        lastStartTime = System.currentTimeMillis();
+        return System.nanoTime();
+    }
+
+    /**
+     * 记录一次任务执行结束
+     *
+     * @param startNanos 开始时间(纳秒)
+     * @param success    是否执行成功
+     */
+    void stop(long startNanos, boolean success) {
+        long elapsed = System.nanoTime() - startNanos;
+        running.decrementAndGet();
+        executions.increment();
+        if (!success) {
+            failures.increment();
+        }
+        totalNanos.add(elapsed);
+        lastNanos = elapsed;
+        maxNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    void misfire() {
+        misfires.increment();
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getMisfires() {
+        return misfires.sum();
+    }
+
+    public long getOverlaps() {
+        return overlaps.sum();
+    }
+
+    /**
+     * 获取当前正在执行的实例个数
+     */
+    public int getRunning() {
+        return running.get();
+    }
+
+    /**
+     * 获取最近一次开始执行的时间戳，从未执行时为0
+     */
+    public long getLastStartTime() {
+        return lastStartTime;
+    }
+
+    public long getLastTime(TimeUnit unit) {
+        return unit.convert(lastNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxTime(TimeUnit unit) {
+        return unit.convert(maxNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getTotalTime(TimeUnit unit) {
+        return unit.convert(totalNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    public double getMeanTime(TimeUnit unit) {
+        long count = executions.sum();
+        return count == 0 ? 0 : (double) totalNanos.sum() / count / unit.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return "LuckyTaskMetrics{" +
+                "taskId='" + taskId + '\'' +
+                ", executions=" + getExecutions() +
+                ", failures=" + getFailures() +
+                ", misfires=" + getMisfires() +
+                ", overlaps=" + getOverlaps() +
+                ", meanMs=" + getMeanTime(TimeUnit.MILLISECONDS) +
+                ", maxMs=" + getMaxTime(TimeUnit.MILLISECONDS) +
+                '}';
+    }
+}
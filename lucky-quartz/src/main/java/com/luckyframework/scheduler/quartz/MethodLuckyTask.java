@@ -0,0 +1,73 @@
+package com.luckyframework.scheduler.quartz;
+
+import com.luckyframework.context.ApplicationContext;
+import com.luckyframework.exception.LuckyReflectionException;
+import com.luckyframework.reflect.MethodUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * 执行某个Bean中无参定时任务方法的{@link LuckyTask}
+ * <pre>
+ *     1.方法在创建任务时被转换为MethodHandle，每次触发时不再进行反射调用
+ *     2.单例Bean在第一次触发时解析并缓存，之后的触发不再从容器中查找，非单例Bean每次触发时都会从容器中获取
+ *     3.Bean实例不是方法声明类的实例时(例如JDK动态代理)退化为反射调用
+ * </pre>
+ *
+ * @author fukang
+ * @version 1.0.0
+ * @date 2026/10/18 20:10
+ */
+class MethodLuckyTask implements LuckyTask {
+
+    private final ApplicationContext applicationContext;
+    private final String beanName;
+    private final Method method;
+    private final MethodHandle methodHandle;
+    private volatile Object singletonTarget;
+
+    MethodLuckyTask(ApplicationContext applicationContext, String beanName, Method method) {
+        this.applicationContext = applicationContext;
+        this.beanName = beanName;
+        this.method = method;
+        try {
+            method.setAccessible(true);
+            this.methodHandle = MethodHandles.lookup().unreflect(method)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new LuckyReflectionException(e, "Unable to access the scheduled method '{}'", method);
+        }
+    }
+
+    @Override
+    public Object execute() {
+        Object target = getTarget();
+        if (!method.getDeclaringClass().isInstance(target)) {
+            return MethodUtils.invoke(target, method);
+        }
+        try {
+            return methodHandle.invokeExact(target);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // 与反射调用抛出的异常类型保持一致
+            throw new LuckyReflectionException(new InvocationTargetException(e));
+        }
+    }
+
+    private Object getTarget() {
+        Object target = singletonTarget;
+        if (target != null) {
+            return target;
+        }
+        target = applicationContext.getBean(beanName);
+        if (applicationContext.isSingleton(beanName)) {
+            singletonTarget = target;
+        }
+        return target;
+    }
+}
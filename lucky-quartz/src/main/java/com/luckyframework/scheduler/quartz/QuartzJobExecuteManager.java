@@ -9,7 +9,6 @@ import com.luckyframework.common.StringUtils;
 import com.luckyframework.context.ApplicationContext;
 import com.luckyframework.environment.LuckyStandardEnvironment;
 import com.luckyframework.reflect.ClassUtils;
-import com.luckyframework.reflect.MethodUtils;
 import com.luckyframework.scheduler.quartz.annotations.Scheduled;
 import com.luckyframework.scheduler.quartz.annotations.Schedules;
 import com.luckyframework.scheduler.quartz.exceptions.QuartzConfigurationException;
@@ -21,12 +20,14 @@ import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.Trigger;
 import org.quartz.TriggerKey;
+import org.quartz.listeners.TriggerListenerSupport;
 import org.springframework.core.env.Environment;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -50,8 +51,16 @@ public class QuartzJobExecuteManager implements ApplicationContextAware, Initial
 
     /** 默认使用的调度器名称*/
     public final static String defaultSchedulerName = "quartzScheduler";
+    /** 统计misfire的Trigger监听器名称*/
+    private final static String METRICS_TRIGGER_LISTENER_NAME = "luckyTaskMetricsTriggerListener";
+    /** 当前生效的任务执行管理器，Job每次触发时直接使用该实例，不再从容器中查找*/
+    private static volatile QuartzJobExecuteManager current;
     /** 任务ID与任务逻辑所组成的Map*/
     private final Map<String,LuckyTask>  quartzTaskMap = new ConcurrentHashMap<>(64);
+    /** 任务ID与任务执行指标所组成的Map*/
+    private final Map<String,LuckyTaskMetrics> taskMetricsMap = new ConcurrentHashMap<>(64);
+    /** 已经注册了指标监听器的调度器名称*/
+    private final Set<String> metricsListenerSchedulers = ConcurrentHashMap.newKeySet();
     /** Quartz调度器Bean名称与其执行组件所组成的Map*/
     private final Map<String,List<QuartzJobExecuteComponent>> schedulerJobMap = new ConcurrentHashMap<>(64);
     /** 应用程序上下文*/
@@ -76,11 +85,57 @@ public class QuartzJobExecuteManager implements ApplicationContextAware, Initial
         return task;
     }
 
+    /**
+     * 执行任务并记录任务的执行指标
+     * @param taskId 任务ID
+     * @return 任务的执行结果
+     */
+    public Object executeTask(String taskId){
+        LuckyTask task = getTask(taskId);
+        LuckyTaskMetrics metrics = taskMetricsMap.get(taskId);
+        if(metrics == null){
+            return task.execute();
+        }
+        long start = metrics.start();
+        boolean success = false;
+        try {
+            Object result = task.execute();
+            success = true;
+            return result;
+        }finally {
+            metrics.stop(start, success);
+        }
+    }
+
+    /**
+     * 获取某个任务的执行指标
+     * @param taskId 任务ID
+     * @return 任务的执行指标，任务不存在时返回null
+     */
+    public LuckyTaskMetrics getTaskMetrics(String taskId){
+        return taskMetricsMap.get(taskId);
+    }
+
+    /**
+     * 获取所有任务的执行指标
+     * @return 任务ID与任务执行指标所组成的Map
+     */
+    public Map<String,LuckyTaskMetrics> getAllTaskMetrics(){
+        return Collections.unmodifiableMap(taskMetricsMap);
+    }
+
+    /**
+     * 获取当前生效的任务执行管理器，尚未初始化时返回null
+     */
+    static QuartzJobExecuteManager getCurrent(){
+        return current;
+    }
+
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
         this.environment = applicationContext.getEnvironment();
-
+        current = this;
     }
 
     @Override
@@ -286,10 +341,43 @@ public class QuartzJobExecuteManager implements ApplicationContextAware, Initial
             trigger = QuartzUtils.createFixedDelayTrigger(group,name,intervalInMillis,executeCount,initialDelay);
             jobDetail = QuartzUtils.createNonStoreDurablyJobDetail(group,name);
         }
+        // 任务与指标必须在组装之前注册，组装之后任务随时可能被触发
+        quartzTaskMap.put(taskId,new MethodLuckyTask(applicationContext, beanName, scheduledMethod));
+        taskMetricsMap.put(taskId,new LuckyTaskMetrics(taskId));
+        registerMetricsListener(schedulerName, scheduler);
         QuartzJobExecuteComponent jobExecuteComponent = new QuartzJobExecuteComponent(taskId, jobDetail, trigger);
         jobExecuteComponent.assemble(scheduler);
         addQuartzJobExecuteComponent(schedulerName,jobExecuteComponent);
-        quartzTaskMap.put(taskId,()->MethodUtils.invoke(applicationContext.getBean(beanName),scheduledMethod));
+    }
+
+    /**
+     * 为调度器注册统计misfire次数的Trigger监听器，每个调度器只会注册一次
+     * @param schedulerName 调度器名称
+     * @param scheduler     调度器
+     */
+    private void registerMetricsListener(String schedulerName, Scheduler scheduler){
+        if(!metricsListenerSchedulers.add(schedulerName)){
+            return;
+        }
+        try {
+            scheduler.getListenerManager().addTriggerListener(new TriggerListenerSupport() {
+                @Override
+                public String getName() {
+                    return METRICS_TRIGGER_LISTENER_NAME;
+                }
+
+                @Override
+                public void triggerMisfired(Trigger trigger) {
+                    String taskId = trigger.getJobDataMap().getString(LuckyAnnotationQuartzJob.LUCKY_DEFAULT_DATA_KEY);
+                    LuckyTaskMetrics metrics = taskId == null ? null : taskMetricsMap.get(taskId);
+                    if(metrics != null){
+                        metrics.misfire();
+                    }
+                }
+            });
+        }catch (SchedulerException e){
+            throw new QuartzJobExecuteComponentAssembleException(e);
+        }
     }
 
     /**
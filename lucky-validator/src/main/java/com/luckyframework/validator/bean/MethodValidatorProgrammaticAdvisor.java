@@ -81,6 +81,11 @@ public class MethodValidatorProgrammaticAdvisor implements ProgrammaticAdvisor,
         return !MethodUtils.isObjectMethod(method) && (ValidationAnnotationUtils.isValidated(targetClass) || ValidationAnnotationUtils.isValidated(method));
     }
 
+    @Override
+    public boolean isRuntime() {
+        return false;
+    }
+
     @Override
     public void setBeanFactory(BeanFactory beanFactory) {
         ValidatorFactory validatorFactory = beanFactory.getBean(ValidatorFactory.class);